@@ -0,0 +1,120 @@
+package com.coubee.coubeebeorder.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청 처리 스레드 모드별 처리량 벤치마크
+ *
+ * 요청 하나는 하위 서비스 호출(Feign/JDBC)을 흉내 낸 latencyMillis 만큼의 블로킹으로 구성됩니다.
+ * - threadMode=platform: Tomcat 기본값과 같은 200개 플랫폼 스레드 풀
+ * - threadMode=virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true)
+ * - guard=synchronized: 블로킹 호출을 synchronized로 감싼 경우 - 가상 스레드가 캐리어에 고정(pinning)되어 처리량이 코어 수로 제한됩니다
+ * - guard=lock: 같은 구간을 ReentrantLock으로 감싼 경우 - 고정되지 않습니다
+ *
+ * 실행: ./gradlew jmh -PjmhArgs="ThreadModeBenchmark" (결과 단위: 초당 처리 요청 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threadMode;
+
+    @Param({"10", "50"})
+    public int latencyMillis;
+
+    @Param({"none", "synchronized", "lock"})
+    public String guard;
+
+    private ExecutorService executor;
+    // 요청마다 다른 모니터/락이므로 경합은 없고 고정(pinning) 효과만 나타납니다 (필드에 두어 락 제거 최적화를 막습니다)
+    private final Object[] monitors = new Object[REQUESTS];
+    private final ReentrantLock[] locks = new ReentrantLock[REQUESTS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threadMode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        for (int i = 0; i < REQUESTS; i++) {
+            monitors[i] = new Object();
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    handleRequest(index);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest(int index) {
+        switch (guard) {
+            case "synchronized" -> {
+                synchronized (monitors[index]) {
+                    callDownstream();
+                }
+            }
+            case "lock" -> {
+                ReentrantLock lock = locks[index];
+                lock.lock();
+                try {
+                    callDownstream();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            default -> callDownstream();
+        }
+    }
+
+    private void callDownstream() {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
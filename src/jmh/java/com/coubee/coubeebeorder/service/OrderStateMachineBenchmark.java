@@ -0,0 +1,94 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderStateMachine 전이 처리량 벤치마크
+ *
+ * 실행: ./gradlew jmh (결과는 build/reports/jmh/results.json)
+ * 할당량까지 보려면: ./gradlew jmh -PjmhArgs="-prof gc"
+ *
+ * - canTransition: 전이 표 조회만 (비트마스크 검사)
+ * - legacySwitch: 기존 OrderServiceImpl.validateStatusTransition의 switch 비교 기준
+ * - transition: 검사 + 상태 변경 + SYNC 리스너 호출 + 메트릭 (트랜잭션 동기화 없음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderStateMachineBenchmark {
+
+    private static final OrderStatus[] FLOW = {
+            OrderStatus.PENDING, OrderStatus.PAID, OrderStatus.PREPARING, OrderStatus.PREPARED, OrderStatus.RECEIVED
+    };
+
+    private final OrderStatus[] statuses = OrderStatus.values();
+    private OrderStateMachine stateMachine;
+    private Order order;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        OrderTransitionListener noop = transition -> { };
+        stateMachine = new OrderStateMachine(List.of(noop), new SimpleMeterRegistry());
+        order = Order.createOrder("order_bench", 1L, 10L, "매장", 1000, 0, 1000, "고객");
+    }
+
+    @Benchmark
+    public void canTransition(Blackhole blackhole) {
+        for (OrderStatus from : statuses) {
+            for (OrderStatus to : statuses) {
+                blackhole.consume(OrderStateMachine.canTransition(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacySwitch(Blackhole blackhole) {
+        for (OrderStatus from : statuses) {
+            for (OrderStatus to : statuses) {
+                blackhole.consume(legacyIsValid(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public OrderStatus transition() {
+        int next = cursor + 1;
+        if (next == FLOW.length) {
+            order.updateStatus(FLOW[0]);
+            next = 1;
+        }
+        cursor = next;
+        stateMachine.transition(order, FLOW[next]);
+        return order.getStatus();
+    }
+
+    private static boolean legacyIsValid(OrderStatus from, OrderStatus to) {
+        return switch (from) {
+            case PENDING -> to == OrderStatus.PAID || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN || to == OrderStatus.FAILED;
+            case PAID -> to == OrderStatus.PREPARING || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN || to == OrderStatus.FAILED;
+            case PREPARING -> to == OrderStatus.PREPARED || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN || to == OrderStatus.FAILED;
+            case PREPARED -> to == OrderStatus.RECEIVED || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN;
+            case RECEIVED, FAILED, CANCELLED_USER, CANCELLED_ADMIN -> false;
+        };
+    }
+}
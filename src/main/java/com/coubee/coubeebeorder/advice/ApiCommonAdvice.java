@@ -3,8 +3,10 @@ package com.coubee.coubeebeorder.advice;
 import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
 import com.coubee.coubeebeorder.common.exception.BadParameter;
 import com.coubee.coubeebeorder.common.exception.ClientError;
+import com.coubee.coubeebeorder.common.exception.IdempotencyConflictException;
 import com.coubee.coubeebeorder.common.exception.NotFound;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -65,6 +67,18 @@ public class ApiCommonAdvice {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ApiResponseDto<String>> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        log.warn("Idempotency conflict: {}", ex.getErrorMessage());
+
+        ApiResponseDto<String> response = ApiResponseDto.createError(
+            ex.getErrorCode(),
+            ex.getErrorMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(ClientError.class)
     public ResponseEntity<ApiResponseDto<String>> handleClientError(ClientError ex) {
         log.warn("Client error: {}", ex.getErrorMessage());
@@ -77,6 +91,18 @@ public class ApiCommonAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponseDto<String>> handleConcurrentModification(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+
+        ApiResponseDto<String> response = ApiResponseDto.createError(
+            "CONCURRENT_MODIFICATION",
+            "주문이 동시에 변경되었습니다. 잠시 후 다시 시도해 주세요."
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDto<String>> handleGeneralException(Exception ex) {
         log.error("Unexpected error occurred", ex);
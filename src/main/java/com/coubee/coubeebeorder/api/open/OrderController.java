@@ -3,6 +3,8 @@ package com.coubee.coubeebeorder.api.open;
 import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
 import com.coubee.coubeebeorder.common.web.context.GatewayRequestHeaderUtils;
 import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.dto.OrderBulkStatusUpdateRequest;
+import com.coubee.coubeebeorder.domain.dto.OrderBulkStatusUpdateResponse;
 import com.coubee.coubeebeorder.domain.dto.OrderCancelRequest;
 import com.coubee.coubeebeorder.domain.dto.OrderCreateRequest;
 import com.coubee.coubeebeorder.domain.dto.OrderCreateResponse;
@@ -14,6 +16,7 @@ import com.coubee.coubeebeorder.domain.dto.OrderStatusUpdateResponse;
 import com.coubee.coubeebeorder.domain.dto.OrderDetailResponseDto;
 import com.coubee.coubeebeorder.domain.dto.StoreOrderSummaryResponseDto;
 import com.coubee.coubeebeorder.domain.dto.UserOrderSummaryDto;
+import com.coubee.coubeebeorder.service.IdempotencyService;
 import com.coubee.coubeebeorder.service.OrderService;
 import com.coubee.coubeebeorder.service.StoreSecurityService;
 import com.coubee.coubeebeorder.remote.user.UserServiceClient;
@@ -46,20 +49,25 @@ public class OrderController {
 
     private final OrderService orderService;
     private final StoreSecurityService storeSecurityService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "주문 생성", description = "새로운 주문을 생성하고 결제를 준비합니다")
+    @Operation(summary = "주문 생성", description = "새로운 주문을 생성하고 결제를 준비합니다. Idempotency-Key 헤더가 있으면 같은 키의 재시도에 최초 응답을 반환합니다")
     @PostMapping("/orders")
     @ResponseStatus(HttpStatus.CREATED)
     // 주문 생성 메트릭 수집을 위한 어노테이션
     @Timed(value = "order.creation.time", description = "주문 생성 소요 시간")
     @Counted(value = "order.creation.count", description = "생성된 주문 수")
     public ApiResponseDto<OrderCreateResponse> createOrder(
+            @Parameter(description = "재시도 시 중복 주문 생성을 막기 위한 클라이언트 생성 키", example = "9b2f7c1e-4a51-4d8e-9f0a-2c3d4e5f6a7b")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody OrderCreateRequest request) {
 
         // 컨트롤러가 직접 헤더에서 userId를 가져옵니다.
         Long userId = GatewayRequestHeaderUtils.getUserIdOrThrowException();
 
-        OrderCreateResponse response = orderService.createOrder(userId, request);
+        OrderCreateResponse response = idempotencyService.execute("order-create", String.valueOf(userId),
+                idempotencyKey, request, OrderCreateResponse.class,
+                () -> orderService.createOrder(userId, request));
         return ApiResponseDto.createOk(response);
     }
 
@@ -156,6 +164,28 @@ public class OrderController {
         return ApiResponseDto.updateOk(response, "Order status has been updated");
     }
 
+    @Operation(summary = "매장 주문 상태 일괄 변경",
+            description = "한 매장의 여러 주문 상태를 한 번에 변경합니다 (매장 소유자만 가능, 최대 100건). "
+                    + "PREPARING, PREPARED, RECEIVED로만 변경할 수 있으며, 변경할 수 없는 주문은 건너뛰고 주문별 결과로 알려줍니다.")
+    @PatchMapping("/stores/{storeId}/orders/status")
+    public ApiResponseDto<OrderBulkStatusUpdateResponse> updateStoreOrderStatuses(
+            @Parameter(description = "매장 ID", required = true, example = "1037")
+            @PathVariable Long storeId,
+            @Parameter(description = "User role from authentication", hidden = true)
+            @RequestHeader("X-Auth-Role") String userRole,
+            @Valid @RequestBody OrderBulkStatusUpdateRequest request) {
+
+        Long userId = GatewayRequestHeaderUtils.getUserIdOrThrowException();
+
+        if (!"ROLE_ADMIN".equals(userRole) && !"ROLE_SUPER_ADMIN".equals(userRole)) {
+            throw new IllegalArgumentException("관리자와 최고 관리자만 주문 상태를 변경할 수 있습니다");
+        }
+        storeSecurityService.validateStoreOwner(userId, storeId);
+
+        OrderBulkStatusUpdateResponse response = orderService.updateOrderStatuses(storeId, request, userId);
+        return ApiResponseDto.updateOk(response, "Order statuses have been updated");
+    }
+
     @Operation(summary = "매장 주문 요약 조회", description = "매장 소유자를 위한 주문 요약 통계와 페이지네이션된 주문 목록을 조회합니다")
     @GetMapping("/stores/{storeId}/orders/summary")
     public ApiResponseDto<StoreOrderSummaryResponseDto> getStoreOrderSummary(
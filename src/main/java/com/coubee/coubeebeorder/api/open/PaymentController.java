@@ -4,6 +4,7 @@ import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
 import com.coubee.coubeebeorder.config.PortOneProperties;
 import com.coubee.coubeebeorder.domain.dto.PaymentReadyRequest;
 import com.coubee.coubeebeorder.domain.dto.PaymentReadyResponse;
+import com.coubee.coubeebeorder.service.IdempotencyService;
 import com.coubee.coubeebeorder.service.PaymentService;
 import com.coubee.coubeebeorder.service.OrderService;
 
@@ -32,17 +33,22 @@ public class PaymentController {
     private final PaymentService paymentService;
     private final PortOneProperties portOneProperties;
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/orders/{orderId}/prepare")
     @Operation(summary = "결제 준비", description = "주문에 대한 결제를 준비합니다.")
     public ResponseEntity<ApiResponseDto<PaymentReadyResponse>> preparePayment(
             @Parameter(description = "주문 ID", example = "order_b7833686f25b48e0862612345678abcd")
             @PathVariable String orderId,
+            @Parameter(description = "재시도 시 재고 중복 차감을 막기 위한 클라이언트 생성 키", example = "9b2f7c1e-4a51-4d8e-9f0a-2c3d4e5f6a7b")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody PaymentReadyRequest request) {
         
         log.info("결제 준비 요청 - 주문 ID: {}, 매장 ID: {}", orderId, request.storeId());
         
-        PaymentReadyResponse response = paymentService.preparePayment(orderId, request);
+        PaymentReadyResponse response = idempotencyService.execute("payment-prepare", orderId,
+                idempotencyKey, request, PaymentReadyResponse.class,
+                () -> paymentService.preparePayment(orderId, request));
         
         log.info("결제 준비 완료 - merchant_uid: {}", response.merchantUid());
         
@@ -25,7 +25,7 @@ public class PaymentWebhookController {
     private final PaymentService paymentService;
 
     @PostMapping("/portone")
-    @Operation(summary = "PortOne 웹훅", description = "PortOne에서 전송하는 결제 완료 웹훅을 처리합니다")
+    @Operation(summary = "PortOne 웹훅", description = "PortOne에서 전송하는 결제 완료 웹훅을 검증 후 수신함에 저장하고 즉시 응답합니다. 결제 상태 반영은 비동기로 처리됩니다")
     public ResponseEntity<ApiResponseDto<String>> handlePortOneWebhook(
             @RequestBody String requestBody,
             @Parameter(description = "웹훅 ID")
@@ -44,8 +44,8 @@ public class PaymentWebhookController {
         boolean processed = paymentService.handlePaymentWebhook(webhookId, signature, timestamp, requestBody);
 
         if (processed) {
-            log.info("Webhook processed successfully by service.");
-            return ResponseEntity.ok(ApiResponseDto.createOk("웹훅 처리 완료"));
+            log.info("Webhook accepted by service.");
+            return ResponseEntity.ok(ApiResponseDto.createOk("웹훅 수신 완료"));
         } else {
             log.warn("Webhook processing failed by service.");
             // 서비스에서 false를 반환하면 클라이언트 오류(400) 또는 서버 오류(500)로 응답
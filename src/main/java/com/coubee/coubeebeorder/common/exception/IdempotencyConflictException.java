@@ -0,0 +1,13 @@
+package com.coubee.coubeebeorder.common.exception;
+
+/**
+ * 멱등성 키 충돌 예외
+ * 같은 Idempotency-Key의 요청이 아직 처리 중이거나, 다른 요청 본문으로 키가 재사용된 경우 발생합니다.
+ */
+public class IdempotencyConflictException extends ClientError {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+        this.errorCode = "IDEMPOTENCY_CONFLICT";
+    }
+}
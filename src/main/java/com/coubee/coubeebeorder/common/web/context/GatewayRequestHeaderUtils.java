@@ -14,6 +14,16 @@ public class GatewayRequestHeaderUtils {
     public static String getUserId() {
         return getRequestHeaderParamAsString("X-Auth-UserId");
     }
+
+    /**
+     * HTTP 요청 처리 중이 아니면(스케줄러, Kafka 리스너 등) 예외 없이 null을 반환합니다.
+     */
+    public static String findUserId() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes requestAttributes)) {
+            return null;
+        }
+        return requestAttributes.getRequest().getHeader("X-Auth-UserId");
+    }
     
     public static String getUserName() {
         return getRequestHeaderParamAsString("X-Auth-UserName");
@@ -0,0 +1,63 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicy;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign 조회(GET) 호출의 읽기 타임아웃을 메서드별 관측 지연 시간으로 줄이는 Client 데코레이터
+ *
+ * Request.Options의 readTimeout(10초)은 상한으로만 쓰고, 실제 값은 DownstreamCallPolicy가 p99로 정합니다.
+ * 비동기 클라이언트와 같은 (client, method) 정책을 쓰므로 두 경로의 지연 시간이 함께 반영됩니다.
+ * 블로킹 호출이라 헤지 요청은 하지 않습니다. 변경 요청(POST 등)은 그대로 통과시킵니다.
+ */
+public class AdaptiveTimeoutFeignClient implements Client {
+
+    private final Client delegate;
+    private final DownstreamCallPolicies callPolicies;
+    private final String clientName;
+
+    public AdaptiveTimeoutFeignClient(Client delegate, DownstreamCallPolicies callPolicies, String clientName) {
+        this.delegate = delegate;
+        this.callPolicies = callPolicies;
+        this.clientName = clientName;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        MethodMetadata metadata = request.requestTemplate() != null ? request.requestTemplate().methodMetadata() : null;
+        if (request.httpMethod() != Request.HttpMethod.GET || metadata == null || metadata.method() == null) {
+            return delegate.execute(request, options);
+        }
+
+        DownstreamCallPolicy policy = callPolicies.policy(clientName, metadata.method().getName());
+        policy.onRequest();
+        long timeoutMillis = policy.timeoutMillis(options.readTimeoutMillis());
+        Request.Options adaptiveOptions = new Request.Options(
+                options.connectTimeout(), options.connectTimeoutUnit(),
+                timeoutMillis, TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+
+        long startedAt = System.nanoTime();
+        try {
+            Response response = delegate.execute(request, adaptiveOptions);
+            policy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            policy.recordSuccess();
+            return response;
+        } catch (SocketTimeoutException e) {
+            policy.recordTimeout(timeoutMillis);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            policy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            policy.recordError();
+            throw e;
+        }
+    }
+}
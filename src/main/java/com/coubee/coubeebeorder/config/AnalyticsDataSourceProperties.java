@@ -0,0 +1,28 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.datasource.analytics")
+public class AnalyticsDataSourceProperties {
+
+    // @AnalyticsQuery 메서드를 별도 풀로 보낼지 여부 (false면 일반 읽기와 같은 풀을 사용합니다)
+    private boolean enabled = false;
+
+    // 비어 있으면 복제본(활성화된 경우) 또는 primary 접속 정보를 사용합니다
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    // 이 풀의 커넥션에서 실행되는 모든 SQL의 최대 실행 시간 (PostgreSQL statement_timeout)
+    private Duration statementTimeout = Duration.ofSeconds(5);
+}
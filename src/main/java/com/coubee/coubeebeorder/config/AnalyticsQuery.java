@@ -0,0 +1,20 @@
+package com.coubee.coubeebeorder.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 통계/베스트셀러처럼 커넥션을 오래 점유하는 집계 조회임을 표시합니다.
+ *
+ * coubee.datasource.analytics.enabled=true이면 이 메서드 안에서 실행되는 쿼리는 별도의 작은 analytics 풀과
+ * statement_timeout으로 실행되어, 대시보드 부하가 주문/결제 트랜잭션의 커넥션을 빼앗지 않습니다.
+ * 읽기 전용 메서드에만 사용해야 합니다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AnalyticsQuery {
+}
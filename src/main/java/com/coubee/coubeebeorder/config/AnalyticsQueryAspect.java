@@ -0,0 +1,66 @@
+package com.coubee.coubeebeorder.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * @AnalyticsQuery 메서드 실행 동안 RoutingDataSource가 analytics 풀을 선택하도록 표시합니다.
+ *
+ * 트랜잭션 인터셉터보다 바깥에서 실행되어야 트랜잭션의 첫 쿼리부터 analytics 풀을 사용하므로 가장 높은 우선순위로 둡니다.
+ *
+ * Metrics:
+ * - analytics.query{method, outcome}: 집계 조회 실행 시간
+ * - analytics.query.timeout{method}: statement_timeout으로 취소된 조회 수
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AnalyticsQueryAspect {
+
+    // PostgreSQL query_canceled (statement_timeout 초과)
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private final MeterRegistry meterRegistry;
+
+    public AnalyticsQueryAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.coubee.coubeebeorder.config.AnalyticsQuery) || @within(com.coubee.coubeebeorder.config.AnalyticsQuery)")
+    public Object routeToAnalytics(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        boolean previous = RoutingDataSource.enterAnalytics();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            if (isStatementTimeout(e)) {
+                outcome = "timeout";
+                meterRegistry.counter("analytics.query.timeout", "method", method).increment();
+            }
+            throw e;
+        } finally {
+            RoutingDataSource.exitAnalytics(previous);
+            sample.stop(meterRegistry.timer("analytics.query", "method", method, "outcome", outcome));
+        }
+    }
+
+    private boolean isStatementTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && QUERY_CANCELED_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
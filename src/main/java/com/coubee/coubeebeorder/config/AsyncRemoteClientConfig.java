@@ -0,0 +1,113 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import com.coubee.coubeebeorder.remote.product.AsyncProductClient;
+import com.coubee.coubeebeorder.remote.product.WebClientProductClient;
+import com.coubee.coubeebeorder.remote.store.AsyncStoreClient;
+import com.coubee.coubeebeorder.remote.store.WebClientStoreClient;
+import com.coubee.coubeebeorder.remote.user.AsyncUserServiceClient;
+import com.coubee.coubeebeorder.remote.user.WebClientUserServiceClient;
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 비동기(논블로킹) 다운스트림 클라이언트 구성
+ *
+ * Feign 클라이언트는 응답이 올 때까지 호출 스레드를 붙잡으므로, 조회를 여러 개 조합하는 경로(주문 목록 보강, 주문 생성)는
+ * WebClient 기반 Async*Client를 사용해 호출을 동시에 띄우고 결과만 기다립니다.
+ *
+ * - 세 서비스가 하나의 Reactor Netty 커넥션 풀("downstream")을 공유하고, 연결 수/대기 한도는 forRemoteHost로 서비스별로 둡니다.
+ *   한 서비스가 느려져도 그 서비스의 연결만 소진되고 다른 서비스 호출은 영향을 받지 않습니다.
+ * - 연결은 HTTP/1.1 keep-alive로 재사용하며, coubee.remote.http2=true이면 h2c 업그레이드를 시도합니다.
+ * - 풀 메트릭은 reactor.netty.connection.provider.* (name=downstream, remote.address별)로 노출됩니다.
+ * - responseTimeout은 상한이며, 실제 타임아웃은 메서드별 관측 지연 시간으로 정합니다 (DownstreamCallPolicies).
+ */
+@Configuration
+public class AsyncRemoteClientConfig {
+
+    static final String POOL_NAME = "downstream";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider downstreamConnectionProvider(RemoteClientProperties properties) {
+        ConnectionProvider.Builder builder = applyPoolSettings(ConnectionProvider.builder(POOL_NAME), properties);
+        for (RemoteClientProperties.Route route : List.of(properties.getStore(), properties.getProduct(), properties.getUser())) {
+            // 호스트별 설정은 빌더의 공통 설정을 물려받지 않으므로 타임아웃/정리 주기를 다시 적용합니다
+            builder.forRemoteHost(remoteAddress(route.getBaseUrl()), spec -> applyPoolSettings(spec, properties)
+                    .maxConnections(route.getMaxConnections())
+                    .pendingAcquireMaxCount(route.getPendingAcquireMaxCount()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public ReactorClientHttpConnector downstreamClientConnector(ConnectionProvider downstreamConnectionProvider,
+                                                                RemoteClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout())
+                .keepAlive(true)
+                .protocol(properties.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    @Bean
+    public AsyncStoreClient asyncStoreClient(WebClient.Builder webClientBuilder,
+                                             ReactorClientHttpConnector downstreamClientConnector,
+                                             RemoteClientProperties properties,
+                                             DownstreamCallPolicies callPolicies) {
+        return new WebClientStoreClient(webClient(webClientBuilder, downstreamClientConnector, properties.getStore()), callPolicies);
+    }
+
+    @Bean
+    public AsyncProductClient asyncProductClient(WebClient.Builder webClientBuilder,
+                                                 ReactorClientHttpConnector downstreamClientConnector,
+                                                 RemoteClientProperties properties,
+                                                 DownstreamCallPolicies callPolicies) {
+        return new WebClientProductClient(webClient(webClientBuilder, downstreamClientConnector, properties.getProduct()), callPolicies);
+    }
+
+    @Bean
+    public AsyncUserServiceClient asyncUserServiceClient(WebClient.Builder webClientBuilder,
+                                                         ReactorClientHttpConnector downstreamClientConnector,
+                                                         RemoteClientProperties properties,
+                                                         DownstreamCallPolicies callPolicies) {
+        return new WebClientUserServiceClient(webClient(webClientBuilder, downstreamClientConnector, properties.getUser()), callPolicies);
+    }
+
+    private static WebClient webClient(WebClient.Builder webClientBuilder,
+                                       ReactorClientHttpConnector connector,
+                                       RemoteClientProperties.Route route) {
+        return webClientBuilder.clone()
+                .baseUrl(route.getBaseUrl())
+                .clientConnector(connector)
+                .build();
+    }
+
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> S applyPoolSettings(S spec, RemoteClientProperties properties) {
+        return spec.pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getEvictInterval())
+                .metrics(true);
+    }
+
+    /**
+     * Reactor Netty는 요청 URI의 호스트/포트로 만든 미해석 주소로 풀을 찾으므로 같은 형태로 키를 만듭니다.
+     */
+    static InetSocketAddress remoteAddress(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
+}
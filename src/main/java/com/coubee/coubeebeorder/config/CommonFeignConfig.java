@@ -1,7 +1,10 @@
 package com.coubee.coubeebeorder.config;
 
+import feign.Capability;
 import feign.Logger;
 import feign.Request;
+import feign.micrometer.MicrometerCapability;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -26,4 +29,13 @@ public class CommonFeignConfig {
     public Logger.Level feignLoggerLevel() {
         return Logger.Level.BASIC;
     }
+
+    /**
+     * Feign 메서드별 지연 시간 타이머를 등록합니다
+     * feign.Client(HTTP 호출), feign.Feign(디코딩 포함 전체 호출) 타이머에 client(Feign 인터페이스), method(예: getStoreById), host 태그가 붙습니다.
+     */
+    @Bean
+    public Capability feignMicrometerCapability(MeterRegistry meterRegistry) {
+        return new MicrometerCapability(meterRegistry);
+    }
 }
@@ -0,0 +1,142 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.util.RecentWriteTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primary / 읽기 복제본 / analytics DataSource 구성
+ *
+ * coubee.datasource.replica.enabled 또는 coubee.datasource.analytics.enabled가 true일 때만 활성화되며,
+ * 둘 다 비활성화 시에는 Spring Boot 기본 단일 DataSource를 사용합니다.
+ * - primaryDataSource: spring.datasource.* (Flyway도 이 풀을 사용)
+ * - replicaDataSource: coubee.datasource.replica.* (풀 설정은 coubee.datasource.replica.hikari.*)
+ * - analyticsDataSource: coubee.datasource.analytics.* (풀 설정은 coubee.datasource.analytics.hikari.*)
+ * - dataSource (@Primary): LazyConnectionDataSourceProxy(RoutingDataSource) - JPA가 사용하는 DataSource
+ *
+ * 각 풀은 poolName으로 구분되어 hikaricp.connections.* 메트릭(active, pending, acquire, timeout)이 풀별로 노출됩니다.
+ */
+@Configuration
+@ConditionalOnExpression("${coubee.datasource.replica.enabled:false} or ${coubee.datasource.analytics.enabled:false}")
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "coubee.datasource.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("coubee.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replicaProperties,
+                                              DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 집계 조회 전용 풀. 기본 3개 커넥션과 짧은 대기 시간으로, 대시보드 요청이 몰리면 주문/결제가 아닌
+     * 이 풀의 대기열(hikaricp.connections.pending{pool="analytics"})이 늘어납니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "coubee.datasource.analytics", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("coubee.datasource.analytics.hikari")
+    public HikariDataSource analyticsDataSource(AnalyticsDataSourceProperties analyticsProperties,
+                                                ReplicaDataSourceProperties replicaProperties,
+                                                DataSourceProperties dataSourceProperties) {
+        String url = dataSourceProperties.determineUrl();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        if (StringUtils.hasText(analyticsProperties.getUrl())) {
+            url = analyticsProperties.getUrl();
+            username = analyticsProperties.getUsername();
+            password = analyticsProperties.getPassword();
+        } else if (replicaProperties.isEnabled() && StringUtils.hasText(replicaProperties.getUrl())) {
+            url = replicaProperties.getUrl();
+            username = replicaProperties.getUsername();
+            password = replicaProperties.getPassword();
+        }
+
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("analytics");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(3);
+        dataSource.setConnectionTimeout(3000);
+        dataSource.setConnectionInitSql("SET statement_timeout = " + analyticsProperties.getStatementTimeout().toMillis());
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "coubee.datasource.replica", name = "enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    public RecentWriteTracker recentWriteTracker(ReplicaDataSourceProperties replicaProperties) {
+        return new RecentWriteTracker(replicaProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 @Qualifier("analyticsDataSource") ObjectProvider<DataSource> analyticsDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 RecentWriteTracker recentWriteTracker,
+                                 MeterRegistry meterRegistry) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(DataSourceType.PRIMARY, primaryDataSource);
+        replicaDataSource.ifAvailable(dataSource -> targetDataSources.put(DataSourceType.REPLICA, dataSource));
+        analyticsDataSource.ifAvailable(dataSource -> targetDataSources.put(DataSourceType.ANALYTICS, dataSource));
+
+        RoutingDataSource routingDataSource = new RoutingDataSource(
+                replicaLagMonitor.getIfAvailable(),
+                targetDataSources.containsKey(DataSourceType.ANALYTICS),
+                recentWriteTracker,
+                meterRegistry);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
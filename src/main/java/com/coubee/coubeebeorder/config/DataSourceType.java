@@ -0,0 +1,11 @@
+package com.coubee.coubeebeorder.config;
+
+/**
+ * RoutingDataSource의 대상 커넥션 풀
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA,
+    // 통계/베스트셀러 같은 장시간 집계 쿼리 전용 소형 풀 (@AnalyticsQuery)
+    ANALYTICS
+}
@@ -0,0 +1,71 @@
+package com.coubee.coubeebeorder.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀 구성
+ *
+ * spring.threads.virtual.enabled=true이면 Tomcat 요청 처리, @Async/@Scheduled 기본 실행기,
+ * Kafka 리스너와 함께 여기서 만드는 풀도 가상 스레드로 작업을 실행합니다.
+ * 이 풀들은 스레드 재사용이 아니라 동시 실행 수와 대기열을 제한하기 위해 두는 것이므로, 가상 스레드 모드에서도 크기 제한은 그대로 유지합니다.
+ * 새 실행기를 추가할 때도 {@link #applyThreadMode}를 거치도록 합니다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    private final Environment environment;
+
+    public ExecutorConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * 웹훅 수신함 처리용 스레드 풀
+     * 워커가 빈 슬롯 수만큼만 가져오므로 대기 큐를 두지 않습니다.
+     */
+    @Bean(name = "webhookExecutor")
+    public ThreadPoolTaskExecutor webhookExecutor(WebhookProperties webhookProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(webhookProperties.getWorkerConcurrency());
+        executor.setMaxPoolSize(webhookProperties.getWorkerConcurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("webhook-");
+        applyThreadMode(executor, "webhook-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 주문 상태 변경 알림 발행용 스레드 풀
+     * 트랜잭션 커밋 후 요청 스레드를 붙잡지 않도록 Kafka 발행을 넘겨받습니다. 큐가 가득 차면 작업을 거절합니다.
+     */
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(OrderProperties orderProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(orderProperties.getNotificationConcurrency());
+        executor.setMaxPoolSize(orderProperties.getNotificationConcurrency());
+        executor.setQueueCapacity(orderProperties.getNotificationQueueCapacity());
+        executor.setThreadNamePrefix("notification-");
+        applyThreadMode(executor, "notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드가 켜져 있으면 풀의 작업 스레드를 가상 스레드로 만듭니다.
+     */
+    private void applyThreadMode(ThreadPoolTaskExecutor executor, String threadNamePrefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        }
+    }
+}
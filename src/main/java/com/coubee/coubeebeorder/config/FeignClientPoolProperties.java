@@ -0,0 +1,47 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Feign 클라이언트별 커넥션 풀 설정 (Apache HttpClient 5)
+ *
+ * 클라이언트마다 별도의 풀을 두므로 한 서비스의 지연이 다른 서비스 호출의 연결을 빼앗지 않습니다.
+ * 요청 타임아웃은 CommonFeignConfig의 Request.Options를 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.feign")
+public class FeignClientPoolProperties {
+
+    private Pool store = new Pool();
+
+    private Pool product = new Pool();
+
+    private Pool user = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // 풀 전체의 최대 연결 수
+        private int maxConnections = 50;
+
+        // 호스트(route)당 최대 연결 수
+        private int maxConnectionsPerRoute = 50;
+
+        // 이 시간 동안 사용되지 않은 keep-alive 연결은 백그라운드에서 닫습니다 (서버 측 keep-alive 타임아웃보다 짧게)
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        // 연결의 최대 수명 (DNS 변경, 서버 재배포 후 연결이 새 인스턴스로 옮겨가도록)
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        // 이 시간 이상 쉬었던 연결은 재사용 전에 끊김 여부를 확인합니다
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    }
+}
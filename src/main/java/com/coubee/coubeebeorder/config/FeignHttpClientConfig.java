@@ -0,0 +1,69 @@
+package com.coubee.coubeebeorder.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign 클라이언트용 풀링 HTTP 클라이언트 구성
+ *
+ * 기본 Feign 클라이언트(HttpURLConnection)는 풀 크기나 유휴 연결을 제어할 수 없어 부하가 몰리면 연결 수립 비용과 소켓 재생성이 늘어납니다.
+ * 서비스별로 keep-alive 연결 풀을 두고, 각 *FeignConfig에서 해당 풀을 쓰는 ApacheHttp5Client를 등록합니다.
+ * 풀 빈은 부모 컨텍스트에 하나씩만 만들어지므로 Feign 클라이언트별 하위 컨텍스트가 같은 풀을 공유합니다.
+ *
+ * Metrics:
+ * - httpcomponents.httpclient.pool.total.connections{httpclient, state=leased|available}
+ * - httpcomponents.httpclient.pool.total.pending{httpclient}
+ * - httpcomponents.httpclient.pool.total.max{httpclient}, httpcomponents.httpclient.pool.route.max.default{httpclient}
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    @Bean
+    public CloseableHttpClient storeFeignHttpClient(FeignClientPoolProperties properties, MeterRegistry meterRegistry) {
+        return pooledHttpClient("store", properties.getStore(), meterRegistry);
+    }
+
+    @Bean
+    public CloseableHttpClient productFeignHttpClient(FeignClientPoolProperties properties, MeterRegistry meterRegistry) {
+        return pooledHttpClient("product", properties.getProduct(), meterRegistry);
+    }
+
+    @Bean
+    public CloseableHttpClient userFeignHttpClient(FeignClientPoolProperties properties, MeterRegistry meterRegistry) {
+        return pooledHttpClient("user", properties.getUser(), meterRegistry);
+    }
+
+    static CloseableHttpClient pooledHttpClient(String name, FeignClientPoolProperties.Pool pool, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxConnections())
+                .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.of(pool.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS))
+                        .setValidateAfterInactivity(TimeValue.of(pool.getValidateAfterInactivity().toMillis(), TimeUnit.MILLISECONDS))
+                        // 연결/응답 타임아웃은 요청마다 Request.Options로 덮어씁니다
+                        .setConnectTimeout(Timeout.ofSeconds(5))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(pool.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                // 재시도는 서킷 브레이커/호출부에서 결정합니다
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.idempotency")
+public class IdempotencyProperties {
+
+    // 저장된 응답을 재사용하는 기간
+    private Duration ttl = Duration.ofHours(24);
+
+    // IN_PROGRESS 선점 유효 기간. 지나면 같은 키의 새 요청이 키를 이어받아 다시 처리합니다 (요청 처리 최대 시간보다 길게)
+    private Duration inProgressLease = Duration.ofMinutes(1);
+
+    // Idempotency-Key 헤더 값의 최대 길이
+    private int maxKeyLength = 100;
+}
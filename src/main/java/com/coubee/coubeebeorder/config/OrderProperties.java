@@ -0,0 +1,73 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Period;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.order")
+public class OrderProperties {
+
+    // 결제되지 않은 PENDING 주문을 만료시키는 기준 시간
+    private Duration pendingTimeout = Duration.ofMinutes(15);
+
+    // 만료 정리 작업이 한 트랜잭션에서 처리하는 최대 주문 수
+    private int sweepChunkSize = 100;
+
+    // 만료 정리 작업 1회 실행에서 처리하는 최대 청크 수
+    private int sweepMaxChunks = 50;
+
+    // 만료 타이머가 미리 불러오는 만료 예정 구간
+    private Duration expiryLookahead = Duration.ofMinutes(2);
+
+    // 만료 타이머 휠의 한 칸 크기 (만료 처리 정밀도)
+    private Duration expiryTick = Duration.ofSeconds(1);
+
+    // 만료 타이머 휠의 칸 수
+    private int expiryWheelSize = 512;
+
+    // 한 번에 불러오는 최대 만료 예정 주문 수
+    private int expiryLoadLimit = 5000;
+
+    // 만료 처리에 실패한 주문을 만료 타이머에 다시 등록하기까지 기다리는 시간
+    private Duration expiryFailureBackoff = Duration.ofMinutes(1);
+
+    // 현재 월 이후 미리 만들어 둘 월 파티션 수 (orders / order_items / order_timestamp)
+    private int partitionMonthsAhead = 3;
+
+    // 종료 상태 주문을 archived_orders로 옮기는 기준 (생성 후 경과 기간)
+    private Period archiveAfter = Period.ofMonths(6);
+
+    // 보관 작업이 한 트랜잭션에서 옮기는 최대 주문 수
+    private int archiveChunkSize = 200;
+
+    // 보관 작업 1회 실행에서 처리하는 최대 청크 수
+    private int archiveMaxChunks = 100;
+
+    // 진행 중(비종료 상태) 주문 캐시의 최대 항목 수
+    private int activeCacheMaxEntries = 20000;
+
+    // 진행 중 주문 캐시 항목의 최대 보관 시간 (무효화 메시지 유실에 대한 안전장치)
+    private Duration activeCacheTtl = Duration.ofMinutes(10);
+
+    // 인스턴스 간 주문 캐시 무효화 채널: in-process(단일 인스턴스/로컬) 또는 kafka
+    private String cacheInvalidationBroker = "in-process";
+
+    // 상태 전이 낙관적 잠금 충돌 시 최대 시도 횟수 (첫 시도 포함)
+    private int conflictMaxAttempts = 3;
+
+    // 충돌 재시도 간 기본 대기 시간 (시도마다 증가하며 지터가 더해집니다)
+    private Duration conflictBackoff = Duration.ofMillis(20);
+
+    // 상태 변경 알림(Kafka) 발행 스레드 수 - 트랜잭션 커밋 후 요청 스레드와 분리해 실행합니다
+    private int notificationConcurrency = 2;
+
+    // 알림 발행 대기 큐 크기 (가득 차면 알림을 버리고 메트릭으로 남깁니다)
+    private int notificationQueueCapacity = 1000;
+}
@@ -1,6 +1,11 @@
 package com.coubee.coubeebeorder.config;
 
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import feign.Client;
 import feign.codec.ErrorDecoder;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -17,4 +22,11 @@ public class ProductFeignConfig {
     public ErrorDecoder productErrorDecoder() {
         return new ProductServiceErrorDecoder();
     }
+
+    // ProductClient만을 위한 커넥션 풀 (FeignHttpClientConfig) + 조회 메서드별 적응형 타임아웃
+    @Bean
+    public Client productFeignClient(@Qualifier("productFeignHttpClient") CloseableHttpClient httpClient,
+                                DownstreamCallPolicies callPolicies) {
+        return new AdaptiveTimeoutFeignClient(new ApacheHttp5Client(httpClient), callPolicies, "product");
+    }
 }
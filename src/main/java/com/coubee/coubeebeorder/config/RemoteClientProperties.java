@@ -0,0 +1,130 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 비동기(논블로킹) 다운스트림 클라이언트 설정
+ *
+ * 세 서비스가 하나의 Reactor Netty 커넥션 풀을 공유하되, 연결 수와 대기 한도는 서비스(route)별로 따로 잡습니다.
+ * 타임아웃 기본값은 Feign 클라이언트(CommonFeignConfig)와 같습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.remote")
+public class RemoteClientProperties {
+
+    // 연결 수립 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    // 요청 전송 후 응답을 기다리는 최대 시간
+    private Duration responseTimeout = Duration.ofSeconds(10);
+
+    // 풀에서 연결을 얻기 위해 기다리는 최대 시간 (초과 시 요청 실패)
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    // 이 시간 동안 사용되지 않은 keep-alive 연결은 닫습니다 (서버 측 keep-alive 타임아웃보다 짧게)
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    // 유휴/수명 초과 연결을 백그라운드에서 정리하는 주기
+    private Duration evictInterval = Duration.ofSeconds(60);
+
+    // true이면 HTTP/2 평문(h2c) 업그레이드를 시도하고, 지원하지 않는 서버와는 HTTP/1.1 keep-alive로 통신합니다
+    private boolean http2 = false;
+
+    // 메서드별 관측 지연 시간으로 읽기 타임아웃을 조정합니다 (Feign 조회 호출 포함)
+    private Adaptive adaptive = new Adaptive();
+
+    // 멱등 조회의 헤지 요청 (비동기 클라이언트만)
+    private Hedge hedge = new Hedge();
+
+    // 주문 보강 조회 실패 시 마지막으로 받은 값을 내려주는 캐시 (서비스별로 따로 잡습니다)
+    private FallbackCache fallbackCache = new FallbackCache();
+
+    private Route store = new Route("http://coubee-be-store-service:8080");
+
+    private Route product = new Route("http://coubee-be-product-service:8080");
+
+    private Route user = new Route("http://coubee-be-user-service:8080");
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String baseUrl;
+
+        // 이 서비스로 동시에 열 수 있는 최대 연결 수
+        private int maxConnections = 50;
+
+        // 연결을 기다리며 대기할 수 있는 최대 요청 수 (초과 시 즉시 실패)
+        private int pendingAcquireMaxCount = 100;
+
+        public Route() {
+        }
+
+        public Route(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        private boolean enabled = true;
+
+        // 타임아웃의 기준이 되는 백분위수와 배수 (p99 x 3)
+        private double percentile = 0.99;
+        private double multiplier = 3.0;
+
+        // 적응형 타임아웃의 하한 (상한은 responseTimeout / Feign readTimeout)
+        private Duration minTimeout = Duration.ofSeconds(1);
+
+        // 메서드별로 최근 몇 건의 지연 시간을 볼지
+        private int windowSize = 256;
+
+        // 이 건수가 쌓이기 전에는 고정 타임아웃을 사용합니다
+        private int minSamples = 50;
+
+        // 백분위수 재계산 주기
+        private Duration refreshInterval = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        private boolean enabled = false;
+
+        // 첫 요청이 이 백분위수 지연 시간 안에 끝나지 않으면 두 번째 요청을 보냅니다
+        private double percentile = 0.95;
+
+        // 헤지 지연 시간의 하한
+        private Duration minDelay = Duration.ofMillis(20);
+
+        // 전체 요청 대비 헤지 요청 비율 상한 (다운스트림 장애 시 부하가 두 배가 되지 않도록)
+        private double maxRatio = 0.1;
+    }
+
+    @Getter
+    @Setter
+    public static class FallbackCache {
+
+        private boolean enabled = true;
+
+        // 서비스(매장/상품/사용자)별 최대 항목 수
+        private int maxEntries = 10_000;
+
+        // 서비스별 추정 메모리 상한 (항목 크기는 문자열 길이로 추정)
+        private DataSize maxMemory = DataSize.ofMegabytes(8);
+
+        // 이보다 오래된 값은 장애 중에도 내려주지 않습니다
+        private Duration maxStale = Duration.ofHours(1);
+    }
+}
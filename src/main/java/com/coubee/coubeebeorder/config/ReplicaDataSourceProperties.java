@@ -0,0 +1,33 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    // 읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (false면 모든 쿼리가 primary로 갑니다)
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    // 복제 지연이 이 값을 넘으면 읽기도 primary로 보냅니다
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // 마지막 지연 측정이 이보다 오래되면(측정 실패 포함) 복제본을 사용하지 않습니다
+    private Duration lagStaleAfter = Duration.ofSeconds(10);
+
+    // 쓰기 직후 같은 사용자의 읽기를 primary로 보내는 기간 (read-your-writes)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
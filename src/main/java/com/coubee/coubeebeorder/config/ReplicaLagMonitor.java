@@ -0,0 +1,61 @@
+package com.coubee.coubeebeorder.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 측정합니다 (replica-lag guard).
+ *
+ * 지연이 coubee.datasource.replica.max-lag를 넘거나 측정이 lag-stale-after 동안 성공하지 못하면
+ * RoutingDataSource는 읽기 전용 트랜잭션도 primary로 보냅니다.
+ * 복제본이 모든 WAL을 재생한 상태(primary가 유휴 상태인 경우 포함)는 지연 0으로 봅니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaDataSourceProperties properties;
+
+    private volatile long lagMillis = Long.MAX_VALUE;
+    private volatile long lastSuccessMillis = 0L;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.properties = properties;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis == Long.MAX_VALUE ? Double.NaN : monitor.lagMillis / 1000.0)
+                .description("Replication lag of the read replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coubee.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            lagMillis = lag != null ? lag.longValue() : 0L;
+            lastSuccessMillis = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("Failed to measure read replica lag. Reads fall back to primary until it recovers: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 복제본으로 읽기를 보내도 되는지 여부
+     */
+    public boolean isReplicaUsable() {
+        boolean fresh = System.currentTimeMillis() - lastSuccessMillis <= properties.getLagStaleAfter().toMillis();
+        return fresh && lagMillis <= properties.getMaxLag().toMillis();
+    }
+}
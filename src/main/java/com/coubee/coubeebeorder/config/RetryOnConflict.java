@@ -0,0 +1,25 @@
+package com.coubee.coubeebeorder.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 주문 상태 전이 메서드에서 낙관적 잠금 충돌(OptimisticLockingFailureException)을 재시도합니다.
+ *
+ * 재시도는 호출 시점에 트랜잭션이 없을 때만 합니다. 이 메서드의 트랜잭션 전체가 처음부터 다시 실행되어
+ * 최신 상태를 다시 읽고 전이 규칙을 다시 검사하기 때문입니다. 바깥 트랜잭션에 참여한 호출은 충돌을 기록만 하고
+ * 그대로 던져 바깥 호출자(예: 웹훅 수신함 재시도)가 처리하게 합니다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RetryOnConflict {
+
+    /**
+     * 메트릭 태그로 사용하는 전이 종류 (예: cancel, receive, update_status)
+     */
+    String transition();
+}
@@ -0,0 +1,76 @@
+package com.coubee.coubeebeorder.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnConflict 메서드의 낙관적 잠금 충돌을 짧은 지터 백오프로 재시도합니다.
+ *
+ * 충돌은 커밋 시점의 flush에서 발생하므로 트랜잭션 인터셉터보다 바깥에서 실행되어야 합니다.
+ *
+ * Metrics: order.transition.conflicts{transition, action=retry|exhausted|propagate}
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RetryOnConflictAspect {
+
+    private final OrderProperties orderProperties;
+    private final MeterRegistry meterRegistry;
+
+    public RetryOnConflictAspect(OrderProperties orderProperties, MeterRegistry meterRegistry) {
+        this.orderProperties = orderProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        String transition = retryOnConflict.transition();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                recordConflict(transition, "propagate");
+                throw e;
+            }
+        }
+
+        int maxAttempts = Math.max(1, orderProperties.getConflictMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    recordConflict(transition, "exhausted");
+                    log.warn("Order {} conflict persisted after {} attempts: {}", transition, attempt, e.getMessage());
+                    throw e;
+                }
+                recordConflict(transition, "retry");
+                log.debug("Order {} conflict on attempt {}, retrying", transition, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long baseMillis = orderProperties.getConflictBackoff().toMillis() * attempt;
+        if (baseMillis > 0) {
+            Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis + 1));
+        }
+    }
+
+    private void recordConflict(String transition, String action) {
+        meterRegistry.counter("order.transition.conflicts", "transition", transition, "action", action).increment();
+    }
+}
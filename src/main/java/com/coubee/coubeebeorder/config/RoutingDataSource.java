@@ -0,0 +1,105 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.common.web.context.GatewayRequestHeaderUtils;
+import com.coubee.coubeebeorder.util.RecentWriteTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 집계 조회는 analytics 풀로, 그 외에는 primary로 보내는 DataSource
+ *
+ * LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다. 그래야 트랜잭션의 readOnly 여부가 정해진 뒤
+ * 첫 쿼리 시점에 실제 커넥션을 고릅니다.
+ *
+ * - @AnalyticsQuery 메서드 안의 읽기는 analytics 풀을 사용합니다 (활성화된 경우).
+ * - 다음 경우에는 읽기 전용이어도 primary를 사용합니다.
+ *   - 같은 사용자(X-Auth-UserId)가 최근 read-your-writes-window 안에 쓰기를 커밋한 경우 (예: createOrder 직후 getOrder)
+ *   - ReplicaLagMonitor가 복제 지연 초과 또는 측정 실패를 보고한 경우
+ *   - 복제본이 비활성화된 경우
+ *
+ * Metrics: datasource.routing{target, reason}
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> ANALYTICS = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final boolean analyticsEnabled;
+    private final RecentWriteTracker recentWriteTracker;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param replicaLagMonitor 복제본이 비활성화된 경우 null
+     * @param analyticsEnabled analytics 풀이 등록되어 있는지 여부
+     */
+    public RoutingDataSource(ReplicaLagMonitor replicaLagMonitor,
+                             boolean analyticsEnabled,
+                             RecentWriteTracker recentWriteTracker,
+                             MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.analyticsEnabled = analyticsEnabled;
+        this.recentWriteTracker = recentWriteTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 현재 스레드를 집계 조회 구간으로 표시하고 이전 상태를 반환합니다 (중첩 호출 시 exitAnalytics로 복원).
+     */
+    static boolean enterAnalytics() {
+        boolean previous = ANALYTICS.get();
+        ANALYTICS.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitAnalytics(boolean previous) {
+        if (previous) {
+            ANALYTICS.set(Boolean.TRUE);
+        } else {
+            ANALYTICS.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean transactionActive = TransactionSynchronizationManager.isActualTransactionActive();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (analyticsEnabled && ANALYTICS.get() && (!transactionActive || readOnly)) {
+            return route(DataSourceType.ANALYTICS, "analytics");
+        }
+        if (!transactionActive) {
+            return route(DataSourceType.PRIMARY, "no_transaction");
+        }
+
+        String userId = GatewayRequestHeaderUtils.findUserId();
+        if (!readOnly) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriteTracker.recordWrite(userId);
+                    }
+                });
+            }
+            return route(DataSourceType.PRIMARY, "write");
+        }
+
+        if (replicaLagMonitor == null) {
+            return route(DataSourceType.PRIMARY, "replica_disabled");
+        }
+        if (userId != null && recentWriteTracker.wroteRecently(userId)) {
+            return route(DataSourceType.PRIMARY, "read_your_writes");
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            return route(DataSourceType.PRIMARY, "replica_lag");
+        }
+        return route(DataSourceType.REPLICA, "read_only");
+    }
+
+    private DataSourceType route(DataSourceType target, String reason) {
+        meterRegistry.counter("datasource.routing", "target", target.name().toLowerCase(), "reason", reason).increment();
+        return target;
+    }
+}
@@ -0,0 +1,45 @@
+package com.coubee.coubeebeorder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coubee.webhook")
+public class WebhookProperties {
+
+    // 동시에 처리하는 웹훅 수 (워커 스레드 수)
+    private int workerConcurrency = 4;
+
+    // 한 번의 폴링에서 가져오는 최대 건수
+    private int batchSize = 20;
+
+    // 최대 처리 시도 횟수 (초과 시 FAILED)
+    private int maxAttempts = 10;
+
+    // 재시도 기본 대기 시간 (시도 횟수에 따라 지수적으로 증가)
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    // 재시도 최대 대기 시간
+    private Duration maxRetryBackoff = Duration.ofMinutes(10);
+
+    // PROCESSING 상태가 이 시간을 넘으면 워커 장애로 보고 다시 대기 상태로 돌립니다
+    private Duration processingTimeout = Duration.ofMinutes(5);
+
+    // 최근 처리된 웹훅 ID를 메모리에 보관하는 최대 개수
+    private int dedupeCacheSize = 10000;
+
+    // processed_webhooks / 처리 완료된 webhook_inbox 보관 기간 (PortOne 재전송 기간보다 길어야 합니다)
+    private Duration retention = Duration.ofDays(7);
+
+    // 보관 기간이 지난 행을 한 트랜잭션에서 삭제하는 최대 건수
+    private int purgeChunkSize = 1000;
+
+    // 한 번의 정리 작업에서 실행하는 최대 청크 수
+    private int purgeMaxChunks = 100;
+}
@@ -0,0 +1,93 @@
+package com.coubee.coubeebeorder.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 보관 주문 (cold tier)
+ *
+ * 오래된 종료 상태(RECEIVED, FAILED, CANCELLED_*) 주문은 OrderArchiveScheduler가 orders / order_items /
+ * order_timestamp / payments에서 이 테이블로 옮깁니다. 조회 조건에 필요한 컬럼만 따로 두고
+ * 나머지 내용은 JSONB 문서 하나에 담아, 운영 테이블과 인덱스를 작게 유지합니다.
+ */
+@Getter
+@Entity
+@Table(name = "archived_orders")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder implements Persistable<String> {
+
+    @Id
+    @Column(name = "order_id", length = 50)
+    private String orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    // 사용자 주문 내역 키워드 검색용 (매장명 + 상품명, 소문자)
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private ArchivedOrderDocument document;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // ID를 직접 할당하므로 saveAll()이 저장 전 SELECT(merge)를 하지 않도록 신규 여부를 직접 관리합니다
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static ArchivedOrder of(Order order, LocalDateTime archivedAt) {
+        ArchivedOrder archived = new ArchivedOrder();
+        archived.orderId = order.getOrderId();
+        archived.userId = order.getUserId();
+        archived.storeId = order.getStoreId();
+        archived.status = order.getStatus();
+        archived.document = ArchivedOrderDocument.from(order);
+        archived.searchText = Stream.concat(Stream.ofNullable(order.getStoreName()),
+                        order.getItems().stream().map(OrderItem::getProductName))
+                .filter(text -> text != null && !text.isBlank())
+                .map(text -> text.toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(" "));
+        archived.createdAt = order.getCreatedAt();
+        archived.archivedAt = archivedAt;
+        return archived;
+    }
+}
@@ -0,0 +1,60 @@
+package com.coubee.coubeebeorder.domain;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보관된 주문의 전체 내용 (archived_orders.document JSONB)
+ *
+ * 주문, 아이템, 결제 요약, 상태 이력을 하나의 문서로 저장하므로 보관 주문 조회는 행 하나만 읽습니다.
+ */
+public record ArchivedOrderDocument(
+        String orderId,
+        Long userId,
+        Long storeId,
+        String storeName,
+        OrderStatus status,
+        Integer originalAmount,
+        Integer discountAmount,
+        Integer totalAmount,
+        String recipientName,
+        Long paidAtUnix,
+        LocalDateTime createdAt,
+        List<Item> items,
+        PaymentSummary payment,
+        List<StatusChange> statusHistory) {
+
+    public record Item(Long productId, String productName, String description, Integer quantity, Integer price,
+                       String eventType, Boolean wasHotdeal) {
+    }
+
+    public record PaymentSummary(String paymentId, String pgProvider, String method, Integer amount,
+                                 String status, LocalDateTime paidAt) {
+    }
+
+    public record StatusChange(OrderStatus status, LocalDateTime updatedAt) {
+    }
+
+    public static ArchivedOrderDocument from(Order order) {
+        List<Item> items = order.getItems().stream()
+                .map(item -> new Item(item.getProductId(), item.getProductName(), item.getDescription(),
+                        item.getQuantity(), item.getPrice(),
+                        item.getEventType() != null ? item.getEventType().name() : null, item.getWasHotdeal()))
+                .toList();
+
+        Payment payment = order.getPayment();
+        PaymentSummary paymentSummary = payment == null ? null : new PaymentSummary(
+                payment.getPaymentId(), payment.getPgProvider(), payment.getMethod(), payment.getAmount(),
+                payment.getStatus() != null ? payment.getStatus().name() : null, payment.getPaidAt());
+
+        List<StatusChange> history = order.getStatusHistory().stream()
+                .sorted(Comparator.comparing(OrderTimestamp::getUpdatedAt))
+                .map(timestamp -> new StatusChange(timestamp.getStatus(), timestamp.getUpdatedAt()))
+                .toList();
+
+        return new ArchivedOrderDocument(order.getOrderId(), order.getUserId(), order.getStoreId(), order.getStoreName(),
+                order.getStatus(), order.getOriginalAmount(), order.getDiscountAmount(), order.getTotalAmount(),
+                order.getRecipientName(), order.getPaidAtUnix(), order.getCreatedAt(), items, paymentSummary, history);
+    }
+}
@@ -0,0 +1,112 @@
+package com.coubee.coubeebeorder.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 헤더로 전달된 요청의 처리 결과
+ *
+ * 키는 "scope:owner:헤더값" 형태로 저장되어 API와 사용자(또는 주문)별로 분리됩니다.
+ * expires_at이 지난 행은 재사용 가능하며 주기적으로 삭제됩니다.
+ * IN_PROGRESS 행은 locked_until까지만 선점이 유효하며, 그 뒤에는 새 요청이 키를 이어받을 수 있습니다
+ * (처리 중 인스턴스가 죽거나 완료 기록에 실패해 키가 영구히 IN_PROGRESS로 남는 것을 막습니다).
+ */
+@Getter
+@Entity
+@Table(name = "idempotency_keys")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // IN_PROGRESS 선점 만료 시각 (COMPLETED 행은 null)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 이미 있는 키를 merge(SELECT 후 UPDATE)로 IN_PROGRESS로 덮어쓰지 않고 INSERT에서 PK 위반이 나도록 항상 신규로 저장합니다
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Builder
+    private IdempotencyKey(String idempotencyKey, String requestHash, IdempotencyStatus status,
+                           String responseBody, LocalDateTime createdAt, LocalDateTime expiresAt,
+                           LocalDateTime lockedUntil) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.lockedUntil = lockedUntil;
+    }
+
+    public static IdempotencyKey start(String idempotencyKey, String requestHash, LocalDateTime now,
+                                       LocalDateTime expiresAt, LocalDateTime lockedUntil) {
+        return IdempotencyKey.builder()
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .lockedUntil(lockedUntil)
+                .build();
+    }
+
+    /**
+     * claimedAt 시각에 선점한 요청이 아직 이 키를 보유하고 있는지 (선점 만료 후 다른 요청이 이어받았으면 false)
+     */
+    public boolean isClaimedAt(LocalDateTime claimedAt) {
+        return status == IdempotencyStatus.IN_PROGRESS && createdAt.equals(claimedAt);
+    }
+
+    /**
+     * 처리 완료된 응답을 저장합니다.
+     *
+     * @param responseBody JSON으로 직렬화된 응답
+     */
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+        this.status = IdempotencyStatus.COMPLETED;
+        this.lockedUntil = null;
+    }
+}
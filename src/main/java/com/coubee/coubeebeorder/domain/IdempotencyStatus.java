@@ -0,0 +1,19 @@
+package com.coubee.coubeebeorder.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 멱등성 키 처리 상태
+ *
+ * - IN_PROGRESS: 최초 요청이 처리 중인 상태 (동일 키의 동시 요청은 409로 거절)
+ * - COMPLETED: 처리가 끝나 저장된 응답을 재전송하는 상태
+ */
+@Getter
+@AllArgsConstructor
+public enum IdempotencyStatus {
+    IN_PROGRESS("In progress"),
+    COMPLETED("Completed");
+
+    private final String description;
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -17,13 +18,16 @@ import java.util.Set;
 @Table(name = "orders")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-public class Order extends BaseTimeEntity {
+public class Order extends PartitionedTimeEntity {
 
+    // 시퀀스 기반 ID(50개 단위 pooled 할당): IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있습니다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "order_id", nullable = false, unique = true)
+    // 파티션 테이블에는 전역 UNIQUE 제약을 둘 수 없어(V22) 유일성은 order_ids 등록 테이블(OrderIdRegistration)이 보장합니다
+    @Column(name = "order_id", nullable = false)
     private String orderId;
 
     @Column(name = "user_id", nullable = false)
@@ -56,6 +60,15 @@ public class Order extends BaseTimeEntity {
     @Column(name = "paid_at_unix")
     private Long paidAtUnix;
 
+    // 결제되지 않으면 자동으로 만료(FAILED)되는 시각 - PENDING 상태에서만 의미가 있습니다
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    // 낙관적 잠금: 상태 전이 UPDATE에 "WHERE version = ?"가 붙어 동시 전이 중 하나만 성공합니다
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<OrderItem> items = new HashSet<>();
 
@@ -111,6 +124,15 @@ public class Order extends BaseTimeEntity {
         statusHistory.add(timestamp);
     }
 
+    /**
+     * 결제 대기 만료 시각을 설정합니다.
+     *
+     * @param expiresAt 이 시각까지 결제되지 않으면 주문이 만료됩니다
+     */
+    public void scheduleExpiry(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
     public void setPayment(Payment payment) {
         this.payment = payment;
     }
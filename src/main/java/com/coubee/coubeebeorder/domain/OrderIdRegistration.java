@@ -0,0 +1,56 @@
+package com.coubee.coubeebeorder.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급된 주문 ID 등록 (order_ids, V28)
+ *
+ * orders는 created_at으로 파티셔닝되어 order_id에 전역 UNIQUE 제약을 둘 수 없습니다.
+ * 주문을 저장하기 전에 같은 트랜잭션에서 이 행을 INSERT하여, 파티셔닝하지 않은 order_ids의 PK로 유일성을 보장합니다.
+ */
+@Getter
+@Entity
+@Table(name = "order_ids")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIdRegistration implements Persistable<String> {
+
+    @Id
+    @Column(name = "order_id", length = 50)
+    private String orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 중복 ID를 merge(SELECT 후 UPDATE)로 덮어쓰지 않고 INSERT에서 PK 위반이 나도록 항상 신규로 저장합니다
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static OrderIdRegistration of(String orderId) {
+        OrderIdRegistration registration = new OrderIdRegistration();
+        registration.orderId = orderId;
+        registration.createdAt = LocalDateTime.now();
+        return registration;
+    }
+}
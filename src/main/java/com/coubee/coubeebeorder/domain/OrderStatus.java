@@ -17,4 +17,11 @@ public enum OrderStatus {
     FAILED("Failed");
 
     private final String description;
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 종료 상태인지 여부
+     */
+    public boolean isTerminal() {
+        return this == RECEIVED || this == CANCELLED_USER || this == CANCELLED_ADMIN || this == FAILED;
+    }
 }
\ No newline at end of file
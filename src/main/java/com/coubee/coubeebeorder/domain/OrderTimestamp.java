@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class OrderTimestamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_timestamp_seq_generator")
+    @SequenceGenerator(name = "order_timestamp_seq_generator", sequenceName = "order_timestamp_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
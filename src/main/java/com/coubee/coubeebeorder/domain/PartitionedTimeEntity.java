@@ -0,0 +1,41 @@
+package com.coubee.coubeebeorder.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import org.hibernate.annotations.PartitionKey;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * created_at 기준 월 파티션 테이블(orders, order_items, V22)의 공통 시간 컬럼
+ *
+ * created_at이 @PartitionKey이므로 Hibernate가 만드는 UPDATE/DELETE에 "AND created_at = ?"가 붙어
+ * PostgreSQL이 해당 월 파티션 하나만 검사합니다 (모든 파티션의 order_id 인덱스를 훑지 않음).
+ */
+@Getter
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class PartitionedTimeEntity {
+
+    @PartitionKey
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    // DB(TIMESTAMP, 마이크로초)에 저장된 값과 같아야 같은 영속성 컨텍스트의 이후 UPDATE가 행을 찾을 수 있습니다
+    @PrePersist
+    void truncatePartitionKey() {
+        if (createdAt != null) {
+            createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.coubee.coubeebeorder.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문별 재고 선점 원장
+ *
+ * 상품 서비스에서 차감한 재고를 (주문, 상품) 단위로 기록합니다.
+ * 상태 전이는 StockReservationRepository의 조건부 UPDATE로만 수행되므로 재고 복원 경로가 여러 번 호출되어도
+ * 복원 이벤트는 한 번만 발행됩니다.
+ *
+ * 결제 준비는 상품 서비스를 호출하기 전에 행을 CLAIMED로 확보합니다 ((주문, 상품) 유니크 INSERT 또는 RELEASED 행의 조건부 UPDATE).
+ * 확보할 때마다 attempt가 1 증가하며, 차감 결과 반영과 보상은 자신이 확보한 attempt의 행에만 적용됩니다.
+ */
+@Getter
+@Entity
+@Table(name = "stock_reservations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_reservations_order_product", columnNames = {"order_id", "product_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, length = 50)
+    private String orderId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockReservationStatus status;
+
+    // 이 행을 확보한 결제 준비 시도 번호 (재확보할 때마다 증가)
+    @Column(nullable = false)
+    private Integer attempt;
+
+    @Builder
+    private StockReservation(String orderId, Long storeId, Long productId, Integer quantity,
+                             StockReservationStatus status, Integer attempt) {
+        this.orderId = orderId;
+        this.storeId = storeId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.status = status;
+        this.attempt = attempt != null ? attempt : 1;
+    }
+
+    /**
+     * 상품 서비스 호출 전에 첫 결제 준비 시도로 행을 확보합니다.
+     */
+    public static StockReservation claim(String orderId, Long storeId, Long productId, Integer quantity) {
+        return StockReservation.builder()
+                .orderId(orderId)
+                .storeId(storeId)
+                .productId(productId)
+                .quantity(quantity)
+                .status(StockReservationStatus.CLAIMED)
+                .attempt(1)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.coubee.coubeebeorder.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재고 선점 원장 상태
+ *
+ * - CLAIMED: 결제 준비 요청이 선점 행을 확보하고 상품 서비스에 재고 차감을 요청하는 중인 상태 (결과 미확정)
+ * - HELD: 결제 준비 시점에 상품 서비스에서 재고가 차감되어 선점 중인 상태
+ * - RELEASED: 재고가 선점되어 있지 않은 상태 (취소/만료/보상으로 복원되었거나 차감 요청이 거절됨)
+ * - CONSUMED: 고객이 상품을 수령하여 선점 재고가 최종 소진된 상태
+ */
+@Getter
+@AllArgsConstructor
+public enum StockReservationStatus {
+    CLAIMED("Claimed"),
+    HELD("Held"),
+    RELEASED("Released"),
+    CONSUMED("Consumed");
+
+    private final String description;
+}
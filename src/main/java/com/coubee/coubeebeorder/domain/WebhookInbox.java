@@ -0,0 +1,116 @@
+package com.coubee.coubeebeorder.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검증을 마친 PortOne 웹훅을 보관하는 수신함
+ *
+ * 웹훅 요청은 서명 검증 후 이 테이블에 저장되고 즉시 200으로 응답합니다.
+ * 실제 결제 상태 반영은 WebhookInboxWorker가 주문별 수신 순서대로 처리합니다.
+ */
+@Getter
+@Entity
+@Table(name = "webhook_inbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WebhookInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "webhook_id")
+    private String webhookId;
+
+    @Column(name = "order_id", nullable = false, length = 50)
+    private String orderId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookInboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Builder
+    private WebhookInbox(String webhookId, String orderId, String eventType, String transactionId, String payload,
+                         WebhookInboxStatus status, Integer attempts, LocalDateTime receivedAt, LocalDateTime nextAttemptAt) {
+        this.webhookId = webhookId;
+        this.orderId = orderId;
+        this.eventType = eventType;
+        this.transactionId = transactionId;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+        this.receivedAt = receivedAt;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static WebhookInbox receive(String webhookId, String orderId, String eventType, String transactionId, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return WebhookInbox.builder()
+                .webhookId(webhookId)
+                .orderId(orderId)
+                .eventType(eventType)
+                .transactionId(transactionId)
+                .payload(payload)
+                .status(WebhookInboxStatus.PENDING)
+                .attempts(0)
+                .receivedAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    public void markDone() {
+        this.status = WebhookInboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 처리 실패를 기록합니다. 최대 시도 횟수에 도달하면 FAILED로, 아니면 다음 시도 시각을 예약합니다.
+     *
+     * @param error 실패 사유
+     * @param nextAttemptAt 다음 시도 시각
+     * @param maxAttempts 최대 시도 횟수
+     */
+    public void markFailedAttempt(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.lastError = error;
+        if (this.attempts >= maxAttempts) {
+            this.status = WebhookInboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.status = WebhookInboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
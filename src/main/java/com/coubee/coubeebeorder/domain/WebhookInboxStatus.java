@@ -0,0 +1,23 @@
+package com.coubee.coubeebeorder.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 웹훅 수신함 처리 상태
+ *
+ * - PENDING: 수신 후 처리 대기 (재시도 대기 포함)
+ * - PROCESSING: 워커가 가져가 처리 중
+ * - DONE: 처리 완료
+ * - FAILED: 최대 재시도 횟수를 초과하여 수동 확인이 필요한 상태
+ */
+@Getter
+@AllArgsConstructor
+public enum WebhookInboxStatus {
+    PENDING("Pending"),
+    PROCESSING("Processing"),
+    DONE("Done"),
+    FAILED("Failed");
+
+    private final String description;
+}
@@ -0,0 +1,37 @@
+package com.coubee.coubeebeorder.domain.dto;
+
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "Bulk order status update request")
+public class OrderBulkStatusUpdateRequest {
+
+    public static final int MAX_ORDERS = 100;
+
+    @Schema(description = "Order IDs to update (same store, at most 100)",
+            example = "[\"order_01JAB3F6Q8ZK7W2N4XYV5C9RTM\", \"order_01JAB3F7A1ZK7W2N4XYV5C9RTN\"]")
+    @NotEmpty(message = "Order IDs are required")
+    @Size(max = MAX_ORDERS, message = "At most 100 orders can be updated at once")
+    private List<@NotBlank String> orderIds;
+
+    @Schema(description = "New order status",
+            example = "PREPARING",
+            allowableValues = {"PREPARING", "PREPARED", "RECEIVED"})
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+
+    @Schema(description = "Reason for status change (optional)",
+            example = "Started food preparation")
+    @Size(max = 500, message = "Reason cannot exceed 500 characters")
+    private String reason;
+}
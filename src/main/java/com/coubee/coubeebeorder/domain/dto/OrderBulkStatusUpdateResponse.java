@@ -0,0 +1,57 @@
+package com.coubee.coubeebeorder.domain.dto;
+
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "Bulk order status update response")
+public class OrderBulkStatusUpdateResponse {
+
+    @Schema(description = "Requested status", example = "PREPARING")
+    private OrderStatus status;
+
+    @Schema(description = "Number of orders updated", example = "11")
+    private int succeeded;
+
+    @Schema(description = "Number of orders not updated", example = "1")
+    private int failed;
+
+    @Schema(description = "Per-order results in request order")
+    private List<Result> results;
+
+    @Schema(description = "Updated timestamp", example = "2025-01-23T10:05:25")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "User ID who updated the status", example = "123")
+    private Long updatedByUserId;
+
+    @Getter
+    @Builder
+    @Schema(description = "Result for a single order")
+    public static class Result {
+
+        @Schema(description = "Order ID", example = "order_01JAB3F6Q8ZK7W2N4XYV5C9RTM")
+        private String orderId;
+
+        @Schema(description = "Whether the status was changed", example = "true")
+        private boolean success;
+
+        @Schema(description = "Status before the request (null if the order was not found)", example = "PAID")
+        private OrderStatus previousStatus;
+
+        @Schema(description = "Status after the request (null if the order was not found)", example = "PREPARING")
+        private OrderStatus currentStatus;
+
+        @Schema(description = "Failure code: NOT_FOUND or INVALID_TRANSITION", example = "INVALID_TRANSITION")
+        private String errorCode;
+
+        @Schema(description = "Failure message", example = "Invalid status transition from RECEIVED to PREPARING")
+        private String message;
+    }
+}
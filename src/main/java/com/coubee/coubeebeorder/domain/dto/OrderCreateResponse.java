@@ -3,9 +3,11 @@ package com.coubee.coubeebeorder.domain.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized // 멱등성 키로 저장된 응답을 역직렬화하기 위해 필요
 public class OrderCreateResponse {
 
     @Schema(description = "Order ID", example = "order_b7833686f25b48e0862612345678abcd")
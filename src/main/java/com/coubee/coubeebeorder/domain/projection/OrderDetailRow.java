@@ -0,0 +1,60 @@
+package com.coubee.coubeebeorder.domain.projection;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrderDocument;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.Payment;
+import com.coubee.coubeebeorder.domain.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 읽기 전용 행 (주문 + 결제)
+ * JPQL 생성자 표현식으로 만들어지므로 영속성 컨텍스트에 등록되지 않고 dirty checking 대상이 아닙니다.
+ * 결제가 없는 주문은 payment* 필드가 모두 null입니다.
+ * 엔티티와 보관 문서도 이 행으로 옮겨 같은 변환 경로(OrderDetailResponse)를 사용합니다.
+ */
+public record OrderDetailRow(
+        String orderId,
+        Long userId,
+        Long storeId,
+        OrderStatus status,
+        Integer originalAmount,
+        Integer discountAmount,
+        Integer totalAmount,
+        String recipientName,
+        Long paidAtUnix,
+        LocalDateTime createdAt,
+        String paymentId,
+        String pgProvider,
+        String paymentMethod,
+        Integer paymentAmount,
+        PaymentStatus paymentStatus,
+        LocalDateTime paidAt) {
+
+    public static OrderDetailRow from(Order order) {
+        Payment payment = order.getPayment();
+        return new OrderDetailRow(order.getOrderId(), order.getUserId(), order.getStoreId(), order.getStatus(),
+                order.getOriginalAmount(), order.getDiscountAmount(), order.getTotalAmount(), order.getRecipientName(),
+                order.getPaidAtUnix(), order.getCreatedAt(),
+                payment != null ? payment.getPaymentId() : null,
+                payment != null ? payment.getPgProvider() : null,
+                payment != null ? payment.getMethod() : null,
+                payment != null ? payment.getAmount() : null,
+                payment != null ? payment.getStatus() : null,
+                payment != null ? payment.getPaidAt() : null);
+    }
+
+    public static OrderDetailRow from(ArchivedOrderDocument document) {
+        ArchivedOrderDocument.PaymentSummary payment = document.payment();
+        return new OrderDetailRow(document.orderId(), document.userId(), document.storeId(), document.status(),
+                document.originalAmount(), document.discountAmount(), document.totalAmount(), document.recipientName(),
+                document.paidAtUnix(), document.createdAt(),
+                payment != null ? payment.paymentId() : null,
+                payment != null ? payment.pgProvider() : null,
+                payment != null ? payment.method() : null,
+                payment != null ? payment.amount() : null,
+                payment != null && payment.status() != null ? PaymentStatus.valueOf(payment.status()) : null,
+                payment != null ? payment.paidAt() : null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.coubee.coubeebeorder.domain.projection;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrderDocument;
+import com.coubee.coubeebeorder.domain.EventType;
+import com.coubee.coubeebeorder.domain.OrderItem;
+
+/**
+ * 주문 목록 조회용 읽기 전용 주문 아이템 행
+ */
+public record OrderItemRow(
+        String orderId,
+        Long productId,
+        String productName,
+        Integer quantity,
+        Integer price,
+        EventType eventType) {
+
+    public Integer totalPrice() {
+        return price * quantity;
+    }
+
+    public static OrderItemRow from(String orderId, OrderItem item) {
+        return new OrderItemRow(orderId, item.getProductId(), item.getProductName(), item.getQuantity(), item.getPrice(),
+                item.getEventType());
+    }
+
+    public static OrderItemRow from(String orderId, ArchivedOrderDocument.Item item) {
+        return new OrderItemRow(orderId, item.productId(), item.productName(), item.quantity(), item.price(),
+                item.eventType() != null ? EventType.valueOf(item.eventType()) : null);
+    }
+}
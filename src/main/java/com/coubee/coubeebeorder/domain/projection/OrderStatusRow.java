@@ -0,0 +1,14 @@
+package com.coubee.coubeebeorder.domain.projection;
+
+import com.coubee.coubeebeorder.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 읽기 전용 상태 변경 이력 행
+ */
+public record OrderStatusRow(
+        String orderId,
+        OrderStatus status,
+        LocalDateTime updatedAt) {
+}
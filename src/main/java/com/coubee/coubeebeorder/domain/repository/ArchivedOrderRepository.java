@@ -0,0 +1,45 @@
+package com.coubee.coubeebeorder.domain.repository;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, String> {
+
+    Optional<ArchivedOrder> findByOrderId(String orderId);
+
+    /**
+     * 사용자의 보관 주문을 최신순으로 조회합니다.
+     * 운영 주문 목록 뒤에 이어 붙이기 위해 페이지 단위가 아닌 offset/limit으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param keyword 매장명/상품명 검색어 (선택사항)
+     * @param offset 건너뛸 보관 주문 수
+     * @param limit 최대 조회 건수
+     * @return 보관 주문 목록
+     */
+    @Query(value = """
+        SELECT * FROM archived_orders a
+        WHERE a.user_id = :userId
+        AND (:keyword IS NULL OR :keyword = '' OR a.search_text LIKE LOWER(CONCAT('%', :keyword, '%')))
+        ORDER BY a.created_at DESC
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<ArchivedOrder> findUserArchivedOrders(@Param("userId") Long userId,
+                                               @Param("keyword") String keyword,
+                                               @Param("offset") long offset,
+                                               @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT COUNT(*) FROM archived_orders a
+        WHERE a.user_id = :userId
+        AND (:keyword IS NULL OR :keyword = '' OR a.search_text LIKE LOWER(CONCAT('%', :keyword, '%')))
+        """, nativeQuery = true)
+    long countUserArchivedOrders(@Param("userId") Long userId, @Param("keyword") String keyword);
+}
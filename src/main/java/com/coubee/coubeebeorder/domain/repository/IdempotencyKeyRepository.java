@@ -0,0 +1,45 @@
+package com.coubee.coubeebeorder.domain.repository;
+
+import com.coubee.coubeebeorder.domain.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * 만료된 단일 키를 삭제합니다. 같은 키로 새 요청을 선점하기 전에 호출됩니다.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.idempotencyKey = :key AND k.expiresAt < :now")
+    int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * 선점 기한(locked_until)이 지난 IN_PROGRESS 키를 새 요청이 이어받습니다.
+     * 처리하던 인스턴스가 죽었거나 완료 기록에 실패한 키만 대상이며, 조건부 UPDATE이므로 동시 요청 중 하나만 성공합니다.
+     * 요청 본문 해시가 같은 재시도만 이어받을 수 있고, 다른 본문으로 재사용된 키는 충돌로 처리됩니다.
+     *
+     * @return 이어받았으면 1, 아직 선점 중이거나 완료되었거나 다른 요청의 키면 0
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.createdAt = :now, k.expiresAt = :expiresAt, " +
+           "k.lockedUntil = :lockedUntil WHERE k.idempotencyKey = :key AND k.requestHash = :requestHash " +
+           "AND k.status = com.coubee.coubeebeorder.domain.IdempotencyStatus.IN_PROGRESS AND k.lockedUntil < :now")
+    int takeOverExpiredClaim(@Param("key") String key,
+                             @Param("requestHash") String requestHash,
+                             @Param("now") LocalDateTime now,
+                             @Param("expiresAt") LocalDateTime expiresAt,
+                             @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 만료된 키를 일괄 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.coubee.coubeebeorder.domain.repository;
+
+import com.coubee.coubeebeorder.domain.OrderIdRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderIdRegistrationRepository extends JpaRepository<OrderIdRegistration, String> {
+}
@@ -2,6 +2,7 @@ package com.coubee.coubeebeorder.domain.repository;
 
 import com.coubee.coubeebeorder.domain.EventType;
 import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.projection.OrderItemRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -52,4 +53,15 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      */
     @Query("SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.productId = :productId AND oi.eventType = :eventType")
     Integer sumQuantityByProductIdAndEventType(@Param("productId") Long productId, @Param("eventType") EventType eventType);
+
+    /**
+     * 목록 조회용 주문 아이템 행을 엔티티 없이 조회합니다
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문 아이템 행 목록
+     */
+    @Query("SELECT new com.coubee.coubeebeorder.domain.projection.OrderItemRow(" +
+           "oi.order.orderId, oi.productId, oi.productName, oi.quantity, oi.price, oi.eventType) " +
+           "FROM OrderItem oi WHERE oi.order.orderId IN :orderIds ORDER BY oi.id")
+    List<OrderItemRow> findRowsByOrderIdIn(@Param("orderIds") List<String> orderIds);
 }
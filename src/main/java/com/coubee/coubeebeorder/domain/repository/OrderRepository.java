@@ -1,7 +1,9 @@
 package com.coubee.coubeebeorder.domain.repository;
 
 import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.projection.OrderDetailRow;
 import com.coubee.coubeebeorder.statistic.projection.*;
+import com.coubee.coubeebeorder.util.OrderIdGenerator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,15 +11,48 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    Optional<Order> findByOrderId(String orderId);
+    /**
+     * 새 형식(ULID) 주문 ID의 생성 시각과 created_at 사이에 허용하는 차이.
+     * ID는 주문 저장 전에 발급되므로 두 시각은 요청 처리 시간만큼 다르고, 인스턴스 간 시계 차이도 흡수합니다.
+     */
+    Duration ORDER_ID_CREATED_AT_SLACK = Duration.ofDays(1);
+
+    /**
+     * 주문 ID로 주문을 조회합니다.
+     * 새 형식(ULID) ID는 생성 시각을 담고 있으므로 created_at 범위 조건을 붙여 해당 월 파티션만 조회하고,
+     * 생성 시각을 알 수 없는 기존 UUID 형식 ID만 모든 파티션에서 찾습니다.
+     */
+    default Optional<Order> findByOrderId(String orderId) {
+        Optional<Instant> issuedAt = OrderIdGenerator.extractTimestamp(orderId);
+        if (issuedAt.isEmpty()) {
+            return findByOrderIdInAllPartitions(orderId);
+        }
+        LocalDateTime createdAround = LocalDateTime.ofInstant(issuedAt.get(), ZoneId.systemDefault());
+        return findByOrderIdAndCreatedAtBetween(orderId,
+                createdAround.minus(ORDER_ID_CREATED_AT_SLACK), createdAround.plus(ORDER_ID_CREATED_AT_SLACK));
+    }
+
+    Optional<Order> findByOrderIdAndCreatedAtBetween(String orderId, LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findByOrderIdInAllPartitions(@Param("orderId") String orderId);
+
+    /**
+     * 한 매장의 여러 주문을 한 번에 조회합니다 (일괄 상태 변경용). 다른 매장의 주문 ID는 결과에서 빠집니다.
+     */
+    List<Order> findByStoreIdAndOrderIdIn(Long storeId, Collection<String> orderIds);
 
     /**
      * Native query to fetch paginated order IDs.
@@ -112,6 +147,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // ========================================
     // Statistical Query Methods (JPA Migration from StatisticRepositoryImpl)
     // ========================================
+    //
+    // 통계/베스트셀러/주문 요약은 order_facts / order_item_facts 뷰(V27)를 조회합니다.
+    // 뷰는 운영 테이블(orders / order_items)과 보관 테이블(archived_orders, 아이템은 document JSONB)을 UNION ALL하므로
+    // 보관된 주문도 집계에서 빠지지 않습니다.
+    // orders / order_items는 created_at 기준 월별 파티션 테이블입니다 (V22).
+    // 통계는 paid_at_unix로 집계하지만, 결제는 주문 생성 직후(만료 시간 이내)에만 가능하므로
+    // created_at 조건(앞뒤 1일 여유, 타임존 차이 포함)을 함께 걸어 조회 기간 밖의 월 파티션을 실행 계획에서 제외합니다.
+    // (UNION ALL 뷰의 조건은 각 분기로 내려가므로 파티션 제외는 그대로 동작합니다)
 
     /**
      * Get order aggregation statistics for a date range
@@ -127,9 +170,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             COALESCE(SUM(o.total_amount), 0) as totalSalesAmount,
             COUNT(o.order_id) as totalOrderCount,
             COUNT(DISTINCT o.user_id) as uniqueCustomerCount
-        FROM orders o
+        FROM order_facts o
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         """, nativeQuery = true)
     OrderAggregationProjection getOrderAggregation(@Param("startUnix") Long startUnix,
@@ -147,12 +191,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query(value = """
         SELECT COALESCE(SUM(oi.quantity), 0) as totalItemCount
-        FROM order_items oi
+        FROM order_item_facts oi
         WHERE EXISTS (
-            SELECT 1 FROM orders o
+            SELECT 1 FROM order_facts o
             WHERE o.order_id = oi.order_id
             AND o.status = 'RECEIVED'
             AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+            AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+            AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
             AND (:storeId IS NULL OR o.store_id = :storeId)
         )
         """, nativeQuery = true)
@@ -173,9 +219,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         SELECT
             EXTRACT(HOUR FROM TO_TIMESTAMP(o.paid_at_unix)) as hour,
             COALESCE(SUM(o.total_amount), 0) as hourlySales
-        FROM orders o
+        FROM order_facts o
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY EXTRACT(HOUR FROM TO_TIMESTAMP(o.paid_at_unix))
         ORDER BY hourlySales DESC
@@ -198,9 +245,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         SELECT
             TO_CHAR(TO_TIMESTAMP(o.paid_at_unix), 'DAY') as dayName,
             COALESCE(SUM(o.total_amount), 0) as dailySales
-        FROM orders o
+        FROM order_facts o
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY TO_CHAR(TO_TIMESTAMP(o.paid_at_unix), 'DAY')
         ORDER BY dailySales DESC
@@ -225,9 +273,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             DATE(TO_TIMESTAMP(o.paid_at_unix)) as orderDate,
             COALESCE(SUM(o.total_amount), 0) as salesAmount,
             COUNT(o.order_id) as orderCount
-        FROM orders o
+        FROM order_facts o
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY TO_CHAR(TO_TIMESTAMP(o.paid_at_unix), 'DAY'), DATE(TO_TIMESTAMP(o.paid_at_unix))
         ORDER BY orderDate
@@ -251,13 +300,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             oi.product_name as productName,
             SUM(oi.quantity) as quantitySold,
             SUM(oi.quantity * oi.price) as salesAmount
-        FROM order_items oi
+        FROM order_item_facts oi
         WHERE oi.event_type = 'PURCHASE'
         AND EXISTS (
-            SELECT 1 FROM orders o
+            SELECT 1 FROM order_facts o
             WHERE o.order_id = oi.order_id
             AND o.status = 'RECEIVED'
             AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+            AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+            AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
             AND (:storeId IS NULL OR o.store_id = :storeId)
         )
         GROUP BY oi.product_id, oi.product_name
@@ -284,9 +335,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             (DATE_TRUNC('week', TO_TIMESTAMP(o.paid_at_unix)) + INTERVAL '6 days')::date as weekEndDate,
             COALESCE(SUM(o.total_amount), 0) as salesAmount,
             COUNT(o.order_id) as orderCount
-        FROM orders o
+        FROM order_facts o
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY
             EXTRACT(WEEK FROM TO_TIMESTAMP(o.paid_at_unix)) - EXTRACT(WEEK FROM DATE_TRUNC('month', TO_TIMESTAMP(o.paid_at_unix))) + 1,
@@ -322,8 +374,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query(value = "SELECT oi.product_id as productId, oi.product_name as productName, " +
                    "SUM(oi.quantity) as quantitySold, SUM(oi.quantity * oi.price) as totalSalesAmount " +
-                   "FROM order_items oi JOIN orders o ON oi.order_id = o.order_id " +
+                   "FROM order_item_facts oi JOIN order_facts o ON oi.order_id = o.order_id " +
                    "WHERE o.store_id = :storeId AND o.status = 'RECEIVED' AND o.paid_at_unix BETWEEN :startUnix AND :endUnix " +
+                   "AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp " +
+                   "AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp " +
                    "GROUP BY oi.product_id, oi.product_name ORDER BY quantitySold DESC", nativeQuery = true)
     List<ProductSalesSummaryProjection> findProductSalesSummaryByStore(
         @Param("storeId") Long storeId, @Param("startUnix") Long startUnix, @Param("endUnix") Long endUnix);
@@ -350,14 +404,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @param userId user ID
      * @return optional user order summary projection (empty if no valid orders found)
      */
-    @Query("SELECT " +
-           "   count(o.id) as totalOrderCount, " +
-           "   COALESCE(sum(o.originalAmount), 0L) as totalOriginalAmount, " +
-           "   COALESCE(sum(o.discountAmount), 0L) as totalDiscountAmount, " +
-           "   COALESCE(sum(o.totalAmount), 0L) as finalPurchaseAmount " +
-           "FROM Order o " +
-           "WHERE o.userId = :userId " +
-           "AND o.status IN ('PAID', 'PREPARING', 'PREPARED', 'RECEIVED')")
+    @Query(value = "SELECT " +
+           "   COUNT(o.order_id) as totalOrderCount, " +
+           "   COALESCE(SUM(o.original_amount), 0) as totalOriginalAmount, " +
+           "   COALESCE(SUM(o.discount_amount), 0) as totalDiscountAmount, " +
+           "   COALESCE(SUM(o.total_amount), 0) as finalPurchaseAmount " +
+           "FROM order_facts o " +
+           "WHERE o.user_id = :userId " +
+           "AND o.status IN ('PAID', 'PREPARING', 'PREPARED', 'RECEIVED')", nativeQuery = true)
     Optional<UserOrderSummaryProjection> findUserOrderSummary(@Param("userId") Long userId);
 
     // ========================================
@@ -400,10 +454,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.price * oi.quantity ELSE 0 END), 0) as regularSalesAmount,
             COUNT(DISTINCT CASE WHEN oi.was_hotdeal = false THEN o.order_id END) as regularOrderCount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.quantity ELSE 0 END), 0) as regularItemCount
-        FROM orders o
-        JOIN order_items oi ON o.order_id = oi.order_id
+        FROM order_facts o
+        JOIN order_item_facts oi ON o.order_id = oi.order_id
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+        AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         """, nativeQuery = true)
     ComprehensiveStatsProjection getComprehensiveStatistics(@Param("startUnix") Long startUnix,
@@ -436,10 +492,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             COUNT(DISTINCT o.order_id) as orderCount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = true THEN oi.price * oi.quantity ELSE 0 END), 0) as hotdealSalesAmount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.price * oi.quantity ELSE 0 END), 0) as regularSalesAmount
-        FROM orders o
-        JOIN order_items oi ON o.order_id = oi.order_id
+        FROM order_facts o
+        JOIN order_item_facts oi ON o.order_id = oi.order_id
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+        AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY EXTRACT(HOUR FROM TO_TIMESTAMP(o.paid_at_unix))
         ORDER BY hour
@@ -476,10 +534,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             COUNT(DISTINCT o.order_id) as orderCount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = true THEN oi.price * oi.quantity ELSE 0 END), 0) as hotdealSalesAmount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.price * oi.quantity ELSE 0 END), 0) as regularSalesAmount
-        FROM orders o
-        JOIN order_items oi ON o.order_id = oi.order_id
+        FROM order_facts o
+        JOIN order_item_facts oi ON o.order_id = oi.order_id
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+        AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY TO_CHAR(TO_TIMESTAMP(o.paid_at_unix), 'DAY'), DATE(TO_TIMESTAMP(o.paid_at_unix))
         ORDER BY orderDate
@@ -518,10 +578,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             COUNT(DISTINCT o.order_id) as orderCount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = true THEN oi.price * oi.quantity ELSE 0 END), 0) as hotdealSalesAmount,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.price * oi.quantity ELSE 0 END), 0) as regularSalesAmount
-        FROM orders o
-        JOIN order_items oi ON o.order_id = oi.order_id
+        FROM order_facts o
+        JOIN order_item_facts oi ON o.order_id = oi.order_id
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+        AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY EXTRACT(WEEK FROM TO_TIMESTAMP(o.paid_at_unix)) - EXTRACT(WEEK FROM DATE_TRUNC('month', TO_TIMESTAMP(o.paid_at_unix))) + 1, DATE_TRUNC('week', TO_TIMESTAMP(o.paid_at_unix))
         ORDER BY weekStartDate
@@ -564,10 +626,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.quantity ELSE 0 END), 0) as regularQuantity,
             COALESCE(SUM(CASE WHEN oi.was_hotdeal = false THEN oi.price * oi.quantity ELSE 0 END), 0) as regularRevenue,
             CASE WHEN SUM(CASE WHEN oi.was_hotdeal = true THEN 1 ELSE 0 END) > 0 THEN true ELSE false END as wasPartOfHotdeal
-        FROM order_items oi
-        JOIN orders o ON oi.order_id = o.order_id
+        FROM order_item_facts oi
+        JOIN order_facts o ON oi.order_id = o.order_id
         WHERE o.status = 'RECEIVED'
         AND o.paid_at_unix BETWEEN :startUnix AND :endUnix
+        AND o.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
+        AND oi.created_at BETWEEN TO_TIMESTAMP(:startUnix - 86400)::timestamp AND TO_TIMESTAMP(:endUnix + 86400)::timestamp
         AND (:storeId IS NULL OR o.store_id = :storeId)
         GROUP BY oi.product_id, oi.product_name
         ORDER BY totalRevenue DESC
@@ -596,12 +660,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @param endDate end date (inclusive)
      * @return list of order count by status projections
      */
-    @Query("SELECT o.status as status, COUNT(o.id) as orderCount " +
-           "FROM Order o " +
-           "WHERE o.storeId = :storeId " +
-           "AND o.createdAt >= :startDate " +
-           "AND o.createdAt < :endDate " +
-           "GROUP BY o.status")
+    @Query(value = "SELECT o.status as status, COUNT(o.order_id) as orderCount " +
+           "FROM order_facts o " +
+           "WHERE o.store_id = :storeId " +
+           "AND o.created_at >= :startDate " +
+           "AND o.created_at < :endDate " +
+           "GROUP BY o.status", nativeQuery = true)
     List<OrderCountByStatusProjection> countOrdersByStatusInPeriod(@Param("storeId") Long storeId,
                                                                    @Param("startDate") LocalDateTime startDate,
                                                                    @Param("endDate") LocalDateTime endDate);
@@ -663,15 +727,18 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
                                                @Param("keyword") String keyword,
                                                Pageable pageable);
 
-    // [RENAMED & MODIFIED] Fetches full order details for a given list of IDs, sorted by newest first.
-    // 카테시안 곱 문제를 해결하기 위해 statusHistory에 대한 JOIN FETCH를 제거합니다.
-    // (Removed JOIN FETCH on statusHistory to resolve the Cartesian Product issue.)
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.items " +
-           "LEFT JOIN FETCH o.payment " +
+    /**
+     * 목록 조회용 주문 + 결제 행을 엔티티 없이 조회합니다 (최신순)
+     * 아이템과 상태 이력은 OrderItemRepository / OrderTimestampRepository의 행 조회로 따로 가져옵니다.
+     */
+    @Query("SELECT new com.coubee.coubeebeorder.domain.projection.OrderDetailRow(" +
+           "o.orderId, o.userId, o.storeId, o.status, o.originalAmount, o.discountAmount, o.totalAmount, " +
+           "o.recipientName, o.paidAtUnix, o.createdAt, " +
+           "p.paymentId, p.pgProvider, p.method, p.amount, p.status, p.paidAt) " +
+           "FROM Order o LEFT JOIN o.payment p " +
            "WHERE o.orderId IN :orderIds " +
-           "ORDER BY o.createdAt DESC") // Sort by newest first
-    List<Order> findWithDetailsInDesc(@Param("orderIds") List<String> orderIds);
+           "ORDER BY o.createdAt DESC")
+    List<OrderDetailRow> findDetailRowsByOrderIdIn(@Param("orderIds") List<String> orderIds);
 
     // ========================================
     // Bestseller Products Query Methods
@@ -697,8 +764,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         SELECT 
             oi.product_id as productId,
             SUM(oi.quantity) as totalQuantity
-        FROM order_items oi
-        JOIN orders o ON oi.order_id = o.order_id
+        FROM order_item_facts oi
+        JOIN order_facts o ON oi.order_id = o.order_id
         WHERE o.store_id IN :storeIds
         AND o.status IN ('PAID', 'RECEIVED')
         GROUP BY oi.product_id
@@ -706,8 +773,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         """, 
         countQuery = """
         SELECT COUNT(DISTINCT oi.product_id)
-        FROM order_items oi
-        JOIN orders o ON oi.order_id = o.order_id
+        FROM order_item_facts oi
+        JOIN order_facts o ON oi.order_id = o.order_id
         WHERE o.store_id IN :storeIds
         AND o.status IN ('PAID', 'RECEIVED')
         """,
@@ -719,12 +786,115 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // ========================================
 
     /**
-     * Find stale pending orders that have been in PENDING status for longer than the cutoff time
-     * Used by the OrderCleanupScheduler to identify orders that need to be automatically cancelled
+     * Claims up to {@code limit} stale PENDING orders by locking their rows.
+     * Rows already locked by another replica's sweep are skipped (SKIP LOCKED),
+     * so several replicas can sweep in parallel without processing the same order twice.
+     * Must be called inside a read-write transaction; the locks are held until it commits.
+     *
+     * @param cutoffTime orders created before this time are considered stale
+     * @param limit maximum number of orders to claim
+     * @return claimed order IDs, oldest first
+     */
+    @Query(value = """
+        SELECT o.order_id FROM orders o
+        WHERE o.status = 'PENDING'
+          AND o.created_at < :cutoffTime
+        ORDER BY o.created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<String> claimStalePendingOrderIds(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("limit") int limit);
+
+    /**
+     * Same as {@link #claimStalePendingOrderIds(LocalDateTime, int)}, but never claims the given orders.
+     * Used by the sweep to skip orders whose expiry already failed during the current run.
+     *
+     * @param excludedOrderIds order IDs to leave untouched (must not be empty)
+     */
+    @Query(value = """
+        SELECT o.order_id FROM orders o
+        WHERE o.status = 'PENDING'
+          AND o.created_at < :cutoffTime
+          AND o.order_id NOT IN (:excludedOrderIds)
+        ORDER BY o.created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<String> claimStalePendingOrderIdsExcluding(@Param("cutoffTime") LocalDateTime cutoffTime,
+                                                    @Param("limit") int limit,
+                                                    @Param("excludedOrderIds") Collection<String> excludedOrderIds);
+
+    /**
+     * Locks the given orders that are still PENDING and past their expires_at deadline.
+     * Rows locked by another replica's expiry timer are skipped.
+     *
+     * @param orderIds candidate order IDs whose deadline has fired
+     * @param now current time
+     * @return order IDs that were claimed
+     */
+    @Query(value = """
+        SELECT o.order_id FROM orders o
+        WHERE o.order_id IN (:orderIds)
+          AND o.status = 'PENDING'
+          AND o.expires_at <= :now
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<String> claimExpiredPendingOrderIds(@Param("orderIds") List<String> orderIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Projection interface for upcoming order expiry deadlines
+     */
+    interface OrderExpiryProjection {
+        String getOrderId();
+        LocalDateTime getExpiresAt();
+    }
+
+    /**
+     * Loads PENDING orders whose expiry deadline falls before {@code until} (including overdue ones),
+     * earliest first. Served by the partial index on expires_at.
      *
-     * @param cutoffTime the cutoff time - orders created before this time will be considered stale
-     * @return list of stale pending orders
+     * @param until end of the look-ahead window
+     * @param pageable maximum number of deadlines to load
+     * @return order IDs with their deadlines
      */
-    @Query("SELECT o FROM Order o WHERE o.status = 'PENDING' AND o.createdAt < :cutoffTime")
-    List<Order> findStalePendingOrders(@Param("cutoffTime") LocalDateTime cutoffTime);
-}
\ No newline at end of file
+    @Query("SELECT o.orderId AS orderId, o.expiresAt AS expiresAt FROM Order o " +
+           "WHERE o.status = 'PENDING' AND o.expiresAt <= :until " +
+           "ORDER BY o.expiresAt")
+    List<OrderExpiryProjection> findUpcomingExpiries(@Param("until") LocalDateTime until, Pageable pageable);
+
+    /**
+     * Counts stale PENDING orders still waiting to be swept (sweeper backlog metric).
+     */
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.status = 'PENDING' AND o.createdAt < :cutoffTime")
+    long countStalePendingOrders(@Param("cutoffTime") LocalDateTime cutoffTime);
+
+    /**
+     * 월 파티션을 미리 생성합니다 (V22의 create_monthly_partitions 함수 호출, PostgreSQL 전용).
+     *
+     * @param parentTable 파티션 부모 테이블 (orders, order_items, order_timestamp)
+     * @param startMonth 생성을 시작할 월 (해당 월의 아무 날짜)
+     * @param monthCount 생성할 월 수
+     * @return 새로 생성된 파티션 수 (이미 있는 파티션은 건너뜁니다)
+     */
+    @Query(value = "SELECT create_monthly_partitions(:parentTable, CAST(:startMonth AS DATE), :monthCount)", nativeQuery = true)
+    Integer createMonthlyPartitions(@Param("parentTable") String parentTable,
+                                    @Param("startMonth") LocalDate startMonth,
+                                    @Param("monthCount") int monthCount);
+
+    /**
+     * Locks up to {@code limit} orders in a terminal state that were created before the cutoff,
+     * for moving to archived_orders. Rows locked by another replica are skipped.
+     *
+     * @param cutoffTime orders created before this time are archived
+     * @param limit maximum number of orders to claim
+     * @return claimed order IDs
+     */
+    @Query(value = """
+        SELECT o.order_id FROM orders o
+        WHERE o.status IN ('RECEIVED', 'FAILED', 'CANCELLED_USER', 'CANCELLED_ADMIN')
+          AND o.created_at < :cutoffTime
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<String> claimArchivableOrderIds(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("limit") int limit);
+}
@@ -1,12 +1,18 @@
 package com.coubee.coubeebeorder.domain.repository;
 
 import com.coubee.coubeebeorder.domain.OrderTimestamp;
+import com.coubee.coubeebeorder.domain.projection.OrderStatusRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderTimestampRepository extends JpaRepository<OrderTimestamp, Long> {
@@ -28,4 +34,17 @@ public interface OrderTimestampRepository extends JpaRepository<OrderTimestamp,
      */
     @Query("SELECT ot FROM OrderTimestamp ot WHERE ot.order.id = :orderId ORDER BY ot.updatedAt ASC")
     List<OrderTimestamp> findByOrderEntityIdOrderByUpdatedAtAsc(@Param("orderId") Long orderId);
+
+    /**
+     * Stream status history rows for the given orders without loading entities,
+     * grouped by order and sorted by timestamp ascending (uses idx_order_timestamp_order_id_updated_at)
+     *
+     * @param orderIds the order IDs (string format)
+     * @return status history rows ordered by order ID, then updatedAt; must be closed by the caller
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.coubee.coubeebeorder.domain.projection.OrderStatusRow(ot.order.orderId, ot.status, ot.updatedAt) " +
+           "FROM OrderTimestamp ot WHERE ot.order.orderId IN :orderIds " +
+           "ORDER BY ot.order.orderId, ot.updatedAt")
+    Stream<OrderStatusRow> streamRowsByOrderIdIn(@Param("orderIds") Collection<String> orderIds);
 }
@@ -2,11 +2,48 @@ package com.coubee.coubeebeorder.domain.repository;
 
 import com.coubee.coubeebeorder.domain.ProcessedWebhook;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface ProcessedWebhookRepository extends JpaRepository<ProcessedWebhook, String> {
     
     // The primary key is webhookId, so we inherit findById(String webhookId) from JpaRepository
     // Additional methods can be added here if needed for cleanup or monitoring
+
+    /**
+     * 웹훅 ID를 처리 완료로 기록합니다. 이미 기록된 ID면 아무 작업도 하지 않습니다.
+     * 중복 키 예외가 발생하지 않으므로 호출한 트랜잭션이 롤백 전용으로 바뀌지 않습니다.
+     *
+     * @param webhookId 웹훅 ID
+     * @param processedAt 처리 시각
+     * @return 새로 기록되었으면 1, 이미 존재하면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_webhooks (webhook_id, processed_at) VALUES (:webhookId, :processedAt) " +
+                   "ON CONFLICT (webhook_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("webhookId") String webhookId, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 보관 기간이 지난 웹훅 ID를 최대 limit건 삭제합니다.
+     * idx_processed_webhooks_processed_at 범위 조회로 대상 행을 찾으므로 테이블 전체를 잠그지 않습니다.
+     *
+     * @param cutoff 이 시각 이전에 처리된 행을 삭제
+     * @param limit 최대 삭제 건수
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM processed_webhooks
+        WHERE webhook_id IN (
+            SELECT webhook_id FROM processed_webhooks
+            WHERE processed_at < :cutoff
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
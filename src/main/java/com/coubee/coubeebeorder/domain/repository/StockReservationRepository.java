@@ -0,0 +1,91 @@
+package com.coubee.coubeebeorder.domain.repository;
+
+import com.coubee.coubeebeorder.domain.StockReservation;
+import com.coubee.coubeebeorder.domain.StockReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByOrderId(String orderId);
+
+    List<StockReservation> findByOrderIdAndStatus(String orderId, StockReservationStatus status);
+
+    /**
+     * 주문의 선점 재고를 조건부로 전이합니다 (compare-and-set).
+     * 현재 상태가 from인 행만 갱신하므로, 동시에 여러 보상 경로가 실행되어도 한 경로만 0보다 큰 값을 받습니다.
+     *
+     * @param orderId 주문 ID
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @param now 갱신 시각
+     * @return 전이된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to, r.updatedAt = :now " +
+           "WHERE r.orderId = :orderId AND r.status = :from")
+    int transition(@Param("orderId") String orderId,
+                   @Param("from") StockReservationStatus from,
+                   @Param("to") StockReservationStatus to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 준비 시도(attempt)가 확보한 행만 전이합니다.
+     * 다음 시도가 이미 행을 다시 확보했다면 attempt가 달라 0을 돌려주므로, 늦게 끝난 이전 시도가 새 시도의 상태를 덮어쓰지 않습니다.
+     *
+     * @return 전이된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to, r.updatedAt = :now " +
+           "WHERE r.orderId = :orderId AND r.attempt = :attempt AND r.status = :from")
+    int transitionAttempt(@Param("orderId") String orderId,
+                          @Param("attempt") int attempt,
+                          @Param("from") StockReservationStatus from,
+                          @Param("to") StockReservationStatus to,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 선점되지 않은(RELEASED) 주문의 행을 다음 결제 준비 시도로 다시 확보합니다 (compare-and-set).
+     * 동시에 두 요청이 같은 attempt를 보고 확보를 시도하면 한 요청만 0보다 큰 값을 받습니다.
+     *
+     * @param attempt 조회 시점의 시도 번호 (확보에 성공하면 attempt + 1이 됨)
+     * @return 확보한 행 수
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = com.coubee.coubeebeorder.domain.StockReservationStatus.CLAIMED, " +
+           "r.attempt = r.attempt + 1, r.updatedAt = :now " +
+           "WHERE r.orderId = :orderId AND r.attempt = :attempt " +
+           "AND r.status = com.coubee.coubeebeorder.domain.StockReservationStatus.RELEASED")
+    int reclaim(@Param("orderId") String orderId,
+                @Param("attempt") int attempt,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Projection interface for currently held stock per product
+     */
+    interface HeldStockProjection {
+        Long getProductId();
+        Long getHeldQuantity();
+        Long getOrderCount();
+    }
+
+    /**
+     * 매장별 현재 선점 중인 재고를 상품 단위로 집계합니다.
+     * 상품 서비스와의 재고 대사(reconciliation) 시 사용되며, HELD 부분 인덱스만 사용합니다.
+     *
+     * @param storeId 매장 ID
+     * @return 상품별 선점 수량
+     */
+    @Query("SELECT r.productId AS productId, SUM(r.quantity) AS heldQuantity, COUNT(DISTINCT r.orderId) AS orderCount " +
+           "FROM StockReservation r " +
+           "WHERE r.storeId = :storeId AND r.status = com.coubee.coubeebeorder.domain.StockReservationStatus.HELD " +
+           "GROUP BY r.productId")
+    List<HeldStockProjection> findHeldStockByStoreId(@Param("storeId") Long storeId);
+}
@@ -0,0 +1,75 @@
+package com.coubee.coubeebeorder.domain.repository;
+
+import com.coubee.coubeebeorder.domain.WebhookInbox;
+import com.coubee.coubeebeorder.domain.WebhookInboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WebhookInboxRepository extends JpaRepository<WebhookInbox, Long> {
+
+    /**
+     * 처리 가능한 웹훅 ID를 잠금과 함께 조회합니다.
+     *
+     * 같은 주문에 아직 끝나지 않은 이전 웹훅이 있으면 제외하여 주문별 수신 순서를 보장하고,
+     * SKIP LOCKED로 다른 인스턴스가 가져간 행은 건너뜁니다.
+     *
+     * @param now 현재 시각 (재시도 대기 중인 행 제외)
+     * @param limit 최대 조회 건수
+     * @return 처리할 웹훅 ID 목록
+     */
+    @Query(value = """
+        SELECT w.id FROM webhook_inbox w
+        WHERE w.status = 'PENDING'
+          AND w.next_attempt_at <= :now
+          AND NOT EXISTS (
+              SELECT 1 FROM webhook_inbox p
+              WHERE p.order_id = w.order_id
+                AND p.id < w.id
+                AND p.status IN ('PENDING', 'PROCESSING')
+          )
+        ORDER BY w.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE WebhookInbox w SET w.status = com.coubee.coubeebeorder.domain.WebhookInboxStatus.PROCESSING, " +
+           "w.claimedAt = :now, w.attempts = w.attempts + 1 WHERE w.id IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중 인스턴스가 종료되어 PROCESSING으로 남은 행을 다시 대기 상태로 돌립니다.
+     */
+    @Modifying
+    @Query("UPDATE WebhookInbox w SET w.status = com.coubee.coubeebeorder.domain.WebhookInboxStatus.PENDING " +
+           "WHERE w.status = com.coubee.coubeebeorder.domain.WebhookInboxStatus.PROCESSING AND w.claimedAt < :cutoff")
+    int releaseStuck(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 보관 기간이 지난 처리 완료(DONE) 웹훅을 최대 limit건 삭제합니다. FAILED 행은 수동 확인을 위해 남겨둡니다.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM webhook_inbox
+        WHERE id IN (
+            SELECT id FROM webhook_inbox
+            WHERE status = 'DONE' AND processed_at < :cutoff
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    long countByStatusIn(Collection<WebhookInboxStatus> statuses);
+
+    @Query("SELECT MIN(w.receivedAt) FROM WebhookInbox w WHERE w.status IN :statuses")
+    LocalDateTime findOldestReceivedAt(@Param("statuses") Collection<WebhookInboxStatus> statuses);
+}
@@ -0,0 +1,63 @@
+package com.coubee.coubeebeorder.kafka.cache;
+
+import com.coubee.coubeebeorder.service.OrderCacheInvalidation;
+import com.coubee.coubeebeorder.service.OrderCacheInvalidationBroker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Kafka 기반 주문 캐시 무효화 브로커
+ *
+ * 모든 인스턴스가 모든 메시지를 받아야 하므로 인스턴스마다 고유한 consumer group으로 구독하며,
+ * 기동 이전 메시지는 필요 없으므로 최신 offset부터 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coubee.order", name = "cache-invalidation-broker", havingValue = "kafka")
+public class KafkaOrderCacheInvalidationBroker implements OrderCacheInvalidationBroker {
+
+    static final String TOPIC = "order-cache-invalidation";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final List<Consumer<OrderCacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(OrderCacheInvalidation invalidation) {
+        kafkaTemplate.send(TOPIC, invalidation.orderId(), invalidation)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("주문 캐시 무효화 메시지 발행 실패: orderId={}, error={}", invalidation.orderId(), ex.getMessage());
+                    }
+                });
+    }
+
+    @Override
+    public void subscribe(Consumer<OrderCacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @KafkaListener(
+            topics = TOPIC,
+            groupId = "${spring.application.name}-cache-#{T(java.util.UUID).randomUUID().toString()}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "spring.json.value.default.type=com.coubee.coubeebeorder.service.OrderCacheInvalidation"
+            })
+    public void onMessage(OrderCacheInvalidation invalidation, Acknowledgment acknowledgment) {
+        try {
+            listeners.forEach(listener -> listener.accept(invalidation));
+        } finally {
+            acknowledgment.acknowledge();
+        }
+    }
+}
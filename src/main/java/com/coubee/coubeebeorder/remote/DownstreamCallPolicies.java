@@ -0,0 +1,134 @@
+package com.coubee.coubeebeorder.remote;
+
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 다운스트림 조회 메서드별 {@link DownstreamCallPolicy}를 관리하고, 비동기 조회에 적응형 타임아웃과 헤지 요청을 적용합니다.
+ *
+ * Feign 클라이언트(AdaptiveTimeoutFeignClient)와 비동기 클라이언트가 같은 (client, method) 정책을 공유하므로
+ * 어느 쪽으로 호출하든 같은 지연 시간 통계에 반영됩니다.
+ */
+@Component
+public class DownstreamCallPolicies {
+
+    private final RemoteClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final Map<String, DownstreamCallPolicy> policies = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DownstreamCallPolicies(RemoteClientProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    DownstreamCallPolicies(RemoteClientProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    public DownstreamCallPolicy policy(String client, String method) {
+        return policies.computeIfAbsent(client + "#" + method,
+                key -> new DownstreamCallPolicy(client, method, properties, meterRegistry, clock));
+    }
+
+    /**
+     * 멱등 조회를 실행합니다.
+     *
+     * - 결과는 적응형 타임아웃이 지나면 TimeoutException으로 실패하고, 진행 중인 요청은 취소됩니다.
+     * - 헤지가 켜져 있고 통계가 충분하면 헤지 지연 시간 안에 끝나지 않은 요청에 대해 같은 요청을 한 번 더 보내고,
+     *   먼저 성공한 응답을 사용합니다. 한쪽이 실패해도 다른 쪽이 진행 중이면 그 결과를 기다립니다.
+     *
+     * @param attempt 호출할 때마다 새 요청을 보내는 함수 (헤지 시 두 번 호출됨)
+     */
+    public <T> CompletableFuture<T> read(String client, String method, Supplier<CompletableFuture<T>> attempt) {
+        DownstreamCallPolicy policy = policy(client, method);
+        long timeoutMillis = policy.timeoutMillis(properties.getResponseTimeout().toMillis());
+        long hedgeDelayMillis = policy.hedgeDelayMillis();
+        policy.onRequest();
+
+        HedgedCall<T> call = new HedgedCall<>(policy, attempt);
+        call.start(false);
+        if (hedgeDelayMillis >= 0 && hedgeDelayMillis < timeoutMillis) {
+            CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                if (!call.result.isDone() && policy.tryAcquireHedge()) {
+                    call.start(true);
+                }
+            });
+        }
+        call.result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((value, ex) -> {
+            if (ex == null) {
+                policy.recordSuccess();
+            } else if (ex instanceof TimeoutException) {
+                policy.recordTimeout(timeoutMillis);
+            } else {
+                policy.recordError();
+            }
+            call.cancelAll();
+        });
+        return call.result;
+    }
+
+    private static final class HedgedCall<T> {
+
+        private final DownstreamCallPolicy policy;
+        private final Supplier<CompletableFuture<T>> attempt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private HedgedCall(DownstreamCallPolicy policy, Supplier<CompletableFuture<T>> attempt) {
+            this.policy = policy;
+            this.attempt = attempt;
+        }
+
+        private void start(boolean hedged) {
+            pending.incrementAndGet();
+            long startedAt = System.nanoTime();
+            CompletableFuture<T> future;
+            try {
+                future = attempt.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            attempts.add(future);
+            if (result.isDone()) {
+                future.cancel(true);
+            }
+            future.whenComplete((value, ex) -> {
+                // 헤지에 져서 취소된 요청은 취소 시점까지의 시간(실제 지연 시간의 하한)을 남기고,
+                // 타임아웃으로 취소된 요청은 recordTimeout이 이미 남겼으므로 건너뜁니다
+                if (!(ex instanceof CancellationException) || !result.isCompletedExceptionally()) {
+                    policy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                }
+                int remaining = pending.decrementAndGet();
+                if (ex == null) {
+                    if (result.complete(value) && hedged) {
+                        policy.recordHedgeWin();
+                    }
+                } else if (remaining == 0 && !(ex instanceof CancellationException)) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        }
+
+        private void cancelAll() {
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+}
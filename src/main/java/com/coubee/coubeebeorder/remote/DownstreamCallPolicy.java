@@ -0,0 +1,161 @@
+package com.coubee.coubeebeorder.remote;
+
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import com.coubee.coubeebeorder.util.LatencyWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 다운스트림 조회 메서드 하나(client + method)의 지연 시간 통계와 그로부터 정한 타임아웃/헤지 지연 시간
+ *
+ * - 타임아웃 = clamp(p99 x multiplier, minTimeout, 고정 타임아웃). 표본이 minSamples보다 적으면 고정 타임아웃을 씁니다.
+ *   한 인스턴스가 느려져 목록 페이지 전체가 10초 고정 타임아웃까지 기다리는 일을 막습니다.
+ * - 헤지 지연 = max(p95, minDelay). 헤지 요청은 토큰 버킷으로 전체 요청의 maxRatio 이하로 제한합니다.
+ * - 백분위수는 refreshInterval마다 한 번만 다시 계산합니다.
+ *
+ * Metrics:
+ * - downstream.calls{client, method, outcome=success|error|timeout}
+ * - downstream.hedges{client, method}, downstream.hedge.wins{client, method}
+ *   (헤지 비율 = rate(hedges) / rate(calls), 헤지 승률 = rate(hedge.wins) / rate(hedges))
+ * - downstream.adaptive.timeout{client, method}, downstream.hedge.delay{client, method}
+ */
+public class DownstreamCallPolicy {
+
+    private static final long TOKEN = 1000;
+    private static final long MAX_HEDGE_TOKENS = 10 * TOKEN;
+
+    private final RemoteClientProperties.Adaptive adaptive;
+    private final RemoteClientProperties.Hedge hedge;
+    private final LatencyWindow window;
+    private final LongSupplier clock;
+
+    private final Counter successCalls;
+    private final Counter errorCalls;
+    private final Counter timeoutCalls;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+
+    private final AtomicLong hedgeTokens = new AtomicLong(TOKEN);
+    private volatile long refreshedAt;
+    private volatile long timeoutPercentileMillis = -1;
+    private volatile long hedgePercentileMillis = -1;
+
+    public DownstreamCallPolicy(String client, String method, RemoteClientProperties properties,
+                                MeterRegistry meterRegistry, LongSupplier clock) {
+        this.adaptive = properties.getAdaptive();
+        this.hedge = properties.getHedge();
+        this.window = new LatencyWindow(adaptive.getWindowSize());
+        this.clock = clock;
+        this.refreshedAt = clock.getAsLong() - adaptive.getRefreshInterval().toMillis();
+
+        this.successCalls = meterRegistry.counter("downstream.calls", "client", client, "method", method, "outcome", "success");
+        this.errorCalls = meterRegistry.counter("downstream.calls", "client", client, "method", method, "outcome", "error");
+        this.timeoutCalls = meterRegistry.counter("downstream.calls", "client", client, "method", method, "outcome", "timeout");
+        this.hedges = meterRegistry.counter("downstream.hedges", "client", client, "method", method);
+        this.hedgeWins = meterRegistry.counter("downstream.hedge.wins", "client", client, "method", method);
+
+        long responseTimeoutMillis = properties.getResponseTimeout().toMillis();
+        TimeGauge.builder("downstream.adaptive.timeout", this, TimeUnit.MILLISECONDS, policy -> policy.timeoutMillis(responseTimeoutMillis))
+                .tags("client", client, "method", method)
+                .register(meterRegistry);
+        TimeGauge.builder("downstream.hedge.delay", this, TimeUnit.MILLISECONDS, policy -> Math.max(0, policy.hedgeDelayMillis()))
+                .tags("client", client, "method", method)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이번 호출에 쓸 타임아웃 (fixedTimeoutMillis를 넘지 않음)
+     */
+    public long timeoutMillis(long fixedTimeoutMillis) {
+        if (!adaptive.isEnabled()) {
+            return fixedTimeoutMillis;
+        }
+        refreshIfNeeded();
+        long percentile = timeoutPercentileMillis;
+        if (percentile < 0) {
+            return fixedTimeoutMillis;
+        }
+        long timeout = (long) Math.ceil(percentile * adaptive.getMultiplier());
+        return Math.min(fixedTimeoutMillis, Math.max(adaptive.getMinTimeout().toMillis(), timeout));
+    }
+
+    /**
+     * 헤지 요청을 보내기까지 기다릴 시간, 헤지를 하지 않으면 -1
+     */
+    public long hedgeDelayMillis() {
+        if (!hedge.isEnabled()) {
+            return -1;
+        }
+        refreshIfNeeded();
+        long percentile = hedgePercentileMillis;
+        return percentile < 0 ? -1 : Math.max(hedge.getMinDelay().toMillis(), percentile);
+    }
+
+    /**
+     * 요청마다 헤지 토큰을 maxRatio만큼 채웁니다
+     */
+    public void onRequest() {
+        long refill = (long) (hedge.getMaxRatio() * TOKEN);
+        hedgeTokens.getAndUpdate(tokens -> Math.min(MAX_HEDGE_TOKENS, tokens + refill));
+    }
+
+    /**
+     * 헤지 비율 상한 안이면 토큰을 하나 쓰고 true를 돌려줍니다
+     */
+    public boolean tryAcquireHedge() {
+        long tokens;
+        do {
+            tokens = hedgeTokens.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!hedgeTokens.compareAndSet(tokens, tokens - TOKEN));
+        hedges.increment();
+        return true;
+    }
+
+    public void recordLatency(long latencyMillis) {
+        window.record(latencyMillis);
+    }
+
+    public void recordSuccess() {
+        successCalls.increment();
+    }
+
+    public void recordError() {
+        errorCalls.increment();
+    }
+
+    /**
+     * 타임아웃된 호출은 실제 지연 시간을 알 수 없으므로 타임아웃 값을 표본으로 남깁니다 (느려지면 타임아웃도 따라 늘어남)
+     */
+    public void recordTimeout(long timeoutMillis) {
+        window.record(timeoutMillis);
+        timeoutCalls.increment();
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    private void refreshIfNeeded() {
+        long now = clock.getAsLong();
+        long last = refreshedAt;
+        if (now - last < adaptive.getRefreshInterval().toMillis()) {
+            return;
+        }
+        refreshedAt = now;
+        if (window.count() < adaptive.getMinSamples()) {
+            timeoutPercentileMillis = -1;
+            hedgePercentileMillis = -1;
+            return;
+        }
+        timeoutPercentileMillis = window.percentile(adaptive.getPercentile());
+        hedgePercentileMillis = window.percentile(hedge.getPercentile());
+    }
+}
@@ -0,0 +1,27 @@
+package com.coubee.coubeebeorder.remote.product;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Product 서비스 비동기(논블로킹) 클라이언트
+ *
+ * {@link ProductClient}의 조회 엔드포인트를 같은 경로/헤더로 호출하되 응답을 CompletableFuture로 돌려줍니다.
+ * 404는 NotFound, 그 밖의 오류 응답은 ApiError로 future를 실패시킵니다 (ProductServiceErrorDecoder와 동일).
+ * 재고 변경(updateStock)은 결제 흐름의 순서 보장이 필요하므로 블로킹 클라이언트에만 둡니다.
+ */
+public interface AsyncProductClient {
+
+    /**
+     * 상품 ID로 상품 상세 정보 조회
+     */
+    CompletableFuture<ApiResponseDto<ProductResponseDto>> getProductById(Long productId, Long userId);
+
+    /**
+     * 여러 상품 ID로 상품 상세 정보 일괄 조회
+     */
+    CompletableFuture<ApiResponseDto<Map<Long, ProductResponseDto>>> getProductsByIds(List<Long> productIds, Long userId);
+}
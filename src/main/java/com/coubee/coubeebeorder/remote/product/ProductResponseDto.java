@@ -26,4 +26,25 @@ public class ProductResponseDto {
 
     // Fallback flag to indicate if this data is from fallback mechanism
     private boolean fallback = false;
+
+    // 다운스트림 장애 중 마지막으로 받은 값을 대신 내려준 경우 true (EnrichmentFallbackCache)
+    private boolean stale = false;
+
+    /**
+     * 캐시에 보관된 원본은 그대로 두고 stale 표시한 복사본을 만듭니다
+     */
+    public ProductResponseDto staleCopy() {
+        ProductResponseDto copy = new ProductResponseDto();
+        copy.setProductId(productId);
+        copy.setProductName(productName);
+        copy.setDescription(description);
+        copy.setProductImg(productImg);
+        copy.setOriginPrice(originPrice);
+        copy.setSalePrice(salePrice);
+        copy.setStock(stock);
+        copy.setStoreId(storeId);
+        copy.setFallback(fallback);
+        copy.setStale(true);
+        return copy;
+    }
 }
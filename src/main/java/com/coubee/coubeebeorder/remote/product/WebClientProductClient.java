@@ -0,0 +1,78 @@
+package com.coubee.coubeebeorder.remote.product;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import com.coubee.coubeebeorder.common.exception.ApiError;
+import com.coubee.coubeebeorder.common.exception.NotFound;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebClient(Reactor Netty 커넥션 풀) 기반 {@link AsyncProductClient} 구현
+ * 모든 조회는 DownstreamCallPolicies를 거쳐 메서드별 적응형 타임아웃과 (설정 시) 헤지 요청이 적용됩니다.
+ */
+@Slf4j
+public class WebClientProductClient implements AsyncProductClient {
+
+    private static final ParameterizedTypeReference<ApiResponseDto<ProductResponseDto>> PRODUCT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponseDto<Map<Long, ProductResponseDto>>> PRODUCT_MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String CLIENT = "product";
+
+    private final WebClient webClient;
+    private final DownstreamCallPolicies callPolicies;
+
+    public WebClientProductClient(WebClient webClient, DownstreamCallPolicies callPolicies) {
+        this.webClient = webClient;
+        this.callPolicies = callPolicies;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseDto<ProductResponseDto>> getProductById(Long productId, Long userId) {
+        return callPolicies.read(CLIENT, "getProductById", () -> webClient.get()
+                .uri("/api/product/detail/{productId}", productId)
+                .header("X-Auth-UserId", String.valueOf(userId))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> error("getProductById", response))
+                .bodyToMono(PRODUCT_TYPE)
+                .toFuture());
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseDto<Map<Long, ProductResponseDto>>> getProductsByIds(List<Long> productIds, Long userId) {
+        return callPolicies.read(CLIENT, "getProductsByIds", () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/backend/product/bulk")
+                        .queryParam("productIds", productIds.toArray())
+                        .build())
+                .header("X-Auth-UserId", String.valueOf(userId))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> error("getProductsByIds", response))
+                .bodyToMono(PRODUCT_MAP_TYPE)
+                .toFuture());
+    }
+
+    /**
+     * ProductServiceErrorDecoder와 같은 규칙으로 오류 응답을 예외로 바꿉니다 (조회 API이므로 재고 부족 코드는 없습니다).
+     */
+    private static Mono<Throwable> error(String method, ClientResponse response) {
+        int status = response.statusCode().value();
+        log.error("Product service error: method={}, status={}", method, status);
+        RuntimeException exception = switch (status) {
+            case 404 -> new NotFound("상품을 찾을 수 없습니다");
+            case 400 -> new ApiError("잘못된 상품 요청입니다");
+            case 503 -> new ApiError("상품 서비스가 일시적으로 사용할 수 없습니다");
+            default -> new ApiError("상품 서비스 내부 오류입니다");
+        };
+        return response.releaseBody().then(Mono.error(exception));
+    }
+}
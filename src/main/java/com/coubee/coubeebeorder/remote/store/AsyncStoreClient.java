@@ -0,0 +1,34 @@
+package com.coubee.coubeebeorder.remote.store;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.remote.hotdeal.HotdealResponseDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Store 서비스 비동기(논블로킹) 클라이언트
+ *
+ * {@link StoreClient}의 조회 엔드포인트를 같은 경로/헤더로 호출하되 응답을 CompletableFuture로 돌려줍니다.
+ * 호출 스레드는 응답을 기다리지 않으므로 여러 조회를 동시에 띄운 뒤 조합할 수 있습니다.
+ * 오류 응답은 StoreClientErrorDecoder와 같은 규칙으로 StoreServiceException이 되어 future를 실패시킵니다.
+ * 콜백은 네트워크 이벤트 루프에서 실행되므로 thenApply 등에서 블로킹 작업을 하지 않습니다.
+ */
+public interface AsyncStoreClient {
+
+    /**
+     * 스토어 ID로 스토어 상세 정보 조회
+     */
+    CompletableFuture<ApiResponseDto<StoreResponseDto>> getStoreById(Long storeId, Long userId);
+
+    /**
+     * 여러 스토어 ID로 스토어 상세 정보 일괄 조회
+     */
+    CompletableFuture<ApiResponseDto<Map<Long, StoreResponseDto>>> getStoresByIds(List<Long> storeIds, Long userId);
+
+    /**
+     * 스토어의 활성 핫딜 정보 조회
+     */
+    CompletableFuture<ApiResponseDto<HotdealResponseDto>> getActiveHotdeal(Long storeId);
+}
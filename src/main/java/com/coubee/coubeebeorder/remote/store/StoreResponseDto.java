@@ -28,6 +28,27 @@ public class StoreResponseDto {
     // Fallback flag to indicate if this data is from fallback mechanism
     private boolean fallback = false;
 
+    // 다운스트림 장애 중 마지막으로 받은 값을 대신 내려준 경우 true (EnrichmentFallbackCache)
+    private boolean stale = false;
+
+    /**
+     * 캐시에 보관된 원본은 그대로 두고 stale 표시한 복사본을 만듭니다
+     */
+    public StoreResponseDto staleCopy() {
+        StoreResponseDto copy = new StoreResponseDto();
+        copy.setStoreId(storeId);
+        copy.setStoreName(storeName);
+        copy.setDescription(description);
+        copy.setStoreAddress(storeAddress);
+        copy.setContactNo(contactNo);
+        copy.setWorkingHour(workingHour);
+        copy.setLatitude(latitude);
+        copy.setLongitude(longitude);
+        copy.setFallback(fallback);
+        copy.setStale(true);
+        return copy;
+    }
+
     // store-service 응답에는 ownerId가 없으므로 제거
     // private Long ownerId;
 }
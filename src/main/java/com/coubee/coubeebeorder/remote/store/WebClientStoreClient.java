@@ -0,0 +1,90 @@
+package com.coubee.coubeebeorder.remote.store;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import com.coubee.coubeebeorder.common.exception.StoreServiceException;
+import com.coubee.coubeebeorder.remote.hotdeal.HotdealResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebClient(Reactor Netty 커넥션 풀) 기반 {@link AsyncStoreClient} 구현
+ * 모든 조회는 DownstreamCallPolicies를 거쳐 메서드별 적응형 타임아웃과 (설정 시) 헤지 요청이 적용됩니다.
+ */
+@Slf4j
+public class WebClientStoreClient implements AsyncStoreClient {
+
+    private static final ParameterizedTypeReference<ApiResponseDto<StoreResponseDto>> STORE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponseDto<Map<Long, StoreResponseDto>>> STORE_MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponseDto<HotdealResponseDto>> HOTDEAL_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String CLIENT = "store";
+
+    private final WebClient webClient;
+    private final DownstreamCallPolicies callPolicies;
+
+    public WebClientStoreClient(WebClient webClient, DownstreamCallPolicies callPolicies) {
+        this.webClient = webClient;
+        this.callPolicies = callPolicies;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseDto<StoreResponseDto>> getStoreById(Long storeId, Long userId) {
+        return callPolicies.read(CLIENT, "getStoreById", () -> webClient.get()
+                .uri("/api/store/detail/{storeId}", storeId)
+                .header("X-Auth-UserId", String.valueOf(userId))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> error("getStoreById", response))
+                .bodyToMono(STORE_TYPE)
+                .toFuture());
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseDto<Map<Long, StoreResponseDto>>> getStoresByIds(List<Long> storeIds, Long userId) {
+        return callPolicies.read(CLIENT, "getStoresByIds", () -> webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/backend/store/bulk")
+                        .queryParam("storeIds", storeIds.toArray())
+                        .build())
+                .header("X-Auth-UserId", String.valueOf(userId))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> error("getStoresByIds", response))
+                .bodyToMono(STORE_MAP_TYPE)
+                .toFuture());
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseDto<HotdealResponseDto>> getActiveHotdeal(Long storeId) {
+        return callPolicies.read(CLIENT, "getActiveHotdeal", () -> webClient.get()
+                .uri("/backend/store/{storeId}/hotdeal/active", storeId)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> error("getActiveHotdeal", response))
+                .bodyToMono(HOTDEAL_TYPE)
+                .toFuture());
+    }
+
+    /**
+     * StoreClientErrorDecoder와 같은 규칙으로 오류 응답을 예외로 바꿉니다.
+     */
+    private static Mono<Throwable> error(String method, ClientResponse response) {
+        int status = response.statusCode().value();
+        log.error("Store service error: method={}, status={}", method, status);
+        String message = switch (status) {
+            case 401, 403 -> "Store service authorization failed.";
+            case 404 -> "Could not find the requested resource in Store service.";
+            case 500, 503 -> "Store service is currently unavailable. Please try again later.";
+            default -> "Store service responded with status " + status + ".";
+        };
+        return response.releaseBody().then(Mono.error(new StoreServiceException(message)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.coubee.coubeebeorder.remote.user;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * User 서비스 비동기(논블로킹) 클라이언트
+ *
+ * {@link UserServiceClient}와 같은 엔드포인트를 호출하되 응답을 CompletableFuture로 돌려줍니다.
+ * 오류 응답은 UserClientErrorDecoder와 같은 규칙으로 UserServiceException이 되어 future를 실패시킵니다.
+ */
+public interface AsyncUserServiceClient {
+
+    /**
+     * 사용자 ID(Long)로 사용자 정보를 조회합니다
+     */
+    CompletableFuture<ApiResponseDto<SiteUserInfoDto>> getUserInfoById(Long userId);
+}
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class SiteUserInfoDto {
 
     /**
@@ -68,4 +68,17 @@ public class SiteUserInfoDto {
      * (Whether information is registered)
      */
     private Boolean isInfoRegister;
+
+    /**
+     * 다운스트림 장애 중 마지막으로 받은 값을 대신 내려준 경우 true
+     * (True when the last known value is served during a downstream outage)
+     */
+    private boolean stale;
+
+    /**
+     * 캐시에 보관된 원본은 그대로 두고 stale 표시한 복사본을 만듭니다
+     */
+    public SiteUserInfoDto staleCopy() {
+        return toBuilder().stale(true).build();
+    }
 }
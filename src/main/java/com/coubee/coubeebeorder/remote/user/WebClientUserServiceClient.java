@@ -0,0 +1,60 @@
+package com.coubee.coubeebeorder.remote.user;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import com.coubee.coubeebeorder.common.exception.UserServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebClient(Reactor Netty 커넥션 풀) 기반 {@link AsyncUserServiceClient} 구현
+ * 모든 조회는 DownstreamCallPolicies를 거쳐 메서드별 적응형 타임아웃과 (설정 시) 헤지 요청이 적용됩니다.
+ */
+@Slf4j
+public class WebClientUserServiceClient implements AsyncUserServiceClient {
+
+    private static final ParameterizedTypeReference<ApiResponseDto<SiteUserInfoDto>> USER_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String CLIENT = "user";
+
+    private final WebClient webClient;
+    private final DownstreamCallPolicies callPolicies;
+
+    public WebClientUserServiceClient(WebClient webClient, DownstreamCallPolicies callPolicies) {
+        this.webClient = webClient;
+        this.callPolicies = callPolicies;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseDto<SiteUserInfoDto>> getUserInfoById(Long userId) {
+        return callPolicies.read(CLIENT, "getUserInfoById", () -> webClient.get()
+                .uri("/backend/user/info/{userId}", userId)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> error("getUserInfoById", response))
+                .bodyToMono(USER_TYPE)
+                .toFuture());
+    }
+
+    /**
+     * UserClientErrorDecoder와 같은 규칙으로 오류 응답을 예외로 바꿉니다.
+     */
+    private static Mono<Throwable> error(String method, ClientResponse response) {
+        int status = response.statusCode().value();
+        log.error("User service error: method={}, status={}", method, status);
+        String message = switch (status) {
+            case 400 -> "Invalid user request format or parameters.";
+            case 401, 403 -> "User service authorization failed.";
+            case 404 -> "User not found in User service.";
+            case 500, 503 -> "User service is currently unavailable. Please try again later.";
+            default -> "User service responded with status " + status + ".";
+        };
+        return response.releaseBody().then(Mono.error(new UserServiceException(message)));
+    }
+}
@@ -0,0 +1,213 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.util.RecentWriteTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 진행 중(비종료 상태) 주문 요약의 write-through 캐시
+ *
+ * - 주문 생성(writeThrough)과 모든 상태 전이(OrderStateMachine의 AFTER_COMMIT 리스너)는 트랜잭션 커밋 후 캐시를 갱신하고,
+ *   다른 인스턴스에는 무효화 메시지를 보냅니다.
+ * - 종료 상태가 되면 캐시에서 제거합니다. 종료 직후 오래된 읽기가 다시 채우지 않도록 잠시 기억해 둡니다.
+ * - 조회 시 캐시에 없으면 DB에서 읽은 값으로 채우되(populate), 쓰기로 갱신된 값을 덮어쓰지 않습니다.
+ *   무효화된(다른 인스턴스에서 커밋된) version보다 오래된 읽기 결과도 채우지 않습니다 - 무효화 메시지가
+ *   DB 읽기와 populate 사이에 도착하거나 복제본 읽기가 지연된 경우 오래된 상태가 TTL 동안 남지 않도록 합니다.
+ * - 무효화 메시지 유실에 대비해 항목은 active-cache-ttl 후 만료됩니다.
+ *
+ * Metrics:
+ * - order.cache.requests{result=hit|miss}
+ * - order.cache.invalidations{source=local|remote}
+ * - order.cache.size
+ */
+@Slf4j
+@Component
+public class ActiveOrderCache implements OrderTransitionListener {
+
+    private static final Duration TERMINATED_MEMORY = Duration.ofMinutes(1);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final RecentWriteTracker recentlyTerminated;
+    // 주문별로 마지막으로 알려진 커밋 version (active-cache-ttl 동안 기억)
+    private final Map<String, KnownVersion> knownVersions = new ConcurrentHashMap<>();
+    private final OrderCacheInvalidationBroker invalidationBroker;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ActiveOrderCache(OrderProperties orderProperties,
+                            OrderCacheInvalidationBroker invalidationBroker,
+                            MeterRegistry meterRegistry) {
+        this(orderProperties, invalidationBroker, meterRegistry, System::currentTimeMillis);
+    }
+
+    ActiveOrderCache(OrderProperties orderProperties,
+                     OrderCacheInvalidationBroker invalidationBroker,
+                     MeterRegistry meterRegistry,
+                     LongSupplier clock) {
+        this.invalidationBroker = invalidationBroker;
+        this.meterRegistry = meterRegistry;
+        this.maxEntries = orderProperties.getActiveCacheMaxEntries();
+        this.ttlMillis = orderProperties.getActiveCacheTtl().toMillis();
+        this.clock = clock;
+        this.recentlyTerminated = new RecentWriteTracker(TERMINATED_MEMORY, clock);
+        Gauge.builder("order.cache.size", entries, Map::size)
+                .description("Number of active orders held in the order cache")
+                .register(meterRegistry);
+        invalidationBroker.subscribe(this::onInvalidation);
+    }
+
+    public Optional<ActiveOrderSnapshot> get(String orderId) {
+        Entry entry = entries.get(orderId);
+        if (entry == null || entry.expiresAt() <= clock.getAsLong()) {
+            if (entry != null) {
+                entries.remove(orderId, entry);
+            }
+            meterRegistry.counter("order.cache.requests", "result", "miss").increment();
+            return Optional.empty();
+        }
+        meterRegistry.counter("order.cache.requests", "result", "hit").increment();
+        return Optional.of(entry.snapshot());
+    }
+
+    /**
+     * DB에서 읽은 주문으로 캐시를 채웁니다. 이미 있는 항목(쓰기로 갱신된 값)과 알려진 version보다 오래된 값은 채우지 않습니다.
+     */
+    public void populate(ActiveOrderSnapshot snapshot) {
+        if (snapshot.status().isTerminal() || recentlyTerminated.wroteRecently(snapshot.orderId())
+                || isOlderThanKnown(snapshot) || !hasRoom()) {
+            return;
+        }
+        Entry entry = new Entry(snapshot, clock.getAsLong() + ttlMillis);
+        if (entries.putIfAbsent(snapshot.orderId(), entry) == null && isOlderThanKnown(snapshot)) {
+            // 확인과 저장 사이에 무효화가 도착한 경우: 무효화는 version 기록 후 제거하므로 여기서 다시 확인해 되돌립니다
+            entries.remove(snapshot.orderId(), entry);
+        }
+    }
+
+    /**
+     * 주문의 현재 상태를 트랜잭션 커밋 후 캐시에 반영하고 다른 인스턴스에 무효화를 알립니다.
+     * 롤백되면 아무것도 바뀌지 않습니다.
+     */
+    public void writeThrough(Order order) {
+        ActiveOrderSnapshot snapshot = ActiveOrderSnapshot.from(order);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(snapshot);
+                }
+            });
+        } else {
+            apply(snapshot);
+        }
+    }
+
+    @Override
+    public Phase phase() {
+        return Phase.AFTER_COMMIT;
+    }
+
+    /**
+     * 커밋된 상태 전이를 캐시에 반영합니다. 전이 당시의 목표 상태를 사용합니다.
+     */
+    @Override
+    public void onTransition(OrderTransition transition) {
+        Order order = transition.order();
+        apply(new ActiveOrderSnapshot(order.getOrderId(), order.getUserId(), order.getStoreId(), transition.to(),
+                order.getVersion()));
+    }
+
+    public void evict(String orderId) {
+        entries.remove(orderId);
+    }
+
+    private void apply(ActiveOrderSnapshot snapshot) {
+        if (snapshot.version() != null) {
+            recordVersion(snapshot.orderId(), snapshot.version());
+        }
+        if (snapshot.status().isTerminal()) {
+            recentlyTerminated.recordWrite(snapshot.orderId());
+            entries.remove(snapshot.orderId());
+        } else if (hasRoom() || entries.containsKey(snapshot.orderId())) {
+            entries.put(snapshot.orderId(), new Entry(snapshot, clock.getAsLong() + ttlMillis));
+        }
+        meterRegistry.counter("order.cache.invalidations", "source", "local").increment();
+        try {
+            invalidationBroker.publish(new OrderCacheInvalidation(snapshot.orderId(), instanceId, snapshot.version()));
+        } catch (Exception e) {
+            // 다른 인스턴스의 항목은 TTL로 만료됩니다
+            log.warn("Failed to publish order cache invalidation for {}: {}", snapshot.orderId(), e.getMessage());
+        }
+    }
+
+    private void onInvalidation(OrderCacheInvalidation invalidation) {
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        // version이 없는 메시지는 어떤 조회 결과도 최신이라고 볼 수 없으므로 기억 기간 동안 채우지 않습니다
+        long version = invalidation.version() != null ? invalidation.version() : Long.MAX_VALUE;
+        recordVersion(invalidation.orderId(), version);
+        entries.computeIfPresent(invalidation.orderId(),
+                (orderId, entry) -> isOlderThan(entry.snapshot(), version) ? null : entry);
+        meterRegistry.counter("order.cache.invalidations", "source", "remote").increment();
+    }
+
+    private void recordVersion(String orderId, long version) {
+        long now = clock.getAsLong();
+        KnownVersion latest = new KnownVersion(version, now + ttlMillis);
+        knownVersions.merge(orderId, latest, (previous, current) ->
+                previous.expiresAt() > now && previous.version() > current.version() ? previous : current);
+        if (knownVersions.size() > maxEntries) {
+            knownVersions.values().removeIf(known -> known.expiresAt() <= now);
+        }
+    }
+
+    private boolean isOlderThanKnown(ActiveOrderSnapshot snapshot) {
+        KnownVersion known = knownVersions.get(snapshot.orderId());
+        if (known == null) {
+            return false;
+        }
+        if (known.expiresAt() <= clock.getAsLong()) {
+            knownVersions.remove(snapshot.orderId(), known);
+            return false;
+        }
+        return isOlderThan(snapshot, known.version());
+    }
+
+    private static boolean isOlderThan(ActiveOrderSnapshot snapshot, long version) {
+        return snapshot.version() == null || snapshot.version() < version;
+    }
+
+    private boolean hasRoom() {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        return entries.size() < maxEntries;
+    }
+
+    private record Entry(ActiveOrderSnapshot snapshot, long expiresAt) {
+    }
+
+    private record KnownVersion(long version, long expiresAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+
+/**
+ * 진행 중 주문 캐시에 보관하는 주문 요약
+ *
+ * @param orderId 주문 ID
+ * @param userId 주문한 사용자 ID
+ * @param storeId 매장 ID
+ * @param status 현재 주문 상태
+ * @param version 이 상태를 읽은(커밋한) 시점의 주문 version - 저장 전 주문이면 null
+ */
+public record ActiveOrderSnapshot(String orderId, Long userId, Long storeId, OrderStatus status, Long version) {
+
+    public static ActiveOrderSnapshot from(Order order) {
+        return new ActiveOrderSnapshot(order.getOrderId(), order.getUserId(), order.getStoreId(), order.getStatus(),
+                order.getVersion());
+    }
+}
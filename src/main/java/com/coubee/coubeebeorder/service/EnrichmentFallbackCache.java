@@ -0,0 +1,217 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 주문 보강 데이터(매장/상품/사용자)의 마지막 정상 응답을 보관하는 폴백 캐시
+ *
+ * - 조회에 성공할 때마다 값을 갱신하고, 조회가 실패하거나 서킷이 열려 있으면 보관된 값을 stale 표시한 복사본으로 내려줍니다.
+ *   캐시된 원본은 바꾸지 않습니다.
+ * - 항목 수(maxEntries)와 추정 메모리(maxMemory)를 모두 넘지 않도록 가장 오래 쓰이지 않은 항목부터 제거합니다.
+ * - maxStale보다 오래된 값은 내려주지 않고 제거합니다 (호출자는 기존 폴백 데이터를 사용).
+ *
+ * Metrics:
+ * - enrichment.cache.lookups{cache, result=fresh|stale|miss}
+ *   (fresh: 다운스트림 응답, stale: 장애 중 캐시 값, miss: 장애 중 캐시에도 없어 폴백 데이터)
+ * - enrichment.cache.stale.ratio{cache}: stale / (stale + miss), 장애 중 캐시로 살린 비율 (기동 후 누적)
+ *   (전체 조회 중 stale 비율 = rate(lookups{result=stale}) / rate(lookups))
+ * - enrichment.cache.size{cache}, enrichment.cache.bytes{cache}
+ */
+public class EnrichmentFallbackCache<K, V> {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxStaleMillis;
+    private final ToLongFunction<V> weigher;
+    private final UnaryOperator<V> staleCopy;
+    private final LongSupplier clock;
+
+    // synchronized 대신 사용: 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 접근 순서(LRU)로 정렬되며 모든 접근은 lock으로 보호합니다
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter miss;
+
+    public EnrichmentFallbackCache(String name,
+                                   RemoteClientProperties.FallbackCache properties,
+                                   ToLongFunction<V> weigher,
+                                   UnaryOperator<V> staleCopy,
+                                   MeterRegistry meterRegistry,
+                                   LongSupplier clock) {
+        this.enabled = properties.isEnabled();
+        this.maxEntries = properties.getMaxEntries();
+        this.maxBytes = properties.getMaxMemory().toBytes();
+        this.maxStaleMillis = properties.getMaxStale().toMillis();
+        this.weigher = weigher;
+        this.staleCopy = staleCopy;
+        this.clock = clock;
+
+        this.fresh = meterRegistry.counter("enrichment.cache.lookups", "cache", name, "result", "fresh");
+        this.stale = meterRegistry.counter("enrichment.cache.lookups", "cache", name, "result", "stale");
+        this.miss = meterRegistry.counter("enrichment.cache.lookups", "cache", name, "result", "miss");
+        Gauge.builder("enrichment.cache.stale.ratio", this, EnrichmentFallbackCache::staleRatio)
+                .tag("cache", name)
+                .description("Share of failed enrichment lookups answered from the fallback cache")
+                .register(meterRegistry);
+        Gauge.builder("enrichment.cache.size", this, EnrichmentFallbackCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("enrichment.cache.bytes", this, EnrichmentFallbackCache::estimatedBytes)
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다운스트림에서 받은 값을 보관합니다 (이미 있으면 교체)
+     */
+    public void putAll(Map<K, V> values) {
+        if (!enabled || values.isEmpty()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        lock.lock();
+        try {
+            values.forEach((key, value) -> {
+                if (value == null) {
+                    return;
+                }
+                Entry<V> entry = new Entry<>(value, now, weigher.applyAsLong(value));
+                Entry<V> previous = entries.put(key, entry);
+                bytes += entry.bytes() - (previous != null ? previous.bytes() : 0);
+            });
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다운스트림 응답으로 내려준 건수를 기록합니다 (stale 비율의 분모)
+     */
+    public void recordFresh(int count) {
+        fresh.increment(count);
+    }
+
+    /**
+     * maxStale 안의 값이 모든 키에 대해 있는지 (있으면 다운스트림을 기다리지 않고 캐시로 응답할 수 있음)
+     */
+    public boolean containsAll(Collection<K> keys) {
+        if (!enabled) {
+            return false;
+        }
+        long now = clock.getAsLong();
+        lock.lock();
+        try {
+            for (K key : keys) {
+                Entry<V> entry = entries.get(key);
+                if (entry == null || isExpired(entry, now)) {
+                    return false;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 조회에 실패한 키들의 마지막 값을 stale 표시한 복사본으로 돌려줍니다. 없거나 너무 오래된 키는 결과에서 빠집니다.
+     */
+    public Map<K, V> getStale(Collection<K> keys) {
+        Map<K, V> result = new HashMap<>();
+        if (enabled) {
+            long now = clock.getAsLong();
+            lock.lock();
+            try {
+                for (K key : keys) {
+                    Entry<V> entry = entries.get(key);
+                    if (entry != null && isExpired(entry, now)) {
+                        entries.remove(key);
+                        bytes -= entry.bytes();
+                    } else if (entry != null) {
+                        result.put(key, entry.value());
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        // 복사는 잠금 밖에서 합니다
+        result.replaceAll((key, value) -> staleCopy.apply(value));
+        stale.increment(result.size());
+        miss.increment(keys.size() - result.size());
+        return result;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double staleRatio() {
+        double served = stale.count();
+        double failed = served + miss.count();
+        return failed == 0 ? 0.0 : served / failed;
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return now - entry.storedAt() > maxStaleMillis;
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().bytes();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 문자열 필드 길이로 항목 크기를 대략 추정합니다 (객체 헤더 + 필드당 String 헤더 + UTF-16 기준 문자 크기)
+     */
+    static long estimateBytes(String... fields) {
+        long size = 96;
+        for (String field : fields) {
+            if (field != null) {
+                size += 40 + 2L * field.length();
+            }
+        }
+        return size;
+    }
+
+    private record Entry<V>(V value, long storedAt, long bytes) {
+    }
+}
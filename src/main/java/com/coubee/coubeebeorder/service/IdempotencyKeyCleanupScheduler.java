@@ -0,0 +1,31 @@
+package com.coubee.coubeebeorder.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expired Idempotency Key Cleanup Scheduler
+ *
+ * Removes idempotency keys whose TTL (coubee.idempotency.ttl) has passed so the table
+ * only holds the current retry window.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyCleanupScheduler {
+
+    private final IdempotencyService idempotencyService;
+
+    @Scheduled(fixedRate = 3600000) // Runs every hour
+    public void purgeExpiredKeys() {
+        try {
+            int deleted = idempotencyService.purgeExpiredKeys();
+            log.info("Purged {} expired idempotency keys.", deleted);
+        } catch (Exception e) {
+            log.error("Error occurred during idempotency key cleanup job", e);
+            // Don't rethrow - we want the scheduler to continue running
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.coubee.coubeebeorder.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 서비스
+ * 같은 키로 재시도된 요청에 대해 작업을 다시 실행하지 않고 저장된 응답을 반환합니다.
+ */
+public interface IdempotencyService {
+
+    /**
+     * 멱등성 키로 보호된 작업을 실행합니다.
+     * 키가 없으면 작업을 그대로 실행하고, 처리 완료된 키가 있으면 저장된 응답을 반환합니다.
+     *
+     * @param scope API 구분값 (예: order-create)
+     * @param owner 키의 소유자 (사용자 ID, 주문 ID 등)
+     * @param idempotencyKey Idempotency-Key 헤더 값 (nullable)
+     * @param request 요청 본문 (같은 키의 다른 요청을 구분하기 위해 해시됩니다)
+     * @param responseType 응답 타입
+     * @param action 실제 작업
+     * @return 작업 결과 또는 저장된 응답
+     * @throws com.coubee.coubeebeorder.common.exception.IdempotencyConflictException 처리 중이거나 요청 본문이 다른 경우
+     */
+    <T> T execute(String scope, String owner, String idempotencyKey, Object request,
+                  Class<T> responseType, Supplier<T> action);
+
+    /**
+     * 만료된 멱등성 키를 삭제합니다.
+     *
+     * @return 삭제된 키 수
+     */
+    int purgeExpiredKeys();
+}
@@ -0,0 +1,180 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.exception.BadParameter;
+import com.coubee.coubeebeorder.common.exception.IdempotencyConflictException;
+import com.coubee.coubeebeorder.config.IdempotencyProperties;
+import com.coubee.coubeebeorder.domain.IdempotencyKey;
+import com.coubee.coubeebeorder.domain.IdempotencyStatus;
+import com.coubee.coubeebeorder.domain.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 서비스 구현체
+ *
+ * 처리 흐름:
+ * 1. 키를 IN_PROGRESS로 선점 (PK 충돌로 동시 요청 중 하나만 성공)
+ * 2. 선점에 성공한 요청만 실제 작업(Feign 호출, 재고 차감 등)을 실행
+ * 3. 성공 시 응답을 저장하고 COMPLETED로 전이, 실패 시 선점을 해제하여 클라이언트가 재시도할 수 있도록 함
+ *
+ * 선점은 inProgressLease 동안만 유효합니다. 처리 중 인스턴스가 죽거나 완료 기록에 실패해 IN_PROGRESS로 남은 키는
+ * 기한이 지나면 같은 키의 새 요청이 이어받아 다시 처리합니다. 완료/해제는 선점 시각이 일치할 때만 적용되어,
+ * 이어받힌 뒤 늦게 끝난 이전 요청이 새 요청의 키를 덮어쓰거나 지우지 않습니다.
+ *
+ * 키 선점/완료는 각각 별도 트랜잭션으로 커밋되어, 작업 트랜잭션의 롤백과 무관하게 다른 인스턴스에서 즉시 보입니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository idempotencyKeyRepository,
+                                  IdempotencyProperties idempotencyProperties,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.idempotencyProperties = idempotencyProperties;
+        this.objectMapper = objectMapper;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public <T> T execute(String scope, String owner, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > idempotencyProperties.getMaxKeyLength()) {
+            throw new BadParameter("Idempotency-Key는 " + idempotencyProperties.getMaxKeyLength() + "자를 넘을 수 없습니다.");
+        }
+
+        String storeKey = scope + ":" + owner + ":" + idempotencyKey;
+        String requestHash = hash(request);
+
+        LocalDateTime claimedAt = tryClaim(storeKey, requestHash);
+        if (claimedAt == null) {
+            return replay(storeKey, requestHash, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않고 선점을 해제하여 같은 키로 재시도할 수 있도록 합니다
+            release(storeKey, claimedAt);
+            throw e;
+        }
+
+        complete(storeKey, claimedAt, response);
+        return response;
+    }
+
+    @Override
+    public int purgeExpiredKeys() {
+        Integer deleted = requiresNewTemplate.execute(status ->
+                idempotencyKeyRepository.deleteAllExpired(LocalDateTime.now()));
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 키를 선점합니다.
+     *
+     * @return 선점 시각 (완료/해제 시 소유 확인용), 다른 요청이 보유 중이면 null
+     */
+    private LocalDateTime tryClaim(String storeKey, String requestHash) {
+        // DB 타임스탬프 정밀도(마이크로초)에 맞춰 저장 후에도 선점 시각 비교가 일치하도록 합니다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime expiresAt = now.plus(idempotencyProperties.getTtl());
+        LocalDateTime lockedUntil = now.plus(idempotencyProperties.getInProgressLease());
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> {
+                // 만료된 키는 새 요청으로 간주합니다
+                idempotencyKeyRepository.deleteExpiredByKey(storeKey, now);
+                if (idempotencyKeyRepository.takeOverExpiredClaim(storeKey, requestHash, now, expiresAt, lockedUntil) > 0) {
+                    log.warn("Took over idempotency key whose in-progress lease expired: {}", storeKey);
+                    return;
+                }
+                idempotencyKeyRepository.saveAndFlush(IdempotencyKey.start(
+                        storeKey, requestHash, now, expiresAt, lockedUntil));
+            });
+            return now;
+        } catch (DataIntegrityViolationException e) {
+            log.info("Idempotency key already exists: {}", storeKey);
+            return null;
+        }
+    }
+
+    private <T> T replay(String storeKey, String requestHash, Class<T> responseType) {
+        IdempotencyKey existing = idempotencyKeyRepository.findById(storeKey)
+                .orElseThrow(() -> new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+
+        if (!existing.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException("Idempotency-Key가 다른 요청에 이미 사용되었습니다.");
+        }
+        if (existing.getStatus() != IdempotencyStatus.COMPLETED) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("Replaying stored response for idempotency key: {}", storeKey);
+        try {
+            return objectMapper.readValue(existing.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다: " + storeKey, e);
+        }
+    }
+
+    private void complete(String storeKey, LocalDateTime claimedAt, Object response) {
+        try {
+            String body = objectMapper.writeValueAsString(response);
+            requiresNewTemplate.executeWithoutResult(status ->
+                    idempotencyKeyRepository.findById(storeKey)
+                            .filter(key -> key.isClaimedAt(claimedAt))
+                            .ifPresentOrElse(key -> key.complete(body),
+                                    () -> log.warn("Idempotency key was taken over before completion: {}", storeKey)));
+        } catch (Exception e) {
+            // 응답 저장 실패는 요청 결과에 영향을 주지 않습니다.
+            // 키는 선점 기한까지 IN_PROGRESS로 남고, 그 뒤 같은 키의 재시도는 작업을 다시 실행합니다.
+            log.error("Failed to store idempotent response for key: {}", storeKey, e);
+        }
+    }
+
+    private void release(String storeKey, LocalDateTime claimedAt) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status ->
+                    idempotencyKeyRepository.findById(storeKey)
+                            .filter(key -> key.isClaimedAt(claimedAt))
+                            .ifPresent(idempotencyKeyRepository::delete));
+        } catch (Exception e) {
+            log.error("Failed to release idempotency key: {}", storeKey, e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문 해시 생성에 실패했습니다.", e);
+        }
+    }
+}
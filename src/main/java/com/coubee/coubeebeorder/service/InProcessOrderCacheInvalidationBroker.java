@@ -0,0 +1,28 @@
+package com.coubee.coubeebeorder.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 무효화 메시지를 전달하는 로컬 브로커 (Kafka 대체용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "coubee.order", name = "cache-invalidation-broker", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOrderCacheInvalidationBroker implements OrderCacheInvalidationBroker {
+
+    private final List<Consumer<OrderCacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(OrderCacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<OrderCacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,77 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Order Archive Scheduler
+ *
+ * Moves orders in a terminal state (RECEIVED, FAILED, CANCELLED_*) that are older than
+ * coubee.order.archive-after (6 months by default) from the live order tables into archived_orders,
+ * so the tables and indexes used by every order query only hold recent and active orders.
+ * Archived orders stay readable: getOrder() and the user order history fall back to archived_orders.
+ *
+ * Orders are moved in chunks of coubee.order.archive-chunk-size, one transaction per chunk
+ * (see OrderArchiveService.archiveOrders()), using FOR UPDATE SKIP LOCKED so it is safe on every replica.
+ *
+ * Metrics:
+ * - order.archive.archived: orders moved to archived_orders
+ * - order.archive.duration: wall time of an archive run
+ */
+@Slf4j
+@Component
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+    private final OrderProperties orderProperties;
+    private final Counter archivedCounter;
+    private final Timer durationTimer;
+
+    public OrderArchiveScheduler(OrderArchiveService orderArchiveService,
+                                 OrderProperties orderProperties,
+                                 MeterRegistry meterRegistry) {
+        this.orderArchiveService = orderArchiveService;
+        this.orderProperties = orderProperties;
+        this.archivedCounter = Counter.builder("order.archive.archived")
+                .description("Terminal orders moved to archived_orders")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("order.archive.duration")
+                .description("Duration of an order archive run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${coubee.order.archive-cron:0 30 3 * * *}") // Runs nightly at 03:30 by default
+    public void archiveOldOrders() {
+        Timer.Sample sample = Timer.start();
+        try {
+            LocalDateTime cutoffTime = LocalDate.now().minus(orderProperties.getArchiveAfter()).atStartOfDay();
+            int chunkSize = orderProperties.getArchiveChunkSize();
+            int totalArchived = 0;
+
+            for (int chunk = 0; chunk < orderProperties.getArchiveMaxChunks(); chunk++) {
+                int archived = orderArchiveService.archiveOrders(cutoffTime, chunkSize);
+                totalArchived += archived;
+                archivedCounter.increment(archived);
+
+                if (archived < chunkSize) {
+                    break;
+                }
+            }
+
+            log.info("Completed order archive job. archived={}, cutoff={}", totalArchived, cutoffTime);
+        } catch (Exception e) {
+            log.error("Error occurred during order archive job", e);
+            // Don't rethrow - we want the scheduler to continue running
+        } finally {
+            sample.stop(durationTimer);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.coubee.coubeebeorder.service;
+
+import java.time.LocalDateTime;
+
+public interface OrderArchiveService {
+
+    /**
+     * 기준 시각 이전에 생성된 종료 상태 주문을 최대 limit건 archived_orders로 옮깁니다 (보관 스케줄러용)
+     * 주문, 아이템, 결제, 상태 이력을 하나의 문서로 저장한 뒤 운영 테이블에서 삭제하며, 청크마다 별도 트랜잭션으로 커밋됩니다.
+     *
+     * @param cutoffTime 이 시각 이전에 생성된 주문을 대상으로 함
+     * @param limit 한 번에 옮길 최대 주문 수
+     * @return 보관 처리된 주문 수
+     */
+    int archiveOrders(LocalDateTime cutoffTime, int limit);
+}
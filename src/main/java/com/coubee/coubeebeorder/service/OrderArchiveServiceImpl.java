@@ -0,0 +1,44 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrder;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.repository.ArchivedOrderRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    @Override
+    @Transactional
+    public int archiveOrders(LocalDateTime cutoffTime, int limit) {
+        List<String> orderIds = orderRepository.claimArchivableOrderIds(cutoffTime, limit);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> orders = orderRepository.findWithDetailsIn(orderIds);
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<ArchivedOrder> archivedOrders = orders.stream()
+                .map(order -> ArchivedOrder.of(order, archivedAt))
+                .toList();
+
+        archivedOrderRepository.saveAll(archivedOrders);
+        // cascade로 order_items / order_timestamp / payments 행도 함께 삭제됩니다
+        orderRepository.deleteAll(orders);
+
+        log.debug("Archived {} orders created before {}", orders.size(), cutoffTime);
+        return orders.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.coubee.coubeebeorder.service;
+
+/**
+ * 인스턴스 간 주문 캐시 무효화 메시지
+ *
+ * @param orderId 상태가 바뀐 주문 ID
+ * @param origin 메시지를 보낸 캐시 인스턴스 ID (자기 자신이 보낸 메시지는 무시합니다)
+ * @param version 변경을 커밋한 주문 version - 이보다 오래된 조회 결과는 캐시에 채우지 않습니다 (없으면 null)
+ */
+public record OrderCacheInvalidation(String orderId, String origin, Long version) {
+}
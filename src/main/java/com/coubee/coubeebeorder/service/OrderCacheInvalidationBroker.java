@@ -0,0 +1,17 @@
+package com.coubee.coubeebeorder.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 주문 상태 변경을 다른 인스턴스의 ActiveOrderCache에 알리는 채널
+ *
+ * coubee.order.cache-invalidation-broker로 구현을 선택합니다.
+ * - in-process: 같은 JVM 안의 구독자에게만 전달 (로컬 개발, 단일 인스턴스, 테스트용)
+ * - kafka: order-cache-invalidation 토픽으로 모든 인스턴스에 전달
+ */
+public interface OrderCacheInvalidationBroker {
+
+    void publish(OrderCacheInvalidation invalidation);
+
+    void subscribe(Consumer<OrderCacheInvalidation> listener);
+}
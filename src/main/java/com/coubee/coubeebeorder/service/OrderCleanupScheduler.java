@@ -1,55 +1,137 @@
 package com.coubee.coubeebeorder.service;
 
-import lombok.RequiredArgsConstructor;
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Pending Order Cleanup Scheduler
  * 
  * This component automatically cleans up stale pending orders to prevent "ghost stock" issues.
- * Orders that remain in PENDING status for more than 15 minutes are considered abandoned
- * and are automatically cancelled to release reserved inventory.
+ * Orders that remain in PENDING status for longer than coubee.order.pending-timeout (15 minutes by default)
+ * are considered abandoned and are automatically cancelled to release reserved inventory.
  * 
  * Key Features:
- * - Runs every 10 minutes (600,000 milliseconds)
- * - Identifies orders in PENDING status older than 15 minutes
- * - Changes order status to FAILED
- * - Publishes stock restoration events via Kafka
+ * - Runs every 10 minutes (600,000 milliseconds) by default
+ * - Claims stale PENDING orders in bounded chunks (coubee.order.sweep-chunk-size) with FOR UPDATE SKIP LOCKED
+ * - Commits each chunk in its own transaction, so a large backlog never runs into a transaction timeout
+ * - Safe to run on every replica at the same time: locked orders are skipped, not processed twice
+ * - Changes order status to FAILED and publishes stock restoration events via Kafka
  * - Maintains audit trail through order history
+ *
+ * Orders with an expires_at deadline are normally expired on time by OrderExpiryScheduler;
+ * this sweep is the safety net for orders the timer missed (restarts, failed ticks, legacy rows).
+ *
+ * Metrics (per run):
+ * - order.sweeper.claimed / order.sweeper.expired: orders claimed and expired
+ * - order.sweeper.failed: orders whose expiry failed and were skipped for the rest of the run
+ * - order.sweeper.duration: wall time of a sweep run
+ * - order.sweeper.backlog: stale PENDING orders left after the run
  * 
  * This mechanism ensures optimal inventory utilization and prevents lost sales
  * due to unnecessarily reserved stock from abandoned orders.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OrderCleanupScheduler {
 
     // It's better to call the OrderService method to clarify transaction boundaries.
     private final OrderService orderService; 
+    private final OrderRepository orderRepository;
+    private final OrderProperties orderProperties;
+
+    private final Counter claimedCounter;
+    private final Counter expiredCounter;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public OrderCleanupScheduler(OrderService orderService,
+                                 OrderRepository orderRepository,
+                                 OrderProperties orderProperties,
+                                 MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.orderProperties = orderProperties;
+        this.claimedCounter = Counter.builder("order.sweeper.claimed")
+                .description("Stale PENDING orders claimed by the sweeper")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("order.sweeper.expired")
+                .description("Stale PENDING orders moved to FAILED by the sweeper")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.sweeper.failed")
+                .description("Stale PENDING orders whose expiry failed and were skipped for the rest of the run")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("order.sweeper.duration")
+                .description("Duration of a stale PENDING order sweep run")
+                .register(meterRegistry);
+        Gauge.builder("order.sweeper.backlog", backlog, AtomicLong::get)
+                .description("Stale PENDING orders remaining after the last sweep run")
+                .register(meterRegistry);
+    }
 
     /**
      * Scheduled method that runs every 10 minutes to clean up stale pending orders.
      * 
-     * This method delegates the actual cleanup logic to OrderService.cancelStalePendingOrders()
-     * to maintain proper transaction boundaries and separation of concerns.
-     * 
-     * Execution frequency: Every 10 minutes (fixedRate = 600000 milliseconds)
-     * - fixedRate ensures consistent execution intervals regardless of method execution time
-     * - If cleanup takes longer than 10 minutes, the next execution will start immediately after completion
+     * Each chunk is delegated to OrderService.cancelStalePendingOrders(), which runs in its own
+     * transaction, to maintain proper transaction boundaries and separation of concerns.
+     * The run stops when a chunk comes back partially filled (nothing left that is not locked elsewhere)
+     * or after coubee.order.sweep-max-chunks chunks; the remainder is picked up by the next run.
+     * An order whose expiry fails rolls its chunk back and is excluded from the following chunks of the run,
+     * so it cannot block the orders behind it; it is attempted again by the next run.
      */
-    @Scheduled(fixedRate = 600000) // Runs every 10 minutes (fixedRate = 600000 milliseconds)
+    @Scheduled(fixedDelayString = "${coubee.order.sweep-interval-ms:600000}")
     public void cleanupPendingOrders() {
         log.info("Starting cleanup job for stale pending orders.");
         
+        Timer.Sample sample = Timer.start();
         try {
-            orderService.cancelStalePendingOrders();
-            log.info("Completed cleanup job for stale pending orders.");
+            LocalDateTime cutoffTime = LocalDateTime.now().minus(orderProperties.getPendingTimeout());
+            int chunkSize = orderProperties.getSweepChunkSize();
+            int totalClaimed = 0;
+            int totalExpired = 0;
+            Set<String> failedOrderIds = new HashSet<>();
+
+            for (int chunk = 0; chunk < orderProperties.getSweepMaxChunks(); chunk++) {
+                StaleOrderChunkResult result;
+                try {
+                    result = orderService.cancelStalePendingOrders(cutoffTime, chunkSize, Set.copyOf(failedOrderIds));
+                } catch (StaleOrderExpiryException e) {
+                    // The chunk was rolled back; claim it again without the failing order
+                    log.warn("Skipping order {} for the rest of this sweep run: {}", e.getOrderId(), e.getMessage());
+                    failedOrderIds.add(e.getOrderId());
+                    failedCounter.increment();
+                    continue;
+                }
+                totalClaimed += result.claimed();
+                totalExpired += result.expired();
+                claimedCounter.increment(result.claimed());
+                expiredCounter.increment(result.expired());
+
+                if (result.claimed() < chunkSize) {
+                    break;
+                }
+            }
+
+            backlog.set(orderRepository.countStalePendingOrders(cutoffTime));
+            log.info("Completed cleanup job for stale pending orders. claimed={}, expired={}, failed={}, backlog={}",
+                    totalClaimed, totalExpired, failedOrderIds.size(), backlog.get());
         } catch (Exception e) {
             log.error("Error occurred during pending orders cleanup job", e);
             // Don't rethrow - we want the scheduler to continue running
+        } finally {
+            sample.stop(durationTimer);
         }
     }
 }
@@ -0,0 +1,15 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.remote.product.ProductResponseDto;
+import com.coubee.coubeebeorder.remote.store.StoreResponseDto;
+import com.coubee.coubeebeorder.remote.user.SiteUserInfoDto;
+
+import java.util.Map;
+
+/**
+ * 주문 응답 보강에 쓰는 다운스트림 조회 결과 (조회에 실패한 ID는 맵에 없으므로 호출자가 폴백 데이터를 사용합니다)
+ */
+public record OrderEnrichment(Map<Long, StoreResponseDto> stores,
+                              Map<Long, ProductResponseDto> products,
+                              Map<Long, SiteUserInfoDto> users) {
+}
@@ -0,0 +1,20 @@
+package com.coubee.coubeebeorder.service;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public interface OrderEnrichmentService {
+
+    /**
+     * 주문 목록 응답에 필요한 매장/상품/사용자 정보를 동시에 조회합니다 (N+1 문제 해결)
+     * 매장과 상품은 벌크 API 한 번씩, 사용자는 ID별 요청을 한꺼번에 띄우며 호출 스레드는 응답을 기다리지 않습니다.
+     * 서비스별 실패(타임아웃, 서킷 오픈 포함)는 해당 맵을 비워 두는 것으로 처리하므로 반환된 future는 실패하지 않습니다.
+     *
+     * @param storeIds 조회할 매장 ID
+     * @param productIds 조회할 상품 ID
+     * @param userIds 조회할 사용자 ID
+     * @param requesterId X-Auth-UserId 헤더로 전달할 사용자 ID
+     * @return 조회 결과
+     */
+    CompletableFuture<OrderEnrichment> load(Set<Long> storeIds, Set<Long> productIds, Set<Long> userIds, Long requesterId);
+}
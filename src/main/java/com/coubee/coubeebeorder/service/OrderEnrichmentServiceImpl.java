@@ -0,0 +1,248 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import com.coubee.coubeebeorder.remote.product.AsyncProductClient;
+import com.coubee.coubeebeorder.remote.product.ProductResponseDto;
+import com.coubee.coubeebeorder.remote.store.AsyncStoreClient;
+import com.coubee.coubeebeorder.remote.store.StoreResponseDto;
+import com.coubee.coubeebeorder.remote.user.AsyncUserServiceClient;
+import com.coubee.coubeebeorder.remote.user.SiteUserInfoDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 클라이언트로 주문 보강 데이터를 조회합니다.
+ *
+ * 서킷 브레이커(downstreamServices)는 future 단위로 적용합니다. 예전처럼 OrderServiceImpl의 private 메서드에
+ * 어노테이션으로 걸면 자기 호출이라 프록시를 거치지 않아 동작하지 않았습니다.
+ *
+ * 조회에 실패하면 서비스별 {@link EnrichmentFallbackCache}에 남은 마지막 값을 stale 표시해 내려줍니다 (stale-while-revalidate).
+ * 서킷이 닫혀 있지 않고 요청한 값이 모두 캐시에 있으면 다운스트림을 기다리지 않고 캐시로 응답하며,
+ * 같은 조회를 백그라운드로 한 번 보내(서비스별 한 건) 성공하면 캐시를 갱신합니다. 반개방 상태에서는 이 요청이 탐침 역할을 합니다.
+ */
+@Slf4j
+@Service
+public class OrderEnrichmentServiceImpl implements OrderEnrichmentService {
+
+    static final String CIRCUIT_BREAKER_NAME = "downstreamServices";
+
+    private final AsyncStoreClient storeClient;
+    private final AsyncProductClient productClient;
+    private final AsyncUserServiceClient userServiceClient;
+    private final CircuitBreaker circuitBreaker;
+
+    private final EnrichmentFallbackCache<Long, StoreResponseDto> storeCache;
+    private final EnrichmentFallbackCache<Long, ProductResponseDto> productCache;
+    private final EnrichmentFallbackCache<Long, SiteUserInfoDto> userCache;
+    private final AtomicBoolean storeRevalidating = new AtomicBoolean();
+    private final AtomicBoolean productRevalidating = new AtomicBoolean();
+    private final AtomicBoolean userRevalidating = new AtomicBoolean();
+
+    @Autowired
+    public OrderEnrichmentServiceImpl(AsyncStoreClient storeClient,
+                                      AsyncProductClient productClient,
+                                      AsyncUserServiceClient userServiceClient,
+                                      CircuitBreakerRegistry circuitBreakerRegistry,
+                                      RemoteClientProperties remoteClientProperties,
+                                      MeterRegistry meterRegistry) {
+        this(storeClient, productClient, userServiceClient, circuitBreakerRegistry, remoteClientProperties, meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    OrderEnrichmentServiceImpl(AsyncStoreClient storeClient,
+                               AsyncProductClient productClient,
+                               AsyncUserServiceClient userServiceClient,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               RemoteClientProperties remoteClientProperties,
+                               MeterRegistry meterRegistry,
+                               LongSupplier clock) {
+        this.storeClient = storeClient;
+        this.productClient = productClient;
+        this.userServiceClient = userServiceClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+
+        RemoteClientProperties.FallbackCache cacheProperties = remoteClientProperties.getFallbackCache();
+        this.storeCache = new EnrichmentFallbackCache<>("store", cacheProperties,
+                store -> EnrichmentFallbackCache.estimateBytes(store.getStoreName(), store.getDescription(),
+                        store.getStoreAddress(), store.getContactNo(), store.getWorkingHour()),
+                StoreResponseDto::staleCopy, meterRegistry, clock);
+        this.productCache = new EnrichmentFallbackCache<>("product", cacheProperties,
+                product -> EnrichmentFallbackCache.estimateBytes(product.getProductName(), product.getDescription(),
+                        product.getProductImg()),
+                ProductResponseDto::staleCopy, meterRegistry, clock);
+        this.userCache = new EnrichmentFallbackCache<>("user", cacheProperties,
+                user -> EnrichmentFallbackCache.estimateBytes(user.getUsername(), user.getNickname(), user.getName(),
+                        user.getEmail(), user.getPhoneNum(), user.getGender(), user.getProfileImageUrl()),
+                SiteUserInfoDto::staleCopy, meterRegistry, clock);
+    }
+
+    @Override
+    public CompletableFuture<OrderEnrichment> load(Set<Long> storeIds, Set<Long> productIds, Set<Long> userIds, Long requesterId) {
+        CompletableFuture<Map<Long, StoreResponseDto>> stores = loadStores(storeIds, requesterId);
+        CompletableFuture<Map<Long, ProductResponseDto>> products = loadProducts(productIds, requesterId);
+        CompletableFuture<Map<Long, SiteUserInfoDto>> users = loadUsers(userIds);
+        return CompletableFuture.allOf(stores, products, users)
+                .thenApply(ignored -> new OrderEnrichment(stores.join(), products.join(), users.join()));
+    }
+
+    private CompletableFuture<Map<Long, StoreResponseDto>> loadStores(Set<Long> storeIds, Long requesterId) {
+        if (storeIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        if (shouldServeStale(storeCache, storeIds)) {
+            revalidate(storeRevalidating, () -> fetchStores(storeIds, requesterId));
+            return CompletableFuture.completedFuture(storeCache.getStale(storeIds));
+        }
+        return fetchStores(storeIds, requesterId)
+                .thenApply(stores -> {
+                    storeCache.recordFresh(stores.size());
+                    return stores;
+                })
+                .exceptionally(ex -> {
+                    log.warn("Bulk store data fetch failed - Store IDs: {}. Using last known or fallback data.", storeIds, ex);
+                    return storeCache.getStale(storeIds);
+                });
+    }
+
+    private CompletableFuture<Map<Long, ProductResponseDto>> loadProducts(Set<Long> productIds, Long requesterId) {
+        if (productIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        if (shouldServeStale(productCache, productIds)) {
+            revalidate(productRevalidating, () -> fetchProducts(productIds, requesterId));
+            return CompletableFuture.completedFuture(productCache.getStale(productIds));
+        }
+        return fetchProducts(productIds, requesterId)
+                .thenApply(products -> {
+                    productCache.recordFresh(products.size());
+                    return products;
+                })
+                .exceptionally(ex -> {
+                    log.warn("Bulk product data fetch failed - Product IDs: {}. Using last known or fallback data.", productIds, ex);
+                    return productCache.getStale(productIds);
+                });
+    }
+
+    private CompletableFuture<Map<Long, SiteUserInfoDto>> loadUsers(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        if (shouldServeStale(userCache, userIds)) {
+            revalidate(userRevalidating, () -> fetchUsers(userIds));
+            return CompletableFuture.completedFuture(userCache.getStale(userIds));
+        }
+        return fetchUsers(userIds)
+                .thenApply(fetched -> {
+                    userCache.recordFresh(fetched.size());
+                    Set<Long> failed = new HashSet<>(userIds);
+                    failed.removeAll(fetched.keySet());
+                    if (failed.isEmpty()) {
+                        return fetched;
+                    }
+                    Map<Long, SiteUserInfoDto> users = new HashMap<>(fetched);
+                    users.putAll(userCache.getStale(failed));
+                    return users;
+                });
+    }
+
+    private CompletableFuture<Map<Long, StoreResponseDto>> fetchStores(Set<Long> storeIds, Long requesterId) {
+        return protect(() -> storeClient.getStoresByIds(new ArrayList<>(storeIds), requesterId))
+                .thenApply(OrderEnrichmentServiceImpl::dataOrEmpty)
+                .thenApply(stores -> {
+                    storeCache.putAll(stores);
+                    return stores;
+                });
+    }
+
+    private CompletableFuture<Map<Long, ProductResponseDto>> fetchProducts(Set<Long> productIds, Long requesterId) {
+        return protect(() -> productClient.getProductsByIds(new ArrayList<>(productIds), requesterId))
+                .thenApply(OrderEnrichmentServiceImpl::dataOrEmpty)
+                .thenApply(products -> {
+                    productCache.putAll(products);
+                    return products;
+                });
+    }
+
+    /**
+     * User 서비스에는 벌크 API가 없으므로 사용자별 요청을 한꺼번에 띄웁니다 (동시 연결 수는 user route의 풀 크기로 제한됩니다).
+     * 실패한 사용자는 결과에서 빠집니다.
+     */
+    private CompletableFuture<Map<Long, SiteUserInfoDto>> fetchUsers(Set<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        List<CompletableFuture<SiteUserInfoDto>> futures = new ArrayList<>(ids.size());
+        for (Long userId : ids) {
+            futures.add(protect(() -> userServiceClient.getUserInfoById(userId))
+                    .thenApply(response -> response != null ? response.getData() : null)
+                    .exceptionally(ex -> {
+                        log.warn("Failed to fetch user data for userId: {}. Using last known or fallback data.", userId, ex);
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<Long, SiteUserInfoDto> users = new HashMap<>();
+                    for (int i = 0; i < ids.size(); i++) {
+                        SiteUserInfoDto user = futures.get(i).join();
+                        if (user != null) {
+                            users.put(ids.get(i), user);
+                        }
+                    }
+                    userCache.putAll(users);
+                    return users;
+                });
+    }
+
+    /**
+     * 서킷이 닫혀 있지 않으면(열림/반개방) 요청이 거절되거나 탐침 결과를 기다려야 하므로, 캐시로 모두 응답할 수 있을 때는 캐시를 씁니다
+     */
+    private <V> boolean shouldServeStale(EnrichmentFallbackCache<Long, V> cache, Set<Long> ids) {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        boolean degraded = state == CircuitBreaker.State.OPEN
+                || state == CircuitBreaker.State.HALF_OPEN
+                || state == CircuitBreaker.State.FORCED_OPEN;
+        return degraded && cache.containsAll(ids);
+    }
+
+    /**
+     * 서비스별로 한 번에 하나의 재검증 요청만 보냅니다. 결과는 fetch* 안에서 캐시에 반영되고 호출자는 기다리지 않습니다.
+     */
+    private void revalidate(AtomicBoolean inFlight, Supplier<CompletableFuture<?>> fetch) {
+        if (!inFlight.compareAndSet(false, true)) {
+            return;
+        }
+        fetch.get().whenComplete((ignored, ex) -> {
+            inFlight.set(false);
+            if (ex != null) {
+                log.debug("Background revalidation of enrichment data failed: {}", ex.toString());
+            }
+        });
+    }
+
+    /**
+     * 서킷이 열려 있으면 요청을 보내지 않고 CallNotPermittedException으로 실패한 future를 돌려줍니다
+     */
+    private <T> CompletableFuture<T> protect(Supplier<? extends CompletionStage<T>> call) {
+        return circuitBreaker.executeCompletionStage(call::get).toCompletableFuture();
+    }
+
+    private static <K, V> Map<K, V> dataOrEmpty(ApiResponseDto<Map<K, V>> response) {
+        return response != null && response.getData() != null ? response.getData() : Map.of();
+    }
+}
@@ -0,0 +1,159 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import com.coubee.coubeebeorder.util.TimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Order Expiry Scheduler
+ *
+ * Expires unpaid PENDING orders within about one tick of their own expires_at deadline,
+ * instead of waiting for the next OrderCleanupScheduler sweep.
+ *
+ * - loadUpcomingExpiries(): periodically loads deadlines falling inside coubee.order.expiry-lookahead
+ *   from the partial expires_at index and registers them in an in-memory timing wheel
+ * - tick(): advances the wheel every coubee.order.expiry-tick and expires the orders whose deadline fired
+ *
+ * Every replica loads the same deadlines; OrderService.expirePendingOrders() locks with SKIP LOCKED and
+ * re-checks status and deadline, so only one replica expires a given order and orders that were paid or
+ * cancelled in the meantime are left untouched. OrderCleanupScheduler remains as a safety net.
+ *
+ * When one order fails to expire, the whole batch is rolled back. tick() then retries the rest of the batch
+ * without it, and loadUpcomingExpiries() does not reschedule it until coubee.order.expiry-failure-backoff
+ * has passed, so a single broken order cannot keep blocking the others.
+ *
+ * Metrics:
+ * - order.expiry.scheduled: deadlines currently held in the wheel
+ * - order.expiry.expired: orders expired by the timer
+ * - order.expiry.delay: time between an order's deadline and its expiry
+ * - order.expiry.failed: orders held back after their expiry failed
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduler {
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderProperties orderProperties;
+    private final TimingWheel<String> wheel;
+    private final Map<String, LocalDateTime> deadlines = new ConcurrentHashMap<>();
+    // 만료 처리에 실패한 주문 ID -> 다시 등록할 수 있는 시각
+    private final Map<String, LocalDateTime> backoffUntil = new ConcurrentHashMap<>();
+
+    private final Counter expiredCounter;
+    private final Counter failedCounter;
+    private final Timer delayTimer;
+
+    public OrderExpiryScheduler(OrderService orderService,
+                                OrderRepository orderRepository,
+                                OrderProperties orderProperties,
+                                MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.orderProperties = orderProperties;
+        this.wheel = new TimingWheel<>(orderProperties.getExpiryTick().toMillis(),
+                orderProperties.getExpiryWheelSize(), System.currentTimeMillis());
+
+        Gauge.builder("order.expiry.scheduled", wheel, TimingWheel::size)
+                .description("Order expiry deadlines held in the timing wheel")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("order.expiry.expired")
+                .description("Orders expired by the per-order expiry timer")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.expiry.failed")
+                .description("Orders held back from the expiry timer after their expiry failed")
+                .register(meterRegistry);
+        this.delayTimer = Timer.builder("order.expiry.delay")
+                .description("Delay between an order's expires_at deadline and its expiry")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coubee.order.expiry-load-interval-ms:30000}")
+    public void loadUpcomingExpiries() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime until = now.plus(orderProperties.getExpiryLookahead());
+            backoffUntil.values().removeIf(retryAt -> !retryAt.isAfter(now));
+            List<OrderRepository.OrderExpiryProjection> upcoming = orderRepository.findUpcomingExpiries(
+                    until, PageRequest.of(0, orderProperties.getExpiryLoadLimit()));
+
+            int added = 0;
+            for (OrderRepository.OrderExpiryProjection expiry : upcoming) {
+                if (backoffUntil.containsKey(expiry.getOrderId())) {
+                    continue;
+                }
+                if (wheel.schedule(expiry.getOrderId(), toEpochMillis(expiry.getExpiresAt()))) {
+                    deadlines.put(expiry.getOrderId(), expiry.getExpiresAt());
+                    added++;
+                }
+            }
+            if (added > 0) {
+                log.debug("Scheduled {} order expiry deadlines before {}", added, until);
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while loading upcoming order expiries", e);
+        }
+    }
+
+    // 휠의 틱 간격(OrderProperties.expiryTick)과 같은 설정 값을 사용합니다 ("1s", "500ms" 형식)
+    @Scheduled(fixedRateString = "${coubee.order.expiry-tick:1s}")
+    public void tick() {
+        List<String> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> remaining = new ArrayList<>(due);
+        try {
+            while (!remaining.isEmpty()) {
+                try {
+                    StaleOrderChunkResult result = orderService.expirePendingOrders(remaining, now);
+                    expiredCounter.increment(result.expired());
+                    if (result.expired() > 0) {
+                        log.info("Expired {} of {} orders whose payment deadline passed.", result.expired(), due.size());
+                    }
+                    break;
+                } catch (StaleOrderExpiryException e) {
+                    // 배치가 롤백되었으므로 실패한 주문만 빼고 바로 다시 처리하고, 그 주문은 일정 시간 다시 등록하지 않습니다
+                    log.warn("Holding order {} back from the expiry timer: {}", e.getOrderId(), e.getMessage());
+                    backoffUntil.put(e.getOrderId(), now.plus(orderProperties.getExpiryFailureBackoff()));
+                    failedCounter.increment();
+                    if (!remaining.remove(e.getOrderId())) {
+                        break;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // 실패한 주문은 다음 로드 주기에 다시 등록되며, 최종적으로는 OrderCleanupScheduler가 정리합니다
+            log.error("Error occurred while expiring orders {}", remaining, e);
+        } finally {
+            for (String orderId : due) {
+                LocalDateTime deadline = deadlines.remove(orderId);
+                if (deadline != null) {
+                    delayTimer.record(Duration.between(deadline, now).abs());
+                }
+            }
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,69 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Order Partition Scheduler
+ *
+ * orders, order_items and order_timestamp are range-partitioned by month (V22).
+ * This job creates the partitions for the current month and the next
+ * coubee.order.partition-months-ahead months ahead of time, so new rows never fall into the
+ * _default partition (which would block creating that month's partition later).
+ *
+ * create_monthly_partitions() skips existing partitions and serializes concurrent callers with an
+ * advisory lock, so the job is safe to run on every replica. Only enabled on PostgreSQL
+ * (coubee.order.partition-maintenance-enabled); H2 profiles do not have partitioned tables.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coubee.order", name = "partition-maintenance-enabled", havingValue = "true")
+public class OrderPartitionScheduler {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("orders", "order_items", "order_timestamp");
+
+    private final OrderRepository orderRepository;
+    private final OrderProperties orderProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OrderPartitionScheduler(OrderRepository orderRepository,
+                                   OrderProperties orderProperties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderProperties = orderProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${coubee.order.partition-interval-ms:86400000}") // Runs daily by default
+    public void createUpcomingPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        int monthCount = orderProperties.getPartitionMonthsAhead() + 1;
+
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                Integer created = transactionTemplate.execute(status ->
+                        orderRepository.createMonthlyPartitions(table, currentMonth, monthCount));
+                if (created != null && created > 0) {
+                    meterRegistry.counter("order.partition.created", "table", table).increment(created);
+                    log.info("Created {} monthly partitions for {} starting {}", created, table, currentMonth);
+                }
+            } catch (Exception e) {
+                log.error("Error occurred while creating monthly partitions for {}", table, e);
+                // Don't rethrow - the remaining tables should still get their partitions
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.coubee.coubeebeorder.service;
 
 import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.dto.OrderBulkStatusUpdateRequest;
+import com.coubee.coubeebeorder.domain.dto.OrderBulkStatusUpdateResponse;
 import com.coubee.coubeebeorder.domain.dto.OrderCancelRequest;
 import com.coubee.coubeebeorder.domain.dto.OrderCreateRequest;
 import com.coubee.coubeebeorder.domain.dto.OrderCreateResponse;
@@ -18,6 +20,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface OrderService {
 
@@ -35,6 +40,17 @@ public interface OrderService {
 
     OrderStatusUpdateResponse updateOrderStatus(String orderId, OrderStatusUpdateRequest request, Long userId);
 
+    /**
+     * 한 매장의 여러 주문 상태를 한 트랜잭션에서 변경합니다 (매장 소유자용)
+     * 전이할 수 없거나 찾을 수 없는 주문은 건너뛰고 주문별 결과로 알려주며, 나머지 주문은 그대로 변경됩니다.
+     *
+     * @param storeId 매장 ID
+     * @param request 주문 ID 목록과 새 상태
+     * @param userId 변경을 요청한 사용자 ID
+     * @return 주문별 성공/실패 결과
+     */
+    OrderBulkStatusUpdateResponse updateOrderStatuses(Long storeId, OrderBulkStatusUpdateRequest request, Long userId);
+
     /**
      * 주문 상태를 변경하고 이력을 기록합니다 (내부 서비스용)
      *
@@ -85,9 +101,25 @@ public interface OrderService {
     SiteUserInfoDto getUserData(Long userId);
 
     /**
-     * 오래된 PENDING 상태의 주문들을 자동으로 취소합니다 (스케줄러용)
-     * 15분 이상 PENDING 상태로 남아있는 주문들을 FAILED로 변경하고 재고를 복원합니다.
-     * 이는 "ghost stock" 정리 프로세스입니다.
+     * 오래된 PENDING 상태의 주문들을 한 청크만큼 자동으로 취소합니다 (스케줄러용)
+     * 기준 시각 이전에 생성된 PENDING 주문을 최대 limit건 잠금(SKIP LOCKED)으로 가져와 FAILED로 변경하고 재고를 복원합니다.
+     * 청크마다 별도 트랜잭션으로 커밋되며, 이는 "ghost stock" 정리 프로세스입니다.
+     *
+     * @param cutoffTime 이 시각 이전에 생성된 주문을 대상으로 함
+     * @param limit 한 번에 처리할 최대 주문 수
+     * @param excludedOrderIds 가져오지 않을 주문 ID (이번 실행에서 만료 처리에 실패한 주문)
+     * @return 가져온 주문 수와 실제로 만료 처리된 주문 수
+     * @throws StaleOrderExpiryException 주문 하나의 만료 처리에 실패한 경우 (청크 전체가 롤백됨)
+     */
+    StaleOrderChunkResult cancelStalePendingOrders(LocalDateTime cutoffTime, int limit, Collection<String> excludedOrderIds);
+
+    /**
+     * 만료 시각(expires_at)이 지난 PENDING 주문을 FAILED로 변경하고 재고를 복원합니다 (만료 타이머용)
+     * 이미 결제/취소되었거나 다른 인스턴스가 처리 중인 주문은 건너뜁니다.
+     *
+     * @param orderIds 만료 대상 후보 주문 ID 목록
+     * @param now 현재 시각
+     * @return 잠금으로 가져온 주문 수와 실제로 만료 처리된 주문 수
      */
-    void cancelStalePendingOrders();
+    StaleOrderChunkResult expirePendingOrders(List<String> orderIds, LocalDateTime now);
 }
\ No newline at end of file
@@ -1,18 +1,25 @@
 package com.coubee.coubeebeorder.service;
 
 import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.config.AnalyticsQuery;
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.config.RetryOnConflict;
 import com.coubee.coubeebeorder.common.exception.ApiError;
-import com.coubee.coubeebeorder.common.exception.InvalidStatusTransitionException;
 import com.coubee.coubeebeorder.common.exception.NotFound;
 import com.coubee.coubeebeorder.domain.*;
 import com.coubee.coubeebeorder.domain.dto.*;
+import com.coubee.coubeebeorder.domain.projection.OrderDetailRow;
+import com.coubee.coubeebeorder.domain.projection.OrderItemRow;
+import com.coubee.coubeebeorder.domain.repository.ArchivedOrderRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderIdRegistrationRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderItemRepository;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository.OrderCountByStatusProjection;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository.UserOrderSummaryProjection;
 import com.coubee.coubeebeorder.domain.repository.OrderTimestampRepository;
-import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
-import com.coubee.coubeebeorder.kafka.producer.notification.event.OrderNotificationEvent;
+import com.coubee.coubeebeorder.remote.product.AsyncProductClient;
 import com.coubee.coubeebeorder.remote.product.ProductClient;
+import com.coubee.coubeebeorder.remote.store.AsyncStoreClient;
 import com.coubee.coubeebeorder.remote.store.StoreClient;
 import com.coubee.coubeebeorder.remote.user.UserServiceClient;
 import com.coubee.coubeebeorder.remote.user.SiteUserInfoDto;
@@ -21,16 +28,17 @@ import java.util.Objects;
 import com.coubee.coubeebeorder.remote.hotdeal.HotdealResponseDto;
 // import io.portone.sdk.server.payment.CancelPaymentRequest; // 현재 SDK 버전에서 사용 불가
 import io.portone.sdk.server.payment.PaymentClient;
-import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
 import com.coubee.coubeebeorder.remote.store.StoreResponseDto;
+import com.coubee.coubeebeorder.util.OrderIdGenerator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -38,11 +46,14 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -51,25 +62,49 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    // 일괄 변경은 상태 머신 외의 처리(결제 취소, 재고 복원)가 필요 없는 진행 상태로 제한합니다
+    private static final Set<OrderStatus> BULK_UPDATE_STATUSES =
+            Set.of(OrderStatus.PREPARING, OrderStatus.PREPARED, OrderStatus.RECEIVED);
+
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderIdRegistrationRepository orderIdRegistrationRepository;
+    private final OrderProperties orderProperties;
+    private final OrderIdGenerator orderIdGenerator;
     private final OrderTimestampRepository orderTimestampRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderStatusHistoryLoader orderStatusHistoryLoader;
+    private final ActiveOrderCache activeOrderCache;
+    private final OrderStateMachine orderStateMachine;
     private final ProductStockService productStockService;
-    private final KafkaMessageProducer kafkaMessageProducer;
     // FeignClient 대신 공식 SDK 클라이언트를 주입받습니다
     private final PaymentClient portonePaymentClient;
     private final ProductClient productClient;
     private final StoreClient storeClient;
     private final UserServiceClient userServiceClient;
+    // 여러 조회를 조합하는 경로(주문 생성, 목록 보강)는 논블로킹 클라이언트로 호출을 동시에 띄웁니다
+    private final AsyncStoreClient asyncStoreClient;
+    private final AsyncProductClient asyncProductClient;
+    private final OrderEnrichmentService orderEnrichmentService;
 
     @Override
     @Transactional
     public OrderCreateResponse createOrder(Long userId, OrderCreateRequest request) {
         log.info("Creating order for user: {}", userId);
 
-        String orderId = "order_" + UUID.randomUUID().toString().replace("-", "");
+        String orderId = orderIdGenerator.generate();
         
+        // 매장, 상품, 핫딜 조회를 한꺼번에 띄운 뒤 결과를 검증합니다 (상품 수만큼 순차 호출하지 않음)
+        CompletableFuture<ApiResponseDto<StoreResponseDto>> storeFuture =
+                asyncStoreClient.getStoreById(request.getStoreId(), userId);
+        List<CompletableFuture<ApiResponseDto<ProductResponseDto>>> productFutures = request.getItems().stream()
+                .map(itemRequest -> asyncProductClient.getProductById(itemRequest.getProductId(), userId))
+                .collect(Collectors.toList());
+        CompletableFuture<ApiResponseDto<HotdealResponseDto>> hotdealFuture =
+                asyncStoreClient.getActiveHotdeal(request.getStoreId());
+
         // 상점 정보를 조회하여 상점 이름을 가져옵니다
-        ApiResponseDto<StoreResponseDto> storeResponse = storeClient.getStoreById(request.getStoreId(), userId);
+        ApiResponseDto<StoreResponseDto> storeResponse = awaitRemote(storeFuture);
         if (storeResponse == null || storeResponse.getData() == null) {
             throw new NotFound("Store not found with ID: " + request.getStoreId());
         }
@@ -81,45 +116,43 @@ public class OrderServiceImpl implements OrderService {
         int productDiscountAmount = 0;
         List<ProductResponseDto> productDetails = new ArrayList<>();
 
-        for (OrderCreateRequest.OrderItemRequest itemRequest : request.getItems()) {
+        for (int i = 0; i < request.getItems().size(); i++) {
+            OrderCreateRequest.OrderItemRequest itemRequest = request.getItems().get(i);
+            ApiResponseDto<ProductResponseDto> productResponse;
             try {
-                // 상품 서비스를 호출하여 상품 상세 정보 조회
-                log.debug("Fetching product details for productId: {}", itemRequest.getProductId());
-                ApiResponseDto<ProductResponseDto> productResponse = productClient.getProductById(
-                        itemRequest.getProductId(), userId);
+                productResponse = awaitRemote(productFutures.get(i));
+            } catch (ApiError e) {
+                // 404(NotFound) 등 상품 서비스 오류 응답은 이미 도메인 예외로 변환되어 있습니다
+                throw e;
+            } catch (RuntimeException e) {
+                log.error("Failed to fetch product details: productId={}, error={}",
+                         itemRequest.getProductId(), e.getMessage());
+                throw new ApiError("Failed to fetch product details for product: " + itemRequest.getProductId());
+            }
 
-                if (productResponse == null || productResponse.getData() == null) {
-                    throw new NotFound("Product not found: " + itemRequest.getProductId());
-                }
+            if (productResponse == null || productResponse.getData() == null) {
+                throw new NotFound("Product not found: " + itemRequest.getProductId());
+            }
 
-                ProductResponseDto product = productResponse.getData();
+            ProductResponseDto product = productResponse.getData();
 
-                // 상품 재고가 충분한지 확인
-                if (product.getStock() < itemRequest.getQuantity()) {
-                    throw new ApiError("Insufficient stock for product: " + product.getProductName() +
-                                     ". Available: " + product.getStock() + ", Requested: " + itemRequest.getQuantity());
-                }
+            // 상품 재고가 충분한지 확인
+            if (product.getStock() < itemRequest.getQuantity()) {
+                throw new ApiError("Insufficient stock for product: " + product.getProductName() +
+                                 ". Available: " + product.getStock() + ", Requested: " + itemRequest.getQuantity());
+            }
 
-                int quantity = itemRequest.getQuantity();
-                
-                // 원가와 판매가를 각각 계산합니다
-                totalOriginAmount += product.getOriginPrice() * quantity;
-                totalSaleAmount += product.getSalePrice() * quantity;
+            int quantity = itemRequest.getQuantity();
 
-                productDetails.add(product);
+            // 원가와 판매가를 각각 계산합니다
+            totalOriginAmount += product.getOriginPrice() * quantity;
+            totalSaleAmount += product.getSalePrice() * quantity;
 
-                log.debug("Validated product: productId={}, productName={}, quantity={}, originPrice={}, salePrice={}",
-                         product.getProductId(), product.getProductName(), quantity,
-                         product.getOriginPrice(), product.getSalePrice());
+            productDetails.add(product);
 
-            } catch (FeignException.NotFound e) {
-                log.error("Product not found: productId={}", itemRequest.getProductId());
-                throw new NotFound("Product not found: " + itemRequest.getProductId());
-            } catch (FeignException e) {
-                log.error("Failed to fetch product details: productId={}, error={}",
-                         itemRequest.getProductId(), e.getMessage());
-                throw new ApiError("Failed to fetch product details for product: " + itemRequest.getProductId());
-            }
+            log.debug("Validated product: productId={}, productName={}, quantity={}, originPrice={}, salePrice={}",
+                     product.getProductId(), product.getProductName(), quantity,
+                     product.getOriginPrice(), product.getSalePrice());
         }
 
         // 상품 자체 할인액(원가 - 판매가)을 계산합니다
@@ -131,7 +164,7 @@ public class OrderServiceImpl implements OrderService {
 
         try {
             log.debug("Checking for active hotdeal for storeId: {}", request.getStoreId());
-            ApiResponseDto<HotdealResponseDto> hotdealResponse = storeClient.getActiveHotdeal(request.getStoreId());
+            ApiResponseDto<HotdealResponseDto> hotdealResponse = awaitRemote(hotdealFuture);
 
             if (hotdealResponse != null && hotdealResponse.getData() != null) {
                 HotdealResponseDto hotdeal = hotdealResponse.getData();
@@ -163,6 +196,7 @@ public class OrderServiceImpl implements OrderService {
         // 새로운 비즈니스 로직에 따라 주문을 생성합니다 (storeName 추가)
         Order order = Order.createOrder(
                 orderId, userId, request.getStoreId(), storeName, totalOriginAmount, totalDiscountAmount, finalPaymentAmount, request.getRecipientName());
+        order.scheduleExpiry(LocalDateTime.now().plus(orderProperties.getPendingTimeout()));
 
         // 실제 상품 데이터와 핫딜 상태로 주문 아이템 추가
         for (int i = 0; i < request.getItems().size(); i++) {
@@ -186,7 +220,10 @@ public class OrderServiceImpl implements OrderService {
         OrderTimestamp initialTimestamp = OrderTimestamp.createTimestamp(order, OrderStatus.PENDING);
         order.addStatusHistory(initialTimestamp);
 
+        // 파티션 테이블에는 order_id UNIQUE 제약이 없으므로 등록 테이블에 먼저 INSERT해 중복 ID를 여기서 막습니다
+        orderIdRegistrationRepository.saveAndFlush(OrderIdRegistration.of(orderId));
         orderRepository.save(order);
+        activeOrderCache.writeThrough(order);
 
         log.info("Order created successfully: orderId={}, totalOriginAmount={}, totalDiscountAmount={}, finalPaymentAmount={}",
                 orderId, totalOriginAmount, totalDiscountAmount, finalPaymentAmount);
@@ -202,6 +239,7 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional
+    @RetryOnConflict(transition = "cancel")
     public OrderDetailResponse cancelOrder(String orderId, OrderCancelRequest request, Long userId, String userRole) {
         log.info("Cancelling order: {} by user: {} with role: {}", orderId, userId, userRole);
 
@@ -218,10 +256,8 @@ public class OrderServiceImpl implements OrderService {
             throw new IllegalArgumentException("주문을 취소할 권한이 없습니다.");
         }
 
-        // 주문이 이미 취소되었거나 수령되었는지 확인
-        if (order.getStatus() == OrderStatus.CANCELLED_USER || order.getStatus() == OrderStatus.CANCELLED_ADMIN || order.getStatus() == OrderStatus.RECEIVED) {
-            throw new InvalidStatusTransitionException(order.getStatus(), newCancelStatus);
-        }
+        // 결제 취소 전에 현재 상태에서 취소할 수 있는지 확인 (종료 상태의 주문은 취소할 수 없음)
+        orderStateMachine.validate(order.getStatus(), newCancelStatus);
 
         if (order.getPayment() != null && order.getPayment().getStatus() == PaymentStatus.PAID) {
             try {
@@ -250,7 +286,7 @@ public class OrderServiceImpl implements OrderService {
             }
         }
 
-        updateOrderStatusAndCreateHistory(order, newCancelStatus);
+        orderStateMachine.transition(order, newCancelStatus);
 
         // 주문 취소 시 모든 주문 아이템의 이벤트 타입을 REFUND로 설정
         order.getItems().forEach(item -> item.updateEventType(EventType.REFUND));
@@ -262,8 +298,6 @@ public class OrderServiceImpl implements OrderService {
         productStockService.increaseStock(order);
         log.info("재고 복원 처리 완료 - 주문 ID: {}", orderId);
 
-        publishCancelNotificationEvent(order, newCancelStatus);
-
         log.info("Order cancelled successfully: {}. New status: {}", orderId, newCancelStatus);
         return convertToOrderDetailResponse(order);
     }
@@ -272,22 +306,42 @@ public class OrderServiceImpl implements OrderService {
     public OrderDetailResponse getOrder(String orderId) {
         log.info("Getting order details for: {}", orderId);
 
-        Order order = orderRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
+        Optional<Order> order = orderRepository.findByOrderId(orderId);
+        if (order.isPresent()) {
+            return convertToOrderDetailResponse(order.get());
+        }
 
-        return convertToOrderDetailResponse(order);
+        // 운영 테이블에 없으면 보관 주문에서 조회합니다 (오래된 종료 주문)
+        ArchivedOrder archivedOrder = archivedOrderRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
+        return convertArchivedOrdersToResponses(List.of(archivedOrder)).get(0);
     }
 
+    // 진행 중 주문의 상태 폴링은 캐시에서 응답하므로 트랜잭션(커넥션)을 미리 열지 않습니다
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public OrderStatusResponse getOrderStatus(String orderId) {
         log.info("Getting order status for: {}", orderId);
 
-        Order order = orderRepository.findByOrderId(orderId)
+        Optional<ActiveOrderSnapshot> cached = activeOrderCache.get(orderId);
+        if (cached.isPresent()) {
+            return OrderStatusResponse.builder()
+                    .orderId(orderId)
+                    .status(cached.get().status())
+                    .build();
+        }
+
+        OrderStatus status = orderRepository.findByOrderId(orderId)
+                .map(order -> {
+                    activeOrderCache.populate(ActiveOrderSnapshot.from(order));
+                    return order.getStatus();
+                })
+                .or(() -> archivedOrderRepository.findByOrderId(orderId).map(ArchivedOrder::getStatus))
                 .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
 
         return OrderStatusResponse.builder()
                 .orderId(orderId)
-                .status(order.getStatus())
+                .status(status)
                 .build();
     }
 
@@ -297,39 +351,43 @@ public class OrderServiceImpl implements OrderService {
 
         // 1단계: 명시적 타입 캐스팅을 사용하여 네이티브 쿼리로 페이지네이션된 주문 데이터 조회
         Page<Object[]> orderDataPage = orderRepository.findUserOrderIdsNative(userId, keyword, pageable);
+        List<OrderDetailResponse> orderDetailResponses = new ArrayList<>();
 
-        if (orderDataPage.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // 2단계: Object[] 결과에서 주문 ID 추출 (첫 번째 컬럼이 order_id)
-        List<String> orderIds = orderDataPage.getContent().stream()
-                .map(row -> (String) row[0])
-                .collect(Collectors.toList());
+        if (orderDataPage.hasContent()) {
+            // 2단계: Object[] 결과에서 주문 ID 추출 (첫 번째 컬럼이 order_id)
+            List<String> orderIds = orderDataPage.getContent().stream()
+                    .map(row -> (String) row[0])
+                    .collect(Collectors.toList());
 
-        // 3단계: 페치 조인을 사용하여 주문 ID들의 전체 상세정보 조회
-        List<Order> ordersWithDetails = orderRepository.findWithDetailsIn(orderIds);
+            // 3-4단계: 엔티티를 거치지 않고 주문/아이템/이력 행을 조회하여 바로 DTO로 변환
+            orderDetailResponses.addAll(loadOrderDetailResponses(orderIds));
+        }
 
-        // 4단계: 상세 엔티티를 DTO로 변환
-        List<OrderDetailResponse> orderDetailResponses = convertToOrderDetailResponseList(ordersWithDetails);
+        // 5단계: 보관 주문은 운영 주문보다 오래되었으므로 운영 주문 목록 뒤에 이어 붙입니다
+        long liveTotal = orderDataPage.getTotalElements();
+        long archivedTotal = archivedOrderRepository.countUserArchivedOrders(userId, keyword);
+        int remaining = pageable.getPageSize() - orderDetailResponses.size();
+        if (archivedTotal > 0 && remaining > 0) {
+            long archivedOffset = Math.max(0, pageable.getOffset() - liveTotal);
+            List<ArchivedOrder> archivedOrders =
+                    archivedOrderRepository.findUserArchivedOrders(userId, keyword, archivedOffset, remaining);
+            orderDetailResponses.addAll(convertArchivedOrdersToResponses(archivedOrders));
+        }
 
-        // 5단계: DTO와 원본 페이지네이션 정보로 최종 Page 객체 생성 및 반환
-        return new PageImpl<>(orderDetailResponses, pageable, orderDataPage.getTotalElements());
+        // 6단계: DTO와 운영 + 보관 주문 전체 건수로 최종 Page 객체 생성 및 반환
+        return new PageImpl<>(orderDetailResponses, pageable, liveTotal + archivedTotal);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict(transition = "receive")
     public OrderDetailResponse receiveOrder(String orderId) {
         log.info("Marking order as received: {}", orderId);
 
         Order order = orderRepository.findByOrderId(orderId)
                 .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
 
-        if (order.getStatus() != OrderStatus.PREPARED) {
-            throw new InvalidStatusTransitionException(order.getStatus(), OrderStatus.RECEIVED);
-        }
-
-        updateOrderStatusAndCreateHistory(order, OrderStatus.RECEIVED);
+        orderStateMachine.transition(order, OrderStatus.RECEIVED);
         // orderRepository.save(order); // Redundant call removed - managed entity changes are automatically persisted
 
         log.info("Order marked as received successfully: {}", orderId);
@@ -338,6 +396,7 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional
+    @RetryOnConflict(transition = "update_status")
     public OrderStatusUpdateResponse updateOrderStatus(String orderId, OrderStatusUpdateRequest request, Long userId) {
         log.info("Updating order status for: {} to: {}", orderId, request.getStatus());
 
@@ -346,9 +405,7 @@ public class OrderServiceImpl implements OrderService {
 
         OrderStatus previousStatus = order.getStatus();
 
-        validateStatusTransition(previousStatus, request.getStatus());
-
-        updateOrderStatusAndCreateHistory(order, request.getStatus());
+        orderStateMachine.transition(order, request.getStatus());
         // orderRepository.save(order); // Redundant call removed - managed entity changes are automatically persisted
 
         log.info("Order status updated successfully: {} -> {}", previousStatus, request.getStatus());
@@ -365,129 +422,83 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional
-    public void updateOrderStatusWithHistory(String orderId, OrderStatus newStatus) {
-        log.info("Updating order status with history for: {} to: {}", orderId, newStatus);
-
-        Order order = orderRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
-
-        updateOrderStatusAndCreateHistory(order, newStatus);
-        // orderRepository.save(order); // Redundant call removed - managed entity changes are automatically persisted
-
-        log.info("Order status updated with history successfully: {}", orderId);
-    }
-
-    private void validateStatusTransition(OrderStatus from, OrderStatus to) {
-        boolean isValidTransition = switch (from) {
-            case PENDING -> to == OrderStatus.PAID || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN || to == OrderStatus.FAILED;
-            case PAID -> to == OrderStatus.PREPARING || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN || to == OrderStatus.FAILED;
-            case PREPARING -> to == OrderStatus.PREPARED || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN || to == OrderStatus.FAILED;
-            case PREPARED -> to == OrderStatus.RECEIVED || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN;
-            case RECEIVED, FAILED, CANCELLED_USER, CANCELLED_ADMIN -> false; // Terminal states
-        };
-
-        if (!isValidTransition) {
-            throw new InvalidStatusTransitionException(from, to);
+    @RetryOnConflict(transition = "bulk_update_status")
+    public OrderBulkStatusUpdateResponse updateOrderStatuses(Long storeId, OrderBulkStatusUpdateRequest request, Long userId) {
+        OrderStatus newStatus = request.getStatus();
+        if (!BULK_UPDATE_STATUSES.contains(newStatus)) {
+            // 취소는 결제 취소와 재고 복원이 필요하므로 주문별 취소 API를 사용합니다
+            throw new IllegalArgumentException("일괄 변경할 수 없는 상태입니다: " + newStatus);
         }
-    }
-
-    /**
-     * Updates order status and creates a history record
-     *
-     * @param order the order to update
-     * @param newStatus the new status
-     */
-    private void updateOrderStatusAndCreateHistory(Order order, OrderStatus newStatus) {
-        order.updateStatus(newStatus);
+        List<String> orderIds = request.getOrderIds().stream().distinct().toList();
+        log.info("Bulk updating {} orders of store {} to {}", orderIds.size(), storeId, newStatus);
+
+        // 한 번의 조회로 대상 주문을 모두 불러옵니다. 상태 이력 INSERT는 커밋 시 JDBC 배치(hibernate.jdbc.batch_size)로 묶입니다.
+        Map<String, Order> ordersById = orderRepository.findByStoreIdAndOrderIdIn(storeId, orderIds).stream()
+                .collect(Collectors.toMap(Order::getOrderId, order -> order));
+
+        List<OrderBulkStatusUpdateResponse.Result> results = new ArrayList<>(orderIds.size());
+        int succeeded = 0;
+        for (String orderId : orderIds) {
+            Order order = ordersById.get(orderId);
+            if (order == null) {
+                results.add(OrderBulkStatusUpdateResponse.Result.builder()
+                        .orderId(orderId)
+                        .success(false)
+                        .errorCode("NOT_FOUND")
+                        .message("주문을 찾을 수 없습니다. Order ID: " + orderId)
+                        .build());
+                continue;
+            }
 
-        // 상태 이력 레코드 생성 및 추가
-        OrderTimestamp timestamp = OrderTimestamp.createTimestamp(order, newStatus);
-        order.addStatusHistory(timestamp);
+            OrderStatus previousStatus = order.getStatus();
+            if (!OrderStateMachine.canTransition(previousStatus, newStatus)) {
+                results.add(OrderBulkStatusUpdateResponse.Result.builder()
+                        .orderId(orderId)
+                        .success(false)
+                        .previousStatus(previousStatus)
+                        .currentStatus(previousStatus)
+                        .errorCode("INVALID_TRANSITION")
+                        .message(String.format("Invalid status transition from %s to %s", previousStatus, newStatus))
+                        .build());
+                continue;
+            }
 
-        // 상태 변경에 따른 알림 이벤트 발행
-        publishOrderStatusNotificationEvent(order, newStatus);
+            // 알림은 커밋 후 이 트랜잭션의 전이를 모아 한 번에 발행됩니다
+            orderStateMachine.transition(order, newStatus);
+            succeeded++;
+            results.add(OrderBulkStatusUpdateResponse.Result.builder()
+                    .orderId(orderId)
+                    .success(true)
+                    .previousStatus(previousStatus)
+                    .currentStatus(newStatus)
+                    .build());
+        }
 
-        log.debug("Status history recorded for order {}: {}", order.getOrderId(), newStatus);
+        log.info("Bulk status update finished for store {}: {} succeeded, {} failed", storeId, succeeded, orderIds.size() - succeeded);
+        return OrderBulkStatusUpdateResponse.builder()
+                .status(newStatus)
+                .succeeded(succeeded)
+                .failed(orderIds.size() - succeeded)
+                .results(results)
+                .updatedAt(LocalDateTime.now())
+                .updatedByUserId(userId)
+                .build();
     }
 
+    @Override
+    @Transactional
+    @RetryOnConflict(transition = "internal_update")
+    public void updateOrderStatusWithHistory(String orderId, OrderStatus newStatus) {
+        log.info("Updating order status with history for: {} to: {}", orderId, newStatus);
 
+        Order order = orderRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
 
-    private void publishOrderStatusNotificationEvent(Order order, OrderStatus newStatus) {
-        try {
-            // PREPARING, PREPARED 상태에 대해서만 알림 이벤트 발행
-            if (newStatus == OrderStatus.PREPARING || newStatus == OrderStatus.PREPARED) {
-                String storeName = getStoreName(order.getStoreId(), order.getUserId());
-                
-                OrderNotificationEvent notificationEvent = null;
-                if (newStatus == OrderStatus.PREPARING) {
-                    notificationEvent = OrderNotificationEvent.createPreparingNotification(
-                            order.getOrderId(),
-                            order.getUserId(),
-                            storeName
-                    );
-                } else if (newStatus == OrderStatus.PREPARED) {
-                    notificationEvent = OrderNotificationEvent.createPreparedNotification(
-                            order.getOrderId(),
-                            order.getUserId(),
-                            storeName
-                    );
-                }
-                
-                if (notificationEvent != null) {
-                    kafkaMessageProducer.publishOrderNotificationEvent(notificationEvent);
-                    log.info("주문 상태 변경 알림 이벤트 발행 완료 - 주문: {}, 상태: {}, 매장: {}", 
-                            order.getOrderId(), newStatus, storeName);
-                }
-            }
-        } catch (Exception e) {
-            log.error("주문 상태 변경 알림 이벤트 발행 실패 - 주문: {}, 상태: {}", 
-                    order.getOrderId(), newStatus, e);
-        }
-    }
-
-    private void publishCancelNotificationEvent(Order order, OrderStatus cancelStatus) {
-        try {
-            // [수정] StoreClient를 통해 매장 정보를 조회합니다.
-            ApiResponseDto<StoreResponseDto> storeResponse = storeClient.getStoreById(order.getStoreId(), order.getUserId());
-            String storeName = storeResponse.getData() != null ? storeResponse.getData().getStoreName() : "매장";
-
-            if (cancelStatus == OrderStatus.CANCELLED_USER) {
-                // 고객이 취소한 경우
-                // 2. 고객에게 보낼 '취소 완료' 알림
-                OrderNotificationEvent forCustomer = OrderNotificationEvent.createCancelledUserNotification(
-                        order.getOrderId(),
-                        order.getUserId(), // ★ 알림 수신 대상을 고객 ID로 설정
-                        storeName
-                );
-                kafkaMessageProducer.publishOrderNotificationEvent(forCustomer);
-
-            } else if (cancelStatus == OrderStatus.CANCELLED_ADMIN) {
-                // 점주가 취소한 경우 (기존 로직 유지, 고객에게만 발송)
-                OrderNotificationEvent forCustomer = OrderNotificationEvent.createCancelledAdminNotification(
-                        order.getOrderId(),
-                        order.getUserId(),
-                        storeName
-                );
-                kafkaMessageProducer.publishOrderNotificationEvent(forCustomer);
-            }
-            
-        } catch (Exception e) {
-            log.error("Failed to publish order cancellation notification event - Order: {}", order.getOrderId(), e);
-        }
-    }
+        // 결제 웹훅 등 외부 결과를 반영하는 내부 경로이므로 전이 표 밖의 변경도 적용합니다 (경고/메트릭으로 기록)
+        orderStateMachine.force(order, newStatus);
+        // orderRepository.save(order); // Redundant call removed - managed entity changes are automatically persisted
 
-    private String getStoreName(Long storeId, Long userId) {
-        try {
-            ApiResponseDto<StoreResponseDto> response = storeClient.getStoreById(storeId, userId);
-            if (response != null && response.getData() != null && response.getData().getStoreName() != null) {
-                return response.getData().getStoreName();
-            }
-            log.warn("Could not retrieve store name from detail response for storeId: {}", storeId);
-            return "매장";
-        } catch (Exception e) {
-            log.warn("Failed to get store details for storeId: {}, userId: {}. Using fallback name.", storeId, userId, e);
-            return "매장";
-        }
+        log.info("Order status updated with history successfully: {}", orderId);
     }
 
     private String generateOrderName(Set<OrderItem> items) {
@@ -529,200 +540,188 @@ public class OrderServiceImpl implements OrderService {
                 .map(Order::getUserId)
                 .collect(Collectors.toSet());
 
-        // 벌크 API로 스토어, 상품, 사용자 데이터 조회
-        Map<Long, StoreResponseDto> storeMap = getBulkStoreData(storeIds, userId);
-        Map<Long, ProductResponseDto> productMap = getBulkProductData(productIds, userId);
-        Map<Long, SiteUserInfoDto> userMap = getBulkUserData(userIds);
+        // 벌크 API로 스토어, 상품, 사용자 데이터를 동시에 조회
+        OrderEnrichment enrichment = orderEnrichmentService.load(storeIds, productIds, userIds, userId).join();
+
+        // 상태 이력은 statusHistory 지연 로딩 대신 한 번의 정렬된 쿼리로 불러옵니다
+        Map<String, List<OrderDetailResponse.OrderStatusTimestampDto>> historyByOrderId =
+                orderStatusHistoryLoader.load(orders.stream().map(Order::getOrderId).collect(Collectors.toList()));
 
         // 벌크 데이터를 사용하여 주문 상세 응답 생성
         return orders.stream()
-                .map(order -> convertToOrderDetailResponseWithMaps(order, storeMap, productMap, userMap))
+                .map(order -> convertRowToOrderDetailResponse(OrderDetailRow.from(order), toItemRows(order),
+                        historyByOrderId.getOrDefault(order.getOrderId(), List.of()), enrichment))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 벌크 스토어 데이터 조회 (N+1 문제 해결)
+     * 목록 조회용 읽기 경로: 주문 ID 목록의 상세 응답을 엔티티 없이 생성 (최신순)
+     * 주문+결제, 아이템, 상태 이력을 생성자 프로젝션으로 조회하므로 영속성 컨텍스트에 아무것도 등록되지 않고
+     * dirty checking이나 flush 비용이 없습니다.
      */
-    @CircuitBreaker(name = "downstreamServices", fallbackMethod = "getBulkStoreDataFallback")
-    private Map<Long, StoreResponseDto> getBulkStoreData(Set<Long> storeIds, Long userId) {
-        if (storeIds.isEmpty()) {
-            return Map.of();
+    private List<OrderDetailResponse> loadOrderDetailResponses(List<String> orderIds) {
+        List<OrderDetailRow> orderRows = orderRepository.findDetailRowsByOrderIdIn(orderIds);
+        if (orderRows.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        List<Long> storeIdList = new ArrayList<>(storeIds);
-        ApiResponseDto<Map<Long, StoreResponseDto>> response = storeClient.getStoresByIds(storeIdList, userId);
-        return response.getData() != null ? response.getData() : Map.of();
+        Map<String, List<OrderItemRow>> itemsByOrderId = orderItemRepository.findRowsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+        Map<String, List<OrderDetailResponse.OrderStatusTimestampDto>> historyByOrderId = orderStatusHistoryLoader.load(orderIds);
+
+        Long userId = orderRows.get(0).userId();
+        Set<Long> storeIds = orderRows.stream()
+                .map(OrderDetailRow::storeId)
+                .collect(Collectors.toSet());
+        Set<Long> productIds = itemsByOrderId.values().stream()
+                .flatMap(List::stream)
+                .map(OrderItemRow::productId)
+                .collect(Collectors.toSet());
+        Set<Long> userIds = orderRows.stream()
+                .map(OrderDetailRow::userId)
+                .collect(Collectors.toSet());
+
+        OrderEnrichment enrichment = orderEnrichmentService.load(storeIds, productIds, userIds, userId).join();
+
+        return orderRows.stream()
+                .map(row -> convertRowToOrderDetailResponse(row,
+                        itemsByOrderId.getOrDefault(row.orderId(), List.of()),
+                        historyByOrderId.getOrDefault(row.orderId(), List.of()),
+                        enrichment))
+                .collect(Collectors.toList());
     }
 
     /**
-     * 벌크 상품 데이터 조회 (N+1 문제 해결)
+     * 벌크 조회 결과로 주문 상세 응답 변환 (N+1 문제 해결)
+     * 조회에 실패한 매장/사용자/상품은 폴백 데이터로 채웁니다.
      */
-    @CircuitBreaker(name = "downstreamServices", fallbackMethod = "getBulkProductDataFallback")
-    private Map<Long, ProductResponseDto> getBulkProductData(Set<Long> productIds, Long userId) {
-        if (productIds.isEmpty()) {
-            return Map.of();
+    private OrderDetailResponse convertRowToOrderDetailResponse(OrderDetailRow row,
+                                                                List<OrderItemRow> items,
+                                                                List<OrderDetailResponse.OrderStatusTimestampDto> history,
+                                                                OrderEnrichment enrichment) {
+        StoreResponseDto storeDetails = enrichment.stores().get(row.storeId());
+        if (storeDetails == null) {
+            log.warn("Store data not found for storeId: {}. Using fallback.", row.storeId());
+            storeDetails = createFallbackStoreData(row.storeId());
+        }
+
+        SiteUserInfoDto customerInfo = enrichment.users().get(row.userId());
+        if (customerInfo == null) {
+            log.warn("User data not found for userId: {}. Using fallback.", row.userId());
+            customerInfo = createFallbackUserData(row.userId());
         }
 
-        List<Long> productIdList = new ArrayList<>(productIds);
-        ApiResponseDto<Map<Long, ProductResponseDto>> response = productClient.getProductsByIds(productIdList, userId);
-        return response.getData() != null ? response.getData() : Map.of();
+        return buildOrderDetailResponse(row, items, history, storeDetails, customerInfo, productId -> {
+            ProductResponseDto productDetails = enrichment.products().get(productId);
+            if (productDetails == null) {
+                log.warn("Product data not found for productId: {}. Using fallback.", productId);
+                productDetails = createFallbackProductData(productId);
+            }
+            return productDetails;
+        });
     }
 
     /**
-     * 벌크 사용자 데이터 조회 (N+1 문제 해결)
+     * 단건 주문을 OrderDetailResponse로 변환
+     * 목록/보관 경로와 같이 OrderEnrichmentService(서킷 브레이커와 폴백 적용)로 매장/상품/사용자 정보를 조회합니다.
      */
-    @CircuitBreaker(name = "downstreamServices", fallbackMethod = "getBulkUserDataFallback")
-    private Map<Long, SiteUserInfoDto> getBulkUserData(Set<Long> userIds) {
-        if (userIds.isEmpty()) {
-            return Map.of();
-        }
-
-        Map<Long, SiteUserInfoDto> userMap = new java.util.HashMap<>();
-        for (Long userId : userIds) {
-            try {
-                ApiResponseDto<SiteUserInfoDto> response = userServiceClient.getUserInfoById(userId);
-                if (response != null && response.getData() != null) {
-                    userMap.put(userId, response.getData());
-                }
-            } catch (Exception e) {
-                log.warn("Failed to fetch user data for userId: {}. Using fallback.", userId, e);
-                userMap.put(userId, createFallbackUserData(userId));
-            }
-        }
-        return userMap;
+    private OrderDetailResponse convertToOrderDetailResponse(Order order) {
+        return convertToOrderDetailResponseList(List.of(order)).get(0);
     }
 
     /**
-     * 벌크 데이터를 사용한 주문 상세 응답 변환 (N+1 문제 해결)
+     * 보관 주문을 OrderDetailResponse로 변환
+     * 운영 주문과 같은 응답 형태가 되도록 매장/상품/사용자 정보를 벌크 API로 조회하고,
+     * 주문 당시의 상품명/가격/수량은 보관 문서의 값을 그대로 사용합니다.
      */
-    private OrderDetailResponse convertToOrderDetailResponseWithMaps(Order order,
-                                                                     Map<Long, StoreResponseDto> storeMap,
-                                                                     Map<Long, ProductResponseDto> productMap,
-                                                                     Map<Long, SiteUserInfoDto> userMap) {
-        // 스토어 정보 조회 (폴백 데이터 사용 가능)
-        StoreResponseDto storeDetails = storeMap.get(order.getStoreId());
-        if (storeDetails == null) {
-            log.warn("Store data not found for storeId: {}. Using fallback.", order.getStoreId());
-            storeDetails = createFallbackStoreData(order.getStoreId());
+    private List<OrderDetailResponse> convertArchivedOrdersToResponses(List<ArchivedOrder> archivedOrders) {
+        if (archivedOrders.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        // 사용자 정보 조회 (폴백 데이터 사용 가능)
-        SiteUserInfoDto customerInfo = userMap.get(order.getUserId());
-        if (customerInfo == null) {
-            log.warn("User data not found for userId: {}. Using fallback.", order.getUserId());
-            customerInfo = createFallbackUserData(order.getUserId());
-        }
+        Set<Long> storeIds = archivedOrders.stream()
+                .map(ArchivedOrder::getStoreId)
+                .collect(Collectors.toSet());
+        Set<Long> productIds = archivedOrders.stream()
+                .flatMap(archivedOrder -> archivedOrder.getDocument().items().stream())
+                .map(ArchivedOrderDocument.Item::productId)
+                .collect(Collectors.toSet());
+        Set<Long> userIds = archivedOrders.stream()
+                .map(ArchivedOrder::getUserId)
+                .collect(Collectors.toSet());
 
-        // 주문 아이템 응답 생성
-        List<OrderDetailResponse.OrderItemResponse> itemResponses = order.getItems().stream()
-                .map(item -> {
-                    ProductResponseDto productDetails = productMap.get(item.getProductId());
-                    if (productDetails == null) {
-                        log.warn("Product data not found for productId: {}. Using fallback.", item.getProductId());
-                        productDetails = createFallbackProductData(item.getProductId());
-                    }
-
-                    return OrderDetailResponse.OrderItemResponse.builder()
-                            .product(productDetails)
-                            .productId(item.getProductId())
-                            .productName(item.getProductName())
-                            .quantity(item.getQuantity())
-                            .price(item.getPrice())
-                            .totalPrice(item.getTotalPrice())
-                            .eventType(item.getEventType() != null ? item.getEventType().name() : null)
-                            .build();
+        OrderEnrichment enrichment = orderEnrichmentService
+                .load(storeIds, productIds, userIds, archivedOrders.get(0).getUserId())
+                .join();
+
+        return archivedOrders.stream()
+                .map(archivedOrder -> {
+                    ArchivedOrderDocument document = archivedOrder.getDocument();
+                    List<OrderItemRow> items = document.items().stream()
+                            .map(item -> OrderItemRow.from(document.orderId(), item))
+                            .collect(Collectors.toList());
+                    List<OrderDetailResponse.OrderStatusTimestampDto> historyDtos = document.statusHistory().stream()
+                            .map(change -> OrderDetailResponse.OrderStatusTimestampDto.builder()
+                                    .status(change.status())
+                                    .updatedAt(change.updatedAt())
+                                    .build())
+                            .collect(Collectors.toList());
+                    return convertRowToOrderDetailResponse(OrderDetailRow.from(document), items, historyDtos, enrichment);
                 })
                 .collect(Collectors.toList());
-
-        // Create a list of status history DTOs
-        List<OrderDetailResponse.OrderStatusTimestampDto> historyDtos = order.getStatusHistory().stream()
-                .map(timestamp -> OrderDetailResponse.OrderStatusTimestampDto.builder()
-                        .status(timestamp.getStatus())
-                        .updatedAt(timestamp.getUpdatedAt())
-                        .build())
-                .sorted(java.util.Comparator.comparing(OrderDetailResponse.OrderStatusTimestampDto::getUpdatedAt)) // Ensure chronological order
-                .collect(java.util.stream.Collectors.toList());
-
-        return OrderDetailResponse.builder()
-                .orderId(order.getOrderId())
-                .userId(order.getUserId())
-                .storeId(order.getStoreId())
-                .store(storeDetails)
-                .customerInfo(customerInfo)
-                .status(order.getStatus())
-                .originalAmount(order.getOriginalAmount())
-                .discountAmount(order.getDiscountAmount())
-                .totalAmount(order.getTotalAmount())
-                .recipientName(order.getRecipientName())
-                .paidAtUnix(order.getPaidAtUnix())
-                .items(itemResponses)
-                .payment(order.getPayment() != null ?
-                        OrderDetailResponse.PaymentResponse.builder()
-                                .paymentId(order.getPayment().getPaymentId())
-                                .pgProvider(order.getPayment().getPgProvider())
-                                .method(order.getPayment().getMethod())
-                                .amount(order.getPayment().getAmount())
-                                .status(order.getPayment().getStatus().name())
-                                .paidAt(order.getPayment().getPaidAt())
-                                .build() : null)
-                .createdAt(order.getCreatedAt())
-                .statusHistory(historyDtos)
-                .build();
     }
 
-    private OrderDetailResponse convertToOrderDetailResponse(Order order) {
-        // 서킷 브레이커로 매장 상세정보 조회
-        StoreResponseDto storeDetails = getStoreDetailsWithCircuitBreaker(order.getStoreId(), order.getUserId());
-
-        // 서킷 브레이커로 각 아이템의 상품 상세정보 조회
-        List<OrderDetailResponse.OrderItemResponse> itemResponses = order.getItems().stream()
-                .map(item -> {
-                    ProductResponseDto productDetails = getProductDetailsWithCircuitBreaker(item.getProductId(), order.getUserId());
-
-                    return OrderDetailResponse.OrderItemResponse.builder()
-                            .product(productDetails) // 전체 상품 상세정보
-                            .productId(item.getProductId())
-                            .productName(item.getProductName())
-                            .quantity(item.getQuantity())
-                            .price(item.getPrice())
-                            .totalPrice(item.getTotalPrice())
-                            .eventType(item.getEventType() != null ? item.getEventType().name() : null)
-                            .build();
-                })
+    private List<OrderItemRow> toItemRows(Order order) {
+        return order.getItems().stream()
+                .map(item -> OrderItemRow.from(order.getOrderId(), item))
                 .collect(Collectors.toList());
+    }
 
-        // Create a list of status history DTOs
-        List<OrderDetailResponse.OrderStatusTimestampDto> historyDtos = order.getStatusHistory().stream()
-                .map(timestamp -> OrderDetailResponse.OrderStatusTimestampDto.builder()
-                        .status(timestamp.getStatus())
-                        .updatedAt(timestamp.getUpdatedAt())
+    /**
+     * 운영 주문(엔티티/프로젝션)과 보관 주문이 공유하는 상세 응답 생성
+     */
+    private OrderDetailResponse buildOrderDetailResponse(OrderDetailRow row,
+                                                         List<OrderItemRow> items,
+                                                         List<OrderDetailResponse.OrderStatusTimestampDto> history,
+                                                         StoreResponseDto storeDetails,
+                                                         SiteUserInfoDto customerInfo,
+                                                         Function<Long, ProductResponseDto> productDetails) {
+        List<OrderDetailResponse.OrderItemResponse> itemResponses = items.stream()
+                .map(item -> OrderDetailResponse.OrderItemResponse.builder()
+                        .product(productDetails.apply(item.productId()))
+                        .productId(item.productId())
+                        .productName(item.productName())
+                        .quantity(item.quantity())
+                        .price(item.price())
+                        .totalPrice(item.totalPrice())
+                        .eventType(item.eventType() != null ? item.eventType().name() : null)
                         .build())
-                .sorted(java.util.Comparator.comparing(OrderDetailResponse.OrderStatusTimestampDto::getUpdatedAt)) // Ensure chronological order
-                .collect(java.util.stream.Collectors.toList());
+                .collect(Collectors.toList());
 
         return OrderDetailResponse.builder()
-                .orderId(order.getOrderId())
-                .userId(order.getUserId())
-                .storeId(order.getStoreId())
-                .store(storeDetails) // 전체 매장 상세정보
-                .status(order.getStatus())
-                .originalAmount(order.getOriginalAmount())
-                .discountAmount(order.getDiscountAmount())
-                .totalAmount(order.getTotalAmount())
-                .recipientName(order.getRecipientName())
-                .paidAtUnix(order.getPaidAtUnix())
+                .orderId(row.orderId())
+                .userId(row.userId())
+                .storeId(row.storeId())
+                .store(storeDetails)
+                .customerInfo(customerInfo)
+                .status(row.status())
+                .originalAmount(row.originalAmount())
+                .discountAmount(row.discountAmount())
+                .totalAmount(row.totalAmount())
+                .recipientName(row.recipientName())
+                .paidAtUnix(row.paidAtUnix())
                 .items(itemResponses)
-                .payment(order.getPayment() != null ?
+                .payment(row.paymentId() != null ?
                         OrderDetailResponse.PaymentResponse.builder()
-                                .paymentId(order.getPayment().getPaymentId())
-                                .pgProvider(order.getPayment().getPgProvider())
-                                .method(order.getPayment().getMethod())
-                                .amount(order.getPayment().getAmount())
-                                .status(order.getPayment().getStatus().name())
-                                .paidAt(order.getPayment().getPaidAt())
+                                .paymentId(row.paymentId())
+                                .pgProvider(row.pgProvider())
+                                .method(row.paymentMethod())
+                                .amount(row.paymentAmount())
+                                .status(row.paymentStatus() != null ? row.paymentStatus().name() : null)
+                                .paidAt(row.paidAt())
                                 .build() : null)
-                .createdAt(order.getCreatedAt())
-                .statusHistory(historyDtos)
+                .createdAt(row.createdAt())
+                .statusHistory(history)
                 .build();
     }
 
@@ -738,85 +737,17 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Circuit breaker로 보호되는 스토어 정보 조회
-     */
-    @CircuitBreaker(name = "downstreamServices", fallbackMethod = "getStoreDetailsFallback")
-    private StoreResponseDto getStoreDetailsWithCircuitBreaker(Long storeId, Long userId) {
-        ApiResponseDto<StoreResponseDto> storeResponse = storeClient.getStoreById(storeId, userId);
-        return storeResponse.getData();
-    }
-
-    /**
-     * Circuit breaker로 보호되는 상품 정보 조회
-     */
-    @CircuitBreaker(name = "downstreamServices", fallbackMethod = "getProductDetailsFallback")
-    private ProductResponseDto getProductDetailsWithCircuitBreaker(Long productId, Long userId) {
-        ApiResponseDto<ProductResponseDto> productResponse = productClient.getProductById(productId, userId);
-        return productResponse.getData();
-    }
-
-    /**
-     * 스토어 정보 조회 폴백 메서드
-     */
-    private StoreResponseDto getStoreDetailsFallback(Long storeId, Long userId, Exception ex) {
-        log.warn("Circuit breaker activated for store details - Store ID: {}, User ID: {}. Using fallback data.", storeId, userId, ex);
-
-        StoreResponseDto fallbackStore = new StoreResponseDto();
-        fallbackStore.setStoreId(storeId);
-        fallbackStore.setStoreName("매장 정보 일시 불가");
-        fallbackStore.setDescription("매장 정보를 불러올 수 없습니다.");
-        fallbackStore.setStoreAddress("주소 정보 없음");
-        fallbackStore.setContactNo("연락처 정보 없음");
-        fallbackStore.setWorkingHour("영업시간 정보 없음");
-        fallbackStore.setLatitude(0.0);
-        fallbackStore.setLongitude(0.0);
-        fallbackStore.setFallback(true);
-
-        return fallbackStore;
-    }
-
-    /**
-     * 상품 정보 조회 폴백 메서드
+     * 비동기 클라이언트 응답을 기다리고, 실패하면 원래 예외(StoreServiceException, NotFound 등)를 그대로 던집니다
      */
-    private ProductResponseDto getProductDetailsFallback(Long productId, Long userId, Exception ex) {
-        log.warn("Circuit breaker activated for product details - Product ID: {}, User ID: {}. Using fallback data.", productId, userId, ex);
-
-        ProductResponseDto fallbackProduct = new ProductResponseDto();
-        fallbackProduct.setProductId(productId);
-        fallbackProduct.setProductName("상품 정보 일시 불가");
-        fallbackProduct.setDescription("상품 정보를 불러올 수 없습니다.");
-        fallbackProduct.setOriginPrice(0);
-        fallbackProduct.setSalePrice(0);
-        fallbackProduct.setStock(0);
-        fallbackProduct.setFallback(true);
-
-        return fallbackProduct;
-    }
-
-    /**
-     * 벌크 스토어 데이터 조회 폴백 메서드
-     */
-    private Map<Long, StoreResponseDto> getBulkStoreDataFallback(Set<Long> storeIds, Long userId, Exception ex) {
-        log.warn("Circuit breaker activated for bulk store data - Store IDs: {}, User ID: {}. Using fallback data.", storeIds, userId, ex);
-
-        return storeIds.stream()
-                .collect(Collectors.toMap(
-                        storeId -> storeId,
-                        this::createFallbackStoreData
-                ));
-    }
-
-    /**
-     * 벌크 상품 데이터 조회 폴백 메서드
-     */
-    private Map<Long, ProductResponseDto> getBulkProductDataFallback(Set<Long> productIds, Long userId, Exception ex) {
-        log.warn("Circuit breaker activated for bulk product data - Product IDs: {}, User ID: {}. Using fallback data.", productIds, userId, ex);
-
-        return productIds.stream()
-                .collect(Collectors.toMap(
-                        productId -> productId,
-                        this::createFallbackProductData
-                ));
+    private static <T> T awaitRemote(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     /**
@@ -847,6 +778,7 @@ public class OrderServiceImpl implements OrderService {
         fallbackProduct.setOriginPrice(0);
         fallbackProduct.setSalePrice(0);
         fallbackProduct.setStock(0);
+        fallbackProduct.setFallback(true);
         return fallbackProduct;
     }
 
@@ -889,18 +821,6 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
-    /**
-     * 벌크 사용자 데이터 조회 실패 시 폴백 메서드
-     */
-    private Map<Long, SiteUserInfoDto> getBulkUserDataFallback(Set<Long> userIds, Exception ex) {
-        log.warn("Bulk user data fetch failed, using fallback data for {} users", userIds.size(), ex);
-        return userIds.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        this::createFallbackUserData
-                ));
-    }
-
     @Override
     public UserOrderSummaryDto getUserOrderSummary(Long userId) {
         // DB에서 실제 데이터를 조회하는 로직
@@ -931,6 +851,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @AnalyticsQuery
     public StoreOrderSummaryResponseDto getStoreOrderSummary(Long ownerUserId, Long storeId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
         log.info("Getting store order summary for ownerUserId: {}, storeId: {}, startDate: {}, endDate: {}", 
                  ownerUserId, storeId, startDate, endDate);
@@ -1023,17 +944,15 @@ public class OrderServiceImpl implements OrderService {
                 .map(row -> (String) row[0])
                 .collect(Collectors.toList());
 
-        // Call the DESC-sorted details method to maintain newest-first ordering.
-        List<Order> ordersWithDetails = orderRepository.findWithDetailsInDesc(orderIds);
-        
-        // Reuse the existing helper method to convert entities to DTOs.
-        List<OrderDetailResponse> orderDetailResponses = convertToOrderDetailResponseList(ordersWithDetails);
+        // Load read-only rows (newest first) and build the DTOs directly, without managed entities.
+        List<OrderDetailResponse> orderDetailResponses = loadOrderDetailResponses(orderIds);
 
         // 4. Assemble and return the final Page object.
         return new PageImpl<>(orderDetailResponses, pageable, orderDataPage.getTotalElements());
     }
 
     @Override
+    @AnalyticsQuery
     public Page<BestsellerProductResponseDto> getNearbyBestsellers(double latitude, double longitude, Pageable pageable) {
         log.info("Getting nearby bestsellers for coordinates: lat={}, lng={}, pageable={}", latitude, longitude, pageable);
 
@@ -1095,30 +1014,63 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional
-    public void cancelStalePendingOrders() {
-        // 1. Set the cutoff time (e.g., 15 minutes before the current time)
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(15);
+    @RetryOnConflict(transition = "expire")
+    public StaleOrderChunkResult cancelStalePendingOrders(LocalDateTime cutoffTime, int limit, Collection<String> excludedOrderIds) {
+        // 1. Claim a bounded chunk of stale orders; rows locked by another replica are skipped,
+        //    and orders that already failed in this sweep run are left for the next run
+        List<String> claimedOrderIds = excludedOrderIds.isEmpty()
+                ? orderRepository.claimStalePendingOrderIds(cutoffTime, limit)
+                : orderRepository.claimStalePendingOrderIdsExcluding(cutoffTime, limit, excludedOrderIds);
+
+        return new StaleOrderChunkResult(claimedOrderIds.size(), expireClaimedOrders(claimedOrderIds));
+    }
 
-        // 2. Find all target stale orders
-        List<Order> staleOrders = orderRepository.findStalePendingOrders(cutoffTime);
+    @Override
+    @Transactional
+    @RetryOnConflict(transition = "expire")
+    public StaleOrderChunkResult expirePendingOrders(List<String> orderIds, LocalDateTime now) {
+        if (orderIds.isEmpty()) {
+            return new StaleOrderChunkResult(0, 0);
+        }
 
-        if (staleOrders.isEmpty()) {
-            log.info("No stale pending orders to clean up.");
-            return;
+        // Lock only orders that are still PENDING and past their deadline; paid or cancelled orders drop out here
+        List<String> claimedOrderIds = orderRepository.claimExpiredPendingOrderIds(orderIds, now);
+
+        return new StaleOrderChunkResult(claimedOrderIds.size(), expireClaimedOrders(claimedOrderIds));
+    }
+
+    private int expireClaimedOrders(List<String> claimedOrderIds) {
+        if (claimedOrderIds.isEmpty()) {
+            return 0;
         }
 
-        log.warn("Automatically cancelling {} stale pending orders.", staleOrders.size());
+        // 2. Load the claimed orders with their items in a single query (needed for stock restoration)
+        List<Order> staleOrders = orderRepository.findWithDetailsIn(claimedOrderIds);
 
+        int expired = 0;
         // 3. For each stale order, mark as 'FAILED' and publish a stock restoration event
         for (Order order : staleOrders) {
-            // 3-1. Change order status to 'FAILED' and record history
-            updateOrderStatusAndCreateHistory(order, OrderStatus.FAILED);
+            if (order.getStatus() != OrderStatus.PENDING) {
+                continue;
+            }
 
-            // 3-2. Publish a Kafka event to restore the pre-allocated stock
-            // The increaseStock method in ProductStockServiceImpl publishes the Kafka event
-            productStockService.increaseStock(order);
+            try {
+                // 3-1. Change order status to 'FAILED' and record history
+                orderStateMachine.transition(order, OrderStatus.FAILED);
+
+                // 3-2. Publish a Kafka event to restore the pre-allocated stock
+                // The increaseStock method in ProductStockServiceImpl publishes the Kafka event
+                productStockService.increaseStock(order);
+            } catch (OptimisticLockingFailureException e) {
+                throw e; // the whole chunk is retried by @RetryOnConflict
+            } catch (RuntimeException e) {
+                // Name the failing order so the sweep can skip it instead of re-claiming it at the head of every chunk
+                throw new StaleOrderExpiryException(order.getOrderId(), e);
+            }
+            expired++;
 
             log.info("Order ID '{}' has been automatically cancelled, and a stock restoration event has been published.", order.getOrderId());
         }
+        return expired;
     }
 }
\ No newline at end of file
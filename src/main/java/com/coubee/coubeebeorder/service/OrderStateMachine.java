@@ -0,0 +1,244 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.exception.InvalidStatusTransitionException;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상태 전이 규칙과 전이 부수효과를 한곳에서 관리하는 상태 머신
+ *
+ * 전이 표는 EnumMap으로 정의하고, 시작 시 상태별 비트마스크(long[])로 미리 계산해 둡니다.
+ * 허용된 전이의 검사, 상태 변경, 메트릭 기록은 객체를 새로 만들지 않으며,
+ * 리스너에 넘길 OrderTransition은 목표 상태에 SYNC 또는 AFTER_COMMIT 리스너가 있을 때만 만듭니다.
+ * AFTER_COMMIT 리스너는 트랜잭션마다 커밋된 전이를 모아 리스너별로 한 번씩 호출합니다 (일괄 상태 변경 시 알림 일괄 발행).
+ *
+ * Metrics:
+ * - order.transitions{from,to}: 적용된 전이 수
+ * - order.transitions.rejected{from,to}: 표에 없어 거절된 전이 수
+ * - order.transitions.forced{from,to}: 표에 없지만 내부 경로(force)로 강제 적용된 전이 수
+ */
+@Slf4j
+@Component
+public class OrderStateMachine {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+    private static final long[] ALLOWED = new long[STATUSES.length];
+    private static final OrderTransitionListener[] NO_LISTENERS = new OrderTransitionListener[0];
+
+    static {
+        define(OrderStatus.PENDING, OrderStatus.PAID, OrderStatus.CANCELLED_USER, OrderStatus.CANCELLED_ADMIN, OrderStatus.FAILED);
+        define(OrderStatus.PAID, OrderStatus.PREPARING, OrderStatus.CANCELLED_USER, OrderStatus.CANCELLED_ADMIN, OrderStatus.FAILED);
+        define(OrderStatus.PREPARING, OrderStatus.PREPARED, OrderStatus.CANCELLED_USER, OrderStatus.CANCELLED_ADMIN, OrderStatus.FAILED);
+        define(OrderStatus.PREPARED, OrderStatus.RECEIVED, OrderStatus.CANCELLED_USER, OrderStatus.CANCELLED_ADMIN);
+        // 종료 상태(RECEIVED, CANCELLED_USER, CANCELLED_ADMIN, FAILED)에서는 어떤 전이도 허용하지 않습니다
+        for (OrderStatus status : STATUSES) {
+            TRANSITIONS.putIfAbsent(status, Collections.unmodifiableSet(EnumSet.noneOf(OrderStatus.class)));
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Counter[][] transitionCounters = new Counter[STATUSES.length][STATUSES.length];
+    private final OrderTransitionListener[][] syncListeners = new OrderTransitionListener[STATUSES.length][];
+    private final OrderTransitionListener[] afterCommitListeners;
+    private final long[] afterCommitTargets; // afterCommitListeners[i]가 반응하는 목표 상태 비트마스크
+    private final long afterCommitStatuses;   // AFTER_COMMIT 리스너가 하나라도 있는 목표 상태 비트마스크
+
+    public OrderStateMachine(List<OrderTransitionListener> listeners, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (OrderStatus to : STATUSES) {
+            syncListeners[to.ordinal()] = select(listeners, OrderTransitionListener.Phase.SYNC, to);
+        }
+        List<OrderTransitionListener> afterCommit = new ArrayList<>();
+        for (OrderTransitionListener listener : listeners) {
+            if (listener.phase() == OrderTransitionListener.Phase.AFTER_COMMIT) {
+                afterCommit.add(listener);
+            }
+        }
+        this.afterCommitListeners = afterCommit.toArray(NO_LISTENERS);
+        this.afterCommitTargets = new long[afterCommitListeners.length];
+        long statuses = 0L;
+        for (int i = 0; i < afterCommitListeners.length; i++) {
+            for (OrderStatus to : STATUSES) {
+                if (afterCommitListeners[i].supports(to)) {
+                    afterCommitTargets[i] |= 1L << to.ordinal();
+                }
+            }
+            statuses |= afterCommitTargets[i];
+        }
+        this.afterCommitStatuses = statuses;
+        for (OrderStatus from : STATUSES) {
+            for (OrderStatus to : TRANSITIONS.get(from)) {
+                transitionCounters[from.ordinal()][to.ordinal()] = Counter.builder("order.transitions")
+                        .description("Number of applied order status transitions")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public static boolean canTransition(OrderStatus from, OrderStatus to) {
+        return (ALLOWED[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * 주어진 상태에서 이동할 수 있는 상태 목록 (읽기 전용)
+     */
+    public static Set<OrderStatus> allowedTargets(OrderStatus from) {
+        return TRANSITIONS.get(from);
+    }
+
+    /**
+     * 전이가 표에 없으면 InvalidStatusTransitionException을 던집니다. 상태는 바꾸지 않습니다.
+     */
+    public void validate(OrderStatus from, OrderStatus to) {
+        if (!canTransition(from, to)) {
+            meterRegistry.counter("order.transitions.rejected", "from", from.name(), "to", to.name()).increment();
+            throw new InvalidStatusTransitionException(from, to);
+        }
+    }
+
+    /**
+     * 전이 규칙을 검사한 뒤 상태를 바꾸고 리스너를 실행합니다.
+     */
+    public void transition(Order order, OrderStatus to) {
+        OrderStatus from = order.getStatus();
+        validate(from, to);
+        apply(order, from, to);
+    }
+
+    /**
+     * 전이 규칙 검사 없이 상태를 바꾸고 리스너를 실행합니다.
+     * 결제 웹훅처럼 외부 시스템의 결과를 그대로 반영해야 하는 내부 경로 전용이며, 표에 없는 전이는 경고와 메트릭으로 남깁니다.
+     */
+    public void force(Order order, OrderStatus to) {
+        OrderStatus from = order.getStatus();
+        if (!canTransition(from, to)) {
+            log.warn("Forcing order {} through a transition outside the table: {} -> {}", order.getOrderId(), from, to);
+            meterRegistry.counter("order.transitions.forced", "from", String.valueOf(from), "to", to.name()).increment();
+        }
+        apply(order, from, to);
+    }
+
+    private void apply(Order order, OrderStatus from, OrderStatus to) {
+        order.updateStatus(to);
+        if (from != null) {
+            Counter counter = transitionCounters[from.ordinal()][to.ordinal()];
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+
+        OrderTransitionListener[] listeners = syncListeners[to.ordinal()];
+        boolean afterCommit = (afterCommitStatuses & (1L << to.ordinal())) != 0;
+        if (listeners.length == 0 && !afterCommit) {
+            return;
+        }
+
+        OrderTransition transition = new OrderTransition(order, from, to);
+        for (OrderTransitionListener listener : listeners) {
+            listener.onTransition(transition);
+        }
+
+        if (!afterCommit) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(List.of(transition));
+            return;
+        }
+        CommittedTransitions committed = currentCommittedTransitions();
+        if (committed == null) {
+            committed = new CommittedTransitions();
+            TransactionSynchronizationManager.registerSynchronization(committed);
+        }
+        committed.transitions.add(transition);
+    }
+
+    /**
+     * 현재 트랜잭션에 이미 등록된 전이 모음. REQUIRES_NEW로 일시 중단된 바깥 트랜잭션의 것은 보이지 않습니다.
+     */
+    private CommittedTransitions currentCommittedTransitions() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CommittedTransitions committed && committed.owner() == this) {
+                return committed;
+            }
+        }
+        return null;
+    }
+
+    private void runAfterCommit(List<OrderTransition> transitions) {
+        for (int i = 0; i < afterCommitListeners.length; i++) {
+            OrderTransitionListener listener = afterCommitListeners[i];
+            List<OrderTransition> batch = new ArrayList<>(transitions.size());
+            for (OrderTransition transition : transitions) {
+                if ((afterCommitTargets[i] & (1L << transition.to().ordinal())) != 0) {
+                    batch.add(transition);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                listener.onTransitions(batch);
+            } catch (Exception e) {
+                // 이미 커밋된 전이는 되돌릴 수 없으므로 다음 리스너를 계속 실행합니다
+                log.error("After-commit transition listener {} failed for {} transition(s), first order {}",
+                        listener.getClass().getSimpleName(), batch.size(), batch.get(0).order().getOrderId(), e);
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 일어난 전이를 모아 두었다가 커밋 후 AFTER_COMMIT 리스너에 전달합니다.
+     */
+    private final class CommittedTransitions implements TransactionSynchronization {
+
+        private final List<OrderTransition> transitions = new ArrayList<>();
+
+        private OrderStateMachine owner() {
+            return OrderStateMachine.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            runAfterCommit(transitions);
+        }
+    }
+
+    private static OrderTransitionListener[] select(List<OrderTransitionListener> listeners,
+                                                    OrderTransitionListener.Phase phase,
+                                                    OrderStatus to) {
+        List<OrderTransitionListener> selected = new ArrayList<>();
+        for (OrderTransitionListener listener : listeners) {
+            if (listener.phase() == phase && listener.supports(to)) {
+                selected.add(listener);
+            }
+        }
+        return selected.isEmpty() ? NO_LISTENERS : selected.toArray(NO_LISTENERS);
+    }
+
+    private static void define(OrderStatus from, OrderStatus... targets) {
+        EnumSet<OrderStatus> allowed = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus to : targets) {
+            allowed.add(to);
+            ALLOWED[from.ordinal()] |= 1L << to.ordinal();
+        }
+        TRANSITIONS.put(from, Collections.unmodifiableSet(allowed));
+    }
+}
@@ -0,0 +1,49 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.dto.OrderDetailResponse;
+import com.coubee.coubeebeorder.domain.projection.OrderStatusRow;
+import com.coubee.coubeebeorder.domain.repository.OrderTimestampRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 여러 주문의 상태 변경 이력을 한 번의 쿼리로 불러옵니다.
+ *
+ * DB가 (order_id, updated_at) 순서로 정렬해 주므로 결과를 스트리밍하면서 주문별 목록에 그대로 추가하면
+ * 각 목록은 이미 시간순입니다. 응답 변환 시 Java 정렬이나 statusHistory 지연 로딩이 필요 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusHistoryLoader {
+
+    private final OrderTimestampRepository orderTimestampRepository;
+
+    /**
+     * @param orderIds 주문 ID 목록
+     * @return 주문 ID별 상태 이력 (시간순). 이력이 없는 주문은 포함되지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<OrderDetailResponse.OrderStatusTimestampDto>> load(Collection<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<OrderDetailResponse.OrderStatusTimestampDto>> historyByOrderId = new HashMap<>();
+        try (Stream<OrderStatusRow> rows = orderTimestampRepository.streamRowsByOrderIdIn(orderIds)) {
+            rows.forEach(row -> historyByOrderId.computeIfAbsent(row.orderId(), orderId -> new ArrayList<>())
+                    .add(OrderDetailResponse.OrderStatusTimestampDto.builder()
+                            .status(row.status())
+                            .updatedAt(row.updatedAt())
+                            .build()));
+        }
+        return historyByOrderId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.OrderTimestamp;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 상태 전이에 대해 같은 트랜잭션 안에서 상태 이력(order_timestamp) 행을 추가합니다.
+ */
+@Slf4j
+@Component
+@Order(0)
+public class OrderStatusHistoryRecorder implements OrderTransitionListener {
+
+    @Override
+    public void onTransition(OrderTransition transition) {
+        transition.order().addStatusHistory(OrderTimestamp.createTimestamp(transition.order(), transition.to()));
+        log.debug("Status history recorded for order {}: {}", transition.order().getOrderId(), transition.to());
+    }
+}
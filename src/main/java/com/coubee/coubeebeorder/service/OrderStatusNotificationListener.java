@@ -0,0 +1,112 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
+import com.coubee.coubeebeorder.kafka.producer.notification.event.OrderNotificationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조리 시작/완료 및 취소 전이가 커밋된 뒤 고객 알림 이벤트를 발행합니다.
+ *
+ * - 롤백된 전이에 대해서는 알림을 보내지 않습니다.
+ * - 매장 이름은 주문에 비정규화된 orders.store_name을 사용하므로 원격 호출이 없습니다.
+ * - Kafka 발행은 notificationExecutor(고정 크기 풀 + 제한된 큐)에서 실행되어 요청 스레드를 붙잡지 않습니다.
+ *   한 트랜잭션의 알림은 하나의 작업으로 묶이며, 큐가 가득 차면 알림을 버리고 메트릭으로 남깁니다.
+ *
+ * Metrics:
+ * - order.notifications{status, result=published|failed|rejected}
+ */
+@Slf4j
+@Component
+public class OrderStatusNotificationListener implements OrderTransitionListener {
+
+    static final String FALLBACK_STORE_NAME = "매장";
+
+    private final KafkaMessageProducer kafkaMessageProducer;
+    private final TaskExecutor notificationExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public OrderStatusNotificationListener(KafkaMessageProducer kafkaMessageProducer,
+                                           @Qualifier("notificationExecutor") TaskExecutor notificationExecutor,
+                                           MeterRegistry meterRegistry) {
+        this.kafkaMessageProducer = kafkaMessageProducer;
+        this.notificationExecutor = notificationExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Phase phase() {
+        return Phase.AFTER_COMMIT;
+    }
+
+    @Override
+    public boolean supports(OrderStatus to) {
+        return to == OrderStatus.PREPARING || to == OrderStatus.PREPARED
+                || to == OrderStatus.CANCELLED_USER || to == OrderStatus.CANCELLED_ADMIN;
+    }
+
+    @Override
+    public void onTransition(OrderTransition transition) {
+        onTransitions(List.of(transition));
+    }
+
+    /**
+     * 한 트랜잭션에서 커밋된 알림을 하나의 작업으로 묶어 발행합니다 (일괄 상태 변경 시 주문 수만큼 작업을 만들지 않음).
+     */
+    @Override
+    public void onTransitions(List<OrderTransition> transitions) {
+        // 엔티티를 다른 스레드로 넘기지 않도록 커밋한 스레드에서 이벤트를 만들어 둡니다
+        List<PendingNotification> notifications = new ArrayList<>(transitions.size());
+        for (OrderTransition transition : transitions) {
+            Order order = transition.order();
+            String storeName = order.getStoreName() != null ? order.getStoreName() : FALLBACK_STORE_NAME;
+            notifications.add(new PendingNotification(createNotification(order, transition.to(), storeName), transition.to(), storeName));
+        }
+        try {
+            notificationExecutor.execute(() -> notifications.forEach(this::publish));
+        } catch (TaskRejectedException e) {
+            for (PendingNotification notification : notifications) {
+                meterRegistry.counter("order.notifications", "status", notification.status().name(), "result", "rejected").increment();
+            }
+            log.warn("주문 상태 변경 알림 대기열이 가득 차 알림 {}건을 보내지 못했습니다 - 첫 주문: {}",
+                    notifications.size(), notifications.get(0).event().getOrderId());
+        }
+    }
+
+    private void publish(PendingNotification notification) {
+        OrderNotificationEvent notificationEvent = notification.event();
+        OrderStatus status = notification.status();
+        try {
+            kafkaMessageProducer.publishOrderNotificationEvent(notificationEvent);
+            meterRegistry.counter("order.notifications", "status", status.name(), "result", "published").increment();
+            log.info("주문 상태 변경 알림 이벤트 발행 완료 - 주문: {}, 상태: {}, 매장: {}",
+                    notificationEvent.getOrderId(), status, notification.storeName());
+        } catch (Exception e) {
+            meterRegistry.counter("order.notifications", "status", status.name(), "result", "failed").increment();
+            log.error("주문 상태 변경 알림 이벤트 발행 실패 - 주문: {}, 상태: {}",
+                    notificationEvent.getOrderId(), status, e);
+        }
+    }
+
+    private static OrderNotificationEvent createNotification(Order order, OrderStatus status, String storeName) {
+        return switch (status) {
+            case PREPARING -> OrderNotificationEvent.createPreparingNotification(order.getOrderId(), order.getUserId(), storeName);
+            case PREPARED -> OrderNotificationEvent.createPreparedNotification(order.getOrderId(), order.getUserId(), storeName);
+            case CANCELLED_USER -> OrderNotificationEvent.createCancelledUserNotification(order.getOrderId(), order.getUserId(), storeName);
+            case CANCELLED_ADMIN -> OrderNotificationEvent.createCancelledAdminNotification(order.getOrderId(), order.getUserId(), storeName);
+            default -> throw new IllegalArgumentException("No notification for status " + status);
+        };
+    }
+
+    private record PendingNotification(OrderNotificationEvent event, OrderStatus status, String storeName) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수령 완료 시 선점 재고를 최종 소진 처리합니다 (이후 재고 복원 대상에서 제외).
+ * 재고 예약 갱신이 실패하면 수령 처리도 롤백되도록 같은 트랜잭션에서 실행합니다.
+ */
+@Component
+@Order(100)
+@RequiredArgsConstructor
+public class OrderStockConsumptionListener implements OrderTransitionListener {
+
+    private final ProductStockService productStockService;
+
+    @Override
+    public boolean supports(OrderStatus to) {
+        return to == OrderStatus.RECEIVED;
+    }
+
+    @Override
+    public void onTransition(OrderTransition transition) {
+        productStockService.consumeStock(transition.order());
+    }
+}
@@ -0,0 +1,16 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+
+/**
+ * 한 번의 주문 상태 전이
+ *
+ * 커밋 후 리스너가 실행될 때 주문의 상태가 이미 다시 바뀌었을 수 있으므로, 전이 당시의 상태를 함께 보관합니다.
+ *
+ * @param order 상태가 바뀐 주문
+ * @param from 이전 상태
+ * @param to 새 상태
+ */
+public record OrderTransition(Order order, OrderStatus from, OrderStatus to) {
+}
@@ -0,0 +1,44 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.OrderStatus;
+
+import java.util.List;
+
+/**
+ * 주문 상태 전이에 반응하는 리스너
+ *
+ * 빈으로 등록하면 {@link OrderStateMachine}이 자동으로 모읍니다. 같은 단계 안에서는 @Order 순서대로 실행됩니다.
+ * - SYNC: 상태 변경과 같은 트랜잭션 안에서 즉시 실행됩니다. 예외가 나면 전이 전체가 롤백됩니다.
+ * - AFTER_COMMIT: 트랜잭션이 커밋된 뒤 실행됩니다. 롤백되면 실행되지 않으며, 예외는 전이 결과에 영향을 주지 않습니다.
+ *   한 트랜잭션에서 일어난 전이는 커밋 후 {@link #onTransitions(List)}로 한 번에 전달됩니다.
+ */
+public interface OrderTransitionListener {
+
+    enum Phase {
+        SYNC,
+        AFTER_COMMIT
+    }
+
+    default Phase phase() {
+        return Phase.SYNC;
+    }
+
+    /**
+     * 이 리스너가 반응할 목표 상태인지 여부. 상태 머신 생성 시 한 번만 호출됩니다.
+     */
+    default boolean supports(OrderStatus to) {
+        return true;
+    }
+
+    void onTransition(OrderTransition transition);
+
+    /**
+     * 한 트랜잭션에서 커밋된 전이 목록(발생 순서)을 받습니다. AFTER_COMMIT 리스너에만 사용됩니다.
+     * 묶어서 처리할 수 있는 리스너(예: 알림 일괄 발행)는 재정의합니다.
+     */
+    default void onTransitions(List<OrderTransition> transitions) {
+        for (OrderTransition transition : transitions) {
+            onTransition(transition);
+        }
+    }
+}
@@ -12,8 +12,18 @@ public interface PaymentService {
     Object getPaymentStatus(String paymentId);
 
     // 시그니처를 webhookId, signature, timestamp, requestBody를 받도록 수정합니다
+    // 서명 검증 후 처리가 필요한 웹훅을 수신함에 저장하고 즉시 반환합니다 (실제 처리는 WebhookInboxWorker)
     boolean handlePaymentWebhook(String webhookId, String signature, String timestamp, String requestBody);
 
+    /**
+     * 수신함에 저장된 'Transaction.Paid' 웹훅을 주문/결제 상태에 반영합니다.
+     * 이미 결제 완료된 주문이면 아무 작업도 하지 않습니다.
+     *
+     * @param orderId 주문 ID (PortOne paymentId)
+     * @param transactionId PortOne 거래 ID
+     */
+    void processPaidWebhook(String orderId, String transactionId);
+
     // 반환 타입을 SDK의 DTO로 변경합니다
     Object verifyPayment(String paymentId);
 
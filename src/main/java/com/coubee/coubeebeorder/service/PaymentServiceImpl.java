@@ -2,9 +2,12 @@ package com.coubee.coubeebeorder.service;
 
 import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
 import com.coubee.coubeebeorder.common.exception.ApiError;
+import com.coubee.coubeebeorder.common.exception.InvalidStatusTransitionException;
 import com.coubee.coubeebeorder.common.exception.NotFound;
+import com.coubee.coubeebeorder.config.RetryOnConflict;
 import com.coubee.coubeebeorder.domain.EventType;
 import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderIdRegistration;
 import com.coubee.coubeebeorder.domain.OrderItem;
 import com.coubee.coubeebeorder.domain.OrderStatus;
 // 우리 도메인 Payment는 명시적으로 import 합니다
@@ -12,6 +15,7 @@ import com.coubee.coubeebeorder.domain.Payment;
 import com.coubee.coubeebeorder.domain.PaymentStatus;
 import com.coubee.coubeebeorder.domain.dto.PaymentReadyRequest;
 import com.coubee.coubeebeorder.domain.dto.PaymentReadyResponse;
+import com.coubee.coubeebeorder.domain.repository.OrderIdRegistrationRepository;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository;
 import com.coubee.coubeebeorder.domain.repository.PaymentRepository;
 import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
@@ -23,8 +27,10 @@ import com.coubee.coubeebeorder.remote.store.StoreResponseDto;
 import com.coubee.coubeebeorder.remote.product.ProductClient;
 import com.coubee.coubeebeorder.remote.product.ProductResponseDto;
 import com.coubee.coubeebeorder.util.PortOneWebhookVerifier;
-import com.coubee.coubeebeorder.domain.ProcessedWebhook;
+import com.coubee.coubeebeorder.util.RecentWebhookIdFilter;
+import com.coubee.coubeebeorder.domain.WebhookInbox;
 import com.coubee.coubeebeorder.domain.repository.ProcessedWebhookRepository;
+import com.coubee.coubeebeorder.domain.repository.WebhookInboxRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.portone.sdk.server.payment.PaymentClient;
 import io.portone.sdk.server.payment.PaymentMethod;
@@ -32,9 +38,13 @@ import io.portone.sdk.server.payment.PaidPayment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
@@ -48,17 +58,21 @@ import java.time.LocalDateTime;
 public class PaymentServiceImpl implements PaymentService {
 
     private final OrderRepository orderRepository;
+    private final OrderIdRegistrationRepository orderIdRegistrationRepository;
     private final PaymentRepository paymentRepository;
     private final ProcessedWebhookRepository processedWebhookRepository;
+    private final WebhookInboxRepository webhookInboxRepository;
     private final OrderService orderService;
     private final ProductStockService productStockService;
     private final KafkaMessageProducer kafkaMessageProducer;
     private final PortOneWebhookVerifier webhookVerifier;
+    private final RecentWebhookIdFilter recentWebhookIdFilter;
     private final ObjectMapper objectMapper;
     private final PaymentClient portonePaymentClient;
     private final StoreClient storeClient;
     private final ProductClient productClient;
     private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional
@@ -68,6 +82,11 @@ public class PaymentServiceImpl implements PaymentService {
         Order order = orderRepository.findByOrderId(orderId)
                 .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다. Order ID: " + orderId));
 
+        // 결제 대기 중인 주문만 재고를 선점할 수 있습니다 (취소/만료된 주문의 재고 재차감 방지)
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new InvalidStatusTransitionException(order.getStatus(), OrderStatus.PAID);
+        }
+
         // 재고 감소 처리 - 결제 준비 시점에 재고를 선점합니다.
         // InsufficientStockException이 발생하면 결제 준비 과정이 중단됩니다.
         log.info("재고 감소 처리 시작 - 주문 ID: {}", orderId);
@@ -100,7 +119,10 @@ public class PaymentServiceImpl implements PaymentService {
             log.error("Payment preparation failed after stock decrement for order: {}. Executing compensating transaction.", orderId, e);
 
             try {
-                productStockService.increaseStock(order);
+                // 이 트랜잭션은 롤백되므로 복원(원장 전이와 이벤트 발행)은 별도 트랜잭션으로 커밋합니다
+                TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+                requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                requiresNew.executeWithoutResult(status -> productStockService.increaseStock(order));
                 log.info("Compensating transaction completed: stock restored for order: {}", orderId);
             } catch (Exception compensationException) {
                 log.error("CRITICAL: Compensating transaction failed for order: {}. Manual intervention required.", orderId, compensationException);
@@ -136,16 +158,20 @@ public class PaymentServiceImpl implements PaymentService {
             }
             log.info("Webhook signature verified successfully for webhook ID: {}", webhookId);
 
-            // 2. 웹훅 ID 기반 멱등성 체크 - 데이터베이스에 저장 시도
+            // 2. 웹훅 ID 기반 멱등성 체크 - 최근 처리 목록(메모리) 확인 후 데이터베이스에 조건부 저장
             if (webhookId != null && !webhookId.isBlank()) {
-                try {
-                    ProcessedWebhook processedWebhook = ProcessedWebhook.create(webhookId);
-                    processedWebhookRepository.save(processedWebhook);
-                    log.info("웹훅 ID 저장 성공 - 새로운 웹훅 처리 시작: {}", webhookId);
-                } catch (DataIntegrityViolationException e) {
+                if (recentWebhookIdFilter.mightContain(webhookId)) {
+                    log.info("최근 처리된 웹훅입니다 (메모리). 멱등성 보장으로 성공 응답 반환: webhookId={}", webhookId);
+                    return true;
+                }
+                if (processedWebhookRepository.insertIfAbsent(webhookId, LocalDateTime.now()) == 0) {
+                    // 다른 트랜잭션에서 이미 커밋된 ID이므로 바로 기록합니다
+                    recentWebhookIdFilter.record(webhookId);
                     log.warn("이미 처리된 웹훅입니다. 멱등성 보장으로 성공 응답 반환: webhookId={}", webhookId);
                     return true; // 이미 처리된 웹훅이므로 성공으로 응답
                 }
+                recordWebhookIdAfterCommit(webhookId);
+                log.info("웹훅 ID 저장 성공 - 새로운 웹훅 처리 시작: {}", webhookId);
             } else {
                 log.warn("웹훅 ID가 없습니다. 멱등성 체크를 건너뜁니다.");
             }
@@ -161,42 +187,13 @@ public class PaymentServiceImpl implements PaymentService {
                 return false;
             }
 
-            // 임시 해결책: S2S 검증 건너뛰고 웹훅 이벤트만 믿고 처리
-            // TODO: 테스트 모드 API 키 적용 후 서버 간 검증 로직 복원 필요
-            log.info("임시 해결책: S2S 검증 건너뛰고 웹훅 이벤트 기반으로 결제 상태 업데이트");
-
             // 웹훅 이벤트 타입에 따라 처리
             String eventType = payload.getType();
             if ("Transaction.Paid".equals(eventType)) {
-                log.info("Processing 'Transaction.Paid' event for order (merchant_uid): {}, PortOne tx_id: {}", merchantUid, transactionId);
-                
-                // 1. 이 주 트랜잭션 내에서 먼저 모든 DB 업데이트를 수행합니다.
-                Order order = orderRepository.findByOrderId(merchantUid)
-                        .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다: " + merchantUid));
-                
-                Payment payment = paymentRepository.findByOrder_OrderId(merchantUid).orElseGet(() -> {
-                    log.info("결제 정보가 없어 새로 생성합니다: {}", merchantUid);
-                    Payment newPayment = Payment.createPayment(
-                            merchantUid,
-                            order,
-                            "UNKNOWN", // 웹훅에서는 상세 정보 제한적
-                            order.getTotalAmount()
-                    );
-                    return paymentRepository.save(newPayment);
-                });
-                
-                orderService.updateOrderStatusWithHistory(merchantUid, OrderStatus.PAID);
-                order.markAsPaidNow();
-                order.getItems().forEach(item -> item.updateEventType(EventType.PURCHASE));
-                payment.updateStatus(PaymentStatus.PAID);
-                payment.updatePgTransactionId(transactionId);
-                payment.updatePaidAt(LocalDateTime.now());
-                
-                log.info("Order and payment status successfully updated to PAID for order: {}", merchantUid);
-                
-                // 2. DB 로직이 완료된 후, 소유자에게 알림을 위한 이벤트를 발행합니다.
-                eventPublisher.publishEvent(new OrderPaidEvent(order.getOrderId(), order.getStoreId(), order.getUserId()));
-                
+                // 3. 결제 상태 반영은 수신함에 저장한 뒤 WebhookInboxWorker가 비동기로 처리합니다.
+                //    같은 트랜잭션에서 저장되므로 200 응답 이후 유실되지 않습니다.
+                webhookInboxRepository.save(WebhookInbox.receive(webhookId, merchantUid, eventType, transactionId, requestBody));
+                log.info("'Transaction.Paid' 웹훅을 수신함에 저장했습니다 - 주문 ID: {}, PortOne tx_id: {}", merchantUid, transactionId);
                 return true;
             } else if ("Transaction.Ready".equals(eventType)) {
                 log.info("Transaction.Ready 이벤트 처리 - 결제 준비 상태");
@@ -212,6 +209,65 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
+    /**
+     * 트랜잭션이 커밋된 뒤에만 웹훅 ID를 메모리 필터에 기록합니다.
+     * 롤백된 웹훅은 PortOne의 재전송으로 다시 처리되어야 하기 때문입니다.
+     */
+    private void recordWebhookIdAfterCommit(String webhookId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWebhookIdFilter.record(webhookId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWebhookIdFilter.record(webhookId);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict(transition = "webhook_paid")
+    public void processPaidWebhook(String merchantUid, String transactionId) {
+        // 임시 해결책: S2S 검증 건너뛰고 웹훅 이벤트만 믿고 처리
+        // TODO: 테스트 모드 API 키 적용 후 서버 간 검증 로직 복원 필요
+        log.info("Processing 'Transaction.Paid' event for order (merchant_uid): {}, PortOne tx_id: {}", merchantUid, transactionId);
+
+        // 1. 이 주 트랜잭션 내에서 먼저 모든 DB 업데이트를 수행합니다.
+        Order order = orderRepository.findByOrderId(merchantUid)
+                .orElseThrow(() -> new NotFound("주문을 찾을 수 없습니다: " + merchantUid));
+
+        Payment payment = paymentRepository.findByOrder_OrderId(merchantUid).orElseGet(() -> {
+            log.info("결제 정보가 없어 새로 생성합니다: {}", merchantUid);
+            Payment newPayment = Payment.createPayment(
+                    merchantUid,
+                    order,
+                    "UNKNOWN", // 웹훅에서는 상세 정보 제한적
+                    order.getTotalAmount()
+            );
+            return paymentRepository.save(newPayment);
+        });
+
+        // 재처리(워커 재시도, 다른 웹훅 ID로 재전송된 동일 결제) 시 상태 이력이 중복 기록되지 않도록 합니다
+        if (payment.getStatus() == PaymentStatus.PAID) {
+            log.warn("이미 'PAID' 상태로 처리된 주문입니다. (멱등성): {}", merchantUid);
+            return;
+        }
+
+        orderService.updateOrderStatusWithHistory(merchantUid, OrderStatus.PAID);
+        order.markAsPaidNow();
+        order.getItems().forEach(item -> item.updateEventType(EventType.PURCHASE));
+        payment.updateStatus(PaymentStatus.PAID);
+        payment.updatePgTransactionId(transactionId);
+        payment.updatePaidAt(LocalDateTime.now());
+
+        log.info("Order and payment status successfully updated to PAID for order: {}", merchantUid);
+
+        // 2. DB 로직이 완료된 후, 소유자에게 알림을 위한 이벤트를 발행합니다.
+        eventPublisher.publishEvent(new OrderPaidEvent(order.getOrderId(), order.getStoreId(), order.getUserId()));
+    }
+
     @Transactional
     public boolean processPaidPayment(PaidPayment paidPayment) {
         // PortOne V2에서 id는 결제ID (merchant_uid)에 해당
@@ -333,7 +389,8 @@ public class PaymentServiceImpl implements PaymentService {
         payment.updatePaidStatus("test-pg", "test-pg-tid-" + orderId, "http://test.receipt.url");
 
         // 6. [수정] 데이터베이스에 먼저 저장합니다.
-        // 연쇄 설정으로 인해 주문, 주문아이템, 결제가 모두 저장됩니다.
+        // 연쇄 설정으로 인해 주문, 주문아이템, 결제가 모두 저장됩니다. 주문 ID는 등록 테이블에 먼저 기록합니다.
+        orderIdRegistrationRepository.saveAndFlush(OrderIdRegistration.of(orderId));
         orderRepository.save(order);
         log.info("Test order saved to database with orderId: {}", orderId);
 
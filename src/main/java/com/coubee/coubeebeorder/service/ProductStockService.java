@@ -10,7 +10,8 @@ public interface ProductStockService {
 
     /**
      * 주문에 포함된 상품들의 재고를 감소시킵니다.
-     * 결제 준비 시점에 호출되어 재고를 선점합니다.
+     * 결제 준비 시점에 호출되어 재고를 선점하고, 선점 내역을 재고 선점 원장(HELD)에 기록합니다.
+     * 이미 선점된 주문에 대해 다시 호출되면 상품 서비스를 호출하지 않습니다.
      *
      * @param order 재고를 감소시킬 주문 정보
      * @throws com.coubee.coubeebeorder.common.exception.InsufficientStockException 재고가 부족한 경우
@@ -20,8 +21,17 @@ public interface ProductStockService {
     /**
      * 주문에 포함된 상품들의 재고를 증가시킵니다.
      * 주문 취소 시점에 호출되어 재고를 복원합니다.
+     * 원장의 HELD 행을 RELEASED로 전이한 경우에만 복원 이벤트를 발행하므로 여러 번 호출되어도 한 번만 복원됩니다.
      *
      * @param order 재고를 증가시킬 주문 정보
      */
     void increaseStock(Order order);
+
+    /**
+     * 주문의 선점 재고를 최종 소진 처리합니다.
+     * 고객이 상품을 수령한 시점에 호출되며, 이후에는 재고 복원 대상이 되지 않습니다.
+     *
+     * @param order 수령 완료된 주문 정보
+     */
+    void consumeStock(Order order);
 }
@@ -2,18 +2,40 @@ package com.coubee.coubeebeorder.service;
 
 import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
 import com.coubee.coubeebeorder.common.exception.ApiError;
+import com.coubee.coubeebeorder.common.exception.ClientError;
 import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.StockReservation;
+import com.coubee.coubeebeorder.domain.StockReservationStatus;
+import com.coubee.coubeebeorder.domain.repository.StockReservationRepository;
 import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
 import com.coubee.coubeebeorder.kafka.producer.product.event.StockIncreaseEvent;
 import com.coubee.coubeebeorder.remote.product.ProductClient;
 import com.coubee.coubeebeorder.remote.product.StockUpdateRequest;
+import feign.RetryableException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +45,8 @@ import java.util.stream.Collectors;
  * 아키텍처 원칙:
  * - 재고 관리는 핵심 트랜잭션 경계로 동기적 처리 (OpenFeign)
  * - Kafka는 사용하지 않음 (주문 상태 알림만 비동기 처리)
+ * - 모든 재고 차감/복원은 재고 선점 원장(stock_reservations)을 거쳐 결제 준비 시도당 한 번만 반영
+ * - 재고 복원 이벤트는 원장 전이가 커밋된 뒤에만 발행
  */
 @Slf4j
 @Service
@@ -31,44 +55,74 @@ public class ProductStockServiceImpl implements ProductStockService {
 
     private final ProductClient productClient;
     private final KafkaMessageProducer kafkaMessageProducer; // ★ 카프카메시지프로듀서가 주입되어야 합니다
+    private final StockReservationRepository stockReservationRepository;
+    private final PlatformTransactionManager transactionManager;
 
+    // 이 시간이 지나도록 결과가 기록되지 않은 CLAIMED 행은 결과를 알 수 없는 시도로 보고 보상합니다 (상품 서비스 읽기 타임아웃보다 길게)
+    static final Duration CLAIM_LEASE = Duration.ofMinutes(1);
+
+    /**
+     * 결제 준비 시점에 재고를 차감합니다.
+     *
+     * 1. 상품 서비스를 호출하기 전에 선점 행을 CLAIMED로 확보하고 커밋합니다 (동시에 들어온 같은 주문의 결제 준비는 한 요청만 확보).
+     * 2. 상품 서비스 응답에 따라 자신이 확보한 attempt의 행만 HELD(차감됨) 또는 RELEASED(차감 안 됨)로 바꿉니다.
+     * 3. 타임아웃처럼 요청이 전송된 뒤 결과를 알 수 없는 실패만 보상(복원 이벤트)합니다.
+     *
+     * 원장 기록은 모두 별도 트랜잭션으로 커밋합니다. 상품 서비스에서 실제로 일어난 일은 호출자의 트랜잭션이 롤백되어도 되돌려지지 않기 때문입니다.
+     */
     @Override
-    @Transactional
     @CircuitBreaker(name = "productStock", fallbackMethod = "decreaseStockFallback")
     public void decreaseStock(Order order) {
         log.info("재고 감소 요청 - 주문 ID: {}, 매장 ID: {}", order.getOrderId(), order.getStoreId());
 
-        try {
-            // 주문 아이템들을 재고 감소 요청으로 변환 (음수로 설정)
-            List<StockUpdateRequest.StockItem> stockItems = order.getItems().stream()
-                    .map(item -> StockUpdateRequest.StockItem.builder()
-                            .productId(item.getProductId())
-                            .quantityChange(-item.getQuantity()) // 음수로 설정하여 재고 감소
-                            .build())
-                    .collect(Collectors.toList());
+        Map<Long, Integer> quantities = aggregateQuantities(order);
+        Integer attempt = claim(order, quantities);
+        if (attempt == null) {
+            // 이미 선점된 주문이면 상품 서비스를 다시 호출하지 않습니다 (결제 준비 재시도 대비)
+            log.info("이미 재고가 선점된 주문입니다. 재고 감소를 건너뜁니다 - 주문 ID: {}", order.getOrderId());
+            return;
+        }
 
-            StockUpdateRequest request = StockUpdateRequest.builder()
-                    .storeId(order.getStoreId())
-                    .items(stockItems)
-                    .build();
+        // 주문 아이템들을 재고 감소 요청으로 변환 (음수로 설정)
+        List<StockUpdateRequest.StockItem> stockItems = quantities.entrySet().stream()
+                .map(entry -> StockUpdateRequest.StockItem.builder()
+                        .productId(entry.getKey())
+                        .quantityChange(-entry.getValue()) // 음수로 설정하여 재고 감소
+                        .build())
+                .collect(Collectors.toList());
 
-            // 상품 서비스에 재고 감소 요청
-            ApiResponseDto<String> response = productClient.updateStock(request, order.getUserId());
+        StockUpdateRequest request = StockUpdateRequest.builder()
+                .storeId(order.getStoreId())
+                .items(stockItems)
+                .build();
 
-            // 응답 코드를 기반으로 성공 여부 확인 (상품서비스는 성공 필드를 설정하지 않음)
-            if (!"OK".equals(response.getCode())) {
-                log.error("재고 감소 실패 - 주문 ID: {}, 응답 코드: {}, 메시지: {}",
-                        order.getOrderId(), response.getCode(), response.getMessage());
-                throw new RuntimeException("재고 감소에 실패했습니다: " + response.getMessage());
+        ApiResponseDto<String> response;
+        try {
+            // 상품 서비스에 재고 감소 요청
+            response = productClient.updateStock(request, order.getUserId());
+        } catch (RuntimeException e) {
+            if (isOutcomeUnknown(e)) {
+                log.error("재고 감소 결과를 알 수 없습니다. 보상 트랜잭션을 실행합니다 - 주문 ID: {}", order.getOrderId(), e);
+                compensate(order, attempt, quantities);
+            } else {
+                // 재고 부족 등 명시적 거절이나 연결 실패는 차감이 일어나지 않았으므로 복원하지 않습니다
+                log.error("재고 감소 중 오류 발생 - 주문 ID: {}", order.getOrderId(), e);
+                finishAttempt(order, attempt, StockReservationStatus.RELEASED);
             }
-
-            // 여기에 도달하면 작업이 성공했음을 의미
-            log.info("재고 감소 성공 - 주문 ID: {}, 응답: {}", order.getOrderId(), response.getData());
-
-        } catch (Exception e) {
-            log.error("재고 감소 중 오류 발생 - 주문 ID: {}", order.getOrderId(), e);
             throw e; // InsufficientStockException이나 다른 예외를 그대로 전파
         }
+
+        // 응답 코드를 기반으로 성공 여부 확인 (상품서비스는 성공 필드를 설정하지 않음)
+        if (!"OK".equals(response.getCode())) {
+            log.error("재고 감소 실패 - 주문 ID: {}, 응답 코드: {}, 메시지: {}",
+                    order.getOrderId(), response.getCode(), response.getMessage());
+            finishAttempt(order, attempt, StockReservationStatus.RELEASED);
+            throw new RuntimeException("재고 감소에 실패했습니다: " + response.getMessage());
+        }
+
+        // 여기에 도달하면 작업이 성공했음을 의미
+        finishAttempt(order, attempt, StockReservationStatus.HELD);
+        log.info("재고 감소 성공 - 주문 ID: {}, 응답: {}", order.getOrderId(), response.getData());
     }
 
     @Override
@@ -76,14 +130,175 @@ public class ProductStockServiceImpl implements ProductStockService {
     public void increaseStock(Order order) {
         log.info("재고 증가 이벤트 발행 요청 - 주문 ID: {}, 매장 ID: {}", order.getOrderId(), order.getStoreId());
 
+        List<StockReservation> held = stockReservationRepository.findByOrderIdAndStatus(
+                order.getOrderId(), StockReservationStatus.HELD);
+        if (held.isEmpty()) {
+            log.info("선점된 재고가 없어 재고 복원을 건너뜁니다 - 주문 ID: {}", order.getOrderId());
+            return;
+        }
+
+        // HELD -> RELEASED 전이에 성공한 호출만 복원 이벤트를 발행합니다 (중복 복원 방지)
+        int released = stockReservationRepository.transition(order.getOrderId(),
+                StockReservationStatus.HELD, StockReservationStatus.RELEASED, LocalDateTime.now());
+        if (released == 0) {
+            log.info("다른 요청에서 이미 재고가 복원되었습니다 - 주문 ID: {}", order.getOrderId());
+            return;
+        }
+
+        // 호출자의 트랜잭션이 롤백되면 선점이 HELD로 되돌아가므로, 커밋된 경우에만 발행합니다
+        publishStockIncreaseEventAfterCommit(order, held.stream()
+                .collect(Collectors.toMap(StockReservation::getProductId, StockReservation::getQuantity, Integer::sum)));
+    }
+
+    @Override
+    @Transactional
+    public void consumeStock(Order order) {
+        int consumed = stockReservationRepository.transition(order.getOrderId(),
+                StockReservationStatus.HELD, StockReservationStatus.CONSUMED, LocalDateTime.now());
+        log.debug("재고 소진 처리 - 주문 ID: {}, 처리 행 수: {}", order.getOrderId(), consumed);
+    }
+
+    /**
+     * 상품 서비스 호출 전에 선점 행을 확보하고 이번 결제 준비 시도 번호를 돌려줍니다. 이미 선점(HELD)되었거나 소진된 주문이면 null입니다.
+     *
+     * - 행이 없으면 (주문, 상품) 유니크 INSERT로 확보합니다. 동시에 넣은 요청은 유니크 제약 위반으로 실패합니다.
+     * - 모든 행이 RELEASED이면 조건부 UPDATE로 다음 attempt를 확보합니다.
+     * - 다른 요청이 CLAIMED로 확보 중이면 충돌로 거절합니다. 확보한 지 CLAIM_LEASE가 지난 행은 그 요청이 결과를 남기지 못한 것으로 보고
+     *   보상한 뒤 다시 확보합니다.
+     */
+    private Integer claim(Order order, Map<Long, Integer> quantities) {
+        String orderId = order.getOrderId();
+        try {
+            return requiresNew().execute(status -> {
+                List<StockReservation> rows = stockReservationRepository.findByOrderId(orderId);
+                if (rows.isEmpty()) {
+                    stockReservationRepository.saveAllAndFlush(quantities.entrySet().stream()
+                            .map(entry -> StockReservation.claim(orderId, order.getStoreId(), entry.getKey(), entry.getValue()))
+                            .collect(Collectors.toList()));
+                    return 1;
+                }
+
+                int attempt = rows.get(0).getAttempt();
+                if (rows.stream().anyMatch(row -> row.getStatus() == StockReservationStatus.CLAIMED)) {
+                    boolean expired = rows.stream().allMatch(row -> row.getUpdatedAt() != null
+                            && row.getUpdatedAt().isBefore(LocalDateTime.now().minus(CLAIM_LEASE)));
+                    if (!expired) {
+                        throw new ClientError("같은 주문의 재고 처리가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+                    }
+                    log.warn("결과가 기록되지 않은 재고 차감 시도를 보상합니다 - 주문 ID: {}, attempt: {}", orderId, attempt);
+                    releaseAndPublish(order, attempt, quantities);
+                } else if (rows.stream().anyMatch(row -> row.getStatus() != StockReservationStatus.RELEASED)) {
+                    return null;
+                }
+
+                if (stockReservationRepository.reclaim(orderId, attempt, LocalDateTime.now()) == 0) {
+                    throw new ClientError("같은 주문의 재고 처리가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+                }
+                return attempt + 1;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 주문의 선점 행을 먼저 넣었습니다
+            throw new ClientError("같은 주문의 재고 처리가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 이번 시도가 확보한 행에 차감 결과를 기록합니다.
+     *
+     * HELD 기록에 실패하면 예외를 전파해 결제 준비를 실패시킵니다. 남은 CLAIMED 행은 CLAIM_LEASE 후 다음 결제 준비에서 보상됩니다.
+     * RELEASED 기록 실패는 원래 예외를 가리지 않도록 로그만 남깁니다.
+     */
+    private void finishAttempt(Order order, int attempt, StockReservationStatus to) {
+        try {
+            requiresNew().executeWithoutResult(status -> stockReservationRepository.transitionAttempt(
+                    order.getOrderId(), attempt, StockReservationStatus.CLAIMED, to, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("CRITICAL: 재고 선점 결과 기록 실패 - 주문 ID: {}, attempt: {}, 상태: {}", order.getOrderId(), attempt, to, e);
+            if (to == StockReservationStatus.HELD) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 결과를 알 수 없는 차감 시도를 보상합니다. 이번 시도의 CLAIMED 행을 RELEASED로 바꾼 경우에만 복원 이벤트를 발행하므로
+     * 같은 시도에 대해 보상은 한 번만 일어나고, 이전 시도의 복원 여부와 관계없이 이번 시도분은 복원됩니다.
+     */
+    private void compensate(Order order, int attempt, Map<Long, Integer> quantities) {
+        try {
+            requiresNew().executeWithoutResult(status -> releaseAndPublish(order, attempt, quantities));
+        } catch (Exception compensationException) {
+            // 보상 트랜잭션도 실패하면 수동 개입을 위한 중요 오류 로그 기록
+            log.error("CRITICAL: Compensating transaction FAILED for Order ID: {}. Manual stock correction is required.",
+                    order.getOrderId(), compensationException);
+        }
+    }
+
+    private void releaseAndPublish(Order order, int attempt, Map<Long, Integer> quantities) {
+        int released = stockReservationRepository.transitionAttempt(order.getOrderId(), attempt,
+                StockReservationStatus.CLAIMED, StockReservationStatus.RELEASED, LocalDateTime.now());
+        if (released > 0) {
+            publishStockIncreaseEventAfterCommit(order, quantities);
+            log.info("Stock compensation recorded for Order ID: {}, attempt: {}", order.getOrderId(), attempt);
+        } else {
+            log.info("Stock compensation already recorded for Order ID: {}, attempt: {}. Skipping.", order.getOrderId(), attempt);
+        }
+    }
+
+    /**
+     * 요청이 상품 서비스에 전송된 뒤 응답을 받지 못한 경우(읽기 타임아웃, 연결 끊김)만 결과를 알 수 없는 실패로 봅니다.
+     * 연결 자체가 되지 않았거나, 서킷이 열려 호출하지 않았거나, 상품 서비스가 오류 응답을 보낸 경우는 차감되지 않은 것으로 봅니다.
+     */
+    static boolean isOutcomeUnknown(Throwable ex) {
+        if (!(ex instanceof RetryableException)) {
+            return false;
+        }
+        boolean ioFailure = false;
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof ConnectionRequestTimeoutException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return false;
+            }
+            ioFailure |= cause instanceof IOException;
+        }
+        return ioFailure;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋된 뒤에 재고 복원 이벤트를 발행합니다. 롤백되면 발행하지 않습니다.
+     */
+    private void publishStockIncreaseEventAfterCommit(Order order, Map<Long, Integer> quantities) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Long, Integer> snapshot = new LinkedHashMap<>(quantities);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishStockIncreaseEvent(order, snapshot);
+                }
+            });
+        } else {
+            publishStockIncreaseEvent(order, quantities);
+        }
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private void publishStockIncreaseEvent(Order order, Map<Long, Integer> quantities) {
         try {
             // [수정] OpenFeign 호출 대신 카프카 메시지를 발행합니다.
-            
+
             // 1. 재고증가이벤트에 필요한 재고아이템 목록 생성
-            List<StockIncreaseEvent.StockItem> stockItems = order.getItems().stream()
-                    .map(item -> StockIncreaseEvent.StockItem.builder()
-                            .productId(item.getProductId())
-                            .quantity(item.getQuantity())
+            List<StockIncreaseEvent.StockItem> stockItems = quantities.entrySet().stream()
+                    .map(entry -> StockIncreaseEvent.StockItem.builder()
+                            .productId(entry.getKey())
+                            .quantity(entry.getValue())
                             .build())
                     .collect(Collectors.toList());
 
@@ -104,27 +319,31 @@ public class ProductStockServiceImpl implements ProductStockService {
         }
     }
 
-
+    /**
+     * 주문 아이템을 상품 단위로 합산합니다. 같은 상품이 여러 행에 나뉘어 있어도 원장에는 한 행으로 기록됩니다.
+     */
+    private Map<Long, Integer> aggregateQuantities(Order order) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem item : order.getItems()) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
 
     /**
      * 재고 감소 Circuit Breaker 폴백 메서드
-     * Product Service가 불가능할 때 보상 트랜잭션을 수행하고 결제 준비를 실패시킵니다.
+     *
+     * 보상은 decreaseStock 안에서 결과를 알 수 없는 실패에 대해서만 이미 수행되었습니다. 서킷이 열려 호출되지 않은 경우
+     * (CallNotPermittedException)나 상품 서비스가 거절한 경우에는 차감이 일어나지 않았으므로 여기서 복원하지 않습니다.
+     * 재고 부족 등 클라이언트 오류는 그대로 전파하고, 나머지는 사용자 친화적인 예외로 바꿔 결제 준비를 실패시킵니다.
      */
     public void decreaseStockFallback(Order order, Exception ex) {
-        log.error("Circuit breaker for decreaseStock is open for Order ID: {}. Attempting compensating transaction (restoring stock).",
-                order.getOrderId(), ex);
-
-        try {
-            // --- 이것은 보상 트랜잭션입니다 ---
-            increaseStock(order);
-            log.info("Successfully restored stock (compensating transaction) for Order ID: {}", order.getOrderId());
-        } catch (Exception compensationException) {
-            // 보상 트랜잭션도 실패하면 수동 개입을 위한 중요 오류 로그 기록
-            log.error("CRITICAL: Compensating transaction FAILED for Order ID: {}. Manual stock correction is required.",
-                    order.getOrderId(), compensationException);
+        if (ex instanceof ClientError clientError) {
+            log.warn("재고 감소 요청이 거절되었습니다 - 주문 ID: {}, 사유: {}", order.getOrderId(), ex.getMessage());
+            throw clientError;
         }
 
-        // 마지막으로 클라이언트에 사용자 친화적인 예외 발생
+        log.error("Stock decrease failed for Order ID: {}. Failing payment preparation.", order.getOrderId(), ex);
         throw new ApiError("상품 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
     }
 
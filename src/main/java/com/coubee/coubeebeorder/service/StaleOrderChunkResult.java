@@ -0,0 +1,10 @@
+package com.coubee.coubeebeorder.service;
+
+/**
+ * 오래된 PENDING 주문 정리 작업의 청크 처리 결과
+ *
+ * @param claimed 잠금으로 가져온 주문 수
+ * @param expired FAILED로 변경되고 재고가 복원된 주문 수
+ */
+public record StaleOrderChunkResult(int claimed, int expired) {
+}
@@ -0,0 +1,18 @@
+package com.coubee.coubeebeorder.service;
+
+import lombok.Getter;
+
+/**
+ * PENDING 주문 하나의 만료 처리(FAILED 전이, 재고 복원)가 실패했을 때 발생합니다.
+ * 청크 트랜잭션은 롤백되며, 정리 작업은 이 주문을 이번 실행에서 제외하고 나머지를 다시 처리합니다.
+ */
+@Getter
+public class StaleOrderExpiryException extends RuntimeException {
+
+    private final String orderId;
+
+    public StaleOrderExpiryException(String orderId, Throwable cause) {
+        super("Failed to expire order " + orderId + ": " + cause.getMessage(), cause);
+        this.orderId = orderId;
+    }
+}
@@ -0,0 +1,210 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.WebhookProperties;
+import com.coubee.coubeebeorder.domain.WebhookInbox;
+import com.coubee.coubeebeorder.domain.WebhookInboxStatus;
+import com.coubee.coubeebeorder.domain.repository.WebhookInboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 웹훅 수신함 워커
+ *
+ * webhook_inbox에 저장된 웹훅을 주기적으로 가져와 webhookExecutor에서 처리합니다.
+ * - 동시 처리 수는 coubee.webhook.worker-concurrency로 제한되며, 빈 슬롯 수만큼만 가져옵니다.
+ * - 같은 주문의 웹훅은 이전 웹훅이 끝난 뒤에만 가져오므로 주문별 수신 순서가 보장됩니다.
+ * - 실패한 웹훅은 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 FAILED로 남깁니다.
+ *
+ * 메트릭:
+ * - webhook.inbox.depth: 처리 대기/처리 중인 웹훅 수
+ * - webhook.inbox.oldest.age: 가장 오래된 미처리 웹훅의 대기 시간(초)
+ * - webhook.inbox.in.flight: 현재 처리 중인 웹훅 수
+ * - webhook.inbox.lag: 수신부터 처리 완료까지 걸린 시간
+ * - webhook.inbox.processed: 처리 결과별 건수 (outcome=success|retry|failed)
+ */
+@Slf4j
+@Component
+public class WebhookInboxWorker {
+
+    private static final Set<WebhookInboxStatus> OPEN_STATUSES =
+            EnumSet.of(WebhookInboxStatus.PENDING, WebhookInboxStatus.PROCESSING);
+    private static final String PAID_EVENT = "Transaction.Paid";
+
+    private final WebhookInboxRepository webhookInboxRepository;
+    private final PaymentService paymentService;
+    private final WebhookProperties webhookProperties;
+    private final ThreadPoolTaskExecutor webhookExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final Timer lagTimer;
+    private final Counter successCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public WebhookInboxWorker(WebhookInboxRepository webhookInboxRepository,
+                              PaymentService paymentService,
+                              WebhookProperties webhookProperties,
+                              @Qualifier("webhookExecutor") ThreadPoolTaskExecutor webhookExecutor,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.webhookInboxRepository = webhookInboxRepository;
+        this.paymentService = paymentService;
+        this.webhookProperties = webhookProperties;
+        this.webhookExecutor = webhookExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("webhook.inbox.depth", queueDepth, AtomicLong::get)
+                .description("Number of pending or in-progress webhooks")
+                .register(meterRegistry);
+        Gauge.builder("webhook.inbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .description("Age in seconds of the oldest unprocessed webhook")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("webhook.inbox.in.flight", inFlight, AtomicInteger::get)
+                .description("Number of webhooks currently being processed")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("webhook.inbox.lag")
+                .description("Time from webhook receipt to completed processing")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.successCounter = Counter.builder("webhook.inbox.processed").tag("outcome", "success").register(meterRegistry);
+        this.retryCounter = Counter.builder("webhook.inbox.processed").tag("outcome", "retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("webhook.inbox.processed").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coubee.webhook.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            refreshQueueMetrics();
+
+            int freeSlots = webhookProperties.getWorkerConcurrency() - inFlight.get();
+            if (freeSlots <= 0) {
+                return;
+            }
+
+            for (Long id : claim(Math.min(freeSlots, webhookProperties.getBatchSize()))) {
+                inFlight.incrementAndGet();
+                try {
+                    webhookExecutor.execute(() -> {
+                        try {
+                            process(id);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                } catch (TaskRejectedException e) {
+                    // 처리하지 못한 행은 processing-timeout 이후 다시 대기 상태로 돌아갑니다
+                    inFlight.decrementAndGet();
+                    log.warn("Webhook executor rejected inbox id {}. It will be retried after the processing timeout.", id);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while polling webhook inbox", e);
+        }
+    }
+
+    /**
+     * 워커 장애로 PROCESSING 상태에 머문 웹훅을 다시 대기 상태로 돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${coubee.webhook.reclaim-interval-ms:60000}")
+    public void releaseStuck() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(webhookProperties.getProcessingTimeout());
+            Integer released = transactionTemplate.execute(status -> webhookInboxRepository.releaseStuck(cutoff));
+            if (released != null && released > 0) {
+                log.warn("Released {} stuck webhook inbox rows claimed before {}", released, cutoff);
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while releasing stuck webhook inbox rows", e);
+        }
+    }
+
+    private List<Long> claim(int limit) {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> claimable = webhookInboxRepository.findClaimableIds(now, limit);
+            if (!claimable.isEmpty()) {
+                webhookInboxRepository.markProcessing(claimable, now);
+            }
+            return claimable;
+        });
+        return ids != null ? ids : Collections.emptyList();
+    }
+
+    void process(Long id) {
+        try {
+            LocalDateTime receivedAt = transactionTemplate.execute(status -> {
+                WebhookInbox event = webhookInboxRepository.findById(id).orElse(null);
+                if (event == null || event.getStatus() != WebhookInboxStatus.PROCESSING) {
+                    return null;
+                }
+                if (PAID_EVENT.equals(event.getEventType())) {
+                    paymentService.processPaidWebhook(event.getOrderId(), event.getTransactionId());
+                }
+                event.markDone();
+                return event.getReceivedAt();
+            });
+
+            if (receivedAt != null) {
+                lagTimer.record(Duration.between(receivedAt, LocalDateTime.now()));
+                successCounter.increment();
+            }
+        } catch (Exception e) {
+            log.error("Failed to process webhook inbox id {}", id, e);
+            recordFailure(id, e);
+        }
+    }
+
+    private void recordFailure(Long id, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> webhookInboxRepository.findById(id).ifPresent(event -> {
+                event.markFailedAttempt(String.valueOf(cause.getMessage()),
+                        LocalDateTime.now().plus(backoff(event.getAttempts())), webhookProperties.getMaxAttempts());
+                if (event.getStatus() == WebhookInboxStatus.FAILED) {
+                    failedCounter.increment();
+                    log.error("CRITICAL: Webhook inbox id {} for order {} exceeded {} attempts. Manual intervention required.",
+                            id, event.getOrderId(), webhookProperties.getMaxAttempts());
+                } else {
+                    retryCounter.increment();
+                }
+            }));
+        } catch (Exception e) {
+            // 실패 기록도 실패하면 processing-timeout 이후 다시 처리됩니다
+            log.error("Failed to record failure for webhook inbox id {}", id, e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(Math.max(attempts - 1, 0), 16);
+        Duration delay = webhookProperties.getRetryBackoff().multipliedBy(multiplier);
+        return delay.compareTo(webhookProperties.getMaxRetryBackoff()) > 0 ? webhookProperties.getMaxRetryBackoff() : delay;
+    }
+
+    private void refreshQueueMetrics() {
+        queueDepth.set(webhookInboxRepository.countByStatusIn(OPEN_STATUSES));
+        LocalDateTime oldest = webhookInboxRepository.findOldestReceivedAt(OPEN_STATUSES);
+        oldestAgeSeconds.set(oldest != null ? Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0) : 0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.WebhookProperties;
+import com.coubee.coubeebeorder.domain.repository.ProcessedWebhookRepository;
+import com.coubee.coubeebeorder.domain.repository.WebhookInboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * Webhook Retention Scheduler
+ *
+ * Deletes processed_webhooks rows and completed webhook_inbox rows older than
+ * coubee.webhook.retention. Rows are deleted in chunks of purge-chunk-size, one transaction
+ * per chunk, so the hot webhook insert path never waits on a long-running delete and
+ * the processed_at index does not keep growing.
+ *
+ * The retention window must be longer than PortOne's redelivery horizon; a webhook
+ * redelivered after its ID was purged is still safe because PAID processing is idempotent.
+ */
+@Slf4j
+@Component
+public class WebhookRetentionScheduler {
+
+    private static final Duration MINIMUM_RETENTION = Duration.ofDays(3);
+
+    private final ProcessedWebhookRepository processedWebhookRepository;
+    private final WebhookInboxRepository webhookInboxRepository;
+    private final WebhookProperties webhookProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter processedWebhooksDeleted;
+    private final Counter webhookInboxDeleted;
+
+    public WebhookRetentionScheduler(ProcessedWebhookRepository processedWebhookRepository,
+                                     WebhookInboxRepository webhookInboxRepository,
+                                     WebhookProperties webhookProperties,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.processedWebhookRepository = processedWebhookRepository;
+        this.webhookInboxRepository = webhookInboxRepository;
+        this.webhookProperties = webhookProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.processedWebhooksDeleted = Counter.builder("webhook.retention.deleted")
+                .tag("table", "processed_webhooks").register(meterRegistry);
+        this.webhookInboxDeleted = Counter.builder("webhook.retention.deleted")
+                .tag("table", "webhook_inbox").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coubee.webhook.purge-interval-ms:3600000}") // Runs every hour by default
+    public void purgeExpiredWebhooks() {
+        Duration retention = webhookProperties.getRetention();
+        if (retention.compareTo(MINIMUM_RETENTION) < 0) {
+            log.warn("coubee.webhook.retention ({}) is shorter than PortOne's redelivery window. Using {} instead.",
+                    retention, MINIMUM_RETENTION);
+            retention = MINIMUM_RETENTION;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        try {
+            int deleted = purgeInChunks(cutoff, processedWebhookRepository::deleteProcessedBefore);
+            processedWebhooksDeleted.increment(deleted);
+            int inboxDeleted = purgeInChunks(cutoff, webhookInboxRepository::deleteDoneBefore);
+            webhookInboxDeleted.increment(inboxDeleted);
+            log.info("Purged {} processed_webhooks rows and {} webhook_inbox rows older than {}", deleted, inboxDeleted, cutoff);
+        } catch (Exception e) {
+            log.error("Error occurred during webhook retention job", e);
+            // Don't rethrow - we want the scheduler to continue running
+        }
+    }
+
+    private int purgeInChunks(LocalDateTime cutoff, BiFunction<LocalDateTime, Integer, Integer> deleteChunk) {
+        int chunkSize = webhookProperties.getPurgeChunkSize();
+        int total = 0;
+        for (int chunk = 0; chunk < webhookProperties.getPurgeMaxChunks(); chunk++) {
+            Integer deleted = transactionTemplate.execute(status -> deleteChunk.apply(cutoff, chunkSize));
+            int count = deleted != null ? deleted : 0;
+            total += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
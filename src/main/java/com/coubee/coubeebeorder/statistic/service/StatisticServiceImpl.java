@@ -3,6 +3,7 @@ package com.coubee.coubeebeorder.statistic.service;
 import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
 import com.coubee.coubeebeorder.common.exception.ApiError;
 import com.coubee.coubeebeorder.common.exception.StoreServiceException;
+import com.coubee.coubeebeorder.config.AnalyticsQuery;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository;
 import com.coubee.coubeebeorder.remote.store.StoreClient;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -25,10 +26,12 @@ import java.util.stream.Collectors;
 /**
  * Service implementation for sales statistics business logic
  * Refactored to use JPA OrderRepository instead of JdbcTemplate StatisticRepository
+ * All queries run on the dedicated analytics pool when it is enabled (see AnalyticsQuery)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@AnalyticsQuery
 @Transactional(readOnly = true)
 public class StatisticServiceImpl implements StatisticService {
 
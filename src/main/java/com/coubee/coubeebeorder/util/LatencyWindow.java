@@ -0,0 +1,54 @@
+package com.coubee.coubeebeorder.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N건의 지연 시간(ms)을 보관하고 백분위수를 계산합니다.
+ *
+ * - 기록은 원형 버퍼에 덮어쓰기만 하므로 잠금 없이 호출 스레드(이벤트 루프 포함)에서 바로 할 수 있습니다.
+ * - 백분위수는 호출할 때마다 버퍼를 복사해 정렬하므로, 호출자가 결과를 캐시해 주기적으로만 계산합니다.
+ * - 최근 N건만 보므로 느려진 인스턴스가 생기면 N건 안에 백분위수가 따라 올라가고, 회복되면 다시 내려갑니다.
+ */
+public class LatencyWindow {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+
+    public LatencyWindow(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.samples = new AtomicLongArray(size);
+    }
+
+    public void record(long latencyMillis) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), Math.max(0, latencyMillis));
+    }
+
+    /**
+     * 지금까지 기록된 건수 (버퍼 크기를 넘어도 계속 증가)
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * 버퍼에 남아 있는 표본의 q 백분위수 (nearest-rank), 표본이 없으면 -1
+     */
+    public long percentile(double q) {
+        int size = (int) Math.min(count.get(), samples.length());
+        if (size == 0) {
+            return -1;
+        }
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(q * size);
+        return copy[Math.min(size, Math.max(rank, 1)) - 1];
+    }
+}
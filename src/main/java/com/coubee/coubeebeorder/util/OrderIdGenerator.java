@@ -0,0 +1,132 @@
+package com.coubee.coubeebeorder.util;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서로 정렬되는 주문 ID 생성기
+ *
+ * 형식: "order_" + ULID 26자 (Crockford base32, 48비트 밀리초 타임스탬프 10자 + 80비트 랜덤 16자)
+ * 예: order_01JAB3F6Q8ZK7W2N4XYV5C9RTM
+ *
+ * 랜덤 UUID와 달리 새 ID가 항상 기존 ID 뒤에 정렬되므로 orders.order_id 및 이를 참조하는
+ * order_items / order_timestamp / payments 인덱스에 대한 INSERT가 B-tree의 오른쪽 끝에 모이고,
+ * ID 길이도 38자에서 32자로 줄어듭니다.
+ * 같은 밀리초 안에서는 랜덤 부분을 1씩 증가시켜 한 인스턴스 내 단조 증가를 보장합니다.
+ *
+ * 기존 "order_" + UUID(hex 32자) 형식의 ID는 그대로 유효하며 동일한 컬럼에서 조회됩니다.
+ */
+@Component
+public class OrderIdGenerator {
+
+    public static final String PREFIX = "order_";
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ULID_LENGTH = 26;
+    private static final int TIME_LENGTH = 10;
+    private static final long RANDOM_HI_MASK = 0xFFFFL; // 랜덤 80비트 중 상위 16비트
+
+    private final LongSupplier clock;
+    private final Random random;
+    private final ReentrantLock lock = new ReentrantLock(); // synchronized 대신 사용: 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록
+
+    private long lastMillis = -1L;
+    private long randomHi;
+    private long randomLo;
+
+    public OrderIdGenerator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    OrderIdGenerator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    public String generate() {
+        long millis;
+        long hi;
+        long lo;
+        lock.lock();
+        try {
+            millis = Math.max(clock.getAsLong(), lastMillis); // 시계가 뒤로 가도 순서를 유지합니다
+            if (millis == lastMillis) {
+                randomLo++;
+                if (randomLo == 0L) {
+                    randomHi = (randomHi + 1) & RANDOM_HI_MASK;
+                    if (randomHi == 0L) {
+                        // 같은 밀리초에 2^80개를 넘게 생성한 경우: 다음 밀리초로 넘어갑니다
+                        millis = ++lastMillis;
+                        reseed();
+                    }
+                }
+            } else {
+                lastMillis = millis;
+                reseed();
+            }
+            hi = randomHi;
+            lo = randomLo;
+        } finally {
+            lock.unlock();
+        }
+        return PREFIX + encode(millis, hi, lo);
+    }
+
+    /**
+     * 새 형식 주문 ID에 담긴 생성 시각을 반환합니다. 기존 UUID 형식 ID는 빈 값을 반환합니다.
+     */
+    public static Optional<Instant> extractTimestamp(String orderId) {
+        if (orderId == null || !orderId.startsWith(PREFIX) || orderId.length() != PREFIX.length() + ULID_LENGTH) {
+            return Optional.empty();
+        }
+        long millis = 0L;
+        for (int i = 0; i < TIME_LENGTH; i++) {
+            int value = decode(orderId.charAt(PREFIX.length() + i));
+            if (value < 0) {
+                return Optional.empty();
+            }
+            millis = (millis << 5) | value;
+        }
+        for (int i = TIME_LENGTH; i < ULID_LENGTH; i++) {
+            if (decode(orderId.charAt(PREFIX.length() + i)) < 0) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(Instant.ofEpochMilli(millis));
+    }
+
+    private void reseed() {
+        randomHi = random.nextInt() & RANDOM_HI_MASK;
+        randomLo = random.nextLong();
+    }
+
+    private static String encode(long millis, long hi, long lo) {
+        char[] chars = new char[ULID_LENGTH];
+        for (int i = TIME_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (millis & 31)];
+            millis >>>= 5;
+        }
+        // 80비트 랜덤 값을 하위 5비트씩 잘라 뒤에서부터 채웁니다
+        for (int i = ULID_LENGTH - 1; i >= TIME_LENGTH; i--) {
+            chars[i] = ALPHABET[(int) (lo & 31)];
+            lo = (lo >>> 5) | (hi << 59);
+            hi >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int decode(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
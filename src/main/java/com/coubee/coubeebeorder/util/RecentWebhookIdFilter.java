@@ -0,0 +1,52 @@
+package com.coubee.coubeebeorder.util;
+
+import com.coubee.coubeebeorder.config.WebhookProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 처리된 웹훅 ID를 기억하는 인메모리 필터
+ *
+ * PortOne은 같은 웹훅을 짧은 간격으로 여러 번 재전송하므로, 최근 처리한 ID는 DB 조회 없이 바로 걸러냅니다.
+ * 크기가 coubee.webhook.dedupe-cache-size를 넘으면 가장 오래된 ID부터 제거되며,
+ * 여기서 놓친 중복은 processed_webhooks의 INSERT ... ON CONFLICT DO NOTHING이 최종적으로 걸러냅니다.
+ *
+ * 커밋이 확인된 ID만 기록해야 합니다. 롤백된 웹훅 ID를 기록하면 PortOne의 재전송까지 버려지게 됩니다.
+ */
+@Component
+public class RecentWebhookIdFilter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Boolean> recentIds;
+
+    public RecentWebhookIdFilter(WebhookProperties webhookProperties) {
+        int maxSize = webhookProperties.getDedupeCacheSize();
+        this.recentIds = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public boolean mightContain(String webhookId) {
+        lock.lock();
+        try {
+            return recentIds.get(webhookId) != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void record(String webhookId) {
+        lock.lock();
+        try {
+            recentIds.put(webhookId, Boolean.TRUE);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.coubee.coubeebeorder.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근에 쓰기가 일어난 키를 window 동안 기억합니다.
+ *
+ * - RoutingDataSource: 쓰기를 커밋한 사용자의 읽기를 primary로 보내 read-your-writes를 보장합니다.
+ *   인스턴스 로컬 상태이므로 다른 인스턴스로 간 요청은 복제 지연 한도(max-lag)만큼 오래된 데이터를 볼 수 있습니다.
+ * - ActiveOrderCache: 종료 상태가 된 주문을 오래된 읽기가 다시 캐시에 채우지 않도록 합니다.
+ */
+public class RecentWriteTracker {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> writeDeadlines = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    public RecentWriteTracker(Duration window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    public RecentWriteTracker(Duration window, LongSupplier clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void recordWrite(String key) {
+        long now = clock.getAsLong();
+        writeDeadlines.put(key, now + windowMillis);
+        if (writeDeadlines.size() > PRUNE_THRESHOLD) {
+            writeDeadlines.values().removeIf(deadline -> deadline <= now);
+        }
+    }
+
+    public boolean wroteRecently(String key) {
+        Long deadline = writeDeadlines.get(key);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline <= clock.getAsLong()) {
+            writeDeadlines.remove(key, deadline);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package com.coubee.coubeebeorder.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 해시드 타이밍 휠 (hashed timing wheel)
+ *
+ * 마감 시각을 tick 단위 칸에 나눠 담고, advance() 호출 시 지나간 칸만 확인하여 만료된 항목을 돌려줍니다.
+ * 휠 한 바퀴보다 먼 마감은 남은 바퀴 수(rounds)로 관리하므로 항목 수와 무관하게 tick당 비용이 일정합니다.
+ * 같은 항목은 한 번만 등록되며, 만료되어 반환된 뒤에야 다시 등록할 수 있습니다.
+ *
+ * @param <T> 타이머 대상 (equals/hashCode 기준으로 중복 등록 방지)
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Deque<Entry<T>>[] buckets;
+    private final Set<T> scheduled = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new Deque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 항목을 마감 시각에 등록합니다. 이미 지난 마감은 다음 advance()에서 바로 만료됩니다.
+     *
+     * @return 새로 등록되었으면 true, 이미 등록된 항목이면 false
+     */
+    public boolean schedule(T item, long deadlineMillis) {
+        lock.lock();
+        try {
+            if (!scheduled.add(item)) {
+                return false;
+            }
+            long deadlineTick = Math.max(deadlineMillis / tickMillis, currentTick);
+            long rounds = (deadlineTick - currentTick) / buckets.length;
+            buckets[(int) (deadlineTick % buckets.length)].add(new Entry<>(item, rounds));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 마감이 지난 항목을 반환합니다.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long nowTick = nowMillis / tickMillis;
+            // 지나간 칸을 순서대로 확인합니다. 이번 바퀴에 마감인 항목(rounds == 0)만 만료됩니다
+            while (currentTick <= nowTick) {
+                Iterator<Entry<T>> iterator = buckets[(int) (currentTick % buckets.length)].iterator();
+                while (iterator.hasNext()) {
+                    Entry<T> entry = iterator.next();
+                    if (entry.rounds == 0) {
+                        iterator.remove();
+                        scheduled.remove(entry.item);
+                        expired.add(entry.item);
+                    } else {
+                        entry.rounds--;
+                    }
+                }
+                currentTick++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private long rounds;
+
+        private Entry(T item, long rounds) {
+            this.item = item;
+            this.rounds = rounds;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+-- V15: Create stock_reservations ledger for idempotent stock compensation
+-- 결제 준비 시점에 상품 서비스에서 차감한 재고를 (주문, 상품) 단위로 기록합니다.
+-- 취소, 만료, 보상 트랜잭션은 HELD 행을 조건부로 RELEASED로 전이한 경우에만 재고 복원 이벤트를 발행합니다.
+
+CREATE TABLE stock_reservations (
+    id BIGSERIAL PRIMARY KEY,
+    order_id VARCHAR(50) NOT NULL,
+    store_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uk_stock_reservations_order_product UNIQUE (order_id, product_id)
+);
+
+-- 현재 선점 중인 재고만 대상으로 하는 부분 인덱스 (매장별 대사 조회용)
+CREATE INDEX idx_stock_reservations_held_store_product
+    ON stock_reservations (store_id, product_id)
+    WHERE status = 'HELD';
+
+COMMENT ON TABLE stock_reservations IS 'Per-order stock reservation ledger used to make every stock compensation path idempotent';
+COMMENT ON COLUMN stock_reservations.status IS 'HELD: stock decremented at payment preparation, RELEASED: restored, CONSUMED: picked up by customer';
+
+-- 기존 주문 중 재고가 이미 선점된 주문에 대해 원장을 채웁니다.
+-- 결제 준비(payments 행 생성)를 마친 PENDING 주문과 결제 완료 후 수령 전인 주문이 대상입니다.
+INSERT INTO stock_reservations (order_id, store_id, product_id, quantity, status, created_at, updated_at)
+SELECT oi.order_id, o.store_id, oi.product_id, SUM(oi.quantity), 'HELD', NOW(), NOW()
+FROM order_items oi
+JOIN orders o ON o.order_id = oi.order_id
+WHERE o.status IN ('PAID', 'PREPARING', 'PREPARED')
+   OR (o.status = 'PENDING' AND EXISTS (SELECT 1 FROM payments p WHERE p.order_id = o.order_id))
+GROUP BY oi.order_id, o.store_id, oi.product_id;
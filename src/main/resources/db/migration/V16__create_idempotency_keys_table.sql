@@ -0,0 +1,18 @@
+-- V16: Create idempotency_keys table for Idempotency-Key header support
+-- 주문 생성/결제 준비 API의 재시도 요청에 대해 최초 응답을 그대로 돌려주기 위한 저장소입니다.
+-- 키는 "scope:owner:헤더값" 형태이며, expires_at이 지난 행은 스케줄러가 삭제합니다.
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- 만료 키 정리 작업용 인덱스
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Stored responses for requests carrying an Idempotency-Key header';
+COMMENT ON COLUMN idempotency_keys.request_hash IS 'SHA-256 of the request body, used to reject key reuse with a different payload';
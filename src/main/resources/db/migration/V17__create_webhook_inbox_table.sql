@@ -0,0 +1,27 @@
+-- V17: Create webhook_inbox table for asynchronous webhook processing
+-- 서명 검증을 마친 웹훅을 저장하고 즉시 응답한 뒤, 워커가 주문별 수신 순서대로 처리합니다.
+
+CREATE TABLE webhook_inbox (
+    id BIGSERIAL PRIMARY KEY,
+    webhook_id VARCHAR(255),
+    order_id VARCHAR(50) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    transaction_id VARCHAR(100),
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    received_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    claimed_at TIMESTAMP,
+    processed_at TIMESTAMP,
+    last_error TEXT
+);
+
+-- 워커 폴링용: 처리 대기 중인 행만 대상으로 하는 부분 인덱스
+CREATE INDEX idx_webhook_inbox_pending ON webhook_inbox (next_attempt_at, id) WHERE status = 'PENDING';
+
+-- 주문별 순서 보장(이전 미처리 웹훅 존재 여부) 확인용
+CREATE INDEX idx_webhook_inbox_order_open ON webhook_inbox (order_id, id) WHERE status IN ('PENDING', 'PROCESSING');
+
+COMMENT ON TABLE webhook_inbox IS 'Durable queue of verified PortOne webhooks, processed asynchronously in per-order arrival order';
+COMMENT ON COLUMN webhook_inbox.attempts IS 'Number of processing attempts; rows exceeding coubee.webhook.max-attempts move to FAILED';
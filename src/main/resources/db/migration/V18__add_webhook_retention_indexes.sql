@@ -0,0 +1,9 @@
+-- V18: Support chunked retention purge of processed_webhooks and webhook_inbox
+-- 보관 기간이 지난 행은 WebhookRetentionScheduler가 청크 단위로 삭제합니다.
+
+-- 처리 완료된 수신함 행을 처리 시각 기준으로 찾기 위한 부분 인덱스
+CREATE INDEX idx_webhook_inbox_done_processed_at ON webhook_inbox (processed_at) WHERE status = 'DONE';
+
+-- 주기적인 대량 삭제 후 인덱스/테이블 팽창이 쌓이지 않도록 autovacuum을 더 자주 실행합니다
+ALTER TABLE processed_webhooks SET (autovacuum_vacuum_scale_factor = 0.02, autovacuum_analyze_scale_factor = 0.02);
+ALTER TABLE webhook_inbox SET (autovacuum_vacuum_scale_factor = 0.02, autovacuum_analyze_scale_factor = 0.02);
@@ -0,0 +1,5 @@
+-- V19: Partial index for the stale PENDING order sweeper
+-- OrderCleanupScheduler가 오래된 PENDING 주문을 created_at 순으로 청크 단위 조회(FOR UPDATE SKIP LOCKED)할 때 사용합니다.
+-- PENDING 주문만 인덱싱하므로 전체 주문 수와 무관하게 작은 크기를 유지합니다.
+
+CREATE INDEX idx_orders_pending_created_at ON orders (created_at) WHERE status = 'PENDING';
@@ -0,0 +1,12 @@
+-- V20: Add per-order payment deadline (expires_at)
+-- 결제되지 않은 PENDING 주문은 expires_at에 맞춰 OrderExpiryScheduler가 만료 처리합니다.
+
+ALTER TABLE orders ADD COLUMN expires_at TIMESTAMP;
+
+-- 기존 PENDING 주문은 기존 정리 기준(생성 후 15분)으로 마감 시각을 채웁니다
+UPDATE orders SET expires_at = created_at + INTERVAL '15 minutes' WHERE status = 'PENDING';
+
+-- 만료 예정 주문 조회용 부분 인덱스 (PENDING 주문만 포함)
+CREATE INDEX idx_orders_pending_expires_at ON orders (expires_at) WHERE status = 'PENDING';
+
+COMMENT ON COLUMN orders.expires_at IS 'Payment deadline; unpaid PENDING orders are expired (FAILED) at this time';
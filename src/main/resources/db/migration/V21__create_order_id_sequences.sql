@@ -0,0 +1,21 @@
+-- V21: Sequence-based IDs for orders, order_items and order_timestamp
+-- IDENTITY(BIGSERIAL) 컬럼은 INSERT마다 생성된 키를 돌려받아야 하므로 Hibernate가 INSERT 배치를 사용할 수 없습니다.
+-- 엔티티는 이제 50개 단위로 ID를 미리 할당하는 pooled 시퀀스를 사용합니다 (allocationSize = 50과 INCREMENT BY 50이 일치해야 합니다).
+
+CREATE SEQUENCE IF NOT EXISTS orders_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_items_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_timestamp_seq INCREMENT BY 50;
+
+-- 기존 ID와 겹치지 않도록 현재 최댓값 이후부터 할당을 시작합니다
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 50);
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 50);
+SELECT setval('order_timestamp_seq', COALESCE((SELECT MAX(id) FROM order_timestamp), 0) + 50);
+
+-- BIGSERIAL 기본값은 pooled 할당 구간과 충돌할 수 있으므로 제거합니다 (ID는 항상 애플리케이션이 할당)
+ALTER TABLE orders ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE order_items ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE order_timestamp ALTER COLUMN id DROP DEFAULT;
+
+DROP SEQUENCE IF EXISTS orders_id_seq;
+DROP SEQUENCE IF EXISTS order_items_id_seq;
+DROP SEQUENCE IF EXISTS order_timestamp_id_seq;
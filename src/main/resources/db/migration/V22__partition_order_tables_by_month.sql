@@ -0,0 +1,141 @@
+-- V22: Monthly range partitioning of orders, order_items and order_timestamp
+-- 목적: 최근 월 파티션만 자주 접근되도록 하여 작업 집합을 작게 유지하고,
+--       기간 조건이 있는 통계/목록 조회에서 오래된 월을 실행 계획에서 제외(partition pruning)합니다.
+--
+-- 파티션 키
+--   orders          : created_at
+--   order_items     : created_at (주문과 같은 트랜잭션에서 생성)
+--   order_timestamp : updated_at (상태 변경 시각)
+--
+-- PostgreSQL 파티션 테이블의 PK/UNIQUE 제약은 파티션 키를 포함해야 하므로
+--   - PK는 (id, <파티션 키>)로 바뀝니다. id는 시퀀스로만 할당되므로 유일성은 그대로 유지됩니다.
+--   - orders.order_id의 전역 UNIQUE 제약과 이를 참조하던 외래 키(order_items, order_timestamp, payments)는 제거됩니다.
+--     order_id는 애플리케이션이 생성하는 ULID/UUID이고, 자식 행은 JPA cascade로 함께 저장/삭제됩니다.
+--
+-- 이후 월 파티션은 create_monthly_partitions()로 생성하며, OrderPartitionScheduler가 주기적으로 미리 만들어 둡니다.
+-- 범위를 벗어난 행은 _default 파티션에 저장되므로 파티션 생성이 늦어져도 INSERT가 실패하지 않습니다.
+
+-- =================================================================================
+-- 1. 월 파티션 생성 함수
+-- =================================================================================
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, start_month DATE, month_count INT)
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE;
+    partition_name TEXT;
+    created_count INT := 0;
+BEGIN
+    -- 여러 인스턴스가 동시에 실행해도 같은 파티션을 중복 생성하지 않도록 직렬화합니다
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partitions'));
+
+    FOR i IN 0 .. month_count - 1 LOOP
+        month_start := (date_trunc('month', start_month) + make_interval(months => i))::date;
+        partition_name := format('%s_p%s', parent_table, to_char(month_start, 'YYYYMM'));
+
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table, month_start, (month_start + INTERVAL '1 month')::date);
+            created_count := created_count + 1;
+        END IF;
+    END LOOP;
+
+    RETURN created_count;
+END;
+$$;
+
+-- =================================================================================
+-- 2. 파티션 키 NULL 값 보정 (파티션 키는 NOT NULL이어야 합니다)
+-- =================================================================================
+UPDATE orders SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+UPDATE order_items SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+
+-- =================================================================================
+-- 3. 기존 테이블 이름 변경 및 외래 키 제거
+-- =================================================================================
+ALTER TABLE payments DROP CONSTRAINT IF EXISTS fk_payments_to_orders_order_id;
+ALTER TABLE order_items DROP CONSTRAINT IF EXISTS fk_order_items_to_orders_order_id;
+ALTER TABLE order_timestamp DROP CONSTRAINT IF EXISTS order_timestamp_order_id_fkey;
+
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+ALTER TABLE order_timestamp RENAME TO order_timestamp_unpartitioned;
+
+-- =================================================================================
+-- 4. 파티션 테이블 생성 (컬럼/기본값/주석은 기존 테이블에서 그대로 복사)
+-- =================================================================================
+CREATE TABLE orders (LIKE orders_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+    PARTITION BY RANGE (created_at);
+ALTER TABLE orders ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE orders ADD PRIMARY KEY (id, created_at);
+
+CREATE TABLE order_items (LIKE order_items_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+    PARTITION BY RANGE (created_at);
+ALTER TABLE order_items ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE order_items ADD PRIMARY KEY (id, created_at);
+
+CREATE TABLE order_timestamp (LIKE order_timestamp_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+    PARTITION BY RANGE (updated_at);
+ALTER TABLE order_timestamp ADD PRIMARY KEY (id, updated_at);
+
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+CREATE TABLE order_items_default PARTITION OF order_items DEFAULT;
+CREATE TABLE order_timestamp_default PARTITION OF order_timestamp DEFAULT;
+
+-- 기존 데이터의 가장 오래된 월부터 3개월 뒤까지 월 파티션을 만듭니다
+DO $$
+DECLARE
+    first_month DATE;
+    month_count INT;
+BEGIN
+    SELECT date_trunc('month', LEAST(
+               COALESCE((SELECT MIN(created_at) FROM orders_unpartitioned), now()),
+               COALESCE((SELECT MIN(created_at) FROM order_items_unpartitioned), now()),
+               COALESCE((SELECT MIN(updated_at) FROM order_timestamp_unpartitioned), now())))::date
+      INTO first_month;
+
+    month_count := ((EXTRACT(YEAR FROM now()) - EXTRACT(YEAR FROM first_month)) * 12
+                    + (EXTRACT(MONTH FROM now()) - EXTRACT(MONTH FROM first_month)))::int + 4;
+
+    PERFORM create_monthly_partitions('orders', first_month, month_count);
+    PERFORM create_monthly_partitions('order_items', first_month, month_count);
+    PERFORM create_monthly_partitions('order_timestamp', first_month, month_count);
+END;
+$$;
+
+-- =================================================================================
+-- 5. 데이터 이관 및 기존 테이블 삭제
+-- =================================================================================
+INSERT INTO orders SELECT * FROM orders_unpartitioned;
+INSERT INTO order_items SELECT * FROM order_items_unpartitioned;
+INSERT INTO order_timestamp SELECT * FROM order_timestamp_unpartitioned;
+
+DROP TABLE order_timestamp_unpartitioned;
+DROP TABLE order_items_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+-- =================================================================================
+-- 6. 인덱스 재생성 (부모에 만든 인덱스는 모든 파티션에 자동으로 생성됩니다)
+-- =================================================================================
+CREATE INDEX idx_order_id ON orders (order_id);
+CREATE INDEX idx_user_id ON orders (user_id);
+CREATE INDEX idx_store_id ON orders (store_id);
+CREATE INDEX idx_orders_paid_at_unix ON orders (paid_at_unix);
+CREATE INDEX idx_orders_discount_amount ON orders (discount_amount);
+CREATE INDEX idx_orders_original_amount ON orders (original_amount);
+CREATE INDEX idx_orders_pending_created_at ON orders (created_at) WHERE status = 'PENDING';
+CREATE INDEX idx_orders_pending_expires_at ON orders (expires_at) WHERE status = 'PENDING';
+
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
+CREATE INDEX idx_product_id ON order_items (product_id);
+CREATE INDEX idx_order_items_event_type ON order_items (event_type);
+CREATE INDEX idx_order_items_was_hotdeal ON order_items (was_hotdeal);
+
+-- (order_id) 단일 인덱스는 (order_id, updated_at) 복합 인덱스로 대체되므로 다시 만들지 않습니다
+CREATE INDEX idx_order_timestamp_order_id_updated_at ON order_timestamp (order_id, updated_at);
+CREATE INDEX idx_order_timestamp_updated_at ON order_timestamp (updated_at);
+
+ANALYZE orders;
+ANALYZE order_items;
+ANALYZE order_timestamp;
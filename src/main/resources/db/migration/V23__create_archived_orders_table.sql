@@ -0,0 +1,21 @@
+-- V23: Cold tier for old terminal orders
+-- 생성 후 일정 기간(coubee.order.archive-after)이 지난 종료 상태 주문은 OrderArchiveScheduler가
+-- orders / order_items / order_timestamp / payments에서 이 테이블로 옮깁니다.
+-- 조회에 필요한 컬럼만 따로 두고 주문 전체 내용은 JSONB 문서 하나로 저장합니다.
+
+CREATE TABLE archived_orders (
+    order_id VARCHAR(50) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    store_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    search_text TEXT,
+    document JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+-- 사용자 주문 내역(최신순)의 보관 주문 조회용
+CREATE INDEX idx_archived_orders_user_created_at ON archived_orders (user_id, created_at DESC);
+
+COMMENT ON TABLE archived_orders IS 'Archived terminal orders (RECEIVED, FAILED, CANCELLED_*) moved out of the live order tables';
+COMMENT ON COLUMN archived_orders.document IS 'Order, items, payment summary and status history as one JSON document';
@@ -0,0 +1,7 @@
+-- V24: Optimistic locking version for orders
+-- 상태 전이(취소, 수령, 상태 변경, 결제 웹훅, 만료)가 같은 주문에서 경합할 때 마지막 쓰기가 이기지 않도록
+-- JPA @Version이 UPDATE 조건에 version을 포함합니다. 파티션 테이블이므로 모든 월 파티션에 함께 추가됩니다.
+
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN orders.version IS 'Optimistic locking version, incremented on every update';
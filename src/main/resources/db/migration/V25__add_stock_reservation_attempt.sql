@@ -0,0 +1,9 @@
+-- V25: Claim stock reservations before calling product-service
+-- 결제 준비는 상품 서비스에 재고 차감을 요청하기 전에 (주문, 상품) 행을 CLAIMED로 확보합니다.
+-- attempt는 행을 확보한 결제 준비 시도 번호이며, 차감 결과 반영과 보상(복원)은 같은 attempt의 행에만 적용됩니다.
+-- 따라서 취소로 복원된 뒤 다시 시도한 결제 준비가 실패해도 그 시도분의 보상이 건너뛰어지지 않습니다.
+
+ALTER TABLE stock_reservations ADD COLUMN attempt INTEGER NOT NULL DEFAULT 1;
+
+COMMENT ON COLUMN stock_reservations.status IS 'CLAIMED: decrement requested, outcome pending, HELD: stock decremented at payment preparation, RELEASED: not held (restored or rejected), CONSUMED: picked up by customer';
+COMMENT ON COLUMN stock_reservations.attempt IS 'Payment preparation attempt that claimed the row, incremented on every reclaim';
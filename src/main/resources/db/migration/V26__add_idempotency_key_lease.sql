@@ -0,0 +1,9 @@
+-- V26: Add an in-progress lease to idempotency_keys
+-- IN_PROGRESS 키는 locked_until까지만 선점이 유효합니다. 처리 중 인스턴스가 죽거나 완료 기록에 실패해 남은 키는
+-- 기한이 지나면 같은 키의 새 요청이 이어받습니다. 기존 IN_PROGRESS 행은 즉시 이어받을 수 있도록 생성 시각으로 채웁니다.
+
+ALTER TABLE idempotency_keys ADD COLUMN locked_until TIMESTAMP;
+
+UPDATE idempotency_keys SET locked_until = created_at WHERE status = 'IN_PROGRESS';
+
+COMMENT ON COLUMN idempotency_keys.locked_until IS 'End of the in-progress lease; after it a new request may take the key over (NULL once completed)';
@@ -0,0 +1,57 @@
+-- V27: Statistics views spanning the live and archived order tiers
+-- 통계/베스트셀러/주문 요약 쿼리는 orders / order_items 대신 이 뷰를 조회합니다.
+-- 보관된 주문(archived_orders, V23)은 주문 컬럼을 document JSONB에서, 아이템은 document->'items' 배열에서 꺼냅니다.
+-- archived_orders에는 종료 상태 주문만 있으므로 RECEIVED 기준 집계와 사용자 구매 요약이 보관 후에도 그대로 유지됩니다.
+--
+-- UNION ALL 뷰의 WHERE 조건은 각 분기로 내려가므로 orders / order_items의 created_at 파티션 제외는 그대로 동작합니다.
+
+CREATE VIEW order_facts AS
+SELECT o.order_id,
+       o.user_id,
+       o.store_id,
+       o.status,
+       o.original_amount,
+       o.discount_amount,
+       o.total_amount,
+       o.paid_at_unix,
+       o.created_at
+FROM orders o
+UNION ALL
+SELECT a.order_id,
+       a.user_id,
+       a.store_id,
+       a.status,
+       (a.document ->> 'originalAmount')::integer,
+       (a.document ->> 'discountAmount')::integer,
+       (a.document ->> 'totalAmount')::integer,
+       (a.document ->> 'paidAtUnix')::bigint,
+       a.created_at
+FROM archived_orders a;
+
+CREATE VIEW order_item_facts AS
+SELECT oi.order_id,
+       oi.product_id,
+       oi.product_name,
+       oi.quantity,
+       oi.price,
+       oi.event_type,
+       oi.was_hotdeal,
+       oi.created_at
+FROM order_items oi
+UNION ALL
+SELECT a.order_id,
+       (i.item ->> 'productId')::bigint,
+       (i.item ->> 'productName')::varchar,
+       (i.item ->> 'quantity')::integer,
+       (i.item ->> 'price')::integer,
+       (i.item ->> 'eventType')::varchar,
+       (i.item ->> 'wasHotdeal')::boolean,
+       a.created_at
+FROM archived_orders a
+CROSS JOIN LATERAL jsonb_array_elements(a.document -> 'items') AS i(item);
+
+-- 매장별 기간 통계에서 보관 분기를 created_at 범위로 좁히기 위한 인덱스
+CREATE INDEX idx_archived_orders_store_created_at ON archived_orders (store_id, created_at);
+
+COMMENT ON VIEW order_facts IS 'Orders from the live table and the archive tier, for statistics and summaries';
+COMMENT ON VIEW order_item_facts IS 'Order items from the live table and archived order documents, for statistics and bestsellers';
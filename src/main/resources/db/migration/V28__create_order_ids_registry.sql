@@ -0,0 +1,19 @@
+-- V28: Global uniqueness of order IDs across partitions
+-- V22에서 orders를 created_at으로 파티셔닝하면서 order_id의 전역 UNIQUE 제약이 사라졌습니다
+-- (파티션 테이블의 UNIQUE 제약은 파티션 키를 포함해야 함).
+-- 파티셔닝하지 않은 이 등록 테이블의 PK가 그 역할을 대신합니다. 주문 생성 트랜잭션에서 먼저 INSERT하므로
+-- 같은 order_id가 두 번 생성되면 주문 행이 저장되기 전에 PK 위반으로 실패합니다.
+-- 보관(archived_orders)된 주문의 ID도 계속 등록된 상태로 남습니다.
+
+CREATE TABLE order_ids (
+    order_id VARCHAR(50) PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO order_ids (order_id, created_at)
+SELECT order_id, created_at FROM orders
+UNION ALL
+SELECT order_id, created_at FROM archived_orders
+ON CONFLICT (order_id) DO NOTHING;
+
+COMMENT ON TABLE order_ids IS 'Registry of issued order IDs; its primary key enforces order_id uniqueness across order partitions and the archive';
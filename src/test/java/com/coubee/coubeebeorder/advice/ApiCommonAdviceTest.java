@@ -0,0 +1,81 @@
+package com.coubee.coubeebeorder.advice;
+
+import com.coubee.coubeebeorder.api.open.OrderController;
+import com.coubee.coubeebeorder.common.exception.IdempotencyConflictException;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.service.IdempotencyService;
+import com.coubee.coubeebeorder.service.OrderService;
+import com.coubee.coubeebeorder.service.StoreSecurityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@DisplayName("ApiCommonAdvice 예외 응답 매핑 테스트")
+class ApiCommonAdviceTest {
+
+    private static final String ORDER_CREATE_BODY = """
+            {"storeId": 10, "recipientName": "홍길동", "paymentMethod": "CARD",
+             "items": [{"productId": 100, "quantity": 1}]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private StoreSecurityService storeSecurityService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @Test
+    @DisplayName("재시도 후에도 낙관적 잠금 충돌이 남으면 500이 아니라 409로 응답한다")
+    void optimisticLockingFailure_ShouldReturnConflict() throws Exception {
+        // Given
+        given(orderService.cancelOrder(anyString(), any(), anyLong(), anyString()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Order.class, "order_conflict"));
+
+        // When & Then
+        mockMvc.perform(post("/api/order/orders/{orderId}/cancel", "order_conflict")
+                        .header("X-Auth-UserId", "1")
+                        .header("X-Auth-Role", "ROLE_USER"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("CONCURRENT_MODIFICATION"));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key의 요청이 처리 중이면 400이 아니라 409로 응답한다")
+    void idempotencyConflict_ShouldReturnConflict() throws Exception {
+        // Given
+        given(idempotencyService.execute(eq("order-create"), anyString(), anyString(), any(), any(), any()))
+                .willThrow(new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+
+        // When & Then
+        mockMvc.perform(post("/api/order/orders")
+                        .header("X-Auth-UserId", "1")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_CREATE_BODY))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_CONFLICT"));
+    }
+}
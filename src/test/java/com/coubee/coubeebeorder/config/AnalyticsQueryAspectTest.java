@@ -0,0 +1,63 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.util.RecentWriteTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AnalyticsQueryAspect 테스트")
+class AnalyticsQueryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoutingDataSource routingDataSource;
+    private StatsQueries proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new RoutingDataSource(null, true, new RecentWriteTracker(Duration.ofSeconds(5)), meterRegistry);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new StatsQueries());
+        factory.addAspect(new AnalyticsQueryAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("@AnalyticsQuery 메서드 안에서만 analytics 풀로 라우팅된다")
+    void annotatedMethod_ShouldRouteToAnalyticsOnlyWhileRunning() {
+        assertThat(proxy.lookupKey()).isEqualTo(DataSourceType.ANALYTICS);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(meterRegistry.find("analytics.query").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("statement_timeout으로 취소된 조회는 timeout 카운터를 증가시키고 예외를 그대로 던진다")
+    void statementTimeout_ShouldBeCounted() {
+        assertThatThrownBy(() -> proxy.timeout()).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(meterRegistry.counter("analytics.query.timeout", "method", "StatsQueries.timeout").count()).isEqualTo(1.0);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+
+    class StatsQueries {
+
+        @AnalyticsQuery
+        public Object lookupKey() {
+            return routingDataSource.determineCurrentLookupKey();
+        }
+
+        @AnalyticsQuery
+        public Object timeout() {
+            throw new QueryTimeoutException("canceled", new SQLException("canceling statement due to statement timeout", "57014"));
+        }
+    }
+}
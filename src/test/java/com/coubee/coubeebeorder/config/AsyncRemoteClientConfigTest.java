@@ -0,0 +1,185 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.common.exception.NotFound;
+import com.coubee.coubeebeorder.common.exception.StoreServiceException;
+import com.coubee.coubeebeorder.remote.DownstreamCallPolicies;
+import com.coubee.coubeebeorder.remote.product.AsyncProductClient;
+import com.coubee.coubeebeorder.remote.store.AsyncStoreClient;
+import com.coubee.coubeebeorder.remote.store.StoreResponseDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquirePendingLimitException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncRemoteClientConfig 테스트")
+class AsyncRemoteClientConfigTest {
+
+    private final AsyncRemoteClientConfig config = new AsyncRemoteClientConfig();
+    private final Map<String, StubResponse> stubs = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().block();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Feign 클라이언트와 같은 경로, 헤더, 반복 쿼리 파라미터로 호출하고 응답을 future로 돌려준다")
+    void asyncStoreClient_ShouldCallSameEndpoints() {
+        stubs.put("/api/store/detail/1", json("{\"code\":\"OK\",\"data\":{\"storeId\":1,\"storeName\":\"강남점\"}}"));
+        stubs.put("/backend/store/bulk", json("{\"code\":\"OK\",\"data\":{\"1\":{\"storeId\":1},\"2\":{\"storeId\":2}}}"));
+        RemoteClientProperties properties = properties("http://localhost:" + port(), 10, 10);
+        AsyncStoreClient client = storeClient(properties);
+
+        CompletableFuture<ApiResponseDto<StoreResponseDto>> store = client.getStoreById(1L, 100L);
+        CompletableFuture<ApiResponseDto<Map<Long, StoreResponseDto>>> stores = client.getStoresByIds(List.of(1L, 2L), 100L);
+
+        assertThat(store.join().getData().getStoreName()).isEqualTo("강남점");
+        assertThat(stores.join().getData()).containsOnlyKeys(1L, 2L);
+        assertThat(requests).containsExactlyInAnyOrder(
+                "/api/store/detail/1 X-Auth-UserId=100",
+                "/backend/store/bulk?storeIds=1&storeIds=2 X-Auth-UserId=100");
+    }
+
+    @Test
+    @DisplayName("오류 응답은 Feign 에러 디코더와 같은 도메인 예외로 future를 실패시킨다")
+    void errorResponses_ShouldMapToDomainExceptions() {
+        stubs.put("/api/store/detail/1", new StubResponse(503, "", 0));
+        stubs.put("/api/product/detail/7", new StubResponse(404, "", 0));
+        RemoteClientProperties properties = properties("http://localhost:" + port(), 10, 10);
+        connectionProvider = config.downstreamConnectionProvider(properties);
+        ReactorClientHttpConnector connector = config.downstreamClientConnector(connectionProvider, properties);
+        AsyncStoreClient storeClient = config.asyncStoreClient(WebClient.builder(), connector, properties, new DownstreamCallPolicies(properties, new SimpleMeterRegistry()));
+        AsyncProductClient productClient = config.asyncProductClient(WebClient.builder(), connector, properties, new DownstreamCallPolicies(properties, new SimpleMeterRegistry()));
+
+        assertThatThrownBy(() -> storeClient.getStoreById(1L, 100L).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(StoreServiceException.class);
+        assertThatThrownBy(() -> productClient.getProductById(7L, 100L).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NotFound.class);
+    }
+
+    @Test
+    @DisplayName("연결 수와 대기 한도는 서비스(호스트)별로 적용되어, 한도를 넘는 요청만 즉시 실패한다")
+    void perRoutePoolLimits_ShouldApplyToMatchingHostOnly() {
+        stubs.put("/api/store/detail/1", new StubResponse(200, "{\"code\":\"OK\",\"data\":{\"storeId\":1}}", 300));
+        stubs.put("/api/product/detail/7", new StubResponse(200, "{\"code\":\"OK\",\"data\":{\"productId\":7}}", 300));
+        // store route만 연결 1개 + 대기 1건으로 제한하고, product route는 같은 서버를 다른 호스트명으로 가리킵니다
+        RemoteClientProperties properties = properties("http://localhost:" + port(), 1, 1);
+        properties.getProduct().setBaseUrl("http://127.0.0.1:" + port());
+        properties.getProduct().setMaxConnections(10);
+        connectionProvider = config.downstreamConnectionProvider(properties);
+        ReactorClientHttpConnector connector = config.downstreamClientConnector(connectionProvider, properties);
+        AsyncStoreClient storeClient = config.asyncStoreClient(WebClient.builder(), connector, properties, new DownstreamCallPolicies(properties, new SimpleMeterRegistry()));
+        AsyncProductClient productClient = config.asyncProductClient(WebClient.builder(), connector, properties, new DownstreamCallPolicies(properties, new SimpleMeterRegistry()));
+
+        List<CompletableFuture<?>> stores = List.of(
+                storeClient.getStoreById(1L, 100L), storeClient.getStoreById(1L, 100L), storeClient.getStoreById(1L, 100L));
+        List<CompletableFuture<?>> products = List.of(
+                productClient.getProductById(7L, 100L), productClient.getProductById(7L, 100L), productClient.getProductById(7L, 100L));
+
+        long rejected = stores.stream().filter(future -> {
+            try {
+                future.join();
+                return false;
+            } catch (CompletionException e) {
+                assertThat(e).hasRootCauseInstanceOf(PoolAcquirePendingLimitException.class);
+                return true;
+            }
+        }).count();
+        assertThat(rejected).isEqualTo(1);
+        products.forEach(CompletableFuture::join);
+    }
+
+    @Test
+    @DisplayName("풀 키는 Reactor Netty가 요청 URI로 만드는 미해석 주소와 같은 형태다")
+    void remoteAddress_ShouldUseUnresolvedHostAndDefaultPort() {
+        assertThat(AsyncRemoteClientConfig.remoteAddress("http://coubee-be-store-service:8080"))
+                .satisfies(address -> {
+                    assertThat(address.isUnresolved()).isTrue();
+                    assertThat(address.getHostString()).isEqualTo("coubee-be-store-service");
+                    assertThat(address.getPort()).isEqualTo(8080);
+                });
+        assertThat(AsyncRemoteClientConfig.remoteAddress("http://user-service").getPort()).isEqualTo(80);
+    }
+
+    private AsyncStoreClient storeClient(RemoteClientProperties properties) {
+        connectionProvider = config.downstreamConnectionProvider(properties);
+        ReactorClientHttpConnector connector = config.downstreamClientConnector(connectionProvider, properties);
+        return config.asyncStoreClient(WebClient.builder(), connector, properties, new DownstreamCallPolicies(properties, new SimpleMeterRegistry()));
+    }
+
+    private static RemoteClientProperties properties(String baseUrl, int maxConnections, int pendingAcquireMaxCount) {
+        RemoteClientProperties properties = new RemoteClientProperties();
+        for (RemoteClientProperties.Route route : List.of(properties.getStore(), properties.getProduct(), properties.getUser())) {
+            route.setBaseUrl(baseUrl);
+            route.setMaxConnections(maxConnections);
+            route.setPendingAcquireMaxCount(pendingAcquireMaxCount);
+        }
+        return properties;
+    }
+
+    private int port() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.add(exchange.getRequestURI() + " X-Auth-UserId=" + exchange.getRequestHeaders().getFirst("X-Auth-UserId"));
+        StubResponse stub = stubs.getOrDefault(exchange.getRequestURI().getPath(), new StubResponse(404, "", 0));
+        try {
+            Thread.sleep(stub.delayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = stub.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(stub.status(), body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static StubResponse json(String body) {
+        return new StubResponse(200, body, 0);
+    }
+
+    private record StubResponse(int status, String body, long delayMillis) {
+    }
+}
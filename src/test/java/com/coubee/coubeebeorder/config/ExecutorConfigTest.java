@@ -0,0 +1,53 @@
+package com.coubee.coubeebeorder.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExecutorConfig 스레드 모드 테스트")
+class ExecutorConfigTest {
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 풀의 작업이 가상 스레드에서 실행되고, 크기 제한은 유지된다")
+    void virtualMode_ShouldRunPooledTasksOnVirtualThreads() throws Exception {
+        ThreadPoolTaskExecutor executor = notificationExecutor(true);
+        try {
+            assertThat(runOn(executor).isVirtual()).isTrue();
+            assertThat(executor.getMaxPoolSize()).isEqualTo(2);
+            assertThat(executor.getQueueCapacity()).isEqualTo(1000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("기본 모드에서는 플랫폼 스레드를 사용한다")
+    void defaultMode_ShouldUsePlatformThreads() throws Exception {
+        ThreadPoolTaskExecutor executor = notificationExecutor(false);
+        try {
+            Thread thread = runOn(executor);
+            assertThat(thread.isVirtual()).isFalse();
+            assertThat(thread.getName()).startsWith("notification-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private ThreadPoolTaskExecutor notificationExecutor(boolean virtualThreads) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        return new ExecutorConfig(environment).notificationExecutor(new OrderProperties());
+    }
+
+    private Thread runOn(ThreadPoolTaskExecutor executor) throws Exception {
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+        executor.execute(() -> thread.complete(Thread.currentThread()));
+        return thread.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,111 @@
+package com.coubee.coubeebeorder.config;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FeignHttpClientConfig 테스트")
+class FeignHttpClientConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/backend/store/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("연속 호출은 풀의 keep-alive 연결을 재사용하고, 풀 상태가 클라이언트 이름 태그로 노출된다")
+    void pooledClient_ShouldReuseConnectionAndExposePoolGauges() {
+        FeignClientPoolProperties.Pool pool = new FeignClientPoolProperties.Pool();
+        pool.setMaxConnections(7);
+        pool.setMaxConnectionsPerRoute(3);
+        TestClient client = feignClient(pool);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.status(1L)).isEqualTo("ok");
+        }
+
+        assertThat(Set.copyOf(clientPorts)).hasSize(1);
+        assertThat(gauge("httpcomponents.httpclient.pool.total.max")).isEqualTo(7.0);
+        assertThat(gauge("httpcomponents.httpclient.pool.route.max.default")).isEqualTo(3.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", "store", "state", "available").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", "store", "state", "leased").gauge().value()).isEqualTo(0.0);
+        assertThat(gauge("httpcomponents.httpclient.pool.total.pending")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Feign 메서드별 지연 시간 타이머가 method 태그로 기록된다")
+    void meteredClient_ShouldRecordTimerPerFeignMethod() {
+        TestClient client = feignClient(new FeignClientPoolProperties.Pool());
+
+        client.status(1L);
+        client.status(2L);
+
+        assertThat(meterRegistry.get("feign.Client")
+                .tag("method", "status")
+                .tag("host", "localhost")
+                .timer().count()).isEqualTo(2);
+    }
+
+    private TestClient feignClient(FeignClientPoolProperties.Pool pool) {
+        httpClient = FeignHttpClientConfig.pooledHttpClient("store", pool, meterRegistry);
+        return Feign.builder()
+                .client(new ApacheHttp5Client(httpClient))
+                .options(new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true))
+                .addCapability(new CommonFeignConfig().feignMicrometerCapability(meterRegistry))
+                .target(TestClient.class, "http://localhost:" + server.getAddress().getPort());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("httpclient", "store").gauge().value();
+    }
+
+    interface TestClient {
+
+        @RequestLine("GET /backend/store/{storeId}/status")
+        String status(@Param("storeId") Long storeId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.coubee.coubeebeorder.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryOnConflictAspect 테스트")
+class RetryOnConflictAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Transitions target;
+    private Transitions proxy;
+
+    @BeforeEach
+    void setUp() {
+        OrderProperties orderProperties = new OrderProperties();
+        orderProperties.setConflictMaxAttempts(3);
+        orderProperties.setConflictBackoff(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+
+        target = new Transitions();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RetryOnConflictAspect(orderProperties, meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 호출되면 충돌 후 다시 시도하여 성공한다")
+    void conflict_OutsideTransaction_ShouldRetry() {
+        target.failuresBeforeSuccess = 2;
+
+        assertThat(proxy.cancel()).isEqualTo("ok");
+
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("order.transition.conflicts", "transition", "cancel", "action", "retry").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 충돌 예외를 그대로 던진다")
+    void conflict_Exhausted_ShouldThrow() {
+        target.failuresBeforeSuccess = 5;
+
+        assertThatThrownBy(() -> proxy.cancel()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("order.transition.conflicts", "transition", "cancel", "action", "exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션에 참여한 호출은 재시도하지 않고 충돌만 기록한다")
+    void conflict_InsideTransaction_ShouldPropagate() {
+        target.failuresBeforeSuccess = 1;
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThatThrownBy(() -> proxy.cancel()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("order.transition.conflicts", "transition", "cancel", "action", "propagate").count()).isEqualTo(1.0);
+    }
+
+    static class Transitions {
+
+        final AtomicInteger calls = new AtomicInteger();
+        int failuresBeforeSuccess;
+
+        @RetryOnConflict(transition = "cancel")
+        public String cancel() {
+            if (calls.incrementAndGet() <= failuresBeforeSuccess) {
+                throw new ObjectOptimisticLockingFailureException("Order", 1L);
+            }
+            return "ok";
+        }
+    }
+}
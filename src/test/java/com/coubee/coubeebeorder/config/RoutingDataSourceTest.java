@@ -0,0 +1,136 @@
+package com.coubee.coubeebeorder.config;
+
+import com.coubee.coubeebeorder.util.RecentWriteTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoutingDataSource 테스트")
+class RoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private RecentWriteTracker recentWriteTracker;
+    private SimpleMeterRegistry meterRegistry;
+    private RoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        recentWriteTracker = new RecentWriteTracker(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new RoutingDataSource(replicaLagMonitor, true, recentWriteTracker, meterRegistry);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Auth-UserId", "1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 primary를 사용한다")
+    void noTransaction_ShouldRouteToPrimary() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본이 정상일 때 복제본을 사용한다")
+    void readOnly_WithHealthyReplica_ShouldRouteToReplica() {
+        beginTransaction(true);
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 한도를 넘으면 읽기도 primary를 사용한다")
+    void readOnly_WithLaggingReplica_ShouldRouteToPrimary() {
+        beginTransaction(true);
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(false);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(meterRegistry.counter("datasource.routing", "target", "primary", "reason", "replica_lag").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 커밋 후 같은 사용자의 읽기는 primary를 사용한다")
+    void readOnly_AfterOwnWriteCommitted_ShouldRouteToPrimary() {
+        beginTransaction(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(meterRegistry.counter("datasource.routing", "target", "primary", "reason", "read_your_writes").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("집계 조회 구간의 읽기 전용 트랜잭션은 analytics 풀을 사용한다")
+    void readOnly_InsideAnalyticsQuery_ShouldRouteToAnalytics() {
+        beginTransaction(true);
+
+        boolean previous = RoutingDataSource.enterAnalytics();
+        try {
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.ANALYTICS);
+        } finally {
+            RoutingDataSource.exitAnalytics(previous);
+        }
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+    }
+
+    @Test
+    @DisplayName("집계 조회 구간이라도 쓰기 트랜잭션은 primary를 사용한다")
+    void write_InsideAnalyticsQuery_ShouldRouteToPrimary() {
+        beginTransaction(false);
+
+        boolean previous = RoutingDataSource.enterAnalytics();
+        try {
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        } finally {
+            RoutingDataSource.exitAnalytics(previous);
+        }
+    }
+
+    @Test
+    @DisplayName("복제본이 비활성화되면 읽기 전용 트랜잭션도 primary를 사용한다")
+    void readOnly_WithoutReplica_ShouldRouteToPrimary() {
+        RoutingDataSource primaryOnly = new RoutingDataSource(null, true, recentWriteTracker, meterRegistry);
+        beginTransaction(true);
+
+        assertThat(primaryOnly.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,156 @@
+package com.coubee.coubeebeorder.remote;
+
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DownstreamCallPolicies 테스트")
+class DownstreamCallPoliciesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private RemoteClientProperties properties;
+    private DownstreamCallPolicies policies;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RemoteClientProperties();
+        properties.getAdaptive().setMinSamples(50);
+        properties.getAdaptive().setMinTimeout(Duration.ofMillis(50));
+        policies = new DownstreamCallPolicies(properties, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("표본이 minSamples보다 적으면 고정 타임아웃을, 쌓이면 p99 x 배수를 타임아웃으로 쓴다")
+    void timeout_ShouldFollowObservedLatency() {
+        DownstreamCallPolicy policy = policies.policy("store", "getStoreById");
+        recordSamples(policy, 49, 100);
+        assertThat(policy.timeoutMillis(10_000)).isEqualTo(10_000);
+
+        recordSamples(policy, 1, 100);
+        assertThat(policy.timeoutMillis(10_000)).isEqualTo(300);
+        assertThat(meterRegistry.get("downstream.adaptive.timeout").tag("method", "getStoreById").timeGauge()
+                .value(TimeUnit.MILLISECONDS)).isEqualTo(300.0);
+
+        // 하한(minTimeout)과 상한(고정 타임아웃) 사이로 제한
+        recordSamples(policy, 256, 5);
+        assertThat(policy.timeoutMillis(10_000)).isEqualTo(50);
+        recordSamples(policy, 256, 8_000);
+        assertThat(policy.timeoutMillis(10_000)).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("적응형 타임아웃이 지나면 TimeoutException으로 실패하고 진행 중인 요청을 취소한다")
+    void read_ShouldTimeOutAndCancelAttempt() {
+        recordSamples(policies.policy("store", "getStoreById"), 50, 10);
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+
+        CompletableFuture<String> result = policies.read("store", "getStoreById", () -> attempt);
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(attempt.isCancelled()).isTrue();
+        assertThat(meterRegistry.counter("downstream.calls", "client", "store", "method", "getStoreById", "outcome", "timeout").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤지 지연 시간 안에 끝나지 않으면 두 번째 요청을 보내고 먼저 성공한 응답을 쓴다")
+    void read_ShouldHedgeSlowAttempt() throws Exception {
+        properties.getHedge().setEnabled(true);
+        properties.getAdaptive().setMinTimeout(Duration.ofSeconds(2));
+        recordSamples(policies.policy("product", "getProductsByIds"), 50, 10);
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        CompletableFuture<String> hedged = new CompletableFuture<>();
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = policies.read("product", "getProductsByIds", () -> {
+            CompletableFuture<String> attempt = attempts.isEmpty() ? slow : hedged;
+            attempts.add(attempt);
+            return attempt;
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hedged.getNumberOfDependents() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        // 헤지 요청이 시작된 뒤 이 스레드에서 완료시켜 헤지 승리 기록이 결과 확인보다 먼저 끝나도록 합니다
+        hedged.complete("hedged");
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hedged");
+        assertThat(attempts).hasSize(2);
+        assertThat(slow.isCancelled()).isTrue();
+        assertThat(meterRegistry.counter("downstream.hedges", "client", "product", "method", "getProductsByIds").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("downstream.hedge.wins", "client", "product", "method", "getProductsByIds").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("빠르게 실패한 요청은 헤지하지 않고 원래 예외로 실패한다")
+    void read_ShouldPropagateFailure() {
+        properties.getHedge().setEnabled(true);
+        recordSamples(policies.policy("user", "getUserInfoById"), 50, 10);
+        IllegalStateException failure = new IllegalStateException("user service down");
+        AtomicLong calls = new AtomicLong();
+
+        CompletableFuture<String> result = policies.read("user", "getUserInfoById", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(failure);
+        });
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("downstream.calls", "client", "user", "method", "getUserInfoById", "outcome", "error").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지 요청은 전체 요청의 maxRatio를 넘지 않는다")
+    void hedgeBudget_ShouldBeLimitedByRatio() {
+        DownstreamCallPolicy policy = policies.policy("store", "getStoresByIds");
+
+        policy.onRequest();
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isFalse();
+
+        for (int i = 0; i < 9; i++) {
+            policy.onRequest();
+        }
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤지가 꺼져 있으면 헤지 지연 시간은 -1이다")
+    void hedgeDelay_ShouldBeDisabledByDefault() {
+        DownstreamCallPolicy policy = policies.policy("store", "getActiveHotdeal");
+        recordSamples(policy, 50, 10);
+
+        assertThat(policy.hedgeDelayMillis()).isEqualTo(-1);
+
+        properties.getHedge().setEnabled(true);
+        assertThat(policy.hedgeDelayMillis()).isEqualTo(20);
+    }
+
+    private void recordSamples(DownstreamCallPolicy policy, int count, long latencyMillis) {
+        for (int i = 0; i < count; i++) {
+            policy.recordLatency(latencyMillis);
+        }
+        // 백분위수는 refreshInterval마다 다시 계산하므로 시계를 넘깁니다
+        now.addAndGet(properties.getAdaptive().getRefreshInterval().toMillis());
+    }
+}
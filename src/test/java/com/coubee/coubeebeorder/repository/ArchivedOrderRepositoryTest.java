@@ -0,0 +1,78 @@
+package com.coubee.coubeebeorder.repository;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrder;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.OrderTimestamp;
+import com.coubee.coubeebeorder.domain.repository.ArchivedOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArchivedOrderRepository 테스트
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class ArchivedOrderRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime archivedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        archivedOrderRepository.saveAll(List.of(
+                archived("order_a", "강남점", "아메리카노", archivedAt),
+                archived("order_b", "역삼점", "카페라떼", archivedAt)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("보관 주문 문서를 JSON으로 저장하고 그대로 읽어온다")
+    void findByOrderId_ShouldRoundTripDocument() {
+        ArchivedOrder archivedOrder = archivedOrderRepository.findByOrderId("order_a").orElseThrow();
+
+        assertThat(archivedOrder.getDocument().orderId()).isEqualTo("order_a");
+        assertThat(archivedOrder.getDocument().items())
+                .extracting(item -> item.productName())
+                .containsExactly("아메리카노");
+        assertThat(archivedOrder.getDocument().statusHistory())
+                .extracting(change -> change.status())
+                .containsExactly(OrderStatus.RECEIVED);
+    }
+
+    @Test
+    @DisplayName("사용자 보관 주문을 키워드와 offset/limit으로 조회한다")
+    void findUserArchivedOrders_ShouldFilterByKeyword() {
+        assertThat(archivedOrderRepository.countUserArchivedOrders(1L, null)).isEqualTo(2);
+        assertThat(archivedOrderRepository.countUserArchivedOrders(1L, "라떼")).isEqualTo(1);
+
+        List<ArchivedOrder> page = archivedOrderRepository.findUserArchivedOrders(1L, "", 1, 10);
+        assertThat(page).hasSize(1);
+
+        List<ArchivedOrder> matched = archivedOrderRepository.findUserArchivedOrders(1L, "강남", 0, 10);
+        assertThat(matched).extracting(ArchivedOrder::getOrderId).containsExactly("order_a");
+    }
+
+    private ArchivedOrder archived(String orderId, String storeName, String productName, LocalDateTime archivedAt) {
+        Order order = Order.createOrder(orderId, 1L, 1L, storeName, 1000, 0, 1000, "고객");
+        order.addOrderItem(OrderItem.createOrderItem(1L, productName, null, 1, 1000));
+        order.addStatusHistory(OrderTimestamp.createTimestamp(order, OrderStatus.RECEIVED, archivedAt.minusMonths(7)));
+        order.updateStatus(OrderStatus.RECEIVED);
+        entityManager.persist(order); // created_at은 저장 시 감사(auditing)로 채워집니다
+        return ArchivedOrder.of(order, archivedAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.coubee.coubeebeorder.repository;
+
+import com.coubee.coubeebeorder.common.exception.IdempotencyConflictException;
+import com.coubee.coubeebeorder.config.IdempotencyProperties;
+import com.coubee.coubeebeorder.domain.IdempotencyKey;
+import com.coubee.coubeebeorder.domain.IdempotencyStatus;
+import com.coubee.coubeebeorder.domain.dto.PaymentReadyResponse;
+import com.coubee.coubeebeorder.domain.repository.IdempotencyKeyRepository;
+import com.coubee.coubeebeorder.service.IdempotencyServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key 선점이 실제 DB에서 INSERT로 동작하는지 검증합니다.
+ * 운영과 같이 선점/완료가 각자 커밋되도록 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyKeyPersistenceTest {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    private final AtomicInteger actionCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(idempotencyKeyRepository, new IdempotencyProperties(),
+                new ObjectMapper(), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyKeyRepository.deleteAll();
+    }
+
+    private PaymentReadyResponse action() {
+        actionCalls.incrementAndGet();
+        return PaymentReadyResponse.of("홍길동", "커피", 1000, "order_test");
+    }
+
+    @Test
+    @DisplayName("완료된 키로 다시 요청하면 작업을 재실행하지 않고 저장된 응답을 돌려준다")
+    void execute_RetryAfterCompletion_ShouldRunActionOnce() {
+        PaymentReadyResponse first = idempotencyService.execute("order-create", "1", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+        PaymentReadyResponse retried = idempotencyService.execute("order-create", "1", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+
+        assertThat(actionCalls.get()).isEqualTo(1);
+        assertThat(retried).isEqualTo(first);
+        assertThat(idempotencyKeyRepository.findById("order-create:1:key-1"))
+                .hasValueSatisfying(key -> assertThat(key.getStatus()).isEqualTo(IdempotencyStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 다시 요청하면 선점을 덮어쓰지 않고 충돌로 거절한다")
+    void execute_RetryWhileInProgress_ShouldConflict() {
+        idempotencyService.execute("order-create", "1", "key-2", Map.of("a", 1), PaymentReadyResponse.class, () -> {
+            assertThatThrownBy(() -> idempotencyService.execute("order-create", "1", "key-2",
+                    Map.of("a", 1), PaymentReadyResponse.class, this::action))
+                    .isInstanceOf(IdempotencyConflictException.class);
+            return action();
+        });
+
+        assertThat(actionCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선점 기한이 지난 키라도 다른 요청 본문으로는 이어받지 못하고 충돌로 거절한다")
+    void execute_ExpiredClaimWithDifferentPayload_ShouldConflict() {
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(5).truncatedTo(ChronoUnit.MICROS);
+        idempotencyKeyRepository.saveAndFlush(IdempotencyKey.start("order-create:1:key-3", "other-request-hash",
+                claimedAt, claimedAt.plusHours(24), claimedAt.plusSeconds(30)));
+
+        assertThatThrownBy(() -> idempotencyService.execute("order-create", "1", "key-3",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action))
+                .isInstanceOf(IdempotencyConflictException.class);
+
+        assertThat(actionCalls.get()).isZero();
+        assertThat(idempotencyKeyRepository.findById("order-create:1:key-3"))
+                .hasValueSatisfying(key -> {
+                    assertThat(key.getRequestHash()).isEqualTo("other-request-hash");
+                    assertThat(key.isClaimedAt(claimedAt)).isTrue();
+                });
+    }
+}
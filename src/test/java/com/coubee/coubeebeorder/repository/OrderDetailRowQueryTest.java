@@ -0,0 +1,105 @@
+package com.coubee.coubeebeorder.repository;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.OrderTimestamp;
+import com.coubee.coubeebeorder.domain.Payment;
+import com.coubee.coubeebeorder.domain.PaymentStatus;
+import com.coubee.coubeebeorder.domain.projection.OrderDetailRow;
+import com.coubee.coubeebeorder.domain.projection.OrderItemRow;
+import com.coubee.coubeebeorder.domain.projection.OrderStatusRow;
+import com.coubee.coubeebeorder.domain.repository.OrderItemRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderTimestampRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 목록 조회용 생성자 프로젝션 쿼리 테스트
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class OrderDetailRowQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderTimestampRepository orderTimestampRepository;
+
+    @BeforeEach
+    void setUp() {
+        Order paid = Order.createOrder("order_paid", 1L, 10L, "강남점", 3000, 0, 3000, "고객");
+        paid.addOrderItem(OrderItem.createOrderItem(100L, "아메리카노", null, 2, 1500));
+        // 이력을 시간 역순으로 추가하여 조회 쿼리의 정렬을 확인합니다
+        paid.addStatusHistory(OrderTimestamp.createTimestamp(paid, OrderStatus.PAID, LocalDateTime.of(2026, 1, 1, 10, 1)));
+        paid.addStatusHistory(OrderTimestamp.createTimestamp(paid, OrderStatus.PENDING, LocalDateTime.of(2026, 1, 1, 10, 0)));
+        paid.setPayment(Payment.createPayment("pay_1", paid, "card", 3000));
+        entityManager.persist(paid);
+
+        Order pending = Order.createOrder("order_pending", 1L, 10L, "강남점", 1000, 0, 1000, "고객");
+        pending.addOrderItem(OrderItem.createOrderItem(101L, "카페라떼", null, 1, 1000));
+        pending.addStatusHistory(OrderTimestamp.createTimestamp(pending, OrderStatus.PENDING, LocalDateTime.of(2026, 1, 1, 9, 0)));
+        entityManager.persist(pending);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("주문, 결제, 아이템, 이력을 엔티티 없이 행으로 조회한다")
+    void findRows_ShouldNotLoadEntities() {
+        List<String> orderIds = List.of("order_paid", "order_pending");
+
+        List<OrderDetailRow> orderRows = orderRepository.findDetailRowsByOrderIdIn(orderIds);
+        List<OrderItemRow> itemRows = orderItemRepository.findRowsByOrderIdIn(orderIds);
+
+        assertThat(orderRows).extracting(OrderDetailRow::orderId).containsExactlyInAnyOrder("order_paid", "order_pending");
+        OrderDetailRow paidRow = orderRows.stream().filter(row -> row.orderId().equals("order_paid")).findFirst().orElseThrow();
+        assertThat(paidRow.paymentId()).isEqualTo("pay_1");
+        assertThat(paidRow.paymentStatus()).isEqualTo(PaymentStatus.READY);
+        OrderDetailRow pendingRow = orderRows.stream().filter(row -> row.orderId().equals("order_pending")).findFirst().orElseThrow();
+        assertThat(pendingRow.paymentId()).isNull();
+
+        assertThat(itemRows).extracting(OrderItemRow::productName).containsExactlyInAnyOrder("아메리카노", "카페라떼");
+        assertThat(itemRows).filteredOn(row -> row.orderId().equals("order_paid"))
+                .extracting(OrderItemRow::totalPrice).containsExactly(3000);
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 이력을 주문 ID, 변경 시각 순으로 스트리밍한다")
+    void streamRowsByOrderIdIn_ShouldOrderByOrderIdAndUpdatedAt() {
+        List<OrderStatusRow> historyRows;
+        try (Stream<OrderStatusRow> rows = orderTimestampRepository.streamRowsByOrderIdIn(List.of("order_paid", "order_pending"))) {
+            historyRows = rows.toList();
+        }
+
+        assertThat(historyRows)
+                .extracting(OrderStatusRow::orderId, OrderStatusRow::status)
+                .containsExactly(
+                        tuple("order_paid", OrderStatus.PENDING),
+                        tuple("order_paid", OrderStatus.PAID),
+                        tuple("order_pending", OrderStatus.PENDING));
+    }
+}
@@ -0,0 +1,39 @@
+package com.coubee.coubeebeorder.repository;
+
+import com.coubee.coubeebeorder.domain.OrderIdRegistration;
+import com.coubee.coubeebeorder.domain.repository.OrderIdRegistrationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OrderIdRegistrationRepository 테스트 (파티션 테이블을 대신한 order_id 유일성 보장)
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class OrderIdRegistrationRepositoryTest {
+
+    @Autowired
+    private OrderIdRegistrationRepository orderIdRegistrationRepository;
+
+    @Test
+    @DisplayName("새 주문 ID는 등록된다")
+    void register_NewOrderId_ShouldSucceed() {
+        orderIdRegistrationRepository.saveAndFlush(OrderIdRegistration.of("order_r1"));
+
+        assertThat(orderIdRegistrationRepository.existsById("order_r1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 등록된 주문 ID를 다시 등록하면 덮어쓰지 않고 무결성 위반으로 실패한다")
+    void register_DuplicateOrderId_ShouldFail() {
+        orderIdRegistrationRepository.saveAndFlush(OrderIdRegistration.of("order_r2"));
+
+        assertThatThrownBy(() -> orderIdRegistrationRepository.saveAndFlush(OrderIdRegistration.of("order_r2")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.coubee.coubeebeorder.repository;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.OrderTimestamp;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저장 시 INSERT 배치 검증
+ *
+ * 10개 아이템 주문을 저장할 때 실행되는 JDBC 문장 수를 Hibernate 통계로 측정합니다.
+ * IDENTITY 방식에서는 주문 1 + 아이템 10 + 상태 이력 1 = 12번의 단건 INSERT가 필요했습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderInsertBatchingTest {
+
+    private static final int ITEM_COUNT = 10;
+    // INSERT 배치 3개(테이블별) + 시퀀스 조회 최대 3번(테이블별, allocationSize 50마다)
+    private static final int MAX_STATEMENTS = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 새 시퀀스의 첫 조회(초기값 할당)는 측정에서 제외합니다
+        orderRepository.saveAndFlush(createOrder("order_warmup_1"));
+        orderRepository.saveAndFlush(createOrder("order_warmup_2"));
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("10개 아이템 주문 저장 시 INSERT가 테이블별 배치로 묶인다")
+    void saveOrder_WithTenItems_ShouldBatchInserts() {
+        // When
+        orderRepository.saveAndFlush(createOrder("order_batch"));
+
+        // Then - orders, order_items, order_timestamp 테이블별 INSERT 배치 3개 + 테이블별 최대 1번의 시퀀스 조회
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEM_COUNT + 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 저장해도 문장 수는 주문 수와 무관하다")
+    void saveOrders_ShouldReusePooledSequenceValues() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            orderRepository.save(createOrder("order_pooled_" + i));
+        }
+        entityManager.flush();
+
+        // Then - 주문 3 + 아이템 30 + 이력 3 = 36건이지만 ID는 50개 단위로 미리 할당되고 INSERT는 테이블별로 묶입니다
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3 * (ITEM_COUNT + 2));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private Order createOrder(String orderId) {
+        Order order = Order.createOrder(orderId, 1L, 1L, 10000, "테스트 고객");
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            order.addOrderItem(OrderItem.createOrderItem((long) i + 1, "상품" + i, null, 1, 1000));
+        }
+        order.addStatusHistory(OrderTimestamp.createTimestamp(order, OrderStatus.PENDING));
+        return order;
+    }
+}
@@ -0,0 +1,104 @@
+package com.coubee.coubeebeorder.repository;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import com.coubee.coubeebeorder.util.OrderIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Order @Version 낙관적 잠금 테스트
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class OrderOptimisticLockTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("상태 전이마다 version이 증가한다")
+    void updateStatus_ShouldIncrementVersion() {
+        Order order = orderRepository.saveAndFlush(Order.createOrder("order_v1", 1L, 10L, "강남점", 1000, 0, 1000, "고객"));
+        assertThat(order.getVersion()).isZero();
+
+        order.updateStatus(OrderStatus.PAID);
+        orderRepository.saveAndFlush(order);
+
+        assertThat(order.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 트랜잭션이 먼저 전이하면 나중 쓰기는 충돌로 실패한다")
+    void concurrentTransition_ShouldFailWithConflict() {
+        orderRepository.saveAndFlush(Order.createOrder("order_v2", 1L, 10L, "강남점", 1000, 0, 1000, "고객"));
+        entityManager.clear();
+
+        Order staleCopy = orderRepository.findByOrderId("order_v2").orElseThrow();
+        // 다른 트랜잭션의 전이를 흉내 냅니다 (PENDING -> FAILED, version 0 -> 1)
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE orders SET status = 'FAILED', version = version + 1 WHERE order_id = 'order_v2'")
+                .executeUpdate();
+
+        staleCopy.updateStatus(OrderStatus.PAID);
+
+        assertThatThrownBy(() -> orderRepository.saveAndFlush(staleCopy))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("상태 전이 UPDATE는 파티션 키(created_at)도 조건으로 사용한다")
+    void updateStatus_ShouldIncludePartitionKeyInWhereClause() {
+        orderRepository.saveAndFlush(Order.createOrder("order_v3", 1L, 10L, "강남점", 1000, 0, 1000, "고객"));
+        entityManager.clear();
+
+        Order order = orderRepository.findByOrderId("order_v3").orElseThrow();
+        // 읽은 created_at과 다른 파티션 키를 가진 행이 되도록 바꿉니다 (version은 그대로)
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE orders SET created_at = DATEADD('MONTH', -1, created_at) WHERE order_id = 'order_v3'")
+                .executeUpdate();
+
+        order.updateStatus(OrderStatus.PAID);
+
+        assertThatThrownBy(() -> orderRepository.saveAndFlush(order))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("같은 영속성 컨텍스트에서 저장 직후 전이해도 파티션 키가 DB 값과 일치한다")
+    void updateStatus_AfterPersistInSameContext_ShouldMatchPartitionKey() {
+        Order order = orderRepository.saveAndFlush(Order.createOrder("order_v4", 1L, 10L, "강남점", 1000, 0, 1000, "고객"));
+
+        order.updateStatus(OrderStatus.PAID);
+        orderRepository.saveAndFlush(order);
+
+        assertThat(order.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("ULID 형식 주문 ID는 ID에 담긴 생성 시각 근처의 created_at 범위에서 조회한다")
+    void findByOrderId_Ulid_ShouldBoundCreatedAt() {
+        String orderId = new OrderIdGenerator().generate();
+        orderRepository.saveAndFlush(Order.createOrder(orderId, 1L, 10L, "강남점", 1000, 0, 1000, "고객"));
+        entityManager.clear();
+
+        assertThat(orderRepository.findByOrderId(orderId)).isPresent();
+
+        // created_at이 ID의 생성 시각과 허용 범위 이상 다르면 해당 파티션 밖이므로 조회되지 않습니다
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE orders SET created_at = DATEADD('DAY', -2, created_at) WHERE order_id = :orderId")
+                .setParameter("orderId", orderId)
+                .executeUpdate();
+        assertThat(orderRepository.findByOrderId(orderId)).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ActiveOrderCache 테스트")
+class ActiveOrderCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private OrderProperties orderProperties;
+    private InProcessOrderCacheInvalidationBroker broker;
+    private SimpleMeterRegistry meterRegistry;
+    private ActiveOrderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        orderProperties = new OrderProperties();
+        orderProperties.setActiveCacheTtl(Duration.ofMinutes(10));
+        broker = new InProcessOrderCacheInvalidationBroker();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ActiveOrderCache(orderProperties, broker, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("상태 전이는 캐시에 바로 반영되고, 종료 상태가 되면 제거된다")
+    void writeThrough_ShouldUpdateAndEvictOnTerminal() {
+        Order order = order("order_1", OrderStatus.PENDING);
+        cache.writeThrough(order);
+        assertThat(cache.get("order_1")).map(ActiveOrderSnapshot::status).contains(OrderStatus.PENDING);
+
+        order.updateStatus(OrderStatus.PAID);
+        cache.writeThrough(order);
+        assertThat(cache.get("order_1")).map(ActiveOrderSnapshot::status).contains(OrderStatus.PAID);
+
+        order.updateStatus(OrderStatus.RECEIVED);
+        cache.writeThrough(order);
+        assertThat(cache.get("order_1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료 직후에는 오래된 조회 결과로 캐시를 다시 채우지 않는다")
+    void populate_AfterTerminal_ShouldBeIgnored() {
+        cache.writeThrough(order("order_1", OrderStatus.CANCELLED_USER));
+
+        cache.populate(new ActiveOrderSnapshot("order_1", 1L, 10L, OrderStatus.PREPARING, 1L));
+
+        assertThat(cache.get("order_1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회로 채우는 값은 쓰기로 갱신된 값을 덮어쓰지 않는다")
+    void populate_ShouldNotOverwriteWrittenValue() {
+        cache.writeThrough(order("order_1", OrderStatus.PAID));
+
+        cache.populate(new ActiveOrderSnapshot("order_1", 1L, 10L, OrderStatus.PENDING, 0L));
+
+        assertThat(cache.get("order_1")).map(ActiveOrderSnapshot::status).contains(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 캐시를 갱신한다")
+    void writeThrough_InTransaction_ShouldApplyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.writeThrough(order("order_1", OrderStatus.PENDING));
+            assertThat(cache.get("order_1")).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get("order_1")).isPresent();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 상태 전이는 무효화 메시지로 이 인스턴스의 항목을 제거한다")
+    void invalidation_FromOtherInstance_ShouldEvict() {
+        ActiveOrderCache otherInstance = new ActiveOrderCache(orderProperties, broker, new SimpleMeterRegistry(), now::get);
+        cache.populate(new ActiveOrderSnapshot("order_1", 1L, 10L, OrderStatus.PAID, 1L));
+
+        otherInstance.writeThrough(order("order_1", OrderStatus.PREPARING));
+
+        assertThat(cache.get("order_1")).isEmpty();
+        assertThat(otherInstance.get("order_1")).map(ActiveOrderSnapshot::status).contains(OrderStatus.PREPARING);
+        assertThat(meterRegistry.counter("order.cache.invalidations", "source", "remote").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지보다 먼저 읽은 오래된 version은 무효화 후에 도착해도 캐시를 채우지 않는다")
+    void populate_StaleReadAfterRemoteInvalidation_ShouldBeIgnored() {
+        ActiveOrderCache otherInstance = new ActiveOrderCache(orderProperties, broker, new SimpleMeterRegistry(), now::get);
+        Order order = order("order_1", OrderStatus.PREPARING);
+        ReflectionTestUtils.setField(order, "version", 2L);
+
+        // 이 인스턴스가 version 1(PAID)을 읽는 사이에 다른 인스턴스가 version 2(PREPARING)를 커밋합니다
+        otherInstance.writeThrough(order);
+        cache.populate(new ActiveOrderSnapshot("order_1", 1L, 10L, OrderStatus.PAID, 1L));
+        assertThat(cache.get("order_1")).isEmpty();
+
+        // 무효화된 version 이상으로 다시 읽은 값은 채웁니다
+        cache.populate(new ActiveOrderSnapshot("order_1", 1L, 10L, OrderStatus.PREPARING, 2L));
+        assertThat(cache.get("order_1")).map(ActiveOrderSnapshot::status).contains(OrderStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+    void get_AfterTtl_ShouldMiss() {
+        cache.populate(new ActiveOrderSnapshot("order_1", 1L, 10L, OrderStatus.PAID, 1L));
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+
+        assertThat(cache.get("order_1")).isEmpty();
+    }
+
+    private Order order(String orderId, OrderStatus status) {
+        Order order = Order.createOrder(orderId, 1L, 10L, "강남점", 1000, 0, 1000, "고객");
+        order.updateStatus(status);
+        return order;
+    }
+}
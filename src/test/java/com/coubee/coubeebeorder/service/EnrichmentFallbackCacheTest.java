@@ -0,0 +1,86 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EnrichmentFallbackCache 테스트")
+class EnrichmentFallbackCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 가장 오래 쓰이지 않은 항목부터 제거한다")
+    void putAll_ShouldEvictLeastRecentlyUsedOverMaxEntries() {
+        RemoteClientProperties.FallbackCache properties = new RemoteClientProperties.FallbackCache();
+        properties.setMaxEntries(2);
+        EnrichmentFallbackCache<Long, String> cache = cache(properties);
+
+        cache.putAll(Map.of(1L, "a"));
+        cache.putAll(Map.of(2L, "b"));
+        cache.getStale(List.of(1L));
+        cache.putAll(Map.of(3L, "c"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStale(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("추정 메모리 한도를 넘으면 항목 수와 관계없이 제거한다")
+    void putAll_ShouldStayWithinMemoryBudget() {
+        RemoteClientProperties.FallbackCache properties = new RemoteClientProperties.FallbackCache();
+        properties.setMaxMemory(DataSize.ofBytes(1_000));
+        EnrichmentFallbackCache<Long, String> cache = cache(properties);
+
+        for (long id = 0; id < 10; id++) {
+            cache.putAll(Map.of(id, "x".repeat(100)));
+        }
+
+        long entryBytes = EnrichmentFallbackCache.estimateBytes("x".repeat(100));
+        assertThat(cache.size()).isEqualTo((int) (1_000 / entryBytes));
+        assertThat(cache.estimatedBytes()).isLessThanOrEqualTo(1_000);
+        assertThat(cache.getStale(List.of(9L))).containsOnlyKeys(9L);
+    }
+
+    @Test
+    @DisplayName("stale 값은 복사본으로 돌려주고, 장애 중 캐시로 살린 비율을 보고한다")
+    void getStale_ShouldReturnCopiesAndReportRatio() {
+        EnrichmentFallbackCache<Long, String> cache = cache(new RemoteClientProperties.FallbackCache());
+        cache.putAll(Map.of(1L, "a", 2L, "b"));
+        cache.recordFresh(2);
+
+        assertThat(cache.getStale(List.of(1L, 2L, 3L))).containsEntry(1L, "a (stale)").containsEntry(2L, "b (stale)");
+        assertThat(cache.containsAll(List.of(1L, 2L))).isTrue();
+        assertThat(cache.containsAll(List.of(1L, 3L))).isFalse();
+        assertThat(meterRegistry.get("enrichment.cache.stale.ratio").gauge().value()).isEqualTo(2.0 / 3.0);
+        assertThat(meterRegistry.counter("enrichment.cache.lookups", "cache", "test", "result", "fresh").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 아무것도 보관하지 않는다")
+    void disabled_ShouldNotStoreAnything() {
+        RemoteClientProperties.FallbackCache properties = new RemoteClientProperties.FallbackCache();
+        properties.setEnabled(false);
+        EnrichmentFallbackCache<Long, String> cache = cache(properties);
+
+        cache.putAll(Map.of(1L, "a"));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.containsAll(List.of(1L))).isFalse();
+        assertThat(cache.getStale(List.of(1L))).isEmpty();
+    }
+
+    private EnrichmentFallbackCache<Long, String> cache(RemoteClientProperties.FallbackCache properties) {
+        return new EnrichmentFallbackCache<>("test", properties, EnrichmentFallbackCache::estimateBytes,
+                value -> value + " (stale)", meterRegistry, now::get);
+    }
+}
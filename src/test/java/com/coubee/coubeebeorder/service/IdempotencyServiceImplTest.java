@@ -0,0 +1,234 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.exception.IdempotencyConflictException;
+import com.coubee.coubeebeorder.config.IdempotencyProperties;
+import com.coubee.coubeebeorder.domain.IdempotencyKey;
+import com.coubee.coubeebeorder.domain.IdempotencyStatus;
+import com.coubee.coubeebeorder.domain.dto.PaymentReadyResponse;
+import com.coubee.coubeebeorder.domain.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyServiceImpl 테스트")
+class IdempotencyServiceImplTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    private final AtomicInteger actionCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(idempotencyKeyRepository, new IdempotencyProperties(),
+                objectMapper, transactionManager);
+    }
+
+    private PaymentReadyResponse action() {
+        actionCalls.incrementAndGet();
+        return PaymentReadyResponse.of("홍길동", "커피", 1000, "order_test");
+    }
+
+    @Test
+    @DisplayName("키가 없으면 저장소를 사용하지 않고 작업을 실행한다")
+    void execute_NoKey_ShouldRunAction() {
+        PaymentReadyResponse response = idempotencyService.execute("payment-prepare", "order_test", null,
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+
+        assertThat(response.merchantUid()).isEqualTo("order_test");
+        assertThat(actionCalls.get()).isEqualTo(1);
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    @DisplayName("최초 요청은 작업을 실행하고 응답을 저장한다")
+    void execute_FirstRequest_ShouldStoreResponse() {
+        // Given
+        IdempotencyKey[] saved = new IdempotencyKey[1];
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class))).thenAnswer(invocation -> {
+            saved[0] = invocation.getArgument(0);
+            return saved[0];
+        });
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1"))
+                .thenAnswer(invocation -> Optional.of(saved[0]));
+
+        // When
+        idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+
+        // Then
+        assertThat(actionCalls.get()).isEqualTo(1);
+        assertThat(saved[0].getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+        assertThat(saved[0].getResponseBody()).contains("order_test");
+    }
+
+    @Test
+    @DisplayName("처리 완료된 키로 재시도하면 작업을 실행하지 않고 저장된 응답을 반환한다")
+    void execute_CompletedKey_ShouldReplayWithoutRunningAction() throws Exception {
+        // Given
+        IdempotencyKey existing = completedKey(Map.of("a", 1));
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1")).thenReturn(Optional.of(existing));
+
+        // When
+        PaymentReadyResponse response = idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+
+        // Then
+        assertThat(actionCalls.get()).isZero();
+        assertThat(response.merchantUid()).isEqualTo("order_test");
+        assertThat(response.amount()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 본문으로 사용하면 충돌 예외가 발생한다")
+    void execute_DifferentPayload_ShouldThrowConflict() throws Exception {
+        // Given
+        IdempotencyKey existing = completedKey(Map.of("a", 1));
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1")).thenReturn(Optional.of(existing));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 2), PaymentReadyResponse.class, this::action))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(actionCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 키 선점을 해제하여 재시도할 수 있게 한다")
+    void execute_ActionFails_ShouldReleaseKey() {
+        // Given
+        IdempotencyKey[] saved = new IdempotencyKey[1];
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class))).thenAnswer(invocation -> {
+            saved[0] = invocation.getArgument(0);
+            return saved[0];
+        });
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1"))
+                .thenAnswer(invocation -> Optional.of(saved[0]));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(idempotencyKeyRepository).delete(saved[0]);
+    }
+
+    @Test
+    @DisplayName("선점 기한이 지난 IN_PROGRESS 키는 새 요청이 이어받아 작업을 실행하고 응답을 저장한다")
+    void execute_ExpiredInProgressLease_ShouldTakeOverKey() {
+        // Given
+        LocalDateTime[] claimedAt = new LocalDateTime[1];
+        when(idempotencyKeyRepository.takeOverExpiredClaim(eq("payment-prepare:order_test:key-1"), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            claimedAt[0] = invocation.getArgument(2);
+            return 1;
+        });
+        IdempotencyKey[] current = new IdempotencyKey[1];
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1")).thenAnswer(invocation -> {
+            current[0] = IdempotencyKey.start("payment-prepare:order_test:key-1", "hash", claimedAt[0],
+                    claimedAt[0].plusHours(24), claimedAt[0].plusMinutes(1));
+            return Optional.of(current[0]);
+        });
+
+        // When
+        idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+
+        // Then
+        assertThat(actionCalls.get()).isEqualTo(1);
+        verify(idempotencyKeyRepository, never()).saveAndFlush(any(IdempotencyKey.class));
+        assertThat(current[0].getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+        assertThat(current[0].getLockedUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("선점 기한 안의 IN_PROGRESS 키로 재시도하면 작업을 실행하지 않고 충돌 예외가 발생한다")
+    void execute_ActiveInProgressLease_ShouldThrowConflict() {
+        // Given
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1")).thenAnswer(invocation ->
+                Optional.of(IdempotencyKey.start("payment-prepare:order_test:key-1", hashOf(Map.of("a", 1)),
+                        LocalDateTime.now(), LocalDateTime.now().plusHours(24), LocalDateTime.now().plusMinutes(1))));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(actionCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("선점 기한이 지나 다른 요청이 키를 이어받았으면 늦게 끝난 이전 요청은 키를 완료하거나 지우지 않는다")
+    void execute_KeyTakenOverMeanwhile_ShouldNotTouchNewOwnersKey() {
+        // Given: 이전 요청이 처리하는 동안 새 요청이 키를 이어받음 (선점 시각이 다름)
+        IdempotencyKey newOwner = IdempotencyKey.start("payment-prepare:order_test:key-1", "hash",
+                LocalDateTime.now().plusMinutes(2), LocalDateTime.now().plusHours(24), LocalDateTime.now().plusMinutes(3));
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(idempotencyKeyRepository.findById("payment-prepare:order_test:key-1")).thenReturn(Optional.of(newOwner));
+
+        // When
+        idempotencyService.execute("payment-prepare", "order_test", "key-1",
+                Map.of("a", 1), PaymentReadyResponse.class, this::action);
+        assertThatThrownBy(() -> idempotencyService.execute("payment-prepare", "order_test", "key-2",
+                Map.of("a", 1), PaymentReadyResponse.class, () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(newOwner.getStatus()).isEqualTo(IdempotencyStatus.IN_PROGRESS);
+        assertThat(newOwner.getResponseBody()).isNull();
+        verify(idempotencyKeyRepository, never()).delete(any(IdempotencyKey.class));
+    }
+
+    private IdempotencyKey completedKey(Object request) throws Exception {
+        IdempotencyKey key = IdempotencyKey.start("payment-prepare:order_test:key-1",
+                hashOf(request), LocalDateTime.now(), LocalDateTime.now().plusHours(1), LocalDateTime.now().plusMinutes(1));
+        key.complete(objectMapper.writeValueAsString(PaymentReadyResponse.of("홍길동", "커피", 1000, "order_test")));
+        return key;
+    }
+
+    private String hashOf(Object request) {
+        // 서비스와 동일한 방식으로 요청 해시를 계산하기 위해 최초 요청을 한 번 실행합니다
+        ArgumentCaptor<IdempotencyKey> captor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        IdempotencyKeyRepository probeRepository = mock(IdempotencyKeyRepository.class);
+        IdempotencyServiceImpl probe = new IdempotencyServiceImpl(probeRepository, new IdempotencyProperties(), objectMapper, transactionManager);
+        probe.execute("payment-prepare", "order_test", "key-1", request, PaymentReadyResponse.class,
+                () -> PaymentReadyResponse.of("홍길동", "커피", 1000, "order_test"));
+        verify(probeRepository).saveAndFlush(captor.capture());
+        return captor.getValue().getRequestHash();
+    }
+}
@@ -0,0 +1,90 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrder;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.OrderTimestamp;
+import com.coubee.coubeebeorder.domain.repository.ArchivedOrderRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchiveServiceImpl 테스트")
+class OrderArchiveServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @InjectMocks
+    private OrderArchiveServiceImpl orderArchiveService;
+
+    @Test
+    @DisplayName("보관 대상 주문이 없으면 아무것도 옮기지 않는다")
+    void archiveOrders_NoCandidates_ShouldDoNothing() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        when(orderRepository.claimArchivableOrderIds(cutoff, 200)).thenReturn(Collections.emptyList());
+
+        // When
+        int archived = orderArchiveService.archiveOrders(cutoff, 200);
+
+        // Then
+        assertThat(archived).isZero();
+        verify(archivedOrderRepository, never()).saveAll(any());
+        verify(orderRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("종료 주문을 문서로 저장한 뒤 운영 테이블에서 삭제한다")
+    @SuppressWarnings("unchecked")
+    void archiveOrders_ShouldCopyThenDelete() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        Order order = Order.createOrder("order_old", 7L, 3L, "테스트 매장", 2000, 0, 2000, "고객");
+        order.addOrderItem(OrderItem.createOrderItem(11L, "아메리카노", null, 2, 1000));
+        order.addStatusHistory(OrderTimestamp.createTimestamp(order, OrderStatus.RECEIVED, cutoff.minusDays(1)));
+        order.addStatusHistory(OrderTimestamp.createTimestamp(order, OrderStatus.PENDING, cutoff.minusDays(2)));
+        order.updateStatus(OrderStatus.RECEIVED);
+
+        when(orderRepository.claimArchivableOrderIds(cutoff, 200)).thenReturn(List.of("order_old"));
+        when(orderRepository.findWithDetailsIn(List.of("order_old"))).thenReturn(List.of(order));
+
+        // When
+        int archived = orderArchiveService.archiveOrders(cutoff, 200);
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        ArgumentCaptor<List<ArchivedOrder>> captor = ArgumentCaptor.forClass(List.class);
+        verify(archivedOrderRepository).saveAll(captor.capture());
+        ArchivedOrder archivedOrder = captor.getValue().get(0);
+        assertThat(archivedOrder.getOrderId()).isEqualTo("order_old");
+        assertThat(archivedOrder.getStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(archivedOrder.getSearchText()).isEqualTo("테스트 매장 아메리카노");
+        assertThat(archivedOrder.getDocument().items()).hasSize(1);
+        assertThat(archivedOrder.getDocument().statusHistory())
+                .extracting(change -> change.status())
+                .containsExactly(OrderStatus.PENDING, OrderStatus.RECEIVED);
+
+        var inOrder = inOrder(archivedOrderRepository, orderRepository);
+        inOrder.verify(archivedOrderRepository).saveAll(any());
+        inOrder.verify(orderRepository).deleteAll(List.of(order));
+    }
+}
@@ -1,21 +1,22 @@
 package com.coubee.coubeebeorder.service;
 
-import com.coubee.coubeebeorder.domain.Order;
-import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.config.OrderProperties;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,32 +26,104 @@ class OrderCleanupSchedulerTest {
     @Mock
     private OrderService orderService;
 
-    @InjectMocks
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final OrderProperties orderProperties = new OrderProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private OrderCleanupScheduler orderCleanupScheduler;
 
+    @BeforeEach
+    void setUp() {
+        orderProperties.setSweepChunkSize(10);
+        orderCleanupScheduler = new OrderCleanupScheduler(orderService, orderRepository, orderProperties, meterRegistry);
+    }
+
     @Test
     @DisplayName("스케줄러가 정상적으로 서비스 메서드를 호출한다")
     void cleanupPendingOrders_ShouldCallOrderService() {
         // Given
-        doNothing().when(orderService).cancelStalePendingOrders();
+        when(orderService.cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection()))
+                .thenReturn(new StaleOrderChunkResult(0, 0));
+
+        // When
+        orderCleanupScheduler.cleanupPendingOrders();
+
+        // Then
+        verify(orderService, times(1)).cancelStalePendingOrders(any(LocalDateTime.class), eq(10), anyCollection());
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차면 다음 청크를 계속 처리하고 메트릭을 기록한다")
+    void cleanupPendingOrders_FullChunks_ShouldContinueAndRecordMetrics() {
+        // Given
+        when(orderService.cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection()))
+                .thenReturn(new StaleOrderChunkResult(10, 10))
+                .thenReturn(new StaleOrderChunkResult(10, 9))
+                .thenReturn(new StaleOrderChunkResult(3, 3));
+        when(orderRepository.countStalePendingOrders(any(LocalDateTime.class))).thenReturn(0L);
+
+        // When
+        orderCleanupScheduler.cleanupPendingOrders();
+
+        // Then
+        verify(orderService, times(3)).cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection());
+        assertThat(meterRegistry.get("order.sweeper.claimed").counter().count()).isEqualTo(23);
+        assertThat(meterRegistry.get("order.sweeper.expired").counter().count()).isEqualTo(22);
+        assertThat(meterRegistry.get("order.sweeper.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 청크 수에 도달하면 남은 주문을 백로그로 기록한다")
+    void cleanupPendingOrders_MaxChunks_ShouldReportBacklog() {
+        // Given
+        orderProperties.setSweepMaxChunks(2);
+        when(orderService.cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection()))
+                .thenReturn(new StaleOrderChunkResult(10, 10));
+        when(orderRepository.countStalePendingOrders(any(LocalDateTime.class))).thenReturn(42L);
+
+        // When
+        orderCleanupScheduler.cleanupPendingOrders();
+
+        // Then
+        verify(orderService, times(2)).cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection());
+        assertThat(meterRegistry.get("order.sweeper.backlog").gauge().value()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("만료 처리에 실패한 주문은 이번 실행의 이후 청크에서 제외하고 나머지 주문을 계속 처리한다")
+    void cleanupPendingOrders_FailingOrder_ShouldBeSkippedForRestOfRun() {
+        // Given: 가장 오래된 주문의 만료가 실패하면 청크가 롤백됩니다
+        when(orderService.cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), eq(Set.of())))
+                .thenThrow(new StaleOrderExpiryException("ORDER-BAD", new IllegalStateException("broken reservation")));
+        when(orderService.cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), eq(Set.of("ORDER-BAD"))))
+                .thenReturn(new StaleOrderChunkResult(10, 10))
+                .thenReturn(new StaleOrderChunkResult(3, 3));
+        when(orderRepository.countStalePendingOrders(any(LocalDateTime.class))).thenReturn(1L);
 
         // When
         orderCleanupScheduler.cleanupPendingOrders();
 
         // Then
-        verify(orderService, times(1)).cancelStalePendingOrders();
+        verify(orderService, times(1)).cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), eq(Set.of()));
+        verify(orderService, times(2)).cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), eq(Set.of("ORDER-BAD")));
+        assertThat(meterRegistry.get("order.sweeper.expired").counter().count()).isEqualTo(13);
+        assertThat(meterRegistry.get("order.sweeper.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.sweeper.backlog").gauge().value()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("서비스에서 예외가 발생해도 스케줄러는 계속 실행된다")
     void cleanupPendingOrders_ShouldHandleExceptions() {
         // Given
-        doThrow(new RuntimeException("Test exception")).when(orderService).cancelStalePendingOrders();
+        doThrow(new RuntimeException("Test exception")).when(orderService)
+                .cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection());
 
         // When & Then - 예외가 발생해도 메서드가 정상적으로 완료되어야 함
         orderCleanupScheduler.cleanupPendingOrders();
 
         // Verify that the service method was called despite the exception
-        verify(orderService, times(1)).cancelStalePendingOrders();
+        verify(orderService, times(1)).cancelStalePendingOrders(any(LocalDateTime.class), anyInt(), anyCollection());
     }
 }
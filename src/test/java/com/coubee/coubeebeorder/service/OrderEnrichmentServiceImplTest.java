@@ -0,0 +1,224 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.common.exception.UserServiceException;
+import com.coubee.coubeebeorder.config.RemoteClientProperties;
+import com.coubee.coubeebeorder.remote.product.AsyncProductClient;
+import com.coubee.coubeebeorder.remote.product.ProductResponseDto;
+import com.coubee.coubeebeorder.remote.store.AsyncStoreClient;
+import com.coubee.coubeebeorder.remote.store.StoreResponseDto;
+import com.coubee.coubeebeorder.remote.user.AsyncUserServiceClient;
+import com.coubee.coubeebeorder.remote.user.SiteUserInfoDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEnrichmentServiceImpl 테스트")
+class OrderEnrichmentServiceImplTest {
+
+    @Mock
+    private AsyncStoreClient storeClient;
+
+    @Mock
+    private AsyncProductClient productClient;
+
+    @Mock
+    private AsyncUserServiceClient userServiceClient;
+
+    private final RemoteClientProperties remoteClientProperties = new RemoteClientProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private OrderEnrichmentServiceImpl enrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        enrichmentService = new OrderEnrichmentServiceImpl(storeClient, productClient, userServiceClient, circuitBreakerRegistry,
+                remoteClientProperties, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("매장/상품/사용자 조회를 응답을 기다리지 않고 모두 띄운 뒤, 전부 도착하면 결과를 합친다")
+    void load_ShouldIssueAllCallsBeforeAnyCompletes() {
+        CompletableFuture<ApiResponseDto<Map<Long, StoreResponseDto>>> stores = new CompletableFuture<>();
+        CompletableFuture<ApiResponseDto<Map<Long, ProductResponseDto>>> products = new CompletableFuture<>();
+        CompletableFuture<ApiResponseDto<SiteUserInfoDto>> user1 = new CompletableFuture<>();
+        CompletableFuture<ApiResponseDto<SiteUserInfoDto>> user2 = new CompletableFuture<>();
+        when(storeClient.getStoresByIds(anyList(), eq(1L))).thenReturn(stores);
+        when(productClient.getProductsByIds(anyList(), eq(1L))).thenReturn(products);
+        when(userServiceClient.getUserInfoById(1L)).thenReturn(user1);
+        when(userServiceClient.getUserInfoById(2L)).thenReturn(user2);
+
+        CompletableFuture<OrderEnrichment> result = enrichmentService.load(Set.of(10L), Set.of(100L), Set.of(1L, 2L), 1L);
+
+        verify(storeClient).getStoresByIds(anyList(), eq(1L));
+        verify(productClient).getProductsByIds(anyList(), eq(1L));
+        verify(userServiceClient).getUserInfoById(1L);
+        verify(userServiceClient).getUserInfoById(2L);
+        assertThat(result).isNotDone();
+
+        stores.complete(ApiResponseDto.readOk(Map.of(10L, store(10L))));
+        products.complete(ApiResponseDto.readOk(Map.of(100L, product(100L))));
+        user1.complete(ApiResponseDto.readOk(user("user_1")));
+        assertThat(result).isNotDone();
+        user2.complete(ApiResponseDto.readOk(user("user_2")));
+
+        OrderEnrichment enrichment = result.join();
+        assertThat(enrichment.stores()).containsOnlyKeys(10L);
+        assertThat(enrichment.products()).containsOnlyKeys(100L);
+        assertThat(enrichment.users()).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("서비스별 실패는 해당 결과만 비우고 전체 조회는 성공한다")
+    void load_PartialFailure_ShouldLeaveOnlyFailedEntriesEmpty() {
+        when(storeClient.getStoresByIds(anyList(), anyLong()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+        when(productClient.getProductsByIds(anyList(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponseDto.readOk(Map.of(100L, product(100L)))));
+        when(userServiceClient.getUserInfoById(1L))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponseDto.readOk(user("user_1"))));
+        when(userServiceClient.getUserInfoById(2L))
+                .thenReturn(CompletableFuture.failedFuture(new UserServiceException("User not found in User service.")));
+
+        OrderEnrichment enrichment = enrichmentService.load(Set.of(10L), Set.of(100L), Set.of(1L, 2L), 1L).join();
+
+        assertThat(enrichment.stores()).isEmpty();
+        assertThat(enrichment.products()).containsOnlyKeys(100L);
+        assertThat(enrichment.users()).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 요청을 보내지 않고 빈 결과를 돌려준다")
+    void load_CircuitOpen_ShouldNotCallDownstream() {
+        circuitBreakerRegistry.circuitBreaker(OrderEnrichmentServiceImpl.CIRCUIT_BREAKER_NAME).transitionToOpenState();
+
+        OrderEnrichment enrichment = enrichmentService.load(Set.of(10L), Set.of(100L), Set.of(1L), 1L).join();
+
+        assertThat(enrichment.stores()).isEmpty();
+        assertThat(enrichment.products()).isEmpty();
+        assertThat(enrichment.users()).isEmpty();
+        verify(storeClient, never()).getStoresByIds(anyList(), anyLong());
+        verify(productClient, never()).getProductsByIds(anyList(), anyLong());
+        verify(userServiceClient, never()).getUserInfoById(anyLong());
+    }
+
+    @Test
+    @DisplayName("조회할 ID가 없으면 호출하지 않는다")
+    void load_EmptyIds_ShouldNotCallDownstream() {
+        OrderEnrichment enrichment = enrichmentService.load(Set.of(), Set.of(), Set.of(), 1L).join();
+
+        assertThat(enrichment.stores()).isEmpty();
+        assertThat(enrichment.products()).isEmpty();
+        assertThat(enrichment.users()).isEmpty();
+        verify(storeClient, never()).getStoresByIds(anyList(), anyLong());
+        verify(productClient, never()).getProductsByIds(anyList(), anyLong());
+        verify(userServiceClient, never()).getUserInfoById(anyLong());
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 마지막으로 받은 값을 stale 표시한 복사본으로 돌려주고, 캐시에 없는 ID는 비워 둔다")
+    void load_FailureAfterSuccess_ShouldServeStaleCopies() {
+        when(storeClient.getStoresByIds(anyList(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponseDto.readOk(Map.of(10L, store(10L)))))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+        when(userServiceClient.getUserInfoById(1L))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponseDto.readOk(user("user_1"))))
+                .thenReturn(CompletableFuture.failedFuture(new UserServiceException("User service unavailable.")));
+        when(userServiceClient.getUserInfoById(2L))
+                .thenReturn(CompletableFuture.failedFuture(new UserServiceException("User service unavailable.")));
+        enrichmentService.load(Set.of(10L), Set.of(), Set.of(1L), 1L).join();
+
+        OrderEnrichment enrichment = enrichmentService.load(Set.of(10L, 11L), Set.of(), Set.of(1L, 2L), 1L).join();
+
+        assertThat(enrichment.stores()).containsOnlyKeys(10L);
+        assertThat(enrichment.stores().get(10L).isStale()).isTrue();
+        assertThat(enrichment.users()).containsOnlyKeys(1L);
+        assertThat(enrichment.users().get(1L).isStale()).isTrue();
+        assertThat(enrichment.users().get(1L).getUsername()).isEqualTo("user_1");
+        assertThat(meterRegistry.counter("enrichment.cache.lookups", "cache", "store", "result", "stale").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("enrichment.cache.lookups", "cache", "store", "result", "miss").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("enrichment.cache.stale.ratio").tag("cache", "user").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("서킷이 닫혀 있지 않고 모두 캐시에 있으면 캐시로 바로 응답하고 백그라운드에서 한 번만 재검증한다")
+    void load_CircuitNotClosed_ShouldServeStaleAndRevalidateInBackground() {
+        StoreResponseDto renamed = store(10L);
+        renamed.setStoreName("새 이름");
+        CompletableFuture<ApiResponseDto<Map<Long, StoreResponseDto>>> revalidation = new CompletableFuture<>();
+        when(storeClient.getStoresByIds(anyList(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponseDto.readOk(Map.of(10L, store(10L)))))
+                .thenReturn(revalidation);
+        enrichmentService.load(Set.of(10L), Set.of(), Set.of(), 1L).join();
+        circuitBreakerRegistry.circuitBreaker(OrderEnrichmentServiceImpl.CIRCUIT_BREAKER_NAME).transitionToOpenState();
+        circuitBreakerRegistry.circuitBreaker(OrderEnrichmentServiceImpl.CIRCUIT_BREAKER_NAME).transitionToHalfOpenState();
+
+        OrderEnrichment first = enrichmentService.load(Set.of(10L), Set.of(), Set.of(), 1L).join();
+        OrderEnrichment second = enrichmentService.load(Set.of(10L), Set.of(), Set.of(), 1L).join();
+
+        assertThat(first.stores().get(10L).isStale()).isTrue();
+        assertThat(second.stores().get(10L).isStale()).isTrue();
+        verify(storeClient, times(2)).getStoresByIds(anyList(), anyLong());
+
+        revalidation.complete(ApiResponseDto.readOk(Map.of(10L, renamed)));
+        circuitBreakerRegistry.circuitBreaker(OrderEnrichmentServiceImpl.CIRCUIT_BREAKER_NAME).transitionToOpenState();
+
+        OrderEnrichment afterRevalidation = enrichmentService.load(Set.of(10L), Set.of(), Set.of(), 1L).join();
+        assertThat(afterRevalidation.stores().get(10L).getStoreName()).isEqualTo("새 이름");
+        assertThat(afterRevalidation.stores().get(10L).isStale()).isTrue();
+        assertThat(renamed.isStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("maxStale보다 오래된 값은 장애 중에도 내려주지 않는다")
+    void load_ExpiredEntry_ShouldNotBeServed() {
+        when(productClient.getProductsByIds(anyList(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponseDto.readOk(Map.of(100L, product(100L)))));
+        enrichmentService.load(Set.of(), Set.of(100L), Set.of(), 1L).join();
+        circuitBreakerRegistry.circuitBreaker(OrderEnrichmentServiceImpl.CIRCUIT_BREAKER_NAME).transitionToOpenState();
+
+        now.addAndGet(remoteClientProperties.getFallbackCache().getMaxStale().toMillis() + 1);
+        OrderEnrichment enrichment = enrichmentService.load(Set.of(), Set.of(100L), Set.of(), 1L).join();
+
+        assertThat(enrichment.products()).isEmpty();
+        assertThat(meterRegistry.counter("enrichment.cache.lookups", "cache", "product", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    private static StoreResponseDto store(Long storeId) {
+        StoreResponseDto store = new StoreResponseDto();
+        store.setStoreId(storeId);
+        return store;
+    }
+
+    private static ProductResponseDto product(Long productId) {
+        ProductResponseDto product = new ProductResponseDto();
+        product.setProductId(productId);
+        return product;
+    }
+
+    private static SiteUserInfoDto user(String username) {
+        return SiteUserInfoDto.builder().username(username).build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.config.FixedRateTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderExpiryScheduler 테스트")
+class OrderExpirySchedulerTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SchedulerConfig.class);
+
+    @Test
+    @DisplayName("틱 실행 간격은 타이밍 휠의 칸 크기와 같은 coubee.order.expiry-tick 값을 따른다")
+    void tick_ShouldRunAtConfiguredExpiryTick() {
+        contextRunner.withPropertyValues("coubee.order.expiry-tick=250ms").run(context -> {
+            assertThat(context.getBean(OrderProperties.class).getExpiryTick()).isEqualTo(Duration.ofMillis(250));
+            assertThat(tickInterval(context.getBean(ScheduledTaskHolder.class))).isEqualTo(Duration.ofMillis(250));
+        });
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 OrderProperties 기본값과 같은 1초 간격으로 실행한다")
+    void tick_WithoutConfiguration_ShouldUseDefaultTick() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(OrderProperties.class).getExpiryTick()).isEqualTo(Duration.ofSeconds(1));
+            assertThat(tickInterval(context.getBean(ScheduledTaskHolder.class))).isEqualTo(Duration.ofSeconds(1));
+        });
+    }
+
+    @Test
+    @DisplayName("만료 처리에 계속 실패하는 주문은 배치에서 빼고 나머지를 바로 만료시키며, 백오프 동안 다시 등록하지 않는다")
+    void tick_WithAlwaysFailingOrder_ShouldExpireRestAndHoldFailingOrderBack() {
+        OrderService orderService = mock(OrderService.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderExpiryScheduler scheduler = new OrderExpiryScheduler(orderService, orderRepository, new OrderProperties(),
+                meterRegistry);
+
+        LocalDateTime overdue = LocalDateTime.now().minusMinutes(1);
+        when(orderRepository.findUpcomingExpiries(any(), any())).thenReturn(List.of(
+                expiry("order_broken", overdue), expiry("order_a", overdue), expiry("order_b", overdue)));
+
+        List<List<String>> batches = new ArrayList<>();
+        when(orderService.expirePendingOrders(anyList(), any())).thenAnswer(invocation -> {
+            List<String> orderIds = List.copyOf(invocation.getArgument(0));
+            batches.add(orderIds);
+            if (orderIds.contains("order_broken")) {
+                throw new StaleOrderExpiryException("order_broken", new IllegalStateException("stock restore failed"));
+            }
+            return new StaleOrderChunkResult(orderIds.size(), orderIds.size());
+        });
+
+        scheduler.loadUpcomingExpiries();
+        scheduler.tick();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).containsExactlyInAnyOrder("order_a", "order_b");
+        assertThat(meterRegistry.get("order.expiry.expired").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("order.expiry.failed").counter().count()).isEqualTo(1);
+
+        // 다음 로드에서도 실패한 주문은 백오프 중이므로 휠에 다시 올라가지 않습니다
+        scheduler.loadUpcomingExpiries();
+        scheduler.tick();
+
+        assertThat(batches.subList(2, batches.size())).allSatisfy(batch -> assertThat(batch).doesNotContain("order_broken"));
+        assertThat(meterRegistry.get("order.expiry.failed").counter().count()).isEqualTo(1);
+    }
+
+    private OrderRepository.OrderExpiryProjection expiry(String orderId, LocalDateTime expiresAt) {
+        return new OrderRepository.OrderExpiryProjection() {
+            @Override
+            public String getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+
+    private Duration tickInterval(ScheduledTaskHolder taskHolder) {
+        return taskHolder.getScheduledTasks().stream()
+                .map(scheduledTask -> scheduledTask.getTask())
+                .filter(FixedRateTask.class::isInstance)
+                .map(FixedRateTask.class::cast)
+                .filter(task -> task.toString().endsWith("OrderExpiryScheduler.tick"))
+                .findFirst()
+                .orElseThrow()
+                .getIntervalDuration();
+    }
+
+    @Configuration
+    @EnableScheduling
+    @EnableConfigurationProperties(OrderProperties.class)
+    static class SchedulerConfig {
+
+        @Bean
+        OrderExpiryScheduler orderExpiryScheduler(OrderProperties orderProperties) {
+            return new OrderExpiryScheduler(mock(OrderService.class), mock(OrderRepository.class), orderProperties,
+                    new SimpleMeterRegistry());
+        }
+    }
+}
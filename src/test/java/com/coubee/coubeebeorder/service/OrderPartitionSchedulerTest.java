@@ -0,0 +1,79 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPartitionScheduler 테스트")
+class OrderPartitionSchedulerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OrderProperties orderProperties = new OrderProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        orderProperties.setPartitionMonthsAhead(3);
+        scheduler = new OrderPartitionScheduler(orderRepository, orderProperties, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("세 테이블 모두 이번 달부터 설정한 개월 수만큼 파티션을 생성한다")
+    void createUpcomingPartitions_ShouldCreateForAllTables() {
+        // Given
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        when(orderRepository.createMonthlyPartitions(anyString(), eq(currentMonth), eq(4))).thenReturn(1);
+
+        // When
+        scheduler.createUpcomingPartitions();
+
+        // Then
+        verify(orderRepository).createMonthlyPartitions("orders", currentMonth, 4);
+        verify(orderRepository).createMonthlyPartitions("order_items", currentMonth, 4);
+        verify(orderRepository).createMonthlyPartitions("order_timestamp", currentMonth, 4);
+        assertThat(meterRegistry.get("order.partition.created").tag("table", "orders").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 테이블에서 실패해도 나머지 테이블의 파티션은 생성한다")
+    void createUpcomingPartitions_OneTableFails_ShouldContinue() {
+        // Given
+        when(orderRepository.createMonthlyPartitions(eq("orders"), any(), anyInt()))
+                .thenThrow(new RuntimeException("lock timeout"));
+        when(orderRepository.createMonthlyPartitions(eq("order_items"), any(), anyInt()))
+                .thenReturn(0);
+        when(orderRepository.createMonthlyPartitions(eq("order_timestamp"), any(), anyInt()))
+                .thenReturn(0);
+
+        // When
+        scheduler.createUpcomingPartitions();
+
+        // Then
+        verify(orderRepository).createMonthlyPartitions(eq("order_items"), any(), anyInt());
+        verify(orderRepository).createMonthlyPartitions(eq("order_timestamp"), any(), anyInt());
+    }
+}
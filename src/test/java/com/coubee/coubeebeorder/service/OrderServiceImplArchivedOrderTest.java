@@ -0,0 +1,87 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.ArchivedOrder;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.dto.OrderDetailResponse;
+import com.coubee.coubeebeorder.domain.repository.ArchivedOrderRepository;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import com.coubee.coubeebeorder.remote.product.ProductResponseDto;
+import com.coubee.coubeebeorder.remote.user.SiteUserInfoDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderServiceImpl - 보관 주문 응답 테스트")
+class OrderServiceImplArchivedOrderTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private OrderEnrichmentService orderEnrichmentService;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    @DisplayName("보관 주문도 운영 주문과 같이 고객 정보와 상품 상세를 채워 응답한다")
+    void getOrder_Archived_ShouldIncludeCustomerInfoAndProductDetails() {
+        // Given
+        Order order = Order.createOrder("order_archived", 1L, 10L, "강남점", 3000, 0, 3000, "고객");
+        order.addOrderItem(OrderItem.createOrderItem(100L, "커피", null, 2, 1000));
+        order.addOrderItem(OrderItem.createOrderItem(200L, "빵", null, 1, 1000));
+        order.updateStatus(OrderStatus.RECEIVED);
+        when(orderRepository.findByOrderId("order_archived")).thenReturn(Optional.empty());
+        when(archivedOrderRepository.findByOrderId("order_archived"))
+                .thenReturn(Optional.of(ArchivedOrder.of(order, LocalDateTime.now())));
+
+        ProductResponseDto coffee = new ProductResponseDto();
+        coffee.setProductId(100L);
+        coffee.setProductName("커피");
+        SiteUserInfoDto customer = SiteUserInfoDto.builder().nickname("단골").build();
+        when(orderEnrichmentService.load(eq(Set.of(10L)), eq(Set.of(100L, 200L)), eq(Set.of(1L)), eq(1L)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new OrderEnrichment(Map.of(), Map.of(100L, coffee), Map.of(1L, customer))));
+
+        // When
+        OrderDetailResponse response = orderService.getOrder("order_archived");
+
+        // Then
+        assertThat(response.getCustomerInfo()).isSameAs(customer);
+        assertThat(response.getStore()).isNotNull();
+        assertThat(response.getItems()).hasSize(2);
+        // 주문 아이템은 Set이므로 순서가 아닌 상품 ID로 찾습니다
+        OrderDetailResponse.OrderItemResponse coffeeItem = itemOf(response, 100L);
+        assertThat(coffeeItem.getProduct()).isSameAs(coffee);
+        assertThat(coffeeItem.getTotalPrice()).isEqualTo(2000);
+        // 조회에 실패한 상품은 운영 주문과 같이 폴백 데이터로 채웁니다
+        assertThat(itemOf(response, 200L).getProduct()).isNotNull();
+        assertThat(itemOf(response, 200L).getProduct().getProductId()).isEqualTo(200L);
+    }
+
+    private OrderDetailResponse.OrderItemResponse itemOf(OrderDetailResponse response, Long productId) {
+        return response.getItems().stream()
+                .filter(item -> productId.equals(item.getProductId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
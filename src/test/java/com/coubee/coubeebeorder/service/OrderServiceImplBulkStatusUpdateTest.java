@@ -0,0 +1,88 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.dto.OrderBulkStatusUpdateRequest;
+import com.coubee.coubeebeorder.domain.dto.OrderBulkStatusUpdateResponse;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderServiceImpl - updateOrderStatuses 일괄 상태 변경 테스트")
+class OrderServiceImplBulkStatusUpdateTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Spy
+    private OrderStateMachine orderStateMachine = new OrderStateMachine(List.of(new OrderStatusHistoryRecorder()), new SimpleMeterRegistry());
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    @DisplayName("한 번의 조회로 주문을 불러와 전이 가능한 주문만 바꾸고, 요청 순서대로 주문별 결과를 돌려준다")
+    void updateOrderStatuses_ShouldApplyValidAndReportPerOrder() {
+        Order paid1 = order("order_1", OrderStatus.PAID);
+        Order received = order("order_2", OrderStatus.RECEIVED);
+        Order paid2 = order("order_3", OrderStatus.PAID);
+        when(orderRepository.findByStoreIdAndOrderIdIn(eq(10L), any()))
+                .thenReturn(List.of(paid2, received, paid1));
+
+        OrderBulkStatusUpdateResponse response = orderService.updateOrderStatuses(10L, request(OrderStatus.PREPARING,
+                "order_1", "order_2", "order_missing", "order_3", "order_1"), 7L);
+
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(OrderBulkStatusUpdateResponse.Result::getOrderId)
+                .containsExactly("order_1", "order_2", "order_missing", "order_3");
+        assertThat(response.getResults()).extracting(OrderBulkStatusUpdateResponse.Result::getErrorCode)
+                .containsExactly(null, "INVALID_TRANSITION", "NOT_FOUND", null);
+
+        assertThat(paid1.getStatus()).isEqualTo(OrderStatus.PREPARING);
+        assertThat(paid2.getStatus()).isEqualTo(OrderStatus.PREPARING);
+        assertThat(received.getStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(paid1.getStatusHistory()).extracting("status").containsExactly(OrderStatus.PREPARING);
+        assertThat(received.getStatusHistory()).isEmpty();
+        verify(orderRepository).findByStoreIdAndOrderIdIn(10L, List.of("order_1", "order_2", "order_missing", "order_3"));
+    }
+
+    @Test
+    @DisplayName("취소처럼 별도 처리가 필요한 상태로는 일괄 변경할 수 없다")
+    void updateOrderStatuses_CancelStatus_ShouldBeRejected() {
+        assertThatThrownBy(() -> orderService.updateOrderStatuses(10L, request(OrderStatus.CANCELLED_ADMIN, "order_1"), 7L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(orderRepository, never()).findByStoreIdAndOrderIdIn(any(), any());
+    }
+
+    private OrderBulkStatusUpdateRequest request(OrderStatus status, String... orderIds) {
+        return OrderBulkStatusUpdateRequest.builder()
+                .orderIds(List.of(orderIds))
+                .status(status)
+                .build();
+    }
+
+    private Order order(String orderId, OrderStatus status) {
+        Order order = Order.createOrder(orderId, 1L, 10L, "강남점", 1000, 0, 1000, "고객");
+        order.updateStatus(status);
+        return order;
+    }
+}
@@ -0,0 +1,174 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.OrderProperties;
+import com.coubee.coubeebeorder.config.RetryOnConflictAspect;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.domain.StockReservation;
+import com.coubee.coubeebeorder.domain.StockReservationStatus;
+import com.coubee.coubeebeorder.domain.dto.OrderCancelRequest;
+import com.coubee.coubeebeorder.domain.dto.OrderDetailResponse;
+import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import com.coubee.coubeebeorder.domain.repository.StockReservationRepository;
+import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
+import com.coubee.coubeebeorder.kafka.producer.product.event.StockIncreaseEvent;
+import com.coubee.coubeebeorder.remote.product.ProductClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderServiceImpl - cancelOrder 낙관적 잠금 충돌 재시도 테스트")
+class OrderServiceImplCancelRetryTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderStatusHistoryLoader orderStatusHistoryLoader;
+
+    @Mock
+    private OrderEnrichmentService orderEnrichmentService;
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private KafkaMessageProducer kafkaMessageProducer;
+
+    @Spy
+    private OrderStateMachine orderStateMachine = new OrderStateMachine(List.of(new OrderStatusHistoryRecorder()), new SimpleMeterRegistry());
+
+    @InjectMocks
+    private OrderServiceImpl target;
+
+    private ConflictingTransactionManager transactionManager;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new ConflictingTransactionManager();
+        ReflectionTestUtils.setField(target, "productStockService",
+                new ProductStockServiceImpl(productClient, kafkaMessageProducer, stockReservationRepository, transactionManager));
+
+        OrderProperties orderProperties = new OrderProperties();
+        orderProperties.setConflictMaxAttempts(3);
+        orderProperties.setConflictBackoff(Duration.ZERO);
+
+        // 운영과 같은 순서: 재시도 애스펙트가 트랜잭션 인터셉터 바깥에서 실행됩니다
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RetryOnConflictAspect(orderProperties, new SimpleMeterRegistry()));
+        factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        orderService = factory.getProxy();
+
+        // 재시도마다 새 트랜잭션에서 주문을 다시 읽습니다 (이전 시도의 변경은 롤백됨)
+        when(orderRepository.findByOrderId("order_cancel")).thenAnswer(invocation -> Optional.of(paidOrder()));
+        when(stockReservationRepository.findByOrderIdAndStatus("order_cancel", StockReservationStatus.HELD))
+                .thenReturn(List.of(heldReservation()));
+        when(stockReservationRepository.transition(eq("order_cancel"), eq(StockReservationStatus.HELD),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class))).thenReturn(1);
+        when(orderEnrichmentService.load(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new OrderEnrichment(Map.of(), Map.of(), Map.of())));
+    }
+
+    @Test
+    @DisplayName("커밋 시점의 버전 충돌로 취소가 재시도되어도 재고 복원 이벤트는 커밋된 시도에서 한 번만 발행된다")
+    void cancelOrder_VersionConflict_ShouldPublishStockRestoreOnce() {
+        // Given: 처음 두 번의 커밋이 다른 요청의 변경과 충돌
+        transactionManager.conflictsBeforeCommit = 2;
+
+        // When
+        OrderCancelRequest request = OrderCancelRequest.builder().cancelReason("단순 변심").build();
+        OrderDetailResponse response = orderService.cancelOrder("order_cancel", request, 1L, "ROLE_USER");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.CANCELLED_USER);
+        assertThat(transactionManager.commits).isEqualTo(1);
+        assertThat(transactionManager.rollbacks).isEqualTo(2);
+        verify(stockReservationRepository, times(3)).transition(eq("order_cancel"), eq(StockReservationStatus.HELD),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class));
+        verify(kafkaMessageProducer, times(1)).publishStockIncreaseEvent(any(StockIncreaseEvent.class));
+    }
+
+    private StockReservation heldReservation() {
+        return StockReservation.builder()
+                .orderId("order_cancel")
+                .storeId(10L)
+                .productId(100L)
+                .quantity(2)
+                .status(StockReservationStatus.HELD)
+                .build();
+    }
+
+    private Order paidOrder() {
+        Order order = Order.createOrder("order_cancel", 1L, 10L, "강남점", 2000, 0, 2000, "고객");
+        order.addOrderItem(OrderItem.createOrderItem(100L, "커피", null, 2, 1000));
+        order.updateStatus(OrderStatus.PAID);
+        return order;
+    }
+
+    /**
+     * 커밋(flush) 시점에 지정한 횟수만큼 낙관적 잠금 충돌을 일으키는 트랜잭션 매니저
+     */
+    static class ConflictingTransactionManager extends AbstractPlatformTransactionManager {
+
+        int conflictsBeforeCommit;
+        int commits;
+        int rollbacks;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (conflictsBeforeCommit > 0) {
+                conflictsBeforeCommit--;
+                throw new ObjectOptimisticLockingFailureException(Order.class, "order_cancel");
+            }
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
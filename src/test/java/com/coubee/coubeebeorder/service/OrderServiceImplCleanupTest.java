@@ -3,21 +3,25 @@ package com.coubee.coubeebeorder.service;
 import com.coubee.coubeebeorder.domain.Order;
 import com.coubee.coubeebeorder.domain.OrderStatus;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +34,12 @@ class OrderServiceImplCleanupTest {
     @Mock
     private ProductStockService productStockService;
 
+    @Mock
+    private ActiveOrderCache activeOrderCache;
+
+    @Spy
+    private OrderStateMachine orderStateMachine = new OrderStateMachine(List.of(), new SimpleMeterRegistry());
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -37,21 +47,18 @@ class OrderServiceImplCleanupTest {
     @DisplayName("오래된 PENDING 주문이 없으면 아무것도 처리하지 않는다")
     void cancelStalePendingOrders_NoStaleOrders_ShouldDoNothing() {
         // Given
-        when(orderRepository.findStalePendingOrders(any(LocalDateTime.class)))
+        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(15);
+        when(orderRepository.claimStalePendingOrderIds(cutoffTime, 100))
                 .thenReturn(Collections.emptyList());
 
         // When
-        orderService.cancelStalePendingOrders();
+        StaleOrderChunkResult result = orderService.cancelStalePendingOrders(cutoffTime, 100, Set.of());
 
         // Then
-        ArgumentCaptor<LocalDateTime> cutoffTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(orderRepository).findStalePendingOrders(cutoffTimeCaptor.capture());
-        
-        // Verify cutoff time is approximately 15 minutes ago
-        LocalDateTime cutoffTime = cutoffTimeCaptor.getValue();
-        LocalDateTime expectedCutoff = LocalDateTime.now().minusMinutes(15);
-        assertThat(cutoffTime).isBetween(expectedCutoff.minusSeconds(5), expectedCutoff.plusSeconds(5));
-        
+        assertThat(result.claimed()).isZero();
+        assertThat(result.expired()).isZero();
+        verify(orderRepository, never()).findWithDetailsIn(any());
+
         // Verify no stock restoration was called
         verify(productStockService, never()).increaseStock(any(Order.class));
     }
@@ -60,26 +67,25 @@ class OrderServiceImplCleanupTest {
     @DisplayName("오래된 PENDING 주문들을 FAILED로 변경하고 재고를 복원한다")
     void cancelStalePendingOrders_WithStaleOrders_ShouldCancelAndRestoreStock() {
         // Given
+        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(15);
         Order staleOrder1 = mock(Order.class);
         Order staleOrder2 = mock(Order.class);
         when(staleOrder1.getOrderId()).thenReturn("ORDER-001");
         when(staleOrder2.getOrderId()).thenReturn("ORDER-002");
+        when(staleOrder1.getStatus()).thenReturn(OrderStatus.PENDING);
+        when(staleOrder2.getStatus()).thenReturn(OrderStatus.PENDING);
         
+        List<String> claimedIds = Arrays.asList("ORDER-001", "ORDER-002");
         List<Order> staleOrders = Arrays.asList(staleOrder1, staleOrder2);
-        when(orderRepository.findStalePendingOrders(any(LocalDateTime.class)))
-                .thenReturn(staleOrders);
+        when(orderRepository.claimStalePendingOrderIds(cutoffTime, 100)).thenReturn(claimedIds);
+        when(orderRepository.findWithDetailsIn(claimedIds)).thenReturn(staleOrders);
 
         // When
-        orderService.cancelStalePendingOrders();
+        StaleOrderChunkResult result = orderService.cancelStalePendingOrders(cutoffTime, 100, Set.of());
 
         // Then
-        // Verify repository was called with correct cutoff time
-        ArgumentCaptor<LocalDateTime> cutoffTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(orderRepository).findStalePendingOrders(cutoffTimeCaptor.capture());
-        
-        LocalDateTime cutoffTime = cutoffTimeCaptor.getValue();
-        LocalDateTime expectedCutoff = LocalDateTime.now().minusMinutes(15);
-        assertThat(cutoffTime).isBetween(expectedCutoff.minusSeconds(5), expectedCutoff.plusSeconds(5));
+        assertThat(result.claimed()).isEqualTo(2);
+        assertThat(result.expired()).isEqualTo(2);
 
         // Verify stock restoration was called for each order
         verify(productStockService).increaseStock(staleOrder1);
@@ -89,4 +95,44 @@ class OrderServiceImplCleanupTest {
         verify(staleOrder1).updateStatus(OrderStatus.FAILED);
         verify(staleOrder2).updateStatus(OrderStatus.FAILED);
     }
+
+    @Test
+    @DisplayName("이번 실행에서 실패한 주문은 제외하고 청크를 가져온다")
+    void cancelStalePendingOrders_WithExcludedOrders_ShouldClaimWithoutThem() {
+        // Given
+        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(15);
+        Set<String> excluded = Set.of("ORDER-BAD");
+        when(orderRepository.claimStalePendingOrderIdsExcluding(cutoffTime, 100, excluded))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        StaleOrderChunkResult result = orderService.cancelStalePendingOrders(cutoffTime, 100, excluded);
+
+        // Then
+        assertThat(result.claimed()).isZero();
+        verify(orderRepository, never()).claimStalePendingOrderIds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("주문 하나의 만료 처리가 실패하면 해당 주문 ID를 담은 예외로 청크를 롤백한다")
+    void cancelStalePendingOrders_FailingOrder_ShouldIdentifyIt() {
+        // Given
+        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(15);
+        Order healthyOrder = mock(Order.class);
+        Order brokenOrder = mock(Order.class);
+        when(healthyOrder.getOrderId()).thenReturn("ORDER-001");
+        when(healthyOrder.getStatus()).thenReturn(OrderStatus.PENDING);
+        when(brokenOrder.getOrderId()).thenReturn("ORDER-BAD");
+        when(brokenOrder.getStatus()).thenReturn(OrderStatus.PENDING);
+
+        List<String> claimedIds = Arrays.asList("ORDER-001", "ORDER-BAD");
+        when(orderRepository.claimStalePendingOrderIds(cutoffTime, 100)).thenReturn(claimedIds);
+        when(orderRepository.findWithDetailsIn(claimedIds)).thenReturn(Arrays.asList(healthyOrder, brokenOrder));
+        lenient().doThrow(new IllegalStateException("broken reservation")).when(productStockService).increaseStock(brokenOrder);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.cancelStalePendingOrders(cutoffTime, 100, Set.of()))
+                .isInstanceOf(StaleOrderExpiryException.class)
+                .extracting("orderId").isEqualTo("ORDER-BAD");
+    }
 }
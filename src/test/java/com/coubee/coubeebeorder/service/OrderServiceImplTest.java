@@ -10,11 +10,13 @@ import com.coubee.coubeebeorder.domain.dto.OrderDetailResponse;
 import com.coubee.coubeebeorder.domain.dto.OrderStatusResponse;
 import com.coubee.coubeebeorder.domain.repository.OrderRepository;
 import com.coubee.coubeebeorder.domain.repository.OrderTimestampRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -44,6 +46,9 @@ class OrderServiceImplTest {
     @Mock
     private com.coubee.coubeebeorder.remote.product.ProductClient productClient;
 
+    @Spy
+    private OrderStateMachine orderStateMachine = new OrderStateMachine(List.of(new OrderStatusHistoryRecorder()), new SimpleMeterRegistry());
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
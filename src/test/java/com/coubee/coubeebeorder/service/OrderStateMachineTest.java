@@ -0,0 +1,210 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.exception.InvalidStatusTransitionException;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderStateMachine 테스트")
+class OrderStateMachineTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private OrderStateMachine stateMachine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stateMachine = new OrderStateMachine(List.of(
+                new OrderStatusHistoryRecorder(),
+                new RecordingListener("sync", OrderTransitionListener.Phase.SYNC, null),
+                new RecordingListener("received", OrderTransitionListener.Phase.SYNC, OrderStatus.RECEIVED),
+                new RecordingListener("after-commit", OrderTransitionListener.Phase.AFTER_COMMIT, null)
+        ), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("전이 표는 주문 흐름(결제 → 조리 → 수령)과 취소/실패만 허용하고, 종료 상태에서는 이동할 수 없다")
+    void transitionTable_ShouldMatchOrderFlow() {
+        Set<OrderStatus> cancelOrFail = EnumSet.of(OrderStatus.CANCELLED_USER, OrderStatus.CANCELLED_ADMIN, OrderStatus.FAILED);
+        assertAllowed(OrderStatus.PENDING, with(cancelOrFail, OrderStatus.PAID));
+        assertAllowed(OrderStatus.PAID, with(cancelOrFail, OrderStatus.PREPARING));
+        assertAllowed(OrderStatus.PREPARING, with(cancelOrFail, OrderStatus.PREPARED));
+        assertAllowed(OrderStatus.PREPARED, EnumSet.of(OrderStatus.RECEIVED, OrderStatus.CANCELLED_USER, OrderStatus.CANCELLED_ADMIN));
+
+        for (OrderStatus from : OrderStatus.values()) {
+            if (from.isTerminal()) {
+                assertAllowed(from, EnumSet.noneOf(OrderStatus.class));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("허용된 전이는 상태를 바꾸고 이력을 남기며, 목표 상태에 맞는 리스너만 실행한다")
+    void transition_Allowed_ShouldApplyAndNotifyListeners() {
+        Order order = order(OrderStatus.PREPARED);
+
+        stateMachine.transition(order, OrderStatus.RECEIVED);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(order.getStatusHistory()).extracting("status").containsExactly(OrderStatus.RECEIVED);
+        assertThat(calls).containsExactly("sync:PREPARED->RECEIVED", "received:PREPARED->RECEIVED", "after-commit:PREPARED->RECEIVED");
+        assertThat(meterRegistry.counter("order.transitions", "from", "PREPARED", "to", "RECEIVED").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 전이는 예외를 던지고 상태와 리스너에 영향을 주지 않는다")
+    void transition_NotAllowed_ShouldThrowWithoutSideEffects() {
+        Order order = order(OrderStatus.RECEIVED);
+
+        assertThatThrownBy(() -> stateMachine.transition(order, OrderStatus.CANCELLED_USER))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(order.getStatusHistory()).isEmpty();
+        assertThat(calls).isEmpty();
+        assertThat(meterRegistry.counter("order.transitions.rejected", "from", "RECEIVED", "to", "CANCELLED_USER").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 AFTER_COMMIT 리스너가 커밋 후에만 실행되고, 롤백되면 실행되지 않는다")
+    void transition_InTransaction_ShouldDeferAfterCommitListeners() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stateMachine.transition(order(OrderStatus.PAID), OrderStatus.PREPARING);
+            assertThat(calls).containsExactly("sync:PAID->PREPARING");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(calls).containsExactly("sync:PAID->PREPARING", "after-commit:PAID->PREPARING");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        calls.clear();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stateMachine.transition(order(OrderStatus.PAID), OrderStatus.PREPARING);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(calls).containsExactly("sync:PAID->PREPARING");
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 전이는 커밋 후 AFTER_COMMIT 리스너에 한 번에 전달되고, 리스너가 반응하는 상태만 포함한다")
+    void afterCommitListeners_ShouldReceiveTransactionBatch() {
+        List<List<OrderStatus>> batches = new ArrayList<>();
+        OrderTransitionListener batching = new RecordingListener("batching", OrderTransitionListener.Phase.AFTER_COMMIT, OrderStatus.PREPARING) {
+            @Override
+            public void onTransitions(List<OrderTransition> transitions) {
+                batches.add(transitions.stream().map(OrderTransition::to).toList());
+            }
+        };
+        OrderStateMachine machine = new OrderStateMachine(List.of(batching), meterRegistry);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            machine.transition(order(OrderStatus.PAID), OrderStatus.PREPARING);
+            machine.transition(order(OrderStatus.PENDING), OrderStatus.CANCELLED_USER);
+            machine.transition(order(OrderStatus.PAID), OrderStatus.PREPARING);
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(batches).containsExactly(List.of(OrderStatus.PREPARING, OrderStatus.PREPARING));
+    }
+
+    @Test
+    @DisplayName("AFTER_COMMIT 리스너 하나가 실패해도 나머지 리스너는 계속 실행된다")
+    void afterCommitListenerFailure_ShouldNotStopOthers() {
+        OrderTransitionListener failing = new RecordingListener("failing", OrderTransitionListener.Phase.AFTER_COMMIT, null) {
+            @Override
+            public void onTransition(OrderTransition transition) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        OrderStateMachine machine = new OrderStateMachine(List.of(failing,
+                new RecordingListener("after-commit", OrderTransitionListener.Phase.AFTER_COMMIT, null)), meterRegistry);
+
+        machine.transition(order(OrderStatus.PENDING), OrderStatus.PAID);
+
+        assertThat(calls).containsExactly("after-commit:PENDING->PAID");
+    }
+
+    @Test
+    @DisplayName("force는 전이 표에 없는 변경도 적용하고 메트릭으로 기록한다")
+    void force_OutsideTable_ShouldApplyAndCount() {
+        Order order = order(OrderStatus.FAILED);
+
+        stateMachine.force(order, OrderStatus.PAID);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(order.getStatusHistory()).extracting("status").containsExactly(OrderStatus.PAID);
+        assertThat(meterRegistry.counter("order.transitions.forced", "from", "FAILED", "to", "PAID").count()).isEqualTo(1.0);
+    }
+
+    private void assertAllowed(OrderStatus from, Set<OrderStatus> expected) {
+        assertThat(OrderStateMachine.allowedTargets(from)).as("targets of %s", from).isEqualTo(expected);
+        for (OrderStatus to : OrderStatus.values()) {
+            assertThat(OrderStateMachine.canTransition(from, to)).as("%s -> %s", from, to).isEqualTo(expected.contains(to));
+        }
+    }
+
+    private static Set<OrderStatus> with(Set<OrderStatus> base, OrderStatus extra) {
+        EnumSet<OrderStatus> result = EnumSet.copyOf(base);
+        result.add(extra);
+        return result;
+    }
+
+    private Order order(OrderStatus status) {
+        Order order = Order.createOrder("order_1", 1L, 10L, "강남점", 1000, 0, 1000, "고객");
+        order.updateStatus(status);
+        return order;
+    }
+
+    private class RecordingListener implements OrderTransitionListener {
+
+        private final String name;
+        private final Phase phase;
+        private final OrderStatus target;
+
+        RecordingListener(String name, Phase phase, OrderStatus target) {
+            this.name = name;
+            this.phase = phase;
+            this.target = target;
+        }
+
+        @Override
+        public Phase phase() {
+            return phase;
+        }
+
+        @Override
+        public boolean supports(OrderStatus to) {
+            return target == null || target == to;
+        }
+
+        @Override
+        public void onTransition(OrderTransition transition) {
+            calls.add(name + ":" + transition.from() + "->" + transition.to());
+        }
+    }
+}
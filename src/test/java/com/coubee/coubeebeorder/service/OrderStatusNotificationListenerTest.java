@@ -0,0 +1,155 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderStatus;
+import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
+import com.coubee.coubeebeorder.kafka.producer.notification.event.OrderNotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatusNotificationListener 테스트")
+class OrderStatusNotificationListenerTest {
+
+    @Mock
+    private KafkaMessageProducer kafkaMessageProducer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("알림은 커밋 후 알림 전용 실행기에서 발행되고, 매장 이름은 주문의 store_name을 사용한다")
+    void notification_ShouldBePublishedAfterCommitOnExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        OrderStateMachine stateMachine = stateMachine(submitted::add);
+        Order order = order("강남점", OrderStatus.PAID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stateMachine.transition(order, OrderStatus.PREPARING);
+            assertThat(submitted).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(submitted).hasSize(1);
+        verify(kafkaMessageProducer, never()).publishOrderNotificationEvent(any());
+
+        submitted.get(0).run();
+
+        ArgumentCaptor<OrderNotificationEvent> captor = ArgumentCaptor.forClass(OrderNotificationEvent.class);
+        verify(kafkaMessageProducer).publishOrderNotificationEvent(captor.capture());
+        assertThat(captor.getValue().getNotificationType()).isEqualTo("PREPARING");
+        assertThat(captor.getValue().getMessage()).contains("강남점");
+        assertThat(meterRegistry.counter("order.notifications", "status", "PREPARING", "result", "published").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 여러 주문이 바뀌면 알림을 하나의 작업으로 묶어 발행한다")
+    void transactionBatch_ShouldBePublishedAsOneTask() {
+        List<Runnable> submitted = new ArrayList<>();
+        OrderStateMachine stateMachine = stateMachine(submitted::add);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (int i = 0; i < 3; i++) {
+                stateMachine.transition(order("강남점", OrderStatus.PAID), OrderStatus.PREPARING);
+            }
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(submitted).hasSize(1);
+
+        submitted.get(0).run();
+
+        verify(kafkaMessageProducer, times(3)).publishOrderNotificationEvent(any());
+        assertThat(meterRegistry.counter("order.notifications", "status", "PREPARING", "result", "published").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("롤백된 취소 전이는 알림을 보내지 않는다")
+    void rolledBackTransition_ShouldNotNotify() {
+        OrderStateMachine stateMachine = stateMachine(new SyncTaskExecutor());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stateMachine.transition(order("강남점", OrderStatus.PAID), OrderStatus.CANCELLED_USER);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(kafkaMessageProducer, never()).publishOrderNotificationEvent(any());
+    }
+
+    @Test
+    @DisplayName("매장 이름이 없는 이전 주문은 기본 이름으로 알림을 보낸다")
+    void missingStoreName_ShouldUseFallback() {
+        stateMachine(new SyncTaskExecutor()).transition(order(null, OrderStatus.PREPARED), OrderStatus.CANCELLED_ADMIN);
+
+        ArgumentCaptor<OrderNotificationEvent> captor = ArgumentCaptor.forClass(OrderNotificationEvent.class);
+        verify(kafkaMessageProducer).publishOrderNotificationEvent(captor.capture());
+        assertThat(captor.getValue().getNotificationType()).isEqualTo("CANCELLED_ADMIN");
+        assertThat(captor.getValue().getMessage()).contains(OrderStatusNotificationListener.FALLBACK_STORE_NAME);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차거나 발행이 실패해도 상태 전이는 그대로 유지되고 메트릭으로 기록된다")
+    void rejectedOrFailedPublish_ShouldBeCounted() {
+        Order rejected = order("강남점", OrderStatus.PAID);
+        stateMachine(task -> {
+            throw new TaskRejectedException("queue full");
+        }).transition(rejected, OrderStatus.PREPARING);
+
+        assertThat(rejected.getStatus()).isEqualTo(OrderStatus.PREPARING);
+        assertThat(meterRegistry.counter("order.notifications", "status", "PREPARING", "result", "rejected").count()).isEqualTo(1.0);
+
+        doThrow(new IllegalStateException("broker down")).when(kafkaMessageProducer).publishOrderNotificationEvent(any());
+        Order failed = order("강남점", OrderStatus.PREPARING);
+        stateMachine(new SyncTaskExecutor()).transition(failed, OrderStatus.PREPARED);
+
+        assertThat(failed.getStatus()).isEqualTo(OrderStatus.PREPARED);
+        assertThat(meterRegistry.counter("order.notifications", "status", "PREPARED", "result", "failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("알림 대상이 아닌 전이는 발행하지 않는다")
+    void otherTransitions_ShouldNotNotify() {
+        stateMachine(new SyncTaskExecutor()).transition(order("강남점", OrderStatus.PENDING), OrderStatus.PAID);
+
+        verify(kafkaMessageProducer, never()).publishOrderNotificationEvent(any());
+    }
+
+    private OrderStateMachine stateMachine(TaskExecutor executor) {
+        OrderStatusNotificationListener listener = new OrderStatusNotificationListener(kafkaMessageProducer, executor, meterRegistry);
+        return new OrderStateMachine(List.of(listener), meterRegistry);
+    }
+
+    private Order order(String storeName, OrderStatus status) {
+        Order order = Order.createOrder("order_1", 1L, 10L, storeName, 1000, 0, 1000, "고객");
+        order.updateStatus(status);
+        return order;
+    }
+}
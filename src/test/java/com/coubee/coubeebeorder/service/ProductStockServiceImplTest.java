@@ -0,0 +1,377 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.common.dto.ApiResponseDto;
+import com.coubee.coubeebeorder.common.exception.ApiError;
+import com.coubee.coubeebeorder.common.exception.ClientError;
+import com.coubee.coubeebeorder.common.exception.InsufficientStockException;
+import com.coubee.coubeebeorder.domain.Order;
+import com.coubee.coubeebeorder.domain.OrderItem;
+import com.coubee.coubeebeorder.domain.StockReservation;
+import com.coubee.coubeebeorder.domain.StockReservationStatus;
+import com.coubee.coubeebeorder.domain.repository.StockReservationRepository;
+import com.coubee.coubeebeorder.kafka.producer.KafkaMessageProducer;
+import com.coubee.coubeebeorder.kafka.producer.product.event.StockIncreaseEvent;
+import com.coubee.coubeebeorder.remote.product.ProductClient;
+import com.coubee.coubeebeorder.remote.product.StockUpdateRequest;
+import feign.Request;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductStockServiceImpl - 재고 선점 원장 테스트")
+class ProductStockServiceImplTest {
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private KafkaMessageProducer kafkaMessageProducer;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ProductStockServiceImpl productStockService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = Order.createOrder("order_test", 1L, 10L, 3000, "홍길동");
+        order.addOrderItem(OrderItem.createOrderItem(100L, "커피", null, 1, 1000));
+        order.addOrderItem(OrderItem.createOrderItem(100L, "커피", null, 1, 1000));
+        order.addOrderItem(OrderItem.createOrderItem(200L, "빵", null, 1, 1000));
+    }
+
+    @Test
+    @DisplayName("상품 서비스 호출 전에 상품별로 합산한 CLAIMED 행을 확보하고, 성공하면 그 시도의 행을 HELD로 바꾼다")
+    @SuppressWarnings("unchecked")
+    void decreaseStock_Success_ShouldClaimThenHold() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test")).thenReturn(Collections.emptyList());
+        when(productClient.updateStock(any(StockUpdateRequest.class), anyLong())).thenReturn(ApiResponseDto.readOk("ok"));
+
+        // When
+        productStockService.decreaseStock(order);
+
+        // Then
+        ArgumentCaptor<List<StockReservation>> claimCaptor = ArgumentCaptor.forClass(List.class);
+        var inOrder = inOrder(stockReservationRepository, productClient);
+        inOrder.verify(stockReservationRepository).saveAllAndFlush(claimCaptor.capture());
+        inOrder.verify(productClient).updateStock(any(StockUpdateRequest.class), eq(1L));
+        inOrder.verify(stockReservationRepository).transitionAttempt(eq("order_test"), eq(1),
+                eq(StockReservationStatus.CLAIMED), eq(StockReservationStatus.HELD), any(LocalDateTime.class));
+        assertThat(claimCaptor.getValue())
+                .extracting(StockReservation::getProductId, StockReservation::getQuantity, StockReservation::getStatus)
+                .containsExactlyInAnyOrder(
+                        org.assertj.core.groups.Tuple.tuple(100L, 2, StockReservationStatus.CLAIMED),
+                        org.assertj.core.groups.Tuple.tuple(200L, 1, StockReservationStatus.CLAIMED));
+        verifyNoInteractions(kafkaMessageProducer);
+    }
+
+    @Test
+    @DisplayName("이미 선점된 주문은 상품 서비스를 다시 호출하지 않는다")
+    void decreaseStock_AlreadyHeld_ShouldSkipRemoteCall() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test"))
+                .thenReturn(List.of(heldReservation()));
+
+        // When
+        productStockService.decreaseStock(order);
+
+        // Then
+        verifyNoInteractions(productClient);
+        verify(stockReservationRepository, never()).saveAllAndFlush(anyList());
+        verify(stockReservationRepository, never()).reclaim(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 결제 준비가 선점 행을 먼저 넣었으면 상품 서비스를 호출하지 않고 거절한다")
+    void decreaseStock_ConcurrentClaim_ShouldNotCallProductService() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test")).thenReturn(Collections.emptyList());
+        when(stockReservationRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_stock_reservations_order_product"));
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(ClientError.class);
+        verifyNoInteractions(productClient, kafkaMessageProducer);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 확보 중인(CLAIMED) 주문은 상품 서비스를 호출하지 않고 거절한다")
+    void decreaseStock_ClaimInProgress_ShouldNotCallProductService() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test"))
+                .thenReturn(List.of(reservation(StockReservationStatus.CLAIMED, 1, LocalDateTime.now())));
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(ClientError.class);
+        verifyNoInteractions(productClient, kafkaMessageProducer);
+        verify(stockReservationRepository, never()).reclaim(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("결과가 기록되지 않은 채 확보 기한이 지난 시도는 보상한 뒤 다음 시도로 다시 확보한다")
+    void decreaseStock_ExpiredClaim_ShouldCompensateAndReclaim() {
+        // Given
+        LocalDateTime expired = LocalDateTime.now().minus(ProductStockServiceImpl.CLAIM_LEASE).minusSeconds(1);
+        when(stockReservationRepository.findByOrderId("order_test"))
+                .thenReturn(List.of(reservation(StockReservationStatus.CLAIMED, 1, expired)));
+        when(stockReservationRepository.transitionAttempt(eq("order_test"), eq(1), eq(StockReservationStatus.CLAIMED),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class))).thenReturn(2);
+        when(stockReservationRepository.reclaim(eq("order_test"), eq(1), any(LocalDateTime.class))).thenReturn(2);
+        when(productClient.updateStock(any(StockUpdateRequest.class), anyLong())).thenReturn(ApiResponseDto.readOk("ok"));
+
+        // When
+        productStockService.decreaseStock(order);
+
+        // Then
+        verify(kafkaMessageProducer, times(1)).publishStockIncreaseEvent(any(StockIncreaseEvent.class));
+        verify(stockReservationRepository).transitionAttempt(eq("order_test"), eq(2),
+                eq(StockReservationStatus.CLAIMED), eq(StockReservationStatus.HELD), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없는 실패(읽기 타임아웃)는 이번 시도의 행을 RELEASED로 바꾼 경우에만 한 번 보상한다")
+    void decreaseStock_Timeout_ShouldCompensateAttemptOnce() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test")).thenReturn(Collections.emptyList());
+        when(productClient.updateStock(any(StockUpdateRequest.class), anyLong()))
+                .thenThrow(retryable(new SocketTimeoutException("Read timed out")));
+        when(stockReservationRepository.transitionAttempt(eq("order_test"), eq(1), eq(StockReservationStatus.CLAIMED),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class)))
+                .thenReturn(2)
+                .thenReturn(0);
+
+        // When
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(RetryableException.class);
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(RetryableException.class);
+
+        // Then
+        ArgumentCaptor<StockIncreaseEvent> eventCaptor = ArgumentCaptor.forClass(StockIncreaseEvent.class);
+        verify(kafkaMessageProducer, times(1)).publishStockIncreaseEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getItems()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("선점 -> 취소 복원 후 다시 시도한 결제 준비가 타임아웃되면 그 시도분을 보상한다")
+    void decreaseStock_TimeoutAfterReleasedAttempt_ShouldCompensateNewAttempt() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test"))
+                .thenReturn(List.of(reservation(StockReservationStatus.RELEASED, 1, LocalDateTime.now())));
+        when(stockReservationRepository.reclaim(eq("order_test"), eq(1), any(LocalDateTime.class))).thenReturn(2);
+        when(productClient.updateStock(any(StockUpdateRequest.class), anyLong()))
+                .thenThrow(retryable(new SocketTimeoutException("Read timed out")));
+        when(stockReservationRepository.transitionAttempt(eq("order_test"), eq(2), eq(StockReservationStatus.CLAIMED),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class))).thenReturn(2);
+
+        // When
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(RetryableException.class);
+
+        // Then
+        verify(kafkaMessageProducer, times(1)).publishStockIncreaseEvent(any(StockIncreaseEvent.class));
+    }
+
+    @Test
+    @DisplayName("연결 실패, 명시적 거절, OK가 아닌 응답은 차감되지 않았으므로 복원하지 않는다")
+    void decreaseStock_KnownFailures_ShouldReleaseWithoutCompensation() {
+        // Given
+        when(stockReservationRepository.findByOrderId("order_test")).thenReturn(Collections.emptyList());
+        when(productClient.updateStock(any(StockUpdateRequest.class), anyLong()))
+                .thenThrow(retryable(new ConnectException("Connection refused")))
+                .thenThrow(new InsufficientStockException("재고 부족"))
+                .thenReturn(ApiResponseDto.createError("FAIL", "처리 실패"));
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(RetryableException.class);
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(InsufficientStockException.class);
+        assertThatThrownBy(() -> productStockService.decreaseStock(order)).isInstanceOf(RuntimeException.class);
+        verify(stockReservationRepository, times(3)).transitionAttempt(eq("order_test"), eq(1),
+                eq(StockReservationStatus.CLAIMED), eq(StockReservationStatus.RELEASED), any(LocalDateTime.class));
+        verifyNoInteractions(kafkaMessageProducer);
+    }
+
+    @Test
+    @DisplayName("요청이 전송된 뒤의 IO 오류만 결과를 알 수 없는 실패로 본다")
+    void isOutcomeUnknown_ShouldOnlyAcceptIoFailuresAfterSend() {
+        assertThat(ProductStockServiceImpl.isOutcomeUnknown(retryable(new SocketTimeoutException("Read timed out")))).isTrue();
+        assertThat(ProductStockServiceImpl.isOutcomeUnknown(retryable(new IOException("Connection reset")))).isTrue();
+        assertThat(ProductStockServiceImpl.isOutcomeUnknown(retryable(new ConnectException("Connection refused")))).isFalse();
+        assertThat(ProductStockServiceImpl.isOutcomeUnknown(
+                retryable(new org.apache.hc.client5.http.ConnectTimeoutException("connect timed out")))).isFalse();
+        assertThat(ProductStockServiceImpl.isOutcomeUnknown(new ApiError("상품 서비스 내부 오류입니다"))).isFalse();
+        assertThat(ProductStockServiceImpl.isOutcomeUnknown(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("productStock")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("HELD -> RELEASED 전이에 성공한 경우에만 재고 복원 이벤트를 발행한다")
+    void increaseStock_TransitionSucceeded_ShouldPublishOnce() {
+        // Given
+        when(stockReservationRepository.findByOrderIdAndStatus("order_test", StockReservationStatus.HELD))
+                .thenReturn(List.of(heldReservation()));
+        when(stockReservationRepository.transition(eq("order_test"), eq(StockReservationStatus.HELD),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        productStockService.increaseStock(order);
+
+        // Then
+        ArgumentCaptor<StockIncreaseEvent> eventCaptor = ArgumentCaptor.forClass(StockIncreaseEvent.class);
+        verify(kafkaMessageProducer).publishStockIncreaseEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getItems()).hasSize(1);
+        assertThat(eventCaptor.getValue().getItems().get(0).getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 복원하면 커밋된 뒤에만 이벤트를 발행하고, 롤백되면 발행하지 않는다")
+    void increaseStock_InTransaction_ShouldPublishAfterCommitOnly() {
+        // Given
+        when(stockReservationRepository.findByOrderIdAndStatus("order_test", StockReservationStatus.HELD))
+                .thenReturn(List.of(heldReservation()));
+        when(stockReservationRepository.transition(eq("order_test"), eq(StockReservationStatus.HELD),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class))).thenReturn(1);
+
+        // When: 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            productStockService.increaseStock(order);
+            verifyNoInteractions(kafkaMessageProducer);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verifyNoInteractions(kafkaMessageProducer);
+
+        // When: 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            productStockService.increaseStock(order);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(kafkaMessageProducer, times(1)).publishStockIncreaseEvent(any(StockIncreaseEvent.class));
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 이미 복원된 경우 재고 복원 이벤트를 발행하지 않는다")
+    void increaseStock_ConcurrentRelease_ShouldNotPublish() {
+        // Given
+        when(stockReservationRepository.findByOrderIdAndStatus("order_test", StockReservationStatus.HELD))
+                .thenReturn(List.of(heldReservation()));
+        when(stockReservationRepository.transition(eq("order_test"), eq(StockReservationStatus.HELD),
+                eq(StockReservationStatus.RELEASED), any(LocalDateTime.class))).thenReturn(0);
+
+        // When
+        productStockService.increaseStock(order);
+
+        // Then
+        verifyNoInteractions(kafkaMessageProducer);
+    }
+
+    @Test
+    @DisplayName("선점되지 않은 주문은 재고를 복원하지 않는다")
+    void increaseStock_NothingHeld_ShouldNotPublish() {
+        // Given
+        when(stockReservationRepository.findByOrderIdAndStatus("order_test", StockReservationStatus.HELD))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        productStockService.increaseStock(order);
+
+        // Then
+        verify(stockReservationRepository, never()).transition(any(), any(), any(), any());
+        verifyNoInteractions(kafkaMessageProducer);
+    }
+
+    @Test
+    @DisplayName("재고 부족으로 거절된 경우 폴백은 보상 없이 원래 예외를 전파한다")
+    void decreaseStockFallback_ClientError_ShouldNotCompensate() {
+        // When & Then
+        assertThatThrownBy(() -> productStockService.decreaseStockFallback(order, new InsufficientStockException("재고 부족")))
+                .isInstanceOf(InsufficientStockException.class);
+        verifyNoInteractions(kafkaMessageProducer, stockReservationRepository);
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 호출하지 않은 경우 폴백은 복원하지 않고 결제 준비만 실패시킨다")
+    void decreaseStockFallback_CircuitOpen_ShouldNotCompensate() {
+        // Given
+        CallNotPermittedException circuitOpen =
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("productStock"));
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.decreaseStockFallback(order, circuitOpen))
+                .isInstanceOf(ApiError.class);
+        verifyNoInteractions(kafkaMessageProducer, stockReservationRepository);
+    }
+
+    private static StockReservation heldReservation() {
+        return StockReservation.builder()
+                .orderId("order_test")
+                .storeId(10L)
+                .productId(100L)
+                .quantity(2)
+                .status(StockReservationStatus.HELD)
+                .build();
+    }
+
+    private static StockReservation reservation(StockReservationStatus status, int attempt, LocalDateTime updatedAt) {
+        StockReservation reservation = StockReservation.builder()
+                .orderId("order_test")
+                .storeId(10L)
+                .productId(100L)
+                .quantity(2)
+                .status(status)
+                .attempt(attempt)
+                .build();
+        ReflectionTestUtils.setField(reservation, "updatedAt", updatedAt);
+        return reservation;
+    }
+
+    private static RetryableException retryable(IOException cause) {
+        Request request = Request.create(Request.HttpMethod.POST, "http://coubee-be-product-service/api/products/stock",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new RetryableException(-1, cause.getMessage(), Request.HttpMethod.POST, cause, (Long) null, request);
+    }
+}
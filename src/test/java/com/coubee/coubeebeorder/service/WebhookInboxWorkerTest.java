@@ -0,0 +1,126 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.WebhookProperties;
+import com.coubee.coubeebeorder.domain.WebhookInbox;
+import com.coubee.coubeebeorder.domain.WebhookInboxStatus;
+import com.coubee.coubeebeorder.domain.repository.WebhookInboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookInboxWorker 테스트")
+class WebhookInboxWorkerTest {
+
+    @Mock
+    private WebhookInboxRepository webhookInboxRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private ThreadPoolTaskExecutor webhookExecutor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final WebhookProperties webhookProperties = new WebhookProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private WebhookInboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new WebhookInboxWorker(webhookInboxRepository, paymentService, webhookProperties,
+                webhookExecutor, transactionManager, meterRegistry);
+    }
+
+    private WebhookInbox processingEvent() {
+        WebhookInbox event = WebhookInbox.receive("wh_1", "order_test", "Transaction.Paid", "tx_1", "{}");
+        ReflectionTestUtils.setField(event, "status", WebhookInboxStatus.PROCESSING);
+        ReflectionTestUtils.setField(event, "attempts", 1);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Paid 웹훅을 처리하고 DONE으로 표시한다")
+    void process_PaidEvent_ShouldApplyAndMarkDone() {
+        // Given
+        WebhookInbox event = processingEvent();
+        when(webhookInboxRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        // When
+        worker.process(1L);
+
+        // Then
+        verify(paymentService).processPaidWebhook("order_test", "tx_1");
+        assertThat(event.getStatus()).isEqualTo(WebhookInboxStatus.DONE);
+        assertThat(meterRegistry.get("webhook.inbox.lag").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("webhook.inbox.processed").tag("outcome", "success").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 백오프 후 재시도하도록 PENDING으로 되돌린다")
+    void process_Failure_ShouldScheduleRetry() {
+        // Given
+        WebhookInbox event = processingEvent();
+        when(webhookInboxRepository.findById(1L)).thenReturn(Optional.of(event));
+        doThrow(new IllegalStateException("db down")).when(paymentService).processPaidWebhook(any(), any());
+
+        // When
+        worker.process(1L);
+
+        // Then
+        assertThat(event.getStatus()).isEqualTo(WebhookInboxStatus.PENDING);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(event.getLastError()).isEqualTo("db down");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 FAILED로 남긴다")
+    void process_ExceededAttempts_ShouldMarkFailed() {
+        // Given
+        WebhookInbox event = processingEvent();
+        ReflectionTestUtils.setField(event, "attempts", webhookProperties.getMaxAttempts());
+        when(webhookInboxRepository.findById(1L)).thenReturn(Optional.of(event));
+        doThrow(new IllegalStateException("boom")).when(paymentService).processPaidWebhook(any(), any());
+
+        // When
+        worker.process(1L);
+
+        // Then
+        assertThat(event.getStatus()).isEqualTo(WebhookInboxStatus.FAILED);
+        assertThat(meterRegistry.get("webhook.inbox.processed").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 수만큼만 웹훅을 가져와 실행한다")
+    void poll_ShouldClaimUpToFreeSlots() {
+        // Given
+        when(webhookInboxRepository.findClaimableIds(any(LocalDateTime.class), anyInt())).thenReturn(List.of(1L, 2L));
+
+        // When
+        worker.poll();
+
+        // Then
+        verify(webhookInboxRepository).findClaimableIds(any(LocalDateTime.class), eq(webhookProperties.getWorkerConcurrency()));
+        verify(webhookInboxRepository).markProcessing(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(webhookExecutor, times(2)).execute(any(Runnable.class));
+    }
+}
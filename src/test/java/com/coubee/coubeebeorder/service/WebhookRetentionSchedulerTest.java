@@ -0,0 +1,95 @@
+package com.coubee.coubeebeorder.service;
+
+import com.coubee.coubeebeorder.config.WebhookProperties;
+import com.coubee.coubeebeorder.domain.repository.ProcessedWebhookRepository;
+import com.coubee.coubeebeorder.domain.repository.WebhookInboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookRetentionScheduler 테스트")
+class WebhookRetentionSchedulerTest {
+
+    @Mock
+    private ProcessedWebhookRepository processedWebhookRepository;
+
+    @Mock
+    private WebhookInboxRepository webhookInboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final WebhookProperties webhookProperties = new WebhookProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private WebhookRetentionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        webhookProperties.setPurgeChunkSize(100);
+        scheduler = new WebhookRetentionScheduler(processedWebhookRepository, webhookInboxRepository,
+                webhookProperties, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차지 않을 때까지 반복하여 삭제한다")
+    void purgeExpiredWebhooks_ShouldDeleteUntilPartialChunk() {
+        // Given
+        when(processedWebhookRepository.deleteProcessedBefore(any(LocalDateTime.class), anyInt()))
+                .thenReturn(100, 100, 30);
+        when(webhookInboxRepository.deleteDoneBefore(any(LocalDateTime.class), anyInt())).thenReturn(0);
+
+        // When
+        scheduler.purgeExpiredWebhooks();
+
+        // Then
+        verify(processedWebhookRepository, times(3)).deleteProcessedBefore(any(LocalDateTime.class), eq(100));
+        verify(webhookInboxRepository, times(1)).deleteDoneBefore(any(LocalDateTime.class), eq(100));
+        assertThat(meterRegistry.get("webhook.retention.deleted").tag("table", "processed_webhooks").counter().count())
+                .isEqualTo(230);
+    }
+
+    @Test
+    @DisplayName("최대 청크 수에 도달하면 다음 실행으로 미룬다")
+    void purgeExpiredWebhooks_ShouldStopAtMaxChunks() {
+        // Given
+        webhookProperties.setPurgeMaxChunks(2);
+        when(processedWebhookRepository.deleteProcessedBefore(any(LocalDateTime.class), anyInt())).thenReturn(100);
+
+        // When
+        scheduler.purgeExpiredWebhooks();
+
+        // Then
+        verify(processedWebhookRepository, times(2)).deleteProcessedBefore(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 최소 기간보다 짧으면 최소 기간을 사용한다")
+    void purgeExpiredWebhooks_ShortRetention_ShouldUseMinimum() {
+        // Given
+        webhookProperties.setRetention(Duration.ofHours(1));
+
+        // When
+        scheduler.purgeExpiredWebhooks();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(processedWebhookRepository).deleteProcessedBefore(cutoff.capture(), anyInt());
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(3).plusMinutes(1));
+    }
+}
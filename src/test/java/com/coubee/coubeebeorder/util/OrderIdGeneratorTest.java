@@ -0,0 +1,67 @@
+package com.coubee.coubeebeorder.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderIdGenerator 테스트")
+class OrderIdGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    @DisplayName("order_ 접두사와 26자 Crockford base32 형식의 ID를 생성한다")
+    void generate_ShouldUseUlidFormat() {
+        OrderIdGenerator generator = new OrderIdGenerator(() -> NOW, new Random(1));
+
+        String orderId = generator.generate();
+
+        assertThat(orderId).matches("order_[0-9A-HJKMNP-TV-Z]{26}");
+        assertThat(OrderIdGenerator.extractTimestamp(orderId)).contains(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초와 이후 밀리초에 생성된 ID는 모두 생성 순서대로 정렬된다")
+    void generate_ShouldBeMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        OrderIdGenerator generator = new OrderIdGenerator(clock::get, new Random(42));
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(generator.generate());
+            if (i % 100 == 99) {
+                clock.incrementAndGet();
+            }
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전 ID보다 큰 ID를 생성한다")
+    void generate_ClockMovesBackwards_ShouldStayOrdered() {
+        AtomicLong clock = new AtomicLong(NOW);
+        OrderIdGenerator generator = new OrderIdGenerator(clock::get, new Random(7));
+
+        String first = generator.generate();
+        clock.set(NOW - 5_000);
+        String second = generator.generate();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("기존 UUID 형식 주문 ID는 생성 시각을 추출하지 않는다")
+    void extractTimestamp_LegacyId_ShouldReturnEmpty() {
+        assertThat(OrderIdGenerator.extractTimestamp("order_3f2b8c1e9d7a4b6c8e0f1a2b3c4d5e6f")).isEmpty();
+        assertThat(OrderIdGenerator.extractTimestamp("test_order_123")).isEmpty();
+        assertThat(OrderIdGenerator.extractTimestamp(null)).isEmpty();
+    }
+}
@@ -0,0 +1,43 @@
+package com.coubee.coubeebeorder.util;
+
+import com.coubee.coubeebeorder.config.WebhookProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecentWebhookIdFilter 테스트")
+class RecentWebhookIdFilterTest {
+
+    private RecentWebhookIdFilter filterWithSize(int size) {
+        WebhookProperties properties = new WebhookProperties();
+        properties.setDedupeCacheSize(size);
+        return new RecentWebhookIdFilter(properties);
+    }
+
+    @Test
+    @DisplayName("기록한 웹훅 ID는 중복으로 판단한다")
+    void mightContain_RecordedId_ShouldReturnTrue() {
+        RecentWebhookIdFilter filter = filterWithSize(10);
+
+        filter.record("wh_1");
+
+        assertThat(filter.mightContain("wh_1")).isTrue();
+        assertThat(filter.mightContain("wh_2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 ID부터 제거한다")
+    void record_OverCapacity_ShouldEvictLeastRecentlyUsed() {
+        RecentWebhookIdFilter filter = filterWithSize(2);
+
+        filter.record("wh_1");
+        filter.record("wh_2");
+        filter.mightContain("wh_1"); // wh_1을 최근 사용으로 갱신
+        filter.record("wh_3");
+
+        assertThat(filter.mightContain("wh_1")).isTrue();
+        assertThat(filter.mightContain("wh_2")).isFalse();
+        assertThat(filter.mightContain("wh_3")).isTrue();
+    }
+}
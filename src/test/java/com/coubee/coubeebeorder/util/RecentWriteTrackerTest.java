@@ -0,0 +1,42 @@
+package com.coubee.coubeebeorder.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecentWriteTracker 테스트")
+class RecentWriteTrackerTest {
+
+    @Test
+    @DisplayName("쓰기 후 window 동안만 최근 쓰기로 판단한다")
+    void wroteRecently_ShouldExpireAfterWindow() {
+        AtomicLong now = new AtomicLong(1_000L);
+        RecentWriteTracker tracker = new RecentWriteTracker(Duration.ofSeconds(5), now::get);
+
+        tracker.recordWrite("1");
+
+        assertThat(tracker.wroteRecently("1")).isTrue();
+        assertThat(tracker.wroteRecently("2")).isFalse();
+
+        now.addAndGet(5_000L);
+        assertThat(tracker.wroteRecently("1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 쓰면 window가 연장된다")
+    void recordWrite_Again_ShouldExtendWindow() {
+        AtomicLong now = new AtomicLong(1_000L);
+        RecentWriteTracker tracker = new RecentWriteTracker(Duration.ofSeconds(5), now::get);
+
+        tracker.recordWrite("1");
+        now.addAndGet(4_000L);
+        tracker.recordWrite("1");
+        now.addAndGet(4_000L);
+
+        assertThat(tracker.wroteRecently("1")).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.coubee.coubeebeorder.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    private static final long TICK = 1000L;
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("마감 시각이 지나기 전에는 항목을 반환하지 않는다")
+    void advance_BeforeDeadline_ShouldReturnNothing() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, START);
+        wheel.schedule("order_1", START + 3 * TICK);
+
+        assertThat(wheel.advance(START + 2 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 3 * TICK)).containsExactly("order_1");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 마감은 남은 바퀴 수만큼 기다린 뒤 만료된다")
+    void advance_DeadlineBeyondOneRotation_ShouldWaitForRounds() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, START);
+        wheel.schedule("order_far", START + 9 * TICK);
+
+        assertThat(wheel.advance(START + 5 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 8 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 9 * TICK)).containsExactly("order_far");
+    }
+
+    @Test
+    @DisplayName("여러 tick을 건너뛰어도 그 사이 마감된 항목을 모두 반환한다")
+    void advance_AfterLongPause_ShouldReturnAllDueItems() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, START);
+        wheel.schedule("order_1", START + TICK);
+        wheel.schedule("order_2", START + 6 * TICK);
+        wheel.schedule("order_3", START + 20 * TICK);
+
+        assertThat(wheel.advance(START + 10 * TICK)).containsExactlyInAnyOrder("order_1", "order_2");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 진행 시 바로 만료되고, 중복 등록은 무시한다")
+    void schedule_PastDeadlineAndDuplicate() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, START);
+
+        assertThat(wheel.schedule("order_1", START - 60 * TICK)).isTrue();
+        assertThat(wheel.schedule("order_1", START + 2 * TICK)).isFalse();
+
+        assertThat(wheel.advance(START)).containsExactly("order_1");
+        assertThat(wheel.schedule("order_1", START + 2 * TICK)).isTrue();
+    }
+}